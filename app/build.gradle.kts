@@ -15,6 +15,17 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+
+        // Room schema JSON per version - checked in, used by migration tests
+        javaCompileOptions {
+            annotationProcessorOptions {
+                arguments += mapOf("room.schemaLocation" to "$projectDir/schemas")
+            }
+        }
+    }
+
+    sourceSets {
+        getByName("androidTest").assets.srcDir("$projectDir/schemas")
     }
 
     buildTypes {
@@ -44,6 +55,7 @@ dependencies {
     
     // Room Database
     implementation(libs.room.runtime)
+    implementation(libs.room.paging)
     annotationProcessor(libs.room.compiler)
     
     // Lifecycle components
@@ -57,6 +69,8 @@ dependencies {
     implementation("com.squareup.retrofit2:retrofit:2.9.0")
     implementation("com.squareup.retrofit2:converter-gson:2.9.0")
     implementation("com.squareup.okhttp3:logging-interceptor:4.11.0")
+    implementation("com.squareup.okhttp3:okhttp-brotli:4.11.0")
+    implementation("com.squareup.okhttp3:okhttp-sse:4.11.0")
     implementation("com.google.code.gson:gson:2.10.1")
     
     // ZXing for QR Code
@@ -102,8 +116,10 @@ dependencies {
     // WorkManager for Background Tasks
     implementation("androidx.work:work-runtime:2.9.0")
     
-    // Paging 3 for Large Lists
+    // Paging 3 for Large Lists (ListenableFuture sources for Java)
     implementation("androidx.paging:paging-runtime:3.2.1")
+    implementation("androidx.paging:paging-guava:3.2.1")
+    implementation("com.google.guava:guava:32.1.3-android")
     
     // Navigation Component
     implementation("androidx.navigation:navigation-fragment:2.7.6")
@@ -112,4 +128,6 @@ dependencies {
     testImplementation(libs.junit)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
+    androidTestImplementation(libs.room.testing)
+    androidTestImplementation("com.squareup.okhttp3:mockwebserver:4.11.0")
 }
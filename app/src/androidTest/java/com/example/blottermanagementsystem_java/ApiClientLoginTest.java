@@ -0,0 +1,90 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.data.api.AuthTokenHolder;
+import com.example.blottermanagementsystem.utils.NeonAuthManager;
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * Email/password sign-in from a cold ApiClient - the state LoginActivity can be reached in
+ */
+@RunWith(AndroidJUnit4.class)
+public class ApiClientLoginTest {
+    private MockWebServer server;
+    private Context context;
+
+    @Before
+    public void setUp() throws IOException {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        server = new MockWebServer();
+        server.start();
+        // Nothing initialized: no Context, no Retrofit - only where the next init should point
+        ApiClient.resetForTesting(server.url("/").toString());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+        new PreferencesManager(context).clearSession();
+        ApiClient.resetForTesting(ApiConfig.BASE_URL);
+    }
+
+    @Test
+    public void signIn_fromUninitialisedClient_reachesServerAndStoresTokens() throws Exception {
+        server.enqueue(new MockResponse().setHeader("Content-Type", "application/json").setBody(
+                "{\"success\":true,\"data\":{\"user\":{\"id\":5,\"username\":\"officer1\"," +
+                "\"email\":\"officer1@bms.test\",\"firstName\":\"Ana\",\"lastName\":\"Cruz\"}," +
+                "\"token\":\"access-1\",\"refreshToken\":\"refresh-1\"}}"));
+
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<NeonAuthManager.AuthUser> signedIn = new AtomicReference<>();
+        AtomicReference<String> error = new AtomicReference<>();
+        new NeonAuthManager(context).signIn("officer1", "secret", new NeonAuthManager.AuthCallback() {
+            @Override
+            public void onSuccess(NeonAuthManager.AuthUser user) {
+                signedIn.set(user);
+                done.countDown();
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                error.set(errorMessage);
+                done.countDown();
+            }
+        });
+
+        assertTrue("Sign-in never answered", done.await(10, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertEquals("5", signedIn.get().id);
+        assertEquals("access-1", signedIn.get().token);
+        assertEquals("access-1", AuthTokenHolder.getAccessToken(context));
+
+        RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals("POST", request.getMethod());
+        assertEquals("/api/auth/login", request.getPath());
+        assertTrue(request.getBody().readUtf8().contains("\"username\":\"officer1\""));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import androidx.work.WorkInfo;
+import androidx.work.WorkManager;
+
+import com.example.blottermanagementsystem.BlotterApplication;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * BlotterApplication is the process's Application, so its start-up work actually runs
+ */
+@RunWith(AndroidJUnit4.class)
+public class BlotterApplicationTest {
+
+    @Test
+    public void applicationClass_isRegistered() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        assertTrue("AndroidManifest <application> must name BlotterApplication",
+                context.getApplicationContext() instanceof BlotterApplication);
+    }
+
+    @Test
+    public void periodicSyncDrain_isScheduledAtStartup() throws Exception {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        List<WorkInfo> work = WorkManager.getInstance(context)
+                .getWorkInfosForUniqueWork("sync_queue_drain_periodic").get();
+        assertFalse("SyncQueueWorker.schedulePeriodic never ran", work.isEmpty());
+        assertFalse(work.get(0).getState().isFinished());
+    }
+}
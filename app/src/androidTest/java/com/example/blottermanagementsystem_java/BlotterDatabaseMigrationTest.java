@@ -0,0 +1,111 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.database.DatabaseMigrations;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.Assert.*;
+
+/**
+ * Migration tests - upgrades must keep cached rows.
+ * Needs the exported schemas in app/schemas (21.json onwards).
+ */
+@RunWith(AndroidJUnit4.class)
+public class BlotterDatabaseMigrationTest {
+    private static final String TEST_DB = "migration-test";
+    private static final int LATEST_VERSION = 28;
+
+    @Rule
+    public MigrationTestHelper helper = new MigrationTestHelper(
+            InstrumentationRegistry.getInstrumentation(),
+            BlotterDatabase.class);
+
+    @Test
+    public void migrateAll_keepsCachedReports() throws IOException {
+        SupportSQLiteDatabase db = helper.createDatabase(TEST_DB, DatabaseMigrations.FIRST_MIGRATABLE_VERSION);
+        db.execSQL("INSERT INTO users (id, username, role, accountCreated, profileCompleted, mustChangePassword, " +
+                "isActive, resetCodeExpiry, hasSeenTooltips) VALUES (1, 'juan', 'User', 0, 1, 0, 1, 0, 0)");
+        db.execSQL("INSERT INTO blotter_reports (id, caseNumber, complainantName, incidentType, incidentDate, " +
+                "status, dateFiled, assignedOfficerId, assignedOfficerIds, userId, isArchived, latitude, longitude) " +
+                "VALUES (7, 'BLT-2024-0007', 'Juan Dela Cruz', 'Theft', 1000, 'ASSIGNED', 5000, 3, '3, 11,x', 1, 0, 0, 0)");
+        db.execSQL("INSERT INTO person (id, firstName, lastName, dateAdded, lastUpdated, isActive) " +
+                "VALUES (1, 'Maria', 'Santos', 0, 0, 1)");
+        db.execSQL("INSERT INTO hearings (id, blotterReportId, hearingDate, hearingTime, status, createdAt, " +
+                "approvedBy, approvalDate, reminderScheduled, completedAt) " +
+                "VALUES (1, 7, 'Mar 05, 2025', '02:30 PM', 'Scheduled', 0, 0, 0, 0, 0)");
+        db.execSQL("INSERT INTO hearings (id, blotterReportId, hearingDate, status, createdAt, " +
+                "approvedBy, approvalDate, reminderScheduled, completedAt) " +
+                "VALUES (2, 7, 'someday', 'Scheduled', 0, 0, 0, 0, 0)");
+        db.close();
+
+        db = helper.runMigrationsAndValidate(TEST_DB, LATEST_VERSION, true, DatabaseMigrations.ALL);
+
+        // 21 -> 22: updatedAt backfilled from dateFiled
+        assertEquals(5000L, queryLong(db, "SELECT updatedAt FROM blotter_reports WHERE id = 7"));
+
+        // 23 -> 24: CSV split into the junction, no officer 1 false match
+        assertEquals(2L, queryLong(db, "SELECT COUNT(*) FROM report_officer_assignment WHERE reportId = 7"));
+        assertEquals(1L, queryLong(db, "SELECT COUNT(*) FROM report_officer_assignment WHERE reportId = 7 AND officerId = 11"));
+        assertEquals(1L, queryLong(db, "SELECT isPrimary FROM report_officer_assignment WHERE reportId = 7 AND officerId = 3"));
+        assertEquals(0L, queryLong(db, "SELECT COUNT(*) FROM report_officer_assignment WHERE officerId = 1"));
+
+        // 24 -> 25: existing rows are searchable
+        assertEquals(7L, queryLong(db, "SELECT rowid FROM report_fts WHERE report_fts MATCH 'dela* cru*'"));
+        assertEquals(1L, queryLong(db, "SELECT rowid FROM person_fts WHERE person_fts MATCH 'sant*'"));
+
+        // 26 -> 27: upload queue starts empty
+        assertEquals(0L, queryLong(db, "SELECT COUNT(*) FROM upload_tasks"));
+        
+        // 27 -> 28: hearing schedule parsed into epoch millis; unreadable dates stay 0
+        long expected = LocalDateTime.of(2025, 3, 5, 14, 30)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(expected, queryLong(db, "SELECT scheduledAt FROM hearings WHERE id = 1"));
+        assertEquals(0L, queryLong(db, "SELECT scheduledAt FROM hearings WHERE id = 2"));
+        db.close();
+    }
+
+    @Test
+    public void migrateEachStep() throws IOException {
+        for (int version = DatabaseMigrations.FIRST_MIGRATABLE_VERSION; version < LATEST_VERSION; version++) {
+            String name = TEST_DB + "-" + version;
+            helper.createDatabase(name, version).close();
+            helper.runMigrationsAndValidate(name, version + 1, true, DatabaseMigrations.ALL).close();
+        }
+    }
+
+    @Test
+    public void openLatestThroughRoom() throws IOException {
+        helper.createDatabase(TEST_DB, DatabaseMigrations.FIRST_MIGRATABLE_VERSION).close();
+
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        BlotterDatabase database = Room.databaseBuilder(context, BlotterDatabase.class, TEST_DB)
+                .addMigrations(DatabaseMigrations.ALL)
+                .build();
+        // Opening runs every migration and Room's own schema validation
+        database.getOpenHelper().getWritableDatabase();
+        database.close();
+    }
+
+    private static long queryLong(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            assertTrue("No row for: " + sql, cursor.moveToFirst());
+            return cursor.getLong(0);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.dao.BlotterReportDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.utils.DatabaseBackupManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * DatabaseBackupManager against the app database - back up, change, restore.
+ * Each test adds one report with its own case number and removes it and its backups afterwards.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DatabaseBackupManagerTest {
+    private static final String BEFORE_BACKUP = "Before backup";
+    private static final String AFTER_BACKUP = "After backup";
+
+    private Context context;
+    private String caseNumber;
+    private final List<File> backups = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        caseNumber = "BKP-TEST-" + System.nanoTime();
+        dao().insertReport(new BlotterReport(caseNumber, BEFORE_BACKUP, "0917", "Purok 1", "Theft",
+                System.currentTimeMillis(), "10:00", "Market", "Backup test narrative", 1));
+    }
+
+    @After
+    public void tearDown() {
+        BlotterReport report = dao().getReportByCaseNumber(caseNumber);
+        if (report != null) {
+            dao().deleteReport(report);
+        }
+        for (File backup : backups) {
+            backup.delete();
+            new File(backup.getPath() + ".sha256").delete();
+        }
+    }
+
+    @Test
+    public void restore_bringsBackTheBackedUpRows() {
+        String path = backup(true);
+        assertTrue(path.endsWith(".db.gz"));
+        assertTrue(new File(path + ".sha256").exists());
+
+        renameComplainant(AFTER_BACKUP);
+        assertTrue(DatabaseBackupManager.restoreDatabase(context, path));
+
+        // The shared instance was closed and reopened on the restored file
+        BlotterReport restored = dao().getReportByCaseNumber(caseNumber);
+        assertNotNull(restored);
+        assertEquals(BEFORE_BACKUP, restored.getComplainantName());
+    }
+
+    @Test
+    public void restore_rejectsBackupThatFailsItsChecksum() throws IOException {
+        String path = backup(false);
+        renameComplainant(AFTER_BACKUP);
+
+        // One flipped byte inside the uncompressed file - still a database, no longer the one summed
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            long middle = file.length() / 2;
+            file.seek(middle);
+            int value = file.read();
+            file.seek(middle);
+            file.write(value ^ 0xFF);
+        }
+
+        assertFalse(DatabaseBackupManager.restoreDatabase(context, path));
+        assertEquals("Live database must be left as it was",
+                AFTER_BACKUP, dao().getReportByCaseNumber(caseNumber).getComplainantName());
+    }
+
+    private String backup(boolean compress) {
+        String path = DatabaseBackupManager.backupDatabase(context, compress);
+        assertNotNull(path);
+        backups.add(new File(path));
+        return path;
+    }
+
+    private void renameComplainant(String name) {
+        BlotterReport report = dao().getReportByCaseNumber(caseNumber);
+        report.setComplainantName(name);
+        dao().updateReport(report);
+    }
+
+    // Looked up each time - restoreDatabase replaces the shared instance
+    private BlotterReportDao dao() {
+        return BlotterDatabase.getDatabase(context).blotterReportDao();
+    }
+}
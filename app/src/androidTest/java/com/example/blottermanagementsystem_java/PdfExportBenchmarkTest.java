@@ -0,0 +1,122 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+import android.graphics.pdf.PdfRenderer;
+import android.os.ParcelFileDescriptor;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.utils.ExportUtils;
+import com.example.blottermanagementsystem.utils.PdfLayoutEngine;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * PDF export benchmark - 1,000 synthetic reports streamed through the layout engine.
+ * Throughput and heap are logged under "PdfExportBenchmark" (adb logcat -s PdfExportBenchmark).
+ * Every output is opened with PdfRenderer, so a file the platform cannot parse fails the test.
+ */
+@RunWith(AndroidJUnit4.class)
+public class PdfExportBenchmarkTest {
+    private static final String TAG = "PdfExportBenchmark";
+    private static final int REPORTS = 1000;
+    // Pages are flushed as they finish; a writer that kept every page would pass this long before the end
+    private static final long MAX_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    @Test
+    public void exportsThousandReportsWithBoundedMemory() throws IOException {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        List<BlotterReport> reports = new ArrayList<>();
+        for (int i = 1; i <= REPORTS; i++) {
+            // Every tenth report has a narrative long enough to spill onto a second page
+            String narrative = i % 10 == 0 ? longNarrative(400) : "Narrative for report " + i;
+            BlotterReport report = new BlotterReport(String.format("BLT-2024-%05d", i), "Complainant " + i,
+                    "0917", "Purok 1", "Theft", System.currentTimeMillis(), "10:00", "Market", narrative, 1);
+            report.setId(i);
+            reports.add(report);
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        long baselineHeap = runtime.totalMemory() - runtime.freeMemory();
+        final long[] peakHeap = {baselineHeap};
+        final int[] pages = {0};
+        long start = System.nanoTime();
+        String path = ExportUtils.exportReportsToPdf(context, reports, Collections.emptyList(),
+                (done, total, pageCount) -> {
+                    pages[0] = pageCount;
+                    if (done % 10 == 0) {
+                        peakHeap[0] = Math.max(peakHeap[0], runtime.totalMemory() - runtime.freeMemory());
+                    }
+                });
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(path);
+        File file = new File(path);
+        try {
+            assertTrue(pages[0] > REPORTS);
+            assertEquals(pages[0], renderedPageCount(file));
+            long heapGrowth = peakHeap[0] - baselineHeap;
+            Log.d(TAG, "📊 " + REPORTS + " reports, " + pages[0] + " pages, " + file.length() / 1024 + " KB in "
+                    + elapsedMs + " ms (" + (pages[0] * 1000L / Math.max(1, elapsedMs)) + " pages/sec), heap growth "
+                    + heapGrowth / (1024 * 1024) + " MB");
+            assertTrue("Heap grew " + heapGrowth / (1024 * 1024) + " MB during export",
+                    heapGrowth < MAX_HEAP_GROWTH_BYTES);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void longParagraphWrapsOntoNextPage() throws IOException {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        File file = new File(context.getCacheDir(), "pdf-wrap-test.pdf");
+        try {
+            int pageCount;
+            try (PdfLayoutEngine engine = new PdfLayoutEngine(new FileOutputStream(file))) {
+                engine.newPage();
+                engine.heading("NARRATIVE");
+                engine.paragraph(longNarrative(600), PdfLayoutEngine.BODY);
+                pageCount = engine.getPageCount();
+            }
+            assertTrue(pageCount >= 2);
+            assertEquals(pageCount, renderedPageCount(file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static String longNarrative(int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            text.append("The complainant stated that the incident happened near the market stall. ");
+        }
+        return text.toString();
+    }
+
+    // Page count as the platform renderer sees it; throws if the file is not a valid PDF
+    private static int renderedPageCount(File file) throws IOException {
+        try (ParcelFileDescriptor descriptor = ParcelFileDescriptor.open(file, ParcelFileDescriptor.MODE_READ_ONLY);
+             PdfRenderer renderer = new PdfRenderer(descriptor)) {
+            int count = renderer.getPageCount();
+            // Opening the last page makes the renderer parse the page tree all the way through
+            if (count > 0) {
+                renderer.openPage(count - 1).close();
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.blottermanagementsystem_java;
+
+import android.database.Cursor;
+import android.util.Log;
+
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteStatement;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.database.DatabaseMigrations;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Query plan benchmark - hot DAO queries on a seeded 50k-report database,
+ * before (v25) and after (v26) the composite index migration.
+ * Plans and median timings are logged under "QueryPlanBenchmark" (adb logcat -s QueryPlanBenchmark).
+ */
+@RunWith(AndroidJUnit4.class)
+public class QueryPlanBenchmarkTest {
+    private static final String TAG = "QueryPlanBenchmark";
+    private static final String TEST_DB = "query-plan-benchmark";
+
+    private static final int REPORTS = 50_000;
+    private static final int USERS = 50;
+    private static final int NOTIFICATIONS = 20_000;
+    private static final int HEARINGS = 10_000;
+    private static final int RUNS = 15;
+
+    private static final String[] STATUSES = {"Pending", "ASSIGNED", "ONGOING", "RESOLVED", "CLOSED"};
+
+    // Query shapes copied from the DAOs; sorted = the ORDER BY should come straight off an index
+    private static final BenchQuery[] QUERIES = {
+        new BenchQuery("active reports page", true,
+            "SELECT * FROM blotter_reports WHERE isArchived = 0 ORDER BY dateFiled DESC LIMIT 20"),
+        new BenchQuery("archived reports page", true,
+            "SELECT * FROM blotter_reports WHERE isArchived = 1 ORDER BY archivedDate DESC LIMIT 20"),
+        new BenchQuery("reports by status", true,
+            "SELECT * FROM blotter_reports WHERE status IN ('Pending') AND isArchived = 0 ORDER BY dateFiled DESC LIMIT 20"),
+        new BenchQuery("reports by user", true,
+            "SELECT * FROM blotter_reports WHERE userId = 7 AND isArchived = 0 ORDER BY dateFiled DESC"),
+        new BenchQuery("count by status", false,
+            "SELECT COUNT(*) FROM blotter_reports WHERE status = 'Pending' AND isArchived = 0"),
+        new BenchQuery("report by case number", false,
+            "SELECT * FROM blotter_reports WHERE caseNumber = 'BLT-2024-25000'"),
+        new BenchQuery("unread notification count", false,
+            "SELECT COUNT(*) FROM notifications WHERE userId = 7 AND isRead = 0"),
+        new BenchQuery("unread notifications", true,
+            "SELECT * FROM notifications WHERE userId = 7 AND isRead = 0 ORDER BY timestamp DESC"),
+        new BenchQuery("notifications by user", true,
+            "SELECT * FROM notifications WHERE userId = 7 ORDER BY timestamp DESC"),
+        new BenchQuery("hearings by report", true,
+            "SELECT * FROM hearings WHERE blotterReportId = 100 ORDER BY hearingDate DESC"),
+        new BenchQuery("pending hearing approvals", true,
+            "SELECT * FROM hearings WHERE approvalStatus = 'PENDING' ORDER BY createdAt DESC"),
+        new BenchQuery("timeline by report", true,
+            "SELECT * FROM case_timeline WHERE blotterReportId = 100 ORDER BY timestamp DESC")
+    };
+
+    @Rule
+    public MigrationTestHelper helper = new MigrationTestHelper(
+            InstrumentationRegistry.getInstrumentation(),
+            BlotterDatabase.class);
+
+    @Test
+    public void compositeIndexes_beforeAndAfter() throws IOException {
+        SupportSQLiteDatabase db = helper.createDatabase(TEST_DB, 25);
+        long seedStart = System.currentTimeMillis();
+        seed(db);
+        db.execSQL("ANALYZE");
+        Log.i(TAG, "📊 Seeded " + REPORTS + " reports in " + (System.currentTimeMillis() - seedStart) + "ms");
+
+        List<Result> before = runAll(db, "v25");
+        db.close();
+
+        db = helper.runMigrationsAndValidate(TEST_DB, 26, true, DatabaseMigrations.ALL);
+        List<Result> after = runAll(db, "v26");
+        db.close();
+
+        for (int i = 0; i < QUERIES.length; i++) {
+            Log.i(TAG, String.format("📊 %-28s %8.2fms -> %8.2fms", QUERIES[i].name,
+                    before.get(i).medianMs, after.get(i).medianMs));
+        }
+
+        // Every hot query must be index-driven after the migration
+        for (int i = 0; i < QUERIES.length; i++) {
+            BenchQuery query = QUERIES[i];
+            String plan = after.get(i).plan;
+            assertFalse(query.name + " still scans the table: " + plan, isFullScan(plan));
+            if (query.sorted) {
+                assertFalse(query.name + " still sorts in a temp b-tree: " + plan,
+                        plan.contains("TEMP B-TREE"));
+            }
+        }
+    }
+
+    private static void seed(SupportSQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            SupportSQLiteStatement user = db.compileStatement(
+                    "INSERT INTO users (id, username, role, accountCreated, profileCompleted, mustChangePassword, " +
+                    "isActive, resetCodeExpiry, hasSeenTooltips, updatedAt) VALUES (?, ?, 'User', 0, 1, 0, 1, 0, 0, 0)");
+            for (int id = 1; id <= USERS; id++) {
+                user.bindLong(1, id);
+                user.bindString(2, "user" + id);
+                user.executeInsert();
+            }
+
+            SupportSQLiteStatement report = db.compileStatement(
+                    "INSERT INTO blotter_reports (id, caseNumber, complainantName, incidentType, incidentDate, " +
+                    "status, dateFiled, updatedAt, userId, isArchived, archivedDate, latitude, longitude) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)");
+            long base = 1_600_000_000_000L;
+            for (int id = 1; id <= REPORTS; id++) {
+                boolean archived = id % 10 == 0;
+                long filed = base + (id * 7_919L % REPORTS) * 60_000L;
+                report.bindLong(1, id);
+                report.bindString(2, "BLT-2024-" + id);
+                report.bindString(3, "Complainant " + id);
+                report.bindString(4, id % 3 == 0 ? "Theft" : "Physical Injury");
+                report.bindLong(5, filed);
+                report.bindString(6, STATUSES[id % STATUSES.length]);
+                report.bindLong(7, filed);
+                report.bindLong(8, filed);
+                report.bindLong(9, 1 + id % USERS);
+                report.bindLong(10, archived ? 1 : 0);
+                if (archived) {
+                    report.bindLong(11, filed + 86_400_000L);
+                } else {
+                    report.bindNull(11);
+                }
+                report.executeInsert();
+            }
+
+            SupportSQLiteStatement notification = db.compileStatement(
+                    "INSERT INTO notifications (userId, title, message, type, isRead, timestamp) " +
+                    "VALUES (?, 'Update', 'Case updated', 'CASE_UPDATE', ?, ?)");
+            for (int i = 0; i < NOTIFICATIONS; i++) {
+                notification.bindLong(1, 1 + i % USERS);
+                notification.bindLong(2, i % 4 == 0 ? 0 : 1);
+                notification.bindLong(3, base + i * 1_000L);
+                notification.executeInsert();
+            }
+
+            SupportSQLiteStatement hearing = db.compileStatement(
+                    "INSERT INTO hearings (blotterReportId, hearingDate, status, createdAt, approvalStatus, " +
+                    "approvedBy, approvalDate, reminderScheduled, completedAt) VALUES (?, ?, ?, ?, ?, 0, 0, 0, 0)");
+            for (int i = 0; i < HEARINGS; i++) {
+                hearing.bindLong(1, 1 + i * 5 % REPORTS);
+                hearing.bindString(2, "2024-" + String.format("%02d-%02d", 1 + i % 12, 1 + i % 28));
+                hearing.bindString(3, i % 3 == 0 ? "Completed" : "Scheduled");
+                hearing.bindLong(4, base + i * 1_000L);
+                hearing.bindString(5, i % 5 == 0 ? "PENDING" : "APPROVED");
+                hearing.executeInsert();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private static List<Result> runAll(SupportSQLiteDatabase db, String label) {
+        List<Result> results = new ArrayList<>();
+        for (BenchQuery query : QUERIES) {
+            Result result = new Result();
+            result.plan = explain(db, query.sql);
+            result.medianMs = medianMs(db, query.sql);
+            Log.i(TAG, "🔄 [" + label + "] " + query.name + " (" + result.medianMs + "ms)\n" + result.plan);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static String explain(SupportSQLiteDatabase db, String sql) {
+        StringBuilder plan = new StringBuilder();
+        try (Cursor cursor = db.query("EXPLAIN QUERY PLAN " + sql)) {
+            int detail = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext()) {
+                plan.append("    ").append(cursor.getString(detail)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static double medianMs(SupportSQLiteDatabase db, String sql) {
+        double[] times = new double[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            try (Cursor cursor = db.query(sql)) {
+                while (cursor.moveToNext()) {
+                    cursor.getLong(0);
+                }
+            }
+            times[run] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2];
+    }
+
+    // "SCAN blotter_reports" / "SCAN TABLE blotter_reports" without an index
+    private static boolean isFullScan(String plan) {
+        for (String line : plan.split("\n")) {
+            String step = line.trim();
+            if (step.startsWith("SCAN") && !step.contains("INDEX")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class BenchQuery {
+        final String name;
+        final boolean sorted;
+        final String sql;
+
+        BenchQuery(String name, boolean sorted, String sql) {
+            this.name = name;
+            this.sorted = sorted;
+            this.sql = sql;
+        }
+    }
+
+    private static class Result {
+        String plan;
+        double medianMs;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.dao.ReportAggregateDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.data.model.ReportAggregate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReportAggregateDao - report, children and counts from one transaction
+ */
+@RunWith(AndroidJUnit4.class)
+public class ReportAggregateDaoTest {
+
+    private BlotterDatabase database;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        database = Room.inMemoryDatabaseBuilder(context, BlotterDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void aggregate_loadsChildrenAndCounts() {
+        int reportId = insertReport("BLT-2024-00001");
+        int otherId = insertReport("BLT-2024-00002");
+
+        database.witnessDao().insertWitness(new Witness(reportId, "Ana", "0917", "Purok 1", "Saw it"));
+        database.witnessDao().insertWitness(new Witness(reportId, "Ben", "0918", "Purok 2", "Heard it"));
+        database.suspectDao().insertSuspect(new Suspect(reportId, "Carl", null, "Purok 3", "0919"));
+        database.evidenceDao().insertEvidence(new Evidence(otherId, "Photo", "Other case", "/tmp/a.jpg"));
+        database.hearingDao().insertHearing(new Hearing(reportId, "2024-03-01", "09:00", "Hall", "First"));
+        database.hearingDao().insertHearing(new Hearing(reportId, "2024-04-01", "09:00", "Hall", "Second"));
+
+        ReportAggregate aggregate = database.reportAggregateDao().getReportAggregate(reportId);
+
+        assertNotNull(aggregate);
+        assertEquals("BLT-2024-00001", aggregate.report.getCaseNumber());
+        assertEquals(2, aggregate.witnesses.size());
+        assertEquals(2, aggregate.witnessCount);
+        assertEquals(1, aggregate.suspectCount);
+        assertEquals(0, aggregate.evidenceCount);
+        assertTrue(aggregate.evidence.isEmpty());
+        assertEquals(2, aggregate.hearingCount);
+        assertEquals(0, aggregate.resolutionCount);
+        assertEquals("Second", aggregate.getLatestHearing().getPurpose());
+    }
+
+    @Test
+    public void childCounts_matchAggregate() {
+        int reportId = insertReport("BLT-2024-00003");
+        database.witnessDao().insertWitness(new Witness(reportId, "Ana", "0917", "Purok 1", "Saw it"));
+
+        ReportAggregateDao.ChildCounts counts = database.reportAggregateDao().getChildCounts(reportId);
+
+        assertEquals(reportId, counts.reportId);
+        assertEquals(1, counts.witnessCount);
+        assertEquals(0, counts.hearingCount);
+        assertNull(database.reportAggregateDao().getChildCounts(reportId + 100));
+        assertNull(database.reportAggregateDao().getReportAggregate(reportId + 100));
+    }
+
+    @Test
+    public void observedAggregate_followsChildWrites() throws Exception {
+        int reportId = insertReport("BLT-2024-00004");
+        BlockingQueue<ReportAggregate> emissions = new LinkedBlockingQueue<>();
+        Observer<ReportAggregate> observer = emissions::add;
+        LiveData<ReportAggregate> live = database.reportAggregateDao().observeReportAggregate(reportId);
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(() -> live.observeForever(observer));
+        try {
+            assertEquals(0, emissions.poll(5, TimeUnit.SECONDS).witnessCount);
+
+            database.witnessDao().insertWitness(new Witness(reportId, "Ana", "0917", "Purok 1", "Saw it"));
+            database.hearingDao().insertHearing(new Hearing(reportId, "2024-03-01", "09:00", "Hall", "First"));
+
+            ReportAggregate latest;
+            do {
+                latest = emissions.poll(5, TimeUnit.SECONDS);
+                assertNotNull("No emission after the child writes", latest);
+            } while (latest.hearingCount == 0);
+            assertEquals(1, latest.witnessCount);
+            assertEquals(1, latest.witnesses.size());
+            assertEquals("First", latest.getLatestHearing().getPurpose());
+        } finally {
+            InstrumentationRegistry.getInstrumentation().runOnMainSync(() -> live.removeObserver(observer));
+        }
+    }
+
+    private int insertReport(String caseNumber) {
+        BlotterReport report = new BlotterReport(caseNumber, "Complainant", "0917", "Purok 1",
+                "Theft", System.currentTimeMillis(), "10:00", "Market", "Narrative", 1);
+        return (int) database.blotterReportDao().insertReport(report);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.blottermanagementsystem_java;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.blottermanagementsystem.utils.ReportChangeFeed;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReportChangeFeed against a local MockWebServer standing in for the backend's SSE endpoint
+ */
+@RunWith(AndroidJUnit4.class)
+public class ReportChangeFeedTest {
+    private static final String LIST_CHANGED = "list";
+
+    private MockWebServer server;
+    private ReportChangeFeed feed;
+    private ManualScheduler scheduler;
+    private final BlockingQueue<Object> callbacks = new LinkedBlockingQueue<>();
+    private final ReportChangeFeed.Listener listener = new ReportChangeFeed.Listener() {
+        @Override
+        public void onReportsChanged(Set<Integer> reportIds) {
+            callbacks.add(new HashSet<>(reportIds));
+        }
+
+        @Override
+        public void onListChanged() {
+            callbacks.add(LIST_CHANGED);
+        }
+    };
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        feed = new ReportChangeFeed(new OkHttpClient(), server.url("/"), listener, Runnable::run);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        feed.stop();
+        if (scheduler != null) scheduler.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void updates_areCoalescedIntoOneRowCallback() throws Exception {
+        server.enqueue(stream(
+                "event: report\nid: 1\ndata: {\"id\":7,\"action\":\"updated\"}\n\n" +
+                "event: ping\ndata: {}\n\n" +
+                "event: report\nid: 2\ndata: {\"id\":9,\"action\":\"updated\"}\n\n"));
+        feed.start();
+
+        RecordedRequest request = server.takeRequest(2, TimeUnit.SECONDS);
+        assertNotNull(request);
+        assertEquals("/api/events/reports", request.getPath());
+        assertEquals("text/event-stream", request.getHeader("Accept"));
+
+        Object first = callbacks.poll(3, TimeUnit.SECONDS);
+        assertEquals(new HashSet<>(Arrays.asList(7, 9)), first);
+        assertNull("Events should arrive as one batch", callbacks.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void createdReport_refreshesTheList() throws Exception {
+        server.enqueue(stream("event: report\ndata: {\"id\":12,\"action\":\"created\"}\n\n"));
+        feed.start();
+
+        assertEquals(LIST_CHANGED, callbacks.poll(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void unavailableStream_pollsWithBackoffUntilSomethingChanges() throws Exception {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        scheduler = new ManualScheduler();
+        feed = new ReportChangeFeed(new OkHttpClient(), server.url("/"), listener, Runnable::run, scheduler);
+        feed.start();
+
+        // Quiet polls: 15s doubling up to 5 min, each one refreshing the list and retrying the stream
+        long[] quiet = {15_000, 30_000, 60_000, 120_000, 240_000, 300_000, 300_000};
+        for (long delay : quiet) {
+            Timer poll = scheduler.awaitPending();
+            assertEquals(delay, poll.delayMs);
+            assertFalse(feed.isStreaming());
+            scheduler.fire(poll);
+            assertEquals(LIST_CHANGED, callbacks.poll(1, TimeUnit.SECONDS));
+        }
+        Timer backedOff = scheduler.awaitPending();
+        assertEquals(300_000, backedOff.delayMs);
+        assertEquals("One stream attempt at start and one per poll", 1 + quiet.length, server.getRequestCount());
+
+        // The last poll's refresh found a change after the next poll was already scheduled
+        feed.onPollResult(true);
+        assertTrue(backedOff.future.isCancelled());
+        Timer reset = scheduler.awaitPending();
+        assertEquals(15_000, reset.delayMs);
+
+        scheduler.fire(reset);
+        assertEquals(LIST_CHANGED, callbacks.poll(1, TimeUnit.SECONDS));
+        assertEquals(30_000, scheduler.awaitPending().delayMs);
+    }
+
+    @Test
+    public void stop_dropsPendingEvents() throws Exception {
+        server.enqueue(stream("event: report\ndata: {\"id\":3,\"action\":\"updated\"}\n\n"));
+        feed.start();
+        assertNotNull(server.takeRequest(2, TimeUnit.SECONDS));
+        feed.stop();
+
+        assertNull(callbacks.poll(1, TimeUnit.SECONDS));
+    }
+
+    // One timer the feed asked for; `future` is what the feed holds and may cancel
+    private static class Timer {
+        final long delayMs;
+        final Runnable task;
+        final ScheduledFuture<?> future;
+        boolean fired;
+
+        Timer(long delayMs, Runnable task, ScheduledFuture<?> future) {
+            this.delayMs = delayMs;
+            this.task = task;
+            this.future = future;
+        }
+    }
+
+    // Records requested delays; timers only run when the test fires them
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Timer> timers = new ArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public synchronized ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+            ScheduledFuture<?> future = super.schedule(() -> { }, 1, TimeUnit.DAYS);
+            timers.add(new Timer(unit.toMillis(delay), task, future));
+            notifyAll();
+            return future;
+        }
+
+        synchronized Timer awaitPending() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (true) {
+                for (Timer timer : timers) {
+                    if (!timer.fired && !timer.future.isCancelled()) return timer;
+                }
+                long left = deadline - System.currentTimeMillis();
+                assertTrue("No timer scheduled", left > 0);
+                wait(left);
+            }
+        }
+
+        // Runs on the test thread, outside this monitor - the task takes the feed's lock
+        void fire(Timer timer) {
+            synchronized (this) {
+                timer.fired = true;
+            }
+            timer.task.run();
+        }
+    }
+
+    private static MockResponse stream(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody(body);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.utils.ReportSearchEngine;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReportSearchEngine ranking over more matches than one FTS page
+ */
+@RunWith(AndroidJUnit4.class)
+public class ReportSearchEngineTest {
+    private static final int NARRATIVE_ONLY_MATCHES = 1200;
+
+    private BlotterDatabase database;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        database = Room.inMemoryDatabaseBuilder(context, BlotterDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void searchReports_ranksHitsBeyondTheFirstPage() {
+        database.runInTransaction(() -> {
+            for (int i = 0; i < NARRATIVE_ONLY_MATCHES; i++) {
+                insertReport("BLT-2024-" + i, "Resident " + i, "Carabao was stolen from the field");
+            }
+        });
+        // Newest row, so last in rowid order - a name match must still outrank narrative mentions
+        insertReport("BLT-2024-LAST", "Carabao Farms", "Gate left open");
+
+        List<BlotterReport> results = new ReportSearchEngine(database).searchReports("carabao", 3);
+
+        assertEquals(3, results.size());
+        assertEquals("BLT-2024-LAST", results.get(0).getCaseNumber());
+        // Equal scores keep the older reports first
+        assertEquals("BLT-2024-0", results.get(1).getCaseNumber());
+        assertEquals("BLT-2024-1", results.get(2).getCaseNumber());
+    }
+
+    private void insertReport(String caseNumber, String complainant, String narrative) {
+        database.blotterReportDao().insertReport(new BlotterReport(caseNumber, complainant, "0917", "Purok 1",
+                "Theft", System.currentTimeMillis(), "10:00", "Barangay Hall", narrative, 1));
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+import android.net.Uri;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.blottermanagementsystem.data.api.ApiService;
+import com.example.blottermanagementsystem.data.dao.UploadTaskDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.UploadTask;
+import com.example.blottermanagementsystem.utils.ResumableUploadManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * ResumableUploadManager against a local MockWebServer implementing the chunk protocol
+ */
+@RunWith(AndroidJUnit4.class)
+public class ResumableUploadManagerTest {
+    private static final int CHUNK = 1024 * 1024;
+    private static final long FILE_SIZE = 2L * CHUNK + CHUNK / 2;
+
+    private MockWebServer server;
+    private BlotterDatabase database;
+    private UploadTaskDao dao;
+    private ResumableUploadManager manager;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        Context context = ApplicationProvider.getApplicationContext();
+        server = new MockWebServer();
+        server.start();
+
+        ApiService api = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .client(new OkHttpClient.Builder().retryOnConnectionFailure(false).build())
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(ApiService.class);
+        database = Room.inMemoryDatabaseBuilder(context, BlotterDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+        dao = database.uploadTaskDao();
+        manager = new ResumableUploadManager(context, dao, api);
+
+        file = File.createTempFile("evidence", ".mp4", context.getCacheDir());
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            byte[] block = new byte[8192];
+            for (long written = 0; written < FILE_SIZE; written += block.length) {
+                out.write(block, 0, (int) Math.min(block.length, FILE_SIZE - written));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        database.close();
+        server.shutdown();
+        file.delete();
+    }
+
+    @Test
+    public void interruptedUploadResumesFromAcknowledgedChunk() throws Exception {
+        int taskId = manager.addTask(7, Uri.fromFile(file), "video");
+
+        // Run 1: session created, first chunk acknowledged, connection drops on the second
+        server.enqueue(json("{\"uploadId\":\"u1\",\"offset\":0,\"chunkSize\":" + CHUNK + "}"));
+        server.enqueue(json("{\"offset\":" + CHUNK + "}"));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+
+        ResumableUploadManager.RunResult first = manager.runPending(null);
+        assertTrue(first.networkError);
+        assertEquals(1, first.remaining);
+        UploadTask interrupted = dao.getTask(taskId);
+        assertEquals(CHUNK, interrupted.getUploadedBytes());
+        assertEquals("u1", interrupted.getUploadId());
+
+        assertEquals("POST", server.takeRequest().getMethod());
+        RecordedRequest firstChunk = server.takeRequest();
+        assertEquals("bytes 0-" + (CHUNK - 1) + "/" + FILE_SIZE, firstChunk.getHeader("Content-Range"));
+        assertEquals(CHUNK, firstChunk.getBodySize());
+        server.takeRequest(); // The dropped chunk
+
+        // Run 2 (as after a restart): asks the server for its offset, sends only what is left
+        server.enqueue(json("{\"uploadId\":\"u1\",\"offset\":" + CHUNK + "}"));
+        server.enqueue(json("{\"offset\":" + (2 * CHUNK) + "}"));
+        server.enqueue(json("{\"offset\":" + FILE_SIZE + ",\"complete\":true,\"url\":\"https://cdn.test/u1.mp4\"}"));
+
+        ResumableUploadManager.RunResult second = manager.runPending(null);
+        assertFalse(second.networkError);
+        assertEquals(1, second.completed);
+        assertEquals(0, second.remaining);
+        assertEquals(FILE_SIZE - CHUNK, second.bytesUploaded);
+
+        RecordedRequest status = server.takeRequest();
+        assertEquals("GET", status.getMethod());
+        assertEquals("/api/uploads/u1", status.getPath());
+        RecordedRequest resumed = server.takeRequest();
+        assertEquals(String.valueOf(CHUNK), resumed.getHeader("Upload-Offset"));
+        assertEquals(CHUNK, resumed.getBodySize());
+        RecordedRequest last = server.takeRequest();
+        assertEquals(FILE_SIZE - 2L * CHUNK, last.getBodySize());
+
+        UploadTask done = dao.getTask(taskId);
+        assertEquals(UploadTask.STATUS_COMPLETED, done.getStatus());
+        assertEquals("https://cdn.test/u1.mp4", done.getResultUrl());
+        assertEquals(100, done.getProgressPercent());
+    }
+
+    @Test
+    public void offsetConflictRefetchesServerOffset() throws Exception {
+        int taskId = manager.addTask(7, Uri.fromFile(file), "video");
+
+        // Server already holds the first chunk (its ack was lost)
+        server.enqueue(json("{\"uploadId\":\"u2\",\"offset\":0,\"chunkSize\":" + (2 * CHUNK) + "}"));
+        server.enqueue(new MockResponse().setResponseCode(409));
+        server.enqueue(json("{\"uploadId\":\"u2\",\"offset\":" + (2 * CHUNK) + "}"));
+        server.enqueue(json("{\"offset\":" + FILE_SIZE + ",\"complete\":true,\"url\":\"https://cdn.test/u2.mp4\"}"));
+
+        ResumableUploadManager.RunResult result = manager.runPending(null);
+        assertEquals(1, result.completed);
+
+        server.takeRequest(); // create
+        server.takeRequest(); // rejected chunk
+        server.takeRequest(); // offset lookup
+        RecordedRequest retried = server.takeRequest();
+        assertEquals(String.valueOf(2 * CHUNK), retried.getHeader("Upload-Offset"));
+        assertEquals(UploadTask.STATUS_COMPLETED, dao.getTask(taskId).getStatus());
+    }
+
+    @Test
+    public void missingUrlOnLastAckIsFetchedFromSession() throws Exception {
+        int taskId = manager.addTask(7, Uri.fromFile(file), "video");
+
+        // One chunk; its ack confirms the bytes but carries no URL
+        server.enqueue(json("{\"uploadId\":\"u3\",\"offset\":0,\"chunkSize\":" + FILE_SIZE + "}"));
+        server.enqueue(json("{\"offset\":" + FILE_SIZE + "}"));
+        server.enqueue(json("{\"uploadId\":\"u3\",\"offset\":" + FILE_SIZE + ",\"complete\":true,\"url\":\"https://cdn.test/u3.mp4\"}"));
+
+        ResumableUploadManager.RunResult result = manager.runPending(null);
+        assertEquals(1, result.completed);
+
+        server.takeRequest(); // create
+        server.takeRequest(); // chunk
+        RecordedRequest status = server.takeRequest();
+        assertEquals("GET", status.getMethod());
+        assertEquals("/api/uploads/u3", status.getPath());
+
+        UploadTask done = dao.getTask(taskId);
+        assertEquals(UploadTask.STATUS_COMPLETED, done.getStatus());
+        assertEquals("https://cdn.test/u3.mp4", done.getResultUrl());
+    }
+
+    @Test
+    public void cancelDuringLastChunkIsNotOverwritten() throws Exception {
+        int taskId = manager.addTask(7, Uri.fromFile(file), "video");
+
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if ("POST".equals(request.getMethod())) {
+                    return json("{\"uploadId\":\"u4\",\"offset\":0,\"chunkSize\":" + FILE_SIZE + "}");
+                }
+                // The user cancels while the only chunk is on the wire
+                manager.cancel(taskId);
+                return json("{\"offset\":" + FILE_SIZE + ",\"complete\":true,\"url\":\"https://cdn.test/u4.mp4\"}");
+            }
+        });
+
+        ResumableUploadManager.RunResult result = manager.runPending(null);
+        assertEquals(0, result.completed);
+        assertEquals(0, result.remaining);
+        assertEquals(UploadTask.STATUS_CANCELLED, dao.getTask(taskId).getStatus());
+    }
+
+    @Test
+    public void rejectedUploadFailsWithoutRetry() throws Exception {
+        int taskId = manager.addTask(7, Uri.fromFile(file), "video");
+        server.enqueue(new MockResponse().setResponseCode(413));
+
+        ResumableUploadManager.RunResult result = manager.runPending(null);
+        assertEquals(1, result.failed);
+        assertFalse(result.networkError);
+        assertEquals(UploadTask.STATUS_FAILED, dao.getTask(taskId).getStatus());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.blottermanagementsystem_java;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.blottermanagementsystem.data.interceptors.CircuitBreaker;
+import com.example.blottermanagementsystem.data.interceptors.RetryInterceptor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import static org.junit.Assert.*;
+
+/**
+ * RetryInterceptor + CircuitBreaker against a local MockWebServer standing in for a cold backend
+ */
+@RunWith(AndroidJUnit4.class)
+public class RetryInterceptorTest {
+    private static final int MAX_RETRIES = 2;
+    private static final long BASE_DELAY_MS = 10;
+    private static final long MAX_DELAY_MS = 200;
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final long OPEN_MS = 300;
+
+    private MockWebServer server;
+    private CircuitBreaker breaker;
+    private OkHttpClient client;
+    private String host;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        host = server.url("/").host();
+        breaker = new CircuitBreaker(FAILURE_THRESHOLD, OPEN_MS);
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RetryInterceptor(MAX_RETRIES, BASE_DELAY_MS, MAX_DELAY_MS, breaker))
+                .readTimeout(5, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void get_retriesServiceUnavailableThenSucceeds() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        try (Response response = execute(get())) {
+            assertEquals(200, response.code());
+            assertEquals("ok", response.body().string());
+        }
+        assertEquals(2, server.getRequestCount());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(host));
+    }
+
+    @Test
+    public void post_isNotRetried() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        Request post = new Request.Builder()
+                .url(server.url("/api/reports"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+        try (Response response = execute(post)) {
+            assertEquals(503, response.code());
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void retryAfterLongerThanCap_isReturnedAsIs() throws IOException {
+        server.enqueue(new MockResponse().setResponseCode(503).setHeader("Retry-After", "3600"));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        long start = System.nanoTime();
+        try (Response response = execute(get())) {
+            assertEquals(503, response.code());
+            assertEquals("3600", response.header("Retry-After"));
+        }
+        assertEquals(1, server.getRequestCount());
+        assertTrue("Should not wait out the Retry-After", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void exhaustedRetries_countAsOneFailure() throws IOException {
+        for (int i = 0; i <= MAX_RETRIES; i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+        }
+        execute(get()).close();
+
+        assertEquals(MAX_RETRIES + 1, server.getRequestCount());
+        assertEquals("One call is one failure, however many attempts it made",
+                CircuitBreaker.State.CLOSED, breaker.getState(host));
+    }
+
+    @Test
+    public void circuit_opensThenHalfOpenProbeCloses() throws Exception {
+        // Two calls that each exhaust their retries open the circuit
+        for (int i = 0; i < FAILURE_THRESHOLD * (MAX_RETRIES + 1); i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+        }
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            execute(get()).close();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(host));
+
+        // Open: fails fast without touching the server
+        int sent = server.getRequestCount();
+        try {
+            execute(get()).close();
+            fail("Expected CircuitOpenException while open");
+        } catch (CircuitBreaker.CircuitOpenException expected) {
+            assertTrue(expected.retryAfterMs > 0);
+        }
+        assertEquals(sent, server.getRequestCount());
+
+        // Half-open: a failed probe is not retried and opens the circuit again
+        Thread.sleep(OPEN_MS + 50);
+        server.enqueue(new MockResponse().setResponseCode(503));
+        execute(get()).close();
+        assertEquals(sent + 1, server.getRequestCount());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(host));
+
+        // Half-open: a successful probe closes it
+        Thread.sleep(OPEN_MS + 50);
+        server.enqueue(new MockResponse().setBody("ok"));
+        try (Response response = execute(get())) {
+            assertEquals(200, response.code());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(host));
+    }
+
+    @Test
+    public void cancelledCall_isNotAHostFailure() throws Exception {
+        breaker = new CircuitBreaker(1, OPEN_MS);
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RetryInterceptor(MAX_RETRIES, BASE_DELAY_MS, MAX_DELAY_MS, breaker))
+                .build();
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+
+        Call call = client.newCall(get());
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ignored) {
+            }
+            call.cancel();
+        }).start();
+        try {
+            call.execute().close();
+            fail("Expected the cancelled call to throw");
+        } catch (IOException expected) {
+            assertTrue(call.isCanceled());
+        }
+        assertEquals(1, server.getRequestCount());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(host));
+    }
+
+    private Request get() {
+        return new Request.Builder().url(server.url("/api/reports")).build();
+    }
+
+    private Response execute(Request request) throws IOException {
+        return client.newCall(request).execute();
+    }
+}
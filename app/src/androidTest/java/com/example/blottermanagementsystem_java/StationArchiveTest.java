@@ -0,0 +1,117 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.utils.StationArchive;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.*;
+
+/**
+ * StationArchive - export from one station database, import into another
+ */
+@RunWith(AndroidJUnit4.class)
+public class StationArchiveTest {
+    private static final int REPORTS = 250; // More than one export page and import batch
+    private static final char[] PASSPHRASE = "municipal-handoff".toCharArray();
+
+    private BlotterDatabase station;
+    private BlotterDatabase office;
+    private File archive;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        station = Room.inMemoryDatabaseBuilder(context, BlotterDatabase.class).allowMainThreadQueries().build();
+        office = Room.inMemoryDatabaseBuilder(context, BlotterDatabase.class).allowMainThreadQueries().build();
+        archive = new File(context.getCacheDir(), "station-archive-test" + StationArchive.EXTENSION);
+
+        for (int i = 1; i <= REPORTS; i++) {
+            BlotterReport report = new BlotterReport(String.format("BLT-2024-%05d", i), "Complainant " + i,
+                    "0917", "Purok 1", "Theft", System.currentTimeMillis(), "10:00", "Market", "Narrative " + i, 1);
+            report.setImageUris("https://res.cloudinary.com/demo/a" + i + ".jpg,content://media/external/" + i);
+            int reportId = (int) station.blotterReportDao().insertReport(report);
+            station.witnessDao().insertWitness(new Witness(reportId, "Witness " + i, "0918", "Purok 2", "Saw it"));
+            station.evidenceDao().insertEvidence(new Evidence(reportId, "Photo", "Item " + i, "/evidence/" + i + ".jpg"));
+            if (i % 2 == 0) {
+                station.hearingDao().insertHearing(new Hearing(reportId, "2024-03-01", "09:00", "Hall", "Mediation"));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        station.close();
+        office.close();
+        archive.delete();
+    }
+
+    @Test
+    public void encryptedArchive_roundTrips() throws IOException {
+        StationArchive.Result exported = StationArchive.exportArchive(station, archive, PASSPHRASE, null);
+        assertEquals(REPORTS, exported.reports);
+        assertEquals(REPORTS * 2 + REPORTS / 2, exported.children);
+        assertEquals(REPORTS * 3, exported.mediaEntries);
+        assertTrue(StationArchive.isEncrypted(archive));
+
+        StationArchive.Result imported = StationArchive.importArchive(office, archive, PASSPHRASE, null);
+        assertEquals(REPORTS, imported.reports);
+        assertEquals(exported.children, imported.children);
+
+        BlotterReport report = office.blotterReportDao().getReportByCaseNumber("BLT-2024-00042");
+        assertNotNull(report);
+        assertEquals(1, office.witnessDao().getWitnessCountByReport(report.getId()));
+        assertEquals(1, office.hearingDao().getHearingCountByReport(report.getId()));
+    }
+
+    @Test
+    public void reimport_skipsExistingCaseNumbers() throws IOException {
+        StationArchive.exportArchive(station, archive, null, null);
+        StationArchive.importArchive(office, archive, null, null);
+
+        StationArchive.Result again = StationArchive.importArchive(office, archive, null, null);
+
+        assertEquals(0, again.reports);
+        assertEquals(REPORTS, again.skipped);
+    }
+
+    @Test(expected = IOException.class)
+    public void wrongPassphrase_fails() throws IOException {
+        StationArchive.exportArchive(station, archive, PASSPHRASE, null);
+        StationArchive.importArchive(office, archive, "guess".toCharArray(), null);
+    }
+
+    @Test
+    public void tamperedArchive_fails() throws IOException {
+        StationArchive.exportArchive(station, archive, PASSPHRASE, null);
+        try (RandomAccessFile file = new RandomAccessFile(archive, "rw")) {
+            file.seek(archive.length() / 2);
+            int b = file.read();
+            file.seek(archive.length() / 2);
+            file.write(b ^ 0xFF);
+        }
+        try {
+            StationArchive.importArchive(office, archive, PASSPHRASE, null);
+            fail("Tampered archive imported");
+        } catch (IOException expected) {
+            // Segment authentication failed
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.blottermanagementsystem_java;
+
+import android.content.Context;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.api.AuthTokenHolder;
+import com.example.blottermanagementsystem.data.interceptors.TokenAuthenticator;
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+/**
+ * TokenAuthenticator with several calls getting 401 for the same expired token at once
+ */
+@RunWith(AndroidJUnit4.class)
+public class TokenAuthenticatorTest {
+    private static final int CONCURRENT_CALLS = 5;
+    private static final String REFRESH_PATH = "/api/auth/refresh";
+
+    private MockWebServer server;
+    private Context context;
+    private OkHttpClient client;
+    private final AtomicInteger refreshCalls = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        server = new MockWebServer();
+        server.start();
+        AuthTokenHolder.update(context, "expired", "refresh-1");
+        client = new OkHttpClient.Builder()
+                .authenticator(new TokenAuthenticator(context, server.url("/").toString()))
+                .build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+        new PreferencesManager(context).clearSession();
+    }
+
+    @Test
+    public void failedRefresh_isNotRetriedByQueuedCalls() throws Exception {
+        serve(false);
+
+        for (int code : callConcurrently()) {
+            assertEquals(401, code);
+        }
+        assertEquals("Queued 401s must give up, not refresh again", 1, refreshCalls.get());
+    }
+
+    @Test
+    public void successfulRefresh_isSharedByQueuedCalls() throws Exception {
+        serve(true);
+
+        for (int code : callConcurrently()) {
+            assertEquals(200, code);
+        }
+        assertEquals(1, refreshCalls.get());
+        assertEquals("fresh", AuthTokenHolder.getAccessToken(context));
+    }
+
+    // Data calls need "Bearer fresh"; the refresh is slow so every 401 queues behind it
+    private void serve(boolean refreshSucceeds) {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (REFRESH_PATH.equals(request.getPath())) {
+                    refreshCalls.incrementAndGet();
+                    Thread.sleep(500);
+                    return refreshSucceeds
+                            ? new MockResponse().setBody("{\"token\":\"fresh\",\"refreshToken\":\"refresh-2\"}")
+                            : new MockResponse().setResponseCode(401);
+                }
+                return "Bearer fresh".equals(request.getHeader("Authorization"))
+                        ? new MockResponse().setBody("{}")
+                        : new MockResponse().setResponseCode(401);
+            }
+        });
+    }
+
+    private List<Integer> callConcurrently() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> codes = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            Thread thread = new Thread(() -> {
+                Request request = new Request.Builder()
+                        .url(server.url("/api/reports"))
+                        .header("Authorization", "Bearer expired")
+                        .build();
+                try (Response response = client.newCall(request).execute()) {
+                    codes.add(response.code());
+                } catch (IOException e) {
+                    codes.add(-1);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+        assertEquals(CONCURRENT_CALLS, codes.size());
+        return new ArrayList<>(codes);
+    }
+}
@@ -5,6 +5,8 @@ import android.util.Log;
 
 import com.example.blottermanagementsystem.config.AppConfig;
 import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.workers.ResumableUploadWorker;
+import com.example.blottermanagementsystem.workers.SyncQueueWorker;
 
 /**
  * BlotterApplication - Main application class
@@ -24,6 +26,12 @@ public class BlotterApplication extends Application {
         ApiClient.initApiClient(this);
         Log.d(TAG, "✅ API Client initialized");
         
+        // Upload any local edits left in the sync queue once online
+        SyncQueueWorker.schedulePeriodic(this);
+        
+        // Resume evidence uploads interrupted by a restart
+        ResumableUploadWorker.resumeIfPending(this);
+        
         // Initialize other app components here
         // Example: Cloudinary, Firebase, Biometric, etc.
         
@@ -1,5 +1,8 @@
 package com.example.blottermanagementsystem.config;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * API Configuration - Centralized API endpoints and base URL
  */
@@ -44,6 +47,12 @@ public class ApiConfig {
         // Dashboard endpoints
         public static final String DASHBOARD = "dashboard";
         public static final String ANALYTICS = "analytics";
+        
+        // Lightweight liveness check, used to wake the backend at launch
+        public static final String HEALTH = "api/health";
+        
+        // Change feed (Server-Sent Events)
+        public static final String REPORT_EVENTS = "api/events/reports";
     }
     
     // Timeout settings (in seconds)
@@ -51,7 +60,63 @@ public class ApiConfig {
     public static final int READ_TIMEOUT = 30;
     public static final int WRITE_TIMEOUT = 30;
     
-    // Retry settings
+    // HTTP disk cache size (bytes)
+    public static final long HTTP_CACHE_SIZE = 20L * 1024 * 1024;
+    
+    /**
+     * Cache freshness per GET path prefix, in seconds.
+     * Within max-age the cached response is served without touching the network;
+     * after that it is revalidated with ETag / Last-Modified and a 304 costs headers only.
+     * 0 = always revalidate. Unlisted paths and NOT_CACHED keep the server's own headers.
+     */
+    public static class CacheFreshness {
+        public static final int NOT_CACHED = -1;
+        
+        private static final Map<String, Integer> MAX_AGE = new LinkedHashMap<>();
+        static {
+            MAX_AGE.put("/api/sync/", NOT_CACHED);          // delta sync has its own cursors
+            MAX_AGE.put("/api/events/", NOT_CACHED);        // change feed stream
+            MAX_AGE.put("/api/reports", 0);                 // revalidate every time
+            MAX_AGE.put("/api/notifications/", 0);
+            MAX_AGE.put("/api/admin/statistics", 0);        // change-feed reloads must see other clients' writes
+            MAX_AGE.put("/api/hearings", 30);
+            MAX_AGE.put("/api/users/", 60);
+            MAX_AGE.put("/api/officers", 300);
+        }
+        
+        /**
+         * max-age for a request path (longest matching prefix), or NOT_CACHED
+         */
+        public static int maxAgeFor(String path) {
+            String prefix = prefixFor(path);
+            return prefix != null ? MAX_AGE.get(prefix) : NOT_CACHED;
+        }
+        
+        /**
+         * Longest cached prefix a path falls under, or null when it is not cached.
+         * Writes under a prefix evict its cached GETs (CachePolicyInterceptor).
+         */
+        public static String prefixFor(String path) {
+            String matched = null;
+            for (Map.Entry<String, Integer> entry : MAX_AGE.entrySet()) {
+                String prefix = entry.getKey();
+                if (path.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                    matched = prefix;
+                }
+            }
+            if (matched == null || MAX_AGE.get(matched) == NOT_CACHED) {
+                return null;
+            }
+            return matched;
+        }
+    }
+    
+    // Retry settings (RetryInterceptor)
     public static final int MAX_RETRIES = 3;
     public static final int RETRY_DELAY_MS = 1000;
+    public static final int MAX_RETRY_DELAY_MS = 10000;    // Longer Retry-After is returned to the caller
+    
+    // Circuit breaker: fail fast for CIRCUIT_OPEN_MS after this many failures in a row
+    public static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    public static final int CIRCUIT_OPEN_MS = 30000;
 }
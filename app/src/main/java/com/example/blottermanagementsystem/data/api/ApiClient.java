@@ -3,18 +3,27 @@ package com.example.blottermanagementsystem.data.api;
 import android.content.Context;
 import android.util.Log;
 
+import androidx.annotation.VisibleForTesting;
+
 import com.example.blottermanagementsystem.config.ApiConfig;
 import com.example.blottermanagementsystem.config.AppConfig;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Hearing;
 import com.example.blottermanagementsystem.data.interceptors.AuthInterceptor;
-import com.example.blottermanagementsystem.data.interceptors.LoggingInterceptor;
+import com.example.blottermanagementsystem.data.interceptors.TokenAuthenticator;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -30,9 +39,31 @@ public class ApiClient {
     
     private static final String TAG = AppConfig.LOG_TAG;
     
+    // Reports/hearings parsed per page when a list is streamed
+    private static final int STREAM_PAGE_SIZE = 100;
+    
+    // Identical GETs within this window share one response (see RequestCoalescer)
+    private static final long REQUEST_MEMO_TTL_MS = 2_000;
+    private static final long OFFICERS_MEMO_TTL_MS = 10_000;
+    
+    private static final String KEY_REPORT = "report:";
+    private static final String KEY_ALL_REPORTS = "reports:all";
+    private static final String KEY_ALL_HEARINGS = "hearings:all";
+    private static final String KEY_OFFICERS = "officers";
+    private static final String KEY_ADMIN_STATISTICS = "admin:statistics";
+    
+    private static final RequestCoalescer requests = new RequestCoalescer();
+    
+    // Shared by the Retrofit converter and the streaming list reader
+    private static final Gson gson = new GsonBuilder()
+            .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+            .create();
+    
     private static Retrofit retrofit;
     private static ApiService apiService;
+    private static OkHttpClient httpClient;
     private static Context appContext;
+    private static String baseUrl = ApiConfig.BASE_URL;
     
     /**
      * Initialize Retrofit with Elysia backend
@@ -40,35 +71,39 @@ public class ApiClient {
      */
     public static void initApiClient(Context context) {
         appContext = context.getApplicationContext();
+        HttpClientProvider.init(appContext);
         try {
-            // Create custom interceptors
+            // Derived from the shared client - same connection pool and dispatcher,
+            // plus the auth header this backend needs and a one-shot token refresh on 401
             AuthInterceptor authInterceptor = new AuthInterceptor(appContext);
-            LoggingInterceptor loggingInterceptor = new LoggingInterceptor();
-            
-            // Create OkHttpClient with interceptors and timeout settings
-            OkHttpClient okHttpClient = new OkHttpClient.Builder()
+            OkHttpClient okHttpClient = HttpClientProvider.getClient().newBuilder()
                     .addInterceptor(authInterceptor)
-                    .addInterceptor(loggingInterceptor)
-                    .connectTimeout(ApiConfig.CONNECT_TIMEOUT, TimeUnit.SECONDS)
-                    .readTimeout(ApiConfig.READ_TIMEOUT, TimeUnit.SECONDS)
-                    .writeTimeout(ApiConfig.WRITE_TIMEOUT, TimeUnit.SECONDS)
-                    .retryOnConnectionFailure(true)
+                    .authenticator(new TokenAuthenticator(appContext, baseUrl))
+                    .addInterceptor(chain -> {
+                        // Any write may change what a memoized GET returned - forget them all,
+                        // before (reads started meanwhile are not memoized) and after
+                        if ("GET".equals(chain.request().method())) {
+                            return chain.proceed(chain.request());
+                        }
+                        requests.clear();
+                        try {
+                            return chain.proceed(chain.request());
+                        } finally {
+                            requests.clear();
+                        }
+                    })
                     .build();
-            
-            // Create Gson instance with date format
-            Gson gson = new GsonBuilder()
-                    .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
-                    .create();
+            httpClient = okHttpClient;
             
             // Create Retrofit instance using config
             retrofit = new Retrofit.Builder()
-                    .baseUrl(ApiConfig.BASE_URL)
+                    .baseUrl(baseUrl)
                     .client(okHttpClient)
                     .addConverterFactory(GsonConverterFactory.create(gson))
                     .build();
             
             apiService = retrofit.create(ApiService.class);
-            Log.d(TAG, "✅ API Client initialized with base URL: " + ApiConfig.BASE_URL);
+            Log.d(TAG, "✅ API Client initialized with base URL: " + baseUrl);
         } catch (Exception e) {
             Log.e(TAG, "❌ Error initializing API Client: " + e.getMessage(), e);
         }
@@ -85,6 +120,30 @@ public class ApiClient {
         }
     }
     
+    /**
+     * Initializes the client unless that already happened - for entry points that hold a
+     * Context and may run before BlotterApplication has set it up
+     */
+    public static synchronized void ensureInitialized(Context context) {
+        if (apiService == null) {
+            initApiClient(context);
+        }
+    }
+    
+    /**
+     * Drops the built clients and points the next initialization at baseUrl.
+     * Instrumented tests use it to start from a cold client against a MockWebServer.
+     */
+    @VisibleForTesting
+    public static synchronized void resetForTesting(String baseUrl) {
+        ApiClient.baseUrl = baseUrl;
+        appContext = null;
+        retrofit = null;
+        apiService = null;
+        httpClient = null;
+        requests.clear();
+    }
+    
     /**
      * Get API Service instance
      */
@@ -92,9 +151,66 @@ public class ApiClient {
         if (apiService == null) {
             initApiClient();
         }
+        if (apiService == null) {
+            throw new IllegalStateException("ApiClient used before initApiClient(Context)");
+        }
         return apiService;
     }
     
+    /**
+     * Authenticated HTTP client for this backend (for calls outside Retrofit, e.g. streams)
+     */
+    public static OkHttpClient getHttpClient() {
+        if (httpClient == null) {
+            initApiClient();
+        }
+        return httpClient != null ? httpClient : HttpClientProvider.getClient();
+    }
+    
+    /**
+     * Login with username and password
+     * The session tokens are stored before the callback, so the next request is authenticated
+     */
+    public static void login(String username, String password, ApiCallback<LoginResponse> callback) {
+        try {
+            java.util.Map<String, String> body = new java.util.HashMap<>();
+            body.put("username", username);
+            body.put("password", password);
+            
+            getApiService().login(body).enqueue(new Callback<LoginResponse>() {
+                @Override
+                public void onResponse(Call<LoginResponse> call, Response<LoginResponse> response) {
+                    LoginResponse loginResponse = response.body();
+                    if (!response.isSuccessful() || loginResponse == null) {
+                        callback.onError("Error: " + response.code());
+                    } else if (!loginResponse.success || loginResponse.data == null) {
+                        Log.e(TAG, "❌ Login failed: " + loginResponse.message);
+                        callback.onError(loginResponse.message != null ? loginResponse.message : "Login failed");
+                    } else {
+                        storeAuthTokens(loginResponse.data.token, loginResponse.data.refreshToken);
+                        Log.d(TAG, "✅ Login successful - User: " + username);
+                        callback.onSuccess(loginResponse);
+                    }
+                }
+                @Override
+                public void onFailure(Call<LoginResponse> call, Throwable t) {
+                    callback.onError("Network error: " + t.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            callback.onError("Exception: " + e.getMessage());
+        }
+    }
+    
+    // Login and register both hand out a session; AuthInterceptor sends it from then on
+    private static void storeAuthTokens(String token, String refreshToken) {
+        if (token == null || token.isEmpty() || appContext == null) {
+            Log.w(TAG, "⚠️ Auth response had no token - requests stay unauthenticated");
+            return;
+        }
+        AuthTokenHolder.update(appContext, token, refreshToken);
+    }
+    
     /**
      * Register user with profile image URL
      */
@@ -107,7 +223,11 @@ public class ApiClient {
                 @Override
                 public void onResponse(Call<RegisterResponse> call, Response<RegisterResponse> response) {
                     if (response.isSuccessful()) {
-                        callback.onSuccess(response.body());
+                        RegisterResponse registerResponse = response.body();
+                        if (registerResponse != null && registerResponse.data != null) {
+                            storeAuthTokens(registerResponse.data.token, registerResponse.data.refreshToken);
+                        }
+                        callback.onSuccess(registerResponse);
                     } else {
                         callback.onError("Error: " + response.code());
                     }
@@ -143,6 +263,9 @@ public class ApiClient {
                         RegisterResponse registerResponse = response.body();
                         if (registerResponse.success) {
                             Log.d(TAG, "✅ Registration successful - User: " + email);
+                            if (registerResponse.data != null) {
+                                storeAuthTokens(registerResponse.data.token, registerResponse.data.refreshToken);
+                            }
                             callback.onSuccess(registerResponse);
                         } else {
                             Log.e(TAG, "❌ Registration failed: " + registerResponse.message);
@@ -291,21 +414,51 @@ public class ApiClient {
      * Get all reports
      */
     public static void getAllReports(ApiCallback<List<BlotterReport>> callback) {
+        getAllReports(null, callback);
+    }
+    
+    /**
+     * Get all reports that match the filter (null = all)
+     * The response is streamed and filtered page by page, so only matching reports are kept
+     * in memory. Callback runs on the main thread.
+     */
+    public static void getAllReports(Predicate<BlotterReport> filter, ApiCallback<List<BlotterReport>> callback) {
+        if (filter == null) {
+            // Unfiltered loads are identical, so concurrent ones share one stream
+            requests.execute(KEY_ALL_REPORTS, REQUEST_MEMO_TTL_MS, done ->
+                collectList(getApiService().streamAllReports(), BlotterReport.class, null, "reports", done),
+                callback);
+            return;
+        }
         try {
-            getApiService().getAllReports().enqueue(new Callback<List<BlotterReport>>() {
+            collectList(getApiService().streamAllReports(), BlotterReport.class, filter, "reports", callback);
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Exception: " + e.getMessage(), e);
+            callback.onError("Exception: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Query one page of reports (server-side filter + cursor)
+     * Pass cursor = null for the first page
+     */
+    public static void queryReports(ReportQuery query, String cursor, int limit, ApiCallback<ReportPage> callback) {
+        try {
+            getApiService().queryReports(query.toQueryMap(), cursor, limit).enqueue(new Callback<ReportPage>() {
                 @Override
-                public void onResponse(Call<List<BlotterReport>> call, Response<List<BlotterReport>> response) {
+                public void onResponse(Call<ReportPage> call, Response<ReportPage> response) {
                     if (response.isSuccessful() && response.body() != null) {
-                        Log.d(TAG, "✅ Retrieved " + response.body().size() + " reports");
-                        callback.onSuccess(response.body());
+                        ReportPage page = response.body();
+                        Log.d(TAG, "✅ Retrieved report page: " + (page.items != null ? page.items.size() : 0) + " items");
+                        callback.onSuccess(page);
                     } else {
-                        Log.e(TAG, "❌ Error fetching reports: " + response.code());
+                        Log.e(TAG, "❌ Error querying reports: " + response.code());
                         callback.onError("Error: " + response.code());
                     }
                 }
                 
                 @Override
-                public void onFailure(Call<List<BlotterReport>> call, Throwable t) {
+                public void onFailure(Call<ReportPage> call, Throwable t) {
                     Log.e(TAG, "❌ Network error: " + t.getMessage(), t);
                     callback.onError("Network error: " + t.getMessage());
                 }
@@ -316,33 +469,40 @@ public class ApiClient {
         }
     }
     
+    /**
+     * Query one page of reports on the calling thread (used by ReportPagingSource)
+     */
+    public static ReportPage queryReportsBlocking(ReportQuery query, String cursor, int limit) throws IOException {
+        Response<ReportPage> response = getApiService().queryReports(query.toQueryMap(), cursor, limit).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IOException("Error: " + response.code());
+        }
+        return response.body();
+    }
+    
     /**
      * Get report by ID
      */
     public static void getReportById(int reportId, ApiCallback<BlotterReport> callback) {
-        try {
+        requests.execute(KEY_REPORT + reportId, REQUEST_MEMO_TTL_MS, done ->
             getApiService().getReportById(reportId).enqueue(new Callback<BlotterReport>() {
                 @Override
                 public void onResponse(Call<BlotterReport> call, Response<BlotterReport> response) {
                     if (response.isSuccessful() && response.body() != null) {
                         Log.d(TAG, "✅ Retrieved report: " + reportId);
-                        callback.onSuccess(response.body());
+                        done.onSuccess(response.body());
                     } else {
                         Log.e(TAG, "❌ Error fetching report: " + response.code());
-                        callback.onError("Error: " + response.code());
+                        done.onError("Error: " + response.code());
                     }
                 }
                 
                 @Override
                 public void onFailure(Call<BlotterReport> call, Throwable t) {
                     Log.e(TAG, "❌ Network error: " + t.getMessage(), t);
-                    callback.onError("Network error: " + t.getMessage());
+                    done.onError("Network error: " + t.getMessage());
                 }
-            });
-        } catch (Exception e) {
-            Log.e(TAG, "❌ Exception: " + e.getMessage(), e);
-            callback.onError("Exception: " + e.getMessage());
-        }
+            }), callback);
     }
     
     /**
@@ -442,27 +602,44 @@ public class ApiClient {
     /**
      * Get all hearings
      */
-    public static void getHearings(ApiCallback<List<com.example.blottermanagementsystem.data.entity.Hearing>> callback) {
+    public static void getHearings(ApiCallback<List<Hearing>> callback) {
+        getHearings(null, callback);
+    }
+    
+    /**
+     * Get all hearings that match the filter (null = all)
+     * Streamed and filtered page by page; callback runs on the main thread.
+     */
+    public static void getHearings(Predicate<Hearing> filter, ApiCallback<List<Hearing>> callback) {
+        if (filter == null) {
+            requests.execute(KEY_ALL_HEARINGS, REQUEST_MEMO_TTL_MS, done ->
+                collectList(getApiService().streamHearings(), Hearing.class, null, "hearings", done),
+                callback);
+            return;
+        }
         try {
-            getApiService().getHearings().enqueue(new Callback<List<com.example.blottermanagementsystem.data.entity.Hearing>>() {
-                @Override
-                public void onResponse(Call<List<com.example.blottermanagementsystem.data.entity.Hearing>> call, Response<List<com.example.blottermanagementsystem.data.entity.Hearing>> response) {
-                    if (response.isSuccessful() && response.body() != null) {
-                        callback.onSuccess(response.body());
-                    } else {
-                        callback.onError("Error: " + response.code());
-                    }
-                }
-                @Override
-                public void onFailure(Call<List<com.example.blottermanagementsystem.data.entity.Hearing>> call, Throwable t) {
-                    callback.onError("Network error: " + t.getMessage());
-                }
-            });
+            collectList(getApiService().streamHearings(), Hearing.class, filter, "hearings", callback);
         } catch (Exception e) {
             callback.onError("Exception: " + e.getMessage());
         }
     }
-
+    
+    /**
+     * Get hearings scheduled in [fromMillis, toMillis) - e.g. the month a calendar shows
+     * The range is sent to the server and also applied per page, so a backend that
+     * ignores it still yields only the range.
+     */
+    public static void getHearingsBetween(long fromMillis, long toMillis, ApiCallback<List<Hearing>> callback) {
+        try {
+            collectList(getApiService().streamHearingsBetween(fromMillis, toMillis), Hearing.class, hearing -> {
+                long scheduledAt = hearing.resolveScheduledAt();
+                return scheduledAt >= fromMillis && scheduledAt < toMillis;
+            }, "hearings in range", callback);
+        } catch (Exception e) {
+            callback.onError("Exception: " + e.getMessage());
+        }
+    }
+    
     /**
      * Get notifications for user
      */
@@ -493,6 +670,13 @@ public class ApiClient {
     public static void getHearingsCalendar(ApiCallback<List<com.example.blottermanagementsystem.data.entity.Hearing>> callback) {
         getHearings(callback);
     }
+    
+    /**
+     * Get hearings calendar for one visible range (month)
+     */
+    public static void getHearingsCalendar(long fromMillis, long toMillis, ApiCallback<List<Hearing>> callback) {
+        getHearingsBetween(fromMillis, toMillis, callback);
+    }
 
     /**
      * Mark all notifications as read
@@ -601,24 +785,21 @@ public class ApiClient {
      * Get admin statistics
      */
     public static void getAdminStatistics(ApiCallback<Object> callback) {
-        try {
+        requests.execute(KEY_ADMIN_STATISTICS, REQUEST_MEMO_TTL_MS, done ->
             getApiService().getAdminStatistics().enqueue(new Callback<Object>() {
                 @Override
                 public void onResponse(Call<Object> call, Response<Object> response) {
                     if (response.isSuccessful()) {
-                        callback.onSuccess(response.body());
+                        done.onSuccess(response.body());
                     } else {
-                        callback.onError("Error: " + response.code());
+                        done.onError("Error: " + response.code());
                     }
                 }
                 @Override
                 public void onFailure(Call<Object> call, Throwable t) {
-                    callback.onError("Network error: " + t.getMessage());
+                    done.onError("Network error: " + t.getMessage());
                 }
-            });
-        } catch (Exception e) {
-            callback.onError("Exception: " + e.getMessage());
-        }
+            }), callback);
     }
 
     /**
@@ -855,53 +1036,37 @@ public class ApiClient {
      * Get admin officers
      */
     public static void getAdminOfficers(ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>> callback) {
-        try {
+        // Officer list rarely changes - dialogs opened in a row reuse it
+        requests.execute(KEY_OFFICERS, OFFICERS_MEMO_TTL_MS, done ->
             getApiService().getAllOfficers().enqueue(new Callback<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>>() {
                 @Override
                 public void onResponse(Call<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>> call, Response<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>> response) {
                     if (response.isSuccessful()) {
-                        callback.onSuccess(response.body());
+                        done.onSuccess(response.body());
                     } else {
-                        callback.onError("Error: " + response.code());
+                        done.onError("Error: " + response.code());
                     }
                 }
                 @Override
                 public void onFailure(Call<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>> call, Throwable t) {
-                    callback.onError("Network error: " + t.getMessage());
+                    done.onError("Network error: " + t.getMessage());
                 }
-            });
-        } catch (Exception e) {
-            callback.onError("Exception: " + e.getMessage());
-        }
+            }), callback);
     }
 
     /**
      * Get assigned reports
      */
     public static void getAssignedReports(ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>> callback) {
-        try {
-            getApiService().getAllReports().enqueue(new Callback<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>>() {
-                @Override
-                public void onResponse(Call<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>> call, Response<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>> response) {
-                    if (response.isSuccessful()) {
-                        callback.onSuccess(response.body());
-                    } else {
-                        callback.onError("Error: " + response.code());
-                    }
-                }
-                @Override
-                public void onFailure(Call<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>> call, Throwable t) {
-                    callback.onError("Network error: " + t.getMessage());
-                }
-            });
-        } catch (Exception e) {
-            callback.onError("Exception: " + e.getMessage());
-        }
+        getAllReports(null, callback);
     }
 
     /**
      * Upload profile picture to Cloudinary
+     * @deprecated base64-in-JSON keeps several copies of the image in memory;
+     * use {@link #uploadProfilePicture(File, StreamingRequestBody.ProgressListener, ApiCallback)}
      */
+    @Deprecated
     public static void uploadProfilePicture(String base64Image, ApiCallback<Object> callback) {
         try {
             java.util.Map<String, String> body = new java.util.HashMap<>();
@@ -926,6 +1091,120 @@ public class ApiClient {
         }
     }
 
+    /**
+     * Upload profile picture to Cloudinary - file is streamed, never loaded into memory
+     */
+    public static void uploadProfilePicture(File imageFile, StreamingRequestBody.ProgressListener progress,
+                                            ApiCallback<Object> callback) {
+        try {
+            MultipartBody.Part image = StreamingRequestBody.fromFile(imageFile, "image/jpeg", progress)
+                    .asPart("image", imageFile.getName());
+            getApiService().uploadProfilePictureFile(image).enqueue(uploadCallback("profile picture", callback));
+        } catch (Exception e) {
+            callback.onError("Exception: " + e.getMessage());
+        }
+    }
+    
+    private static Callback<Object> uploadCallback(String label, ApiCallback<Object> callback) {
+        return new Callback<Object>() {
+            @Override
+            public void onResponse(Call<Object> call, Response<Object> response) {
+                if (response.isSuccessful()) {
+                    Log.d(TAG, "✅ Uploaded " + label);
+                    callback.onSuccess(response.body());
+                } else {
+                    Log.e(TAG, "❌ Upload of " + label + " failed: " + response.code());
+                    callback.onError("Upload failed: " + response.code());
+                }
+            }
+            @Override
+            public void onFailure(Call<Object> call, Throwable t) {
+                Log.e(TAG, "❌ Upload of " + label + " failed: " + t.getMessage(), t);
+                callback.onError("Network error: " + t.getMessage());
+            }
+        };
+    }
+    
+    /**
+     * Forget the memoized copy of one report - e.g. when the change feed says it changed
+     */
+    public static void invalidateReport(int reportId) {
+        requests.invalidateKey(KEY_REPORT + reportId);
+        requests.invalidate(KEY_ALL_REPORTS);
+    }
+    
+    /**
+     * Forget every memoized response (logout)
+     */
+    public static void clearRequestMemo() {
+        requests.clear();
+    }
+    
+    public static RequestCoalescer.Stats getRequestStats() {
+        return requests.getStats();
+    }
+    
+    /**
+     * Runs a @Streaming list call on the network executor and feeds it to the callback
+     * page by page via JsonArrayStreamer
+     */
+    private static <T> void streamList(Call<ResponseBody> call, Class<T> type, int pageSize, PageCallback<T> callback) {
+        AppExecutors.getInstance().network().execute(() -> {
+            try {
+                Response<ResponseBody> response = call.execute();
+                if (!response.isSuccessful() || response.body() == null) {
+                    if (response.errorBody() != null) {
+                        response.errorBody().close();
+                    }
+                    callback.onError("Error: " + response.code());
+                    return;
+                }
+                int total = JsonArrayStreamer.stream(response.body(), gson, type, pageSize, callback::onPage);
+                callback.onComplete(total);
+            } catch (IOException e) {
+                Log.e(TAG, "❌ Network error: " + e.getMessage(), e);
+                callback.onError("Network error: " + e.getMessage());
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Exception: " + e.getMessage(), e);
+                callback.onError("Exception: " + e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Streams a list call and keeps only the items that pass the filter
+     */
+    private static <T> void collectList(Call<ResponseBody> call, Class<T> type, Predicate<T> filter,
+                                        String label, ApiCallback<List<T>> callback) {
+        List<T> kept = new ArrayList<>();
+        streamList(call, type, STREAM_PAGE_SIZE, new PageCallback<T>() {
+            @Override
+            public void onPage(List<T> page) {
+                if (filter == null) {
+                    kept.addAll(page);
+                    return;
+                }
+                for (T item : page) {
+                    if (filter.test(item)) {
+                        kept.add(item);
+                    }
+                }
+            }
+            
+            @Override
+            public void onComplete(int total) {
+                Log.d(TAG, "✅ Retrieved " + kept.size() + "/" + total + " " + label);
+                AppExecutors.getInstance().mainThread().execute(() -> callback.onSuccess(kept));
+            }
+            
+            @Override
+            public void onError(String errorMessage) {
+                Log.e(TAG, "❌ Error fetching " + label + ": " + errorMessage);
+                AppExecutors.getInstance().mainThread().execute(() -> callback.onError(errorMessage));
+            }
+        });
+    }
+
     /**
      * Generic API callback interface
      */
@@ -933,6 +1212,16 @@ public class ApiClient {
         void onSuccess(T result);
         void onError(String errorMessage);
     }
+    
+    /**
+     * Page-by-page callback for streamed lists (collectList)
+     * All methods run on a background thread.
+     */
+    private interface PageCallback<T> {
+        void onPage(List<T> page);
+        void onComplete(int total);
+        void onError(String errorMessage);
+    }
 }
 
 // FCM Token Response
@@ -1,10 +1,7 @@
 package com.example.blottermanagementsystem.data.api;
 
-import okhttp3.OkHttpClient;
-import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
-import java.util.concurrent.TimeUnit;
 
 public class ApiConfig {
     
@@ -19,31 +16,19 @@ public class ApiConfig {
     private static Retrofit retrofit;
     private static BlotterApiService apiService;
     
-    public static Retrofit getRetrofit() {
+    public static synchronized Retrofit getRetrofit() {
         if (retrofit == null) {
-            // Logging Interceptor for debugging
-            HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
-            loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
-            
-            // OkHttp Client with timeout and logging
-            OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                .addInterceptor(loggingInterceptor)
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
-                .build();
-            
-            // Retrofit Instance
+            // Shared client - one connection pool, dispatcher and timing for both backends
             retrofit = new Retrofit.Builder()
                 .baseUrl(BASE_URL)
-                .client(okHttpClient)
+                .client(HttpClientProvider.getClient())
                 .addConverterFactory(GsonConverterFactory.create())
                 .build();
         }
         return retrofit;
     }
     
-    public static BlotterApiService getApiService() {
+    public static synchronized BlotterApiService getApiService() {
         if (apiService == null) {
             apiService = getRetrofit().create(BlotterApiService.class);
         }
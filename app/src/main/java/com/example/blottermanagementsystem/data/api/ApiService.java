@@ -5,13 +5,22 @@ import com.example.blottermanagementsystem.data.entity.User;
 
 import java.util.List;
 
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.DELETE;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.Multipart;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
+import retrofit2.http.Part;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
+import retrofit2.http.QueryMap;
+import retrofit2.http.Streaming;
 
 /**
  * ApiService - Retrofit interface for Elysia backend API
@@ -36,6 +45,13 @@ public interface ApiService {
     Call<VerifyEmailResponse> verifyEmail(@Body java.util.Map<String, String> body);
     
     
+    /**
+     * Login with username and password
+     * POST /api/auth/login
+     */
+    @POST("api/auth/login")
+    Call<LoginResponse> login(@Body java.util.Map<String, String> body);
+    
     /**
      * Register user
      * POST /api/auth/register
@@ -66,6 +82,23 @@ public interface ApiService {
     @GET("api/reports")
     Call<List<BlotterReport>> getAllReports();
     
+    /**
+     * Get all reports as a raw stream - parsed incrementally by JsonArrayStreamer
+     * GET /api/reports
+     */
+    @Streaming
+    @GET("api/reports")
+    Call<ResponseBody> streamAllReports();
+    
+    /**
+     * Query reports - filtered and cursor-paginated on the server
+     * GET /api/reports/page?reportedBy=&assignedOfficerId=&status=&from=&to=&search=&sort=&cursor=&limit=
+     */
+    @GET("api/reports/page")
+    Call<ReportPage> queryReports(@QueryMap java.util.Map<String, String> filters,
+                                  @Query("cursor") String cursor,
+                                  @Query("limit") int limit);
+    
     /**
      * Get report by ID
      * GET /api/reports/{id}
@@ -211,6 +244,40 @@ public interface ApiService {
     @POST("api/upload/profile-picture")
     Call<Object> uploadProfilePicture(@Body java.util.Map<String, String> body);
     
+    /**
+     * Upload profile picture as a streamed multipart file (field "image")
+     * POST /api/upload/profile-picture
+     */
+    @Multipart
+    @POST("api/upload/profile-picture")
+    Call<Object> uploadProfilePictureFile(@Part MultipartBody.Part image);
+    
+    // ============ RESUMABLE UPLOADS ============
+    
+    /**
+     * Start a resumable upload session
+     * POST /api/uploads {reportId, mediaType, fileName, mimeType, totalBytes}
+     */
+    @POST("api/uploads")
+    Call<UploadSession> createUploadSession(@Body java.util.Map<String, Object> body);
+    
+    /**
+     * Current server offset of an upload session (where to resume)
+     * GET /api/uploads/{uploadId}
+     */
+    @GET("api/uploads/{uploadId}")
+    Call<UploadSession> getUploadSession(@Path("uploadId") String uploadId);
+    
+    /**
+     * Append one chunk at the given offset; 409 when the offset does not match the server's
+     * PUT /api/uploads/{uploadId}
+     */
+    @PUT("api/uploads/{uploadId}")
+    Call<UploadSession> uploadChunk(@Path("uploadId") String uploadId,
+                                    @Header("Upload-Offset") long offset,
+                                    @Header("Content-Range") String contentRange,
+                                    @Body RequestBody chunk);
+    
     // ============ KP FORMS ============
     
     /**
@@ -266,6 +333,22 @@ public interface ApiService {
     @GET("api/hearings")
     Call<List<com.example.blottermanagementsystem.data.entity.Hearing>> getHearings();
     
+    /**
+     * Get all hearings as a raw stream - parsed incrementally by JsonArrayStreamer
+     * GET /api/hearings
+     */
+    @Streaming
+    @GET("api/hearings")
+    Call<ResponseBody> streamHearings();
+    
+    /**
+     * Hearings scheduled in [from, to) (epoch millis) as a raw stream
+     * GET /api/hearings?from=&to=
+     */
+    @Streaming
+    @GET("api/hearings")
+    Call<ResponseBody> streamHearingsBetween(@Query("from") long fromMillis, @Query("to") long toMillis);
+    
     // ============ NOTIFICATIONS ============
     
     /**
@@ -0,0 +1,70 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.content.Context;
+
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+
+/**
+ * AuthTokenHolder - In-memory copy of the session's auth tokens
+ *
+ * AuthInterceptor runs on every request; reading SharedPreferences there meant a map
+ * lookup under the prefs lock each time. The tokens are loaded once and kept here until
+ * PreferencesManager invalidates them (login, logout, new tokens).
+ */
+public final class AuthTokenHolder {
+
+    private static final Object lock = new Object();
+    private static volatile Tokens tokens; // null = not loaded yet
+
+    private AuthTokenHolder() {}
+
+    public static String getAccessToken(Context context) {
+        return load(context).access;
+    }
+
+    public static String getRefreshToken(Context context) {
+        return load(context).refresh;
+    }
+
+    /**
+     * Stores tokens from a login or refresh - persisted, and used by the next request
+     */
+    public static void update(Context context, String accessToken, String refreshToken) {
+        synchronized (lock) {
+            new PreferencesManager(context).setAuthTokens(accessToken, refreshToken);
+            tokens = new Tokens(accessToken, refreshToken);
+        }
+    }
+
+    /**
+     * Drops the in-memory copy; the next request reloads from preferences
+     */
+    public static void invalidate() {
+        synchronized (lock) {
+            tokens = null;
+        }
+    }
+
+    private static Tokens load(Context context) {
+        Tokens current = tokens;
+        if (current != null) return current;
+        synchronized (lock) {
+            if (tokens == null) {
+                PreferencesManager prefs = new PreferencesManager(context);
+                tokens = new Tokens(prefs.getAuthToken(), prefs.getRefreshToken());
+            }
+            return tokens;
+        }
+    }
+
+    // Read together so a request never pairs an old access token with a new refresh token
+    private static final class Tokens {
+        final String access;
+        final String refresh;
+
+        Tokens(String access, String refresh) {
+            this.access = access;
+            this.refresh = refresh;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+import com.example.blottermanagementsystem.utils.ColdStartMetrics;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * BackendWarmup - Wakes the backend and opens the API connection while the splash is up
+ *
+ * The free-tier host sleeps when idle and the first request after that can take 30s+.
+ * One lightweight GET to the health endpoint, sent at launch, starts the server booting and
+ * leaves a DNS-resolved, TLS-handshaked HTTP/2 connection in the shared pool, so login or the
+ * first dashboard load finds both ready. Any HTTP answer (even 404) means the server is up.
+ */
+public final class BackendWarmup {
+    private static final String TAG = "BackendWarmup";
+
+    // The host idles after ~15 minutes without traffic; within this window it is still warm
+    private static final long WARM_WINDOW_MS = 10 * 60 * 1000L;
+    // Long enough for a full cold boot
+    private static final int WAKE_TIMEOUT_SECONDS = 90;
+
+    private static Call inFlight;
+    private static long lastWarmAt = -WARM_WINDOW_MS;
+
+    private BackendWarmup() {}
+
+    /**
+     * Starts the ping unless one is running or the backend answered recently. Non-blocking.
+     */
+    public static synchronized void start(Context context) {
+        long now = SystemClock.elapsedRealtime();
+        if (inFlight != null || now - lastWarmAt < WARM_WINDOW_MS) {
+            return;
+        }
+        Context appContext = context.getApplicationContext();
+        // The splash may get here first - give the shared client its disk cache before it is built
+        HttpClientProvider.init(appContext);
+
+        // Same pool and dispatcher as every API stack, with a timeout that outlasts a cold boot
+        OkHttpClient client = HttpClientProvider.getClient().newBuilder()
+                .readTimeout(WAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .callTimeout(WAKE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+        Request request = new Request.Builder()
+                .url(ApiConfig.BASE_URL + ApiConfig.Endpoints.HEALTH)
+                .cacheControl(CacheControl.FORCE_NETWORK)
+                .build();
+
+        long startedAt = SystemClock.elapsedRealtime();
+        Log.d(TAG, "🔄 Warming up backend connection...");
+        inFlight = client.newCall(request);
+        inFlight.enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                int code = response.code();
+                response.close();
+                finish(appContext, startedAt, code);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                Log.w(TAG, "⚠️ Warmup ping failed: " + e.getMessage());
+                finish(appContext, startedAt, -1);
+            }
+        });
+    }
+
+    private static void finish(Context context, long startedAt, int code) {
+        long latency = SystemClock.elapsedRealtime() - startedAt;
+        synchronized (BackendWarmup.class) {
+            inFlight = null;
+            if (code > 0) {
+                lastWarmAt = SystemClock.elapsedRealtime();
+            }
+        }
+        if (code > 0) {
+            Log.d(TAG, "✅ Backend awake in " + latency + "ms (HTTP " + code + ")");
+        }
+        ColdStartMetrics.recordBackendPing(context, latency, code);
+    }
+}
@@ -76,9 +76,23 @@ public interface BlotterApiService {
     @POST("api/sync/upload")
     Call<ApiResponse<SyncResponse>> syncUpload(@Body SyncRequest request);
     
+    @POST("api/sync/batch")
+    Call<ApiResponse<SyncBatchResponse>> syncBatch(@Body SyncBatchRequest request);
+    
     @GET("api/sync/download")
     Call<ApiResponse<SyncData>> syncDownload(@Query("lastSync") long lastSync);
     
+    // Delta sync: rows changed after (since, afterId), ordered by updatedAt, id
+    @GET("api/sync/changes/reports")
+    Call<ApiResponse<ChangePage<BlotterReport>>> getReportChanges(@Query("since") long since,
+                                                                  @Query("afterId") int afterId,
+                                                                  @Query("limit") int limit);
+    
+    @GET("api/sync/changes/users")
+    Call<ApiResponse<ChangePage<User>>> getUserChanges(@Query("since") long since,
+                                                       @Query("afterId") int afterId,
+                                                       @Query("limit") int limit);
+    
     // ==================== Request/Response Models ====================
     
     class LoginRequest {
@@ -117,6 +131,41 @@ public interface BlotterApiService {
         public String message;
     }
     
+    class SyncOperation {
+        public String clientOpId;   // Stable per coalesced group - lets the server drop replays
+        public String entityType;
+        public int entityId;
+        public String action;       // CREATE, UPDATE, DELETE
+        public String data;         // JSON payload of the latest queued edit
+        public long timestamp;
+    }
+    
+    class SyncBatchRequest {
+        public List<SyncOperation> operations;
+        
+        public SyncBatchRequest(List<SyncOperation> operations) {
+            this.operations = operations;
+        }
+    }
+    
+    class SyncOperationResult {
+        public String clientOpId;
+        public boolean success;
+        public String error;
+    }
+    
+    class SyncBatchResponse {
+        public List<SyncOperationResult> results;
+    }
+    
+    class ChangePage<T> {
+        public List<T> items;
+        public List<Integer> deletedIds;
+        public long nextSince;     // Server cursor: updatedAt of the last row in this page
+        public int nextAfterId;    // Server cursor: id of the last row in this page
+        public boolean hasMore;
+    }
+    
     class SyncData {
         public List<BlotterReport> reports;
         public List<User> users;
@@ -0,0 +1,134 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+import com.example.blottermanagementsystem.config.AppConfig;
+import com.example.blottermanagementsystem.data.interceptors.CachePolicyInterceptor;
+import com.example.blottermanagementsystem.data.interceptors.CircuitBreaker;
+import com.example.blottermanagementsystem.data.interceptors.LoggingInterceptor;
+import com.example.blottermanagementsystem.data.interceptors.RetryInterceptor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.brotli.BrotliInterceptor;
+
+/**
+ * HttpClientProvider - The one OkHttpClient every API stack is built from
+ *
+ * - One connection pool: a TLS handshake to a host is paid once and reused by every Retrofit
+ * - One dispatcher with mobile-sized limits instead of a thread pool per stack
+ * - HTTP/2 first, so parallel calls to the same host share one connection
+ * - Brotli/gzip response compression, decoded transparently
+ * - NetworkTimingListener on every call
+ * - Disk cache for GETs; freshness per endpoint comes from ApiConfig.CacheFreshness,
+ *   and writes evict the cached GETs under the same prefix
+ * - Retries of idempotent calls with backoff, and a per-host circuit breaker (RetryInterceptor)
+ *
+ * Stacks that need their own interceptors (e.g. auth) call newBuilder() on getClient();
+ * the derived client still shares the pool and dispatcher.
+ */
+public final class HttpClientProvider {
+    private static final String TAG = AppConfig.LOG_TAG;
+
+    // Mobile-sized limits: a few parallel calls per host is plenty over HTTP/2
+    private static final int MAX_REQUESTS = 16;
+    private static final int MAX_REQUESTS_PER_HOST = 6;
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    private static final String CACHE_DIR = "http_cache";
+
+    private static final CircuitBreaker circuitBreaker = new CircuitBreaker(
+            ApiConfig.CIRCUIT_FAILURE_THRESHOLD, ApiConfig.CIRCUIT_OPEN_MS);
+
+    private static volatile OkHttpClient client;
+    private static File cacheDir;
+
+    private HttpClientProvider() {}
+
+    /**
+     * Gives the client a disk cache location. Call before the first getClient()
+     * (ApiClient.initApiClient and BackendWarmup do); later calls are ignored.
+     */
+    public static synchronized void init(Context context) {
+        if (cacheDir == null) {
+            cacheDir = new File(context.getApplicationContext().getCacheDir(), CACHE_DIR);
+        }
+    }
+
+    public static OkHttpClient getClient() {
+        if (client == null) {
+            synchronized (HttpClientProvider.class) {
+                if (client == null) {
+                    client = build();
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Shared by every client, so one stack's failures open the circuit for all of them
+     */
+    public static CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Drops every cached response - on logout, so the next account starts clean
+     */
+    public static void clearCache() {
+        OkHttpClient current = client;
+        if (current == null || current.cache() == null) return;
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            try {
+                current.cache().evictAll();
+                Log.d(TAG, "✅ HTTP cache cleared");
+            } catch (IOException e) {
+                Log.w(TAG, "⚠️ Could not clear HTTP cache: " + e.getMessage());
+            }
+        });
+    }
+
+    private static OkHttpClient build() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .addInterceptor(new RetryInterceptor(circuitBreaker)) // Outermost: each retry is logged and cached normally
+                .addInterceptor(BrotliInterceptor.INSTANCE)
+                .addInterceptor(new LoggingInterceptor())
+                .eventListenerFactory(NetworkTimingListener.FACTORY)
+                .connectTimeout(ApiConfig.CONNECT_TIMEOUT, TimeUnit.SECONDS)
+                .readTimeout(ApiConfig.READ_TIMEOUT, TimeUnit.SECONDS)
+                .writeTimeout(ApiConfig.WRITE_TIMEOUT, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true);
+
+        if (cacheDir != null) {
+            Cache cache = new Cache(cacheDir, ApiConfig.HTTP_CACHE_SIZE);
+            builder.cache(cache)
+                   .addNetworkInterceptor(new CachePolicyInterceptor(cache));
+        } else {
+            Log.w(TAG, "⚠️ HttpClientProvider.init() not called - HTTP cache disabled");
+        }
+
+        Log.d(TAG, "✅ Shared HTTP client ready (maxRequests=" + MAX_REQUESTS +
+                ", perHost=" + MAX_REQUESTS_PER_HOST + ", cache=" + (cacheDir != null) + ")");
+        return builder.build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.ResponseBody;
+
+/**
+ * JsonArrayStreamer - Reads a JSON list response one element at a time
+ * Elements are handed out in pages of pageSize, so peak memory is one page of objects
+ * plus the reader buffer - never the whole list.
+ *
+ * Accepts a top-level array, or an object wrapping the array in "data" / "items"
+ * (the ApiResponse shape). Blocking - call from a background thread.
+ */
+public final class JsonArrayStreamer {
+
+    private JsonArrayStreamer() {}
+
+    /**
+     * @return number of elements read
+     */
+    public static <T> int stream(ResponseBody body, Gson gson, Class<T> type, int pageSize,
+                                 PageHandler<T> handler) throws IOException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be > 0");
+        }
+        TypeAdapter<T> adapter = gson.getAdapter(type);
+        int total = 0;
+
+        try (JsonReader reader = new JsonReader(body.charStream())) {
+            if (!moveToArray(reader)) {
+                return 0;
+            }
+
+            List<T> page = new ArrayList<>(pageSize);
+            reader.beginArray();
+            while (reader.hasNext()) {
+                T item = adapter.read(reader);
+                if (item == null) continue;
+                page.add(item);
+                total++;
+                if (page.size() == pageSize) {
+                    handler.onPage(page);
+                    page = new ArrayList<>(pageSize); // Handler may keep the page it was given
+                }
+            }
+            reader.endArray();
+
+            if (!page.isEmpty()) {
+                handler.onPage(page);
+            }
+        } catch (IllegalStateException | JsonParseException e) {
+            throw new IOException("Malformed JSON list: " + e.getMessage(), e);
+        } finally {
+            body.close();
+        }
+        return total;
+    }
+
+    /**
+     * Positions the reader on the list array. False when the body holds no list (null data).
+     */
+    private static boolean moveToArray(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_ARRAY) {
+            return true;
+        }
+        if (token != JsonToken.BEGIN_OBJECT) {
+            throw new IOException("Expected a JSON list but found " + token);
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("data".equals(name) || "items".equals(name)) {
+                JsonToken value = reader.peek();
+                if (value == JsonToken.BEGIN_ARRAY) {
+                    return true;
+                }
+                if (value == JsonToken.NULL) {
+                    return false;
+                }
+            }
+            reader.skipValue();
+        }
+        return false;
+    }
+
+    // Receives each page as soon as it is parsed; throwing aborts the stream
+    public interface PageHandler<T> {
+        void onPage(List<T> page) throws IOException;
+    }
+}
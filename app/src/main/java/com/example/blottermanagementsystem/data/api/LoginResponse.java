@@ -0,0 +1,18 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.example.blottermanagementsystem.data.entity.User;
+
+/**
+ * LoginResponse - Response from login endpoint
+ */
+public class LoginResponse {
+    public boolean success;
+    public String message;
+    public LoginData data;
+    
+    public static class LoginData {
+        public User user;
+        public String token;
+        public String refreshToken;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * NetworkTimingListener - Per-call phase timing from OkHttp events
+ * Logs DNS / connect / TLS / time-to-first-byte for every call and keeps
+ * app-wide totals, including how often a pooled connection was reused.
+ * Also records each call's response body size on the wire (before gzip/Brotli decoding).
+ */
+public class NetworkTimingListener extends EventListener {
+    private static final String TAG = "NetworkTiming";
+
+    public static final Factory FACTORY = call -> new NetworkTimingListener();
+
+    // App-wide totals across both API stacks
+    private static final AtomicLong calls = new AtomicLong();
+    private static final AtomicLong failedCalls = new AtomicLong();
+    private static final AtomicLong newConnections = new AtomicLong();
+    private static final AtomicLong reusedConnections = new AtomicLong();
+    private static final AtomicLong http2Calls = new AtomicLong();
+    private static final AtomicLong totalDnsNanos = new AtomicLong();
+    private static final AtomicLong totalConnectNanos = new AtomicLong();
+    private static final AtomicLong totalTlsNanos = new AtomicLong();
+    private static final AtomicLong totalFirstByteNanos = new AtomicLong();
+    private static final AtomicLong totalCallNanos = new AtomicLong();
+
+    // Wire bytes of each call's response body, keyed by the call's original Request (identity, weak)
+    private static final Map<Request, Long> responseBodyBytes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long tlsStart;
+    private long dnsNanos;
+    private long connectNanos;
+    private long tlsNanos;
+    private long firstByteNanos = -1;
+    private boolean connected;
+    private Protocol protocol;
+
+    @Override
+    public void callStart(@NonNull Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(@NonNull Call call, @NonNull String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(@NonNull Call call, @NonNull String domainName, @NonNull List<InetAddress> inetAddressList) {
+        dnsNanos += System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress, @NonNull Proxy proxy) {
+        connectStart = System.nanoTime();
+        connected = true;
+    }
+
+    @Override
+    public void secureConnectStart(@NonNull Call call) {
+        tlsStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(@NonNull Call call, Handshake handshake) {
+        tlsNanos += System.nanoTime() - tlsStart;
+    }
+
+    @Override
+    public void connectEnd(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                           @NonNull Proxy proxy, Protocol protocol) {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void connectFailed(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress,
+                              @NonNull Proxy proxy, Protocol protocol, @NonNull IOException ioe) {
+        connectNanos += System.nanoTime() - connectStart;
+    }
+
+    @Override
+    public void connectionAcquired(@NonNull Call call, @NonNull Connection connection) {
+        protocol = connection.protocol();
+    }
+
+    @Override
+    public void responseHeadersStart(@NonNull Call call) {
+        if (firstByteNanos < 0) {
+            firstByteNanos = System.nanoTime() - callStart;
+        }
+    }
+
+    @Override
+    public void responseHeadersEnd(@NonNull Call call, @NonNull Response response) {
+        if (firstByteNanos < 0) {
+            firstByteNanos = System.nanoTime() - callStart;
+        }
+    }
+
+    @Override
+    public void responseBodyEnd(@NonNull Call call, long byteCount) {
+        // Retried attempts add up - every one of them was downloaded
+        responseBodyBytes.merge(call.request(), byteCount, Long::sum);
+    }
+
+    @Override
+    public void callEnd(@NonNull Call call) {
+        finish(call, null);
+    }
+
+    @Override
+    public void callFailed(@NonNull Call call, @NonNull IOException ioe) {
+        failedCalls.incrementAndGet();
+        finish(call, ioe);
+    }
+
+    private void finish(Call call, IOException error) {
+        long total = System.nanoTime() - callStart;
+        calls.incrementAndGet();
+        if (connected) {
+            newConnections.incrementAndGet();
+        } else {
+            reusedConnections.incrementAndGet();
+        }
+        if (protocol == Protocol.HTTP_2) {
+            http2Calls.incrementAndGet();
+        }
+        totalDnsNanos.addAndGet(dnsNanos);
+        totalConnectNanos.addAndGet(connectNanos);
+        totalTlsNanos.addAndGet(tlsNanos);
+        totalFirstByteNanos.addAndGet(Math.max(firstByteNanos, 0));
+        totalCallNanos.addAndGet(total);
+
+        Log.d(TAG, "📊 " + call.request().method() + " " + call.request().url().encodedPath() +
+                " total=" + ms(total) + "ms" +
+                " ttfb=" + ms(Math.max(firstByteNanos, 0)) + "ms" +
+                (connected
+                        ? " dns=" + ms(dnsNanos) + "ms connect=" + ms(connectNanos) + "ms tls=" + ms(tlsNanos) + "ms"
+                        : " (pooled)") +
+                (protocol != null ? " " + protocol : "") +
+                (error != null ? " ❌ " + error.getMessage() : ""));
+    }
+
+    private static long ms(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Response body bytes read off the network for a call, before decompression.
+     * Pass the request of the call (Retrofit's Call.request()); 0 if nothing was read.
+     */
+    public static long getResponseBodyBytes(Request request) {
+        Long bytes = responseBodyBytes.get(request);
+        return bytes != null ? bytes : 0;
+    }
+
+    /**
+     * Snapshot of the app-wide totals
+     */
+    public static Stats getStats() {
+        Stats stats = new Stats();
+        long count = calls.get();
+        stats.calls = count;
+        stats.failedCalls = failedCalls.get();
+        stats.newConnections = newConnections.get();
+        stats.reusedConnections = reusedConnections.get();
+        stats.http2Calls = http2Calls.get();
+        long connects = Math.max(stats.newConnections, 1);
+        stats.avgDnsMs = ms(totalDnsNanos.get() / connects);
+        stats.avgConnectMs = ms(totalConnectNanos.get() / connects);
+        stats.avgTlsMs = ms(totalTlsNanos.get() / connects);
+        stats.avgFirstByteMs = count == 0 ? 0 : ms(totalFirstByteNanos.get() / count);
+        stats.avgCallMs = count == 0 ? 0 : ms(totalCallNanos.get() / count);
+        return stats;
+    }
+
+    // Stats class
+    public static class Stats {
+        public long calls;
+        public long failedCalls;
+        public long newConnections;
+        public long reusedConnections;
+        public long http2Calls;
+        public long avgDnsMs;
+        public long avgConnectMs;
+        public long avgTlsMs;
+        public long avgFirstByteMs;
+        public long avgCallMs;
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "calls=" + calls +
+                    ", failedCalls=" + failedCalls +
+                    ", newConnections=" + newConnections +
+                    ", reusedConnections=" + reusedConnections +
+                    ", http2Calls=" + http2Calls +
+                    ", avgDnsMs=" + avgDnsMs +
+                    ", avgConnectMs=" + avgConnectMs +
+                    ", avgTlsMs=" + avgTlsMs +
+                    ", avgFirstByteMs=" + avgFirstByteMs +
+                    ", avgCallMs=" + avgCallMs +
+                    '}';
+        }
+    }
+}
@@ -13,5 +13,6 @@ public class RegisterResponse {
     public static class RegisterData {
         public User user;
         public String token;
+        public String refreshToken;
     }
 }
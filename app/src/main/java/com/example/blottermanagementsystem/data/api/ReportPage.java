@@ -0,0 +1,44 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReportPage - One page of GET /api/reports/page
+ * Pass nextCursor back to get the following page
+ */
+public class ReportPage {
+    public List<BlotterReport> items;
+    public String nextCursor;
+    public boolean hasMore;
+    
+    // Only filled when the query asked for counts (first page).
+    // totalCount matches the whole query; statusCounts ignore the status filter
+    // so a dashboard can show every status while one is selected.
+    public Integer totalCount;
+    public Map<String, Integer> statusCounts;
+    
+    public int getAllStatusCount() {
+        if (statusCounts == null) return 0;
+        int count = 0;
+        for (Integer value : statusCounts.values()) {
+            if (value != null) count += value;
+        }
+        return count;
+    }
+    
+    public int getStatusCount(String... statuses) {
+        if (statusCounts == null) return 0;
+        int count = 0;
+        for (Map.Entry<String, Integer> entry : statusCounts.entrySet()) {
+            for (String status : statuses) {
+                if (status.equalsIgnoreCase(entry.getKey()) && entry.getValue() != null) {
+                    count += entry.getValue();
+                }
+            }
+        }
+        return count;
+    }
+}
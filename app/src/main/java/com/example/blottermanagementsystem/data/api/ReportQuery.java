@@ -0,0 +1,100 @@
+package com.example.blottermanagementsystem.data.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ReportQuery - Server-side report filter for GET /api/reports/page
+ * Null fields are left out of the request
+ */
+public class ReportQuery {
+    
+    public static final String SORT_NEWEST = "dateFiled_desc";
+    public static final String SORT_OLDEST = "dateFiled_asc";
+    public static final String SORT_STATUS_PRIORITY = "status_priority";
+    
+    public Integer reportedBy;          // Filing user
+    public Integer assignedOfficerId;   // Primary or co-assigned officer
+    public String status;               // One status or a comma-separated list
+    public Long from;                   // dateFiled >= from (epoch millis)
+    public Long to;                     // dateFiled < to (epoch millis)
+    public String search;               // Case number, incident type, complainant
+    public String sort = SORT_NEWEST;
+    public boolean includeCounts;       // Ask for totals/status counts on the first page
+    
+    public static ReportQuery all() {
+        return new ReportQuery();
+    }
+    
+    public static ReportQuery forReporter(int userId) {
+        ReportQuery query = new ReportQuery();
+        query.reportedBy = userId;
+        return query;
+    }
+    
+    public static ReportQuery forOfficer(int officerId) {
+        ReportQuery query = new ReportQuery();
+        query.assignedOfficerId = officerId;
+        return query;
+    }
+    
+    public ReportQuery withStatus(String status) {
+        this.status = status;
+        return this;
+    }
+    
+    public ReportQuery withStatuses(String... statuses) {
+        this.status = (statuses == null || statuses.length == 0) ? null : String.join(",", statuses);
+        return this;
+    }
+    
+    public ReportQuery withDateRange(Long from, Long to) {
+        this.from = from;
+        this.to = to;
+        return this;
+    }
+    
+    public ReportQuery withSearch(String search) {
+        this.search = (search == null || search.trim().isEmpty()) ? null : search.trim();
+        return this;
+    }
+    
+    public ReportQuery withSort(String sort) {
+        this.sort = sort;
+        return this;
+    }
+    
+    public ReportQuery withCounts() {
+        this.includeCounts = true;
+        return this;
+    }
+    
+    /**
+     * Query parameters for Retrofit @QueryMap
+     */
+    public Map<String, String> toQueryMap() {
+        Map<String, String> params = new HashMap<>();
+        if (reportedBy != null) params.put("reportedBy", String.valueOf(reportedBy));
+        if (assignedOfficerId != null) params.put("assignedOfficerId", String.valueOf(assignedOfficerId));
+        if (status != null) params.put("status", status);
+        if (from != null) params.put("from", String.valueOf(from));
+        if (to != null) params.put("to", String.valueOf(to));
+        if (search != null) params.put("search", search);
+        if (sort != null) params.put("sort", sort);
+        if (includeCounts) params.put("includeCounts", "true");
+        return params;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReportQuery)) return false;
+        return toQueryMap().equals(((ReportQuery) o).toQueryMap());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(toQueryMap());
+    }
+}
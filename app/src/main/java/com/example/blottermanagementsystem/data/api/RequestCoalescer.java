@@ -0,0 +1,201 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.blottermanagementsystem.utils.AppExecutors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * RequestCoalescer - One network round trip for a burst of identical GETs
+ *
+ * - In-flight dedup: a request whose key is already running joins that call instead of
+ *   starting another; every waiter gets the same result
+ * - Short-TTL memo: a successful result is replayed for ttlMs after it arrives
+ * - Errors are never memoized
+ *
+ * Mutations call invalidate() (a collection prefix) or invalidateKey() (one entity)
+ * so the next read goes to the network.
+ * Results are shared between callers - treat them as read-only.
+ */
+public class RequestCoalescer {
+    private static final String TAG = "RequestCoalescer";
+
+    private final Object lock = new Object();
+    private final Map<String, InFlight> inFlight = new HashMap<>();
+    private final Map<String, Memo> memo = new HashMap<>();
+    private final Executor callbackExecutor;
+
+    // Bumped by invalidate(); a result that started before the bump is not memoized
+    private long generation;
+
+    private long networkCalls;
+    private long joinedCalls;
+    private long memoHits;
+
+    public RequestCoalescer() {
+        this(AppExecutors.getInstance().mainThread());
+    }
+
+    public RequestCoalescer(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Runs loader unless the same key is already in flight or memoized
+     * @param ttlMs how long a successful result is replayed (0 = dedup only)
+     * @param loader performs the real call and reports to the callback it is given
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void execute(String key, long ttlMs, Loader<T> loader, ApiClient.ApiCallback<T> callback) {
+        ApiClient.ApiCallback<Object> waiter = (ApiClient.ApiCallback<Object>) (ApiClient.ApiCallback<?>) callback;
+        InFlight call;
+        synchronized (lock) {
+            Memo cached = memo.get(key);
+            if (cached != null && cached.expiresAt > SystemClock.elapsedRealtime()) {
+                memoHits++;
+                Object value = cached.value;
+                callbackExecutor.execute(() -> callback.onSuccess((T) value));
+                return;
+            }
+            memo.remove(key);
+
+            InFlight running = inFlight.get(key);
+            if (running != null) {
+                joinedCalls++;
+                running.waiters.add(waiter);
+                Log.d(TAG, "🔄 Joined in-flight " + key);
+                return;
+            }
+            call = new InFlight(generation);
+            call.waiters.add(waiter);
+            inFlight.put(key, call);
+            networkCalls++;
+        }
+
+        try {
+            loader.load(new ApiClient.ApiCallback<T>() {
+                @Override
+                public void onSuccess(T result) {
+                    complete(key, call, ttlMs, result, null);
+                }
+
+                @Override
+                public void onError(String errorMessage) {
+                    complete(key, call, 0, null, errorMessage);
+                }
+            });
+        } catch (Exception e) {
+            complete(key, call, 0, null, "Exception: " + e.getMessage());
+        }
+    }
+
+    private void complete(String key, InFlight call, long ttlMs, Object result, String error) {
+        List<ApiClient.ApiCallback<Object>> waiters;
+        synchronized (lock) {
+            // An invalidated call was already detached from the map - leave its successor alone
+            inFlight.remove(key, call);
+            if (error == null && ttlMs > 0 && call.generation == generation) {
+                memo.put(key, new Memo(result, SystemClock.elapsedRealtime() + ttlMs));
+            }
+            waiters = new ArrayList<>(call.waiters);
+        }
+        if (waiters.size() > 1) {
+            Log.d(TAG, "📦 " + key + " served " + waiters.size() + " callers with one call");
+        }
+        for (ApiClient.ApiCallback<Object> waiter : waiters) {
+            if (error == null) {
+                waiter.onSuccess(result);
+            } else {
+                waiter.onError(error);
+            }
+        }
+    }
+
+    /**
+     * Forgets results whose key starts with keyPrefix. Calls already in flight still answer
+     * the callers that joined them, but later callers start a fresh call and nothing
+     * from before the invalidation is memoized.
+     */
+    public void invalidate(String keyPrefix) {
+        invalidateMatching(key -> key.startsWith(keyPrefix));
+    }
+
+    /**
+     * Forgets exactly one key - "report:1" leaves "report:10" memoized
+     */
+    public void invalidateKey(String key) {
+        invalidateMatching(key::equals);
+    }
+
+    private void invalidateMatching(Predicate<String> matches) {
+        synchronized (lock) {
+            memo.keySet().removeIf(matches);
+            inFlight.keySet().removeIf(matches);
+            generation++;
+        }
+    }
+
+    public void clear() {
+        invalidate("");
+    }
+
+    public Stats getStats() {
+        synchronized (lock) {
+            Stats stats = new Stats();
+            stats.networkCalls = networkCalls;
+            stats.joinedCalls = joinedCalls;
+            stats.memoHits = memoHits;
+            stats.inFlight = inFlight.size();
+            return stats;
+        }
+    }
+
+    private static class InFlight {
+        final long generation;
+        final List<ApiClient.ApiCallback<Object>> waiters = new ArrayList<>();
+
+        InFlight(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private static class Memo {
+        final Object value;
+        final long expiresAt;
+
+        Memo(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Performs the real request
+    public interface Loader<T> {
+        void load(ApiClient.ApiCallback<T> callback);
+    }
+
+    // Stats class
+    public static class Stats {
+        public long networkCalls;
+        public long joinedCalls;
+        public long memoHits;
+        public int inFlight;
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "networkCalls=" + networkCalls +
+                    ", joinedCalls=" + joinedCalls +
+                    ", memoHits=" + memoHits +
+                    ", inFlight=" + inFlight +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.ParcelFileDescriptor;
+import android.provider.OpenableColumns;
+import android.webkit.MimeTypeMap;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * StreamingRequestBody - Upload body that reads a file or content:// Uri while it is sent
+ * Only one 8 KB segment is in memory at a time, whatever the file size, and progress is
+ * reported as bytes go out. The source is reopened on every write, so OkHttp can retry.
+ */
+public class StreamingRequestBody extends RequestBody {
+    private static final int SEGMENT_SIZE = 8 * 1024;
+
+    private final Opener opener;
+    private final MediaType contentType;
+    private final long contentLength;
+    private final ProgressListener listener;
+    private final boolean bounded; // Stop after contentLength bytes (ranges) instead of at EOF
+
+    private StreamingRequestBody(Opener opener, MediaType contentType, long contentLength, ProgressListener listener) {
+        this(opener, contentType, contentLength, listener, false);
+    }
+
+    private StreamingRequestBody(Opener opener, MediaType contentType, long contentLength,
+                                 ProgressListener listener, boolean bounded) {
+        this.opener = opener;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.listener = listener;
+        this.bounded = bounded;
+    }
+
+    /**
+     * Body streamed from a local file (recordings, re-encoded images)
+     */
+    public static StreamingRequestBody fromFile(File file, String mimeType, ProgressListener listener) {
+        String type = mimeType != null ? mimeType : mimeTypeOf(file.getName());
+        return new StreamingRequestBody(() -> new FileInputStream(file), MediaType.parse(type), file.length(), listener);
+    }
+
+    /**
+     * Body of length bytes starting at offset - one chunk of a resumable upload
+     * Seeks where the source allows it (files, most content:// documents) instead of reading past.
+     */
+    public static StreamingRequestBody range(Context context, Uri uri, long offset, long length,
+                                             String mimeType, ProgressListener listener) {
+        ContentResolver resolver = context.getApplicationContext().getContentResolver();
+        return new StreamingRequestBody(() -> openAt(resolver, uri, offset),
+                MediaType.parse(mimeType != null ? mimeType : "application/octet-stream"), length, listener, true);
+    }
+
+    /**
+     * Size of a content:// or file:// Uri, -1 when unknown
+     */
+    public static long sizeOf(Context context, Uri uri) {
+        return sizeOf(context.getApplicationContext().getContentResolver(), uri);
+    }
+
+    /**
+     * MIME type from the ContentResolver, else from the file extension
+     */
+    public static String mimeTypeOf(Context context, Uri uri) {
+        String mimeType = context.getApplicationContext().getContentResolver().getType(uri);
+        return mimeType != null ? mimeType : mimeTypeOf(uri.getLastPathSegment());
+    }
+
+    private static InputStream openAt(ContentResolver resolver, Uri uri, long offset) throws IOException {
+        if ("file".equals(uri.getScheme()) && uri.getPath() != null) {
+            FileInputStream in = new FileInputStream(uri.getPath());
+            in.getChannel().position(offset);
+            return in;
+        }
+        ParcelFileDescriptor descriptor = resolver.openFileDescriptor(uri, "r");
+        if (descriptor != null) {
+            FileInputStream in = new ParcelFileDescriptor.AutoCloseInputStream(descriptor);
+            try {
+                in.getChannel().position(offset);
+                return in;
+            } catch (IOException e) {
+                in.close(); // Pipe or socket - not seekable, fall back to skipping
+            }
+        }
+        InputStream in = resolver.openInputStream(uri);
+        if (in == null) throw new FileNotFoundException("Cannot open " + uri);
+        long remaining = offset;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                in.close();
+                throw new IOException("Source ended before offset " + offset);
+            }
+            remaining -= skipped;
+        }
+        return in;
+    }
+
+    /**
+     * Wraps the body as the "file" part of a multipart request
+     */
+    public MultipartBody.Part asPart(String name, String fileName) {
+        return MultipartBody.Part.createFormData(name, fileName, this);
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        long written = 0;
+        int lastPercent = -1;
+        try (Source source = Okio.source(opener.open())) {
+            long read;
+            while ((!bounded || written < contentLength)
+                    && (read = source.read(sink.getBuffer(), segmentSize(written))) != -1) {
+                sink.emit();
+                written += read;
+                if (listener != null && contentLength > 0) {
+                    int percent = (int) (written * 100 / contentLength);
+                    if (percent != lastPercent) {
+                        lastPercent = percent;
+                        listener.onProgress(written, contentLength);
+                    }
+                }
+            }
+        }
+        if (bounded && written < contentLength) {
+            throw new IOException("Source ended after " + written + " of " + contentLength + " bytes");
+        }
+        if (listener != null && contentLength <= 0) {
+            listener.onProgress(written, written);
+        }
+    }
+
+    private long segmentSize(long written) {
+        if (!bounded) return SEGMENT_SIZE;
+        return Math.min(SEGMENT_SIZE, contentLength - written);
+    }
+
+    private static long sizeOf(ContentResolver resolver, Uri uri) {
+        if ("file".equals(uri.getScheme()) && uri.getPath() != null) {
+            return new File(uri.getPath()).length();
+        }
+        try (Cursor cursor = resolver.query(uri, new String[]{OpenableColumns.SIZE}, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst() && !cursor.isNull(0)) {
+                return cursor.getLong(0);
+            }
+        } catch (Exception ignored) {
+            // Fall through to the descriptor
+        }
+        try (AssetFileDescriptor descriptor = resolver.openAssetFileDescriptor(uri, "r")) {
+            if (descriptor != null) return descriptor.getLength();
+        } catch (Exception ignored) {
+            // Unknown length - sent chunked
+        }
+        return -1;
+    }
+
+    private static String mimeTypeOf(String fileName) {
+        String extension = fileName != null ? MimeTypeMap.getFileExtensionFromUrl(fileName) : null;
+        String type = extension != null ? MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension.toLowerCase()) : null;
+        return type != null ? type : "application/octet-stream";
+    }
+
+    private interface Opener {
+        InputStream open() throws IOException;
+    }
+
+    // Called on the upload thread, at most once per whole percent
+    public interface ProgressListener {
+        void onProgress(long bytesWritten, long totalBytes);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.blottermanagementsystem.data.api;
+
+/**
+ * UploadSession - Server state of one resumable upload (api/uploads)
+ * offset is how many bytes the server has stored; the next chunk must start there.
+ */
+public class UploadSession {
+    public String uploadId;
+    public long offset;
+    public int chunkSize;     // Server-preferred chunk size, 0 = client decides
+    public boolean complete;
+    public String url;        // File URL once complete
+}
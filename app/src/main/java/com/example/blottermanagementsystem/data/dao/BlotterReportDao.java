@@ -1,7 +1,9 @@
 package com.example.blottermanagementsystem.data.dao;
 
+import androidx.paging.PagingSource;
 import androidx.room.*;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.ReportOfficerAssignment;
 import java.util.List;
 
 @Dao
@@ -15,6 +17,10 @@ public interface BlotterReportDao {
     @Query("SELECT * FROM blotter_reports ORDER BY dateFiled DESC")
     List<BlotterReport> getAllReports();
     
+    // ✅ Paged query (records archive) - Room loads one window at a time and invalidates on table changes
+    @Query("SELECT * FROM blotter_reports WHERE status IN (:statuses) AND isArchived = 0 ORDER BY dateFiled DESC")
+    PagingSource<Integer, BlotterReport> pageReportsByStatuses(List<String> statuses);
+    
     @Query("SELECT * FROM blotter_reports WHERE id = :reportId")
     BlotterReport getReportById(int reportId);
     
@@ -24,7 +30,10 @@ public interface BlotterReportDao {
     @Query("SELECT * FROM blotter_reports WHERE assignedOfficer = :officerName AND isArchived = 0")
     List<BlotterReport> getReportsByOfficer(String officerName);
     
-    @Query("SELECT * FROM blotter_reports WHERE (assignedOfficerId = :officerId OR assignedOfficerIds LIKE '%' || :officerId || '%') AND isArchived = 0")
+    // ✅ Indexed join on report_officer_assignment (primary + co-assigned officers)
+    @Query("SELECT r.* FROM report_officer_assignment a " +
+           "INNER JOIN blotter_reports r ON r.id = a.reportId " +
+           "WHERE a.officerId = :officerId AND r.isArchived = 0 ORDER BY r.dateFiled DESC")
     List<BlotterReport> getReportsByOfficerId(int officerId);
     
     @Query("SELECT * FROM blotter_reports WHERE status = :status AND isArchived = 0")
@@ -33,11 +42,59 @@ public interface BlotterReportDao {
     @Query("SELECT * FROM blotter_reports WHERE userId = :userId AND isArchived = 0")
     List<BlotterReport> getReportsByUser(int userId);
     
+    // Raw row writes - use insertReport/updateReport/upsertReports so the
+    // officer assignment rows stay in step with the report
     @Insert(onConflict = OnConflictStrategy.REPLACE)
-    long insertReport(BlotterReport report);
+    long insertReportRow(BlotterReport report);
     
     @Update
-    void updateReport(BlotterReport report);
+    void updateReportRow(BlotterReport report);
+    
+    @Upsert
+    void upsertReportRows(List<BlotterReport> reports);
+    
+    @Query("DELETE FROM report_officer_assignment WHERE reportId = :reportId")
+    void clearOfficerAssignments(int reportId);
+    
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertOfficerAssignments(List<ReportOfficerAssignment> assignments);
+    
+    @Transaction
+    default long insertReport(BlotterReport report) {
+        long rowId = insertReportRow(report);
+        int reportId = report.getId() != 0 ? report.getId() : (int) rowId;
+        syncOfficerAssignments(reportId, report);
+        return rowId;
+    }
+    
+    @Transaction
+    default void updateReport(BlotterReport report) {
+        updateReportRow(report);
+        syncOfficerAssignments(report.getId(), report);
+    }
+    
+    // ✅ Bulk insert-or-update for delta sync (UPDATE in place, no REPLACE delete)
+    @Transaction
+    default void upsertReports(List<BlotterReport> reports) {
+        upsertReportRows(reports);
+        for (BlotterReport report : reports) {
+            syncOfficerAssignments(report.getId(), report);
+        }
+    }
+    
+    /**
+     * Rewrites the junction rows of one report from assignedOfficerId/assignedOfficerIds
+     */
+    default void syncOfficerAssignments(int reportId, BlotterReport report) {
+        clearOfficerAssignments(reportId);
+        List<ReportOfficerAssignment> rows = ReportOfficerAssignment.fromReport(reportId, report);
+        if (!rows.isEmpty()) {
+            insertOfficerAssignments(rows);
+        }
+    }
+    
+    @Query("DELETE FROM blotter_reports WHERE id IN (:reportIds)")
+    int deleteReportsByIds(List<Integer> reportIds);
     
     @Delete
     void deleteReport(BlotterReport report);
@@ -54,10 +111,16 @@ public interface BlotterReportDao {
     @Query("SELECT COUNT(*) FROM blotter_reports WHERE isArchived = 1")
     int getArchivedReportCount();
     
+    // Keyset page of active reports in id order for bulk export
+    @Query("SELECT * FROM blotter_reports WHERE isArchived = 0 AND id > :afterId ORDER BY id LIMIT :limit")
+    List<BlotterReport> getActiveReportsAfter(int afterId, int limit);
+    
     // ✅ New methods for hearing visibility filtering
     @Query("SELECT * FROM blotter_reports WHERE userId = :userId AND isArchived = 0")
     List<BlotterReport> getReportsByUserId(int userId);
     
-    @Query("SELECT * FROM blotter_reports WHERE (assignedOfficerId = :officerId OR assignedOfficerIds LIKE '%' || :officerId || '%') AND isArchived = 0")
+    @Query("SELECT r.* FROM report_officer_assignment a " +
+           "INNER JOIN blotter_reports r ON r.id = a.reportId " +
+           "WHERE a.officerId = :officerId AND r.isArchived = 0")
     List<BlotterReport> getReportsByAssignedOfficer(int officerId);
 }
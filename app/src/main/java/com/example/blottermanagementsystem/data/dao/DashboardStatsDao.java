@@ -0,0 +1,54 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Transformations;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.example.blottermanagementsystem.data.model.ReportStatusCounts;
+
+import java.util.List;
+
+/**
+ * DashboardStatsDao - Status counts for dashboards in one GROUP BY per scope
+ * Only (status, count) rows leave SQLite - no report entities are loaded.
+ * Archived reports are counted like any other, as the server's statusCounts do.
+ * The LiveData variants re-run whenever blotter_reports changes.
+ */
+@Dao
+public interface DashboardStatsDao {
+
+    // All reports (admin / sync status)
+    @Query("SELECT status, COUNT(*) AS count FROM blotter_reports GROUP BY status")
+    List<StatusCount> getAllStatusCounts();
+
+    @Query("SELECT status, COUNT(*) AS count FROM blotter_reports GROUP BY status")
+    LiveData<List<StatusCount>> observeAllStatusCounts();
+
+    // Reports filed by one user
+    @Query("SELECT status, COUNT(*) AS count FROM blotter_reports WHERE userId = :userId GROUP BY status")
+    LiveData<List<StatusCount>> observeUserStatusCounts(int userId);
+
+    // Headcount for the admin cards
+    @Query("SELECT (SELECT COUNT(*) FROM users) AS users, (SELECT COUNT(*) FROM officers) AS officers")
+    LiveData<Headcount> observeHeadcount();
+
+    default LiveData<ReportStatusCounts> observeAllCounts() {
+        return Transformations.map(observeAllStatusCounts(), ReportStatusCounts::from);
+    }
+
+    default LiveData<ReportStatusCounts> observeUserCounts(int userId) {
+        return Transformations.map(observeUserStatusCounts(userId), ReportStatusCounts::from);
+    }
+
+    // One GROUP BY row
+    class StatusCount {
+        public String status;
+        public int count;
+    }
+
+    class Headcount {
+        public int users;
+        public int officers;
+    }
+}
@@ -30,6 +30,16 @@ public interface EvidenceDao {
     @Query("SELECT COUNT(*) FROM evidence WHERE blotterReportId = :reportId")
     int getEvidenceCountByReport(int reportId);
     
+    // One GROUP BY for a page of reports; reports without evidence have no row
+    @Query("SELECT blotterReportId AS reportId, COUNT(*) AS count FROM evidence " +
+           "WHERE blotterReportId IN (:reportIds) GROUP BY blotterReportId")
+    List<ReportCount> getEvidenceCountsByReports(List<Integer> reportIds);
+    
     @Query("SELECT * FROM evidence WHERE blotterReportId = :reportId")
     List<Evidence> getEvidenceByReport(int reportId);
+    
+    class ReportCount {
+        public int reportId;
+        public int count;
+    }
 }
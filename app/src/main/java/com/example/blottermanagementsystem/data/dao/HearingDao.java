@@ -1,37 +1,80 @@
 package com.example.blottermanagementsystem.data.dao;
 
+import androidx.lifecycle.LiveData;
 import androidx.room.*;
 import com.example.blottermanagementsystem.data.entity.Hearing;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 
 @Dao
 public interface HearingDao {
-    @Query("SELECT * FROM hearings WHERE blotterReportId = :reportId ORDER BY hearingDate DESC")
+    @Query("SELECT * FROM hearings WHERE blotterReportId = :reportId ORDER BY scheduledAt DESC")
     List<Hearing> getHearingsByReportId(int reportId);
 
     @Query("SELECT * FROM hearings WHERE id = :hearingId")
     Hearing getHearingById(int hearingId);
 
-    @Query("SELECT * FROM hearings ORDER BY hearingDate DESC")
+    @Query("SELECT * FROM hearings ORDER BY scheduledAt DESC")
     List<Hearing> getAllHearings();
 
-    @Query("SELECT * FROM hearings WHERE status = 'Scheduled' OR status = 'Upcoming' ORDER BY hearingDate ASC")
+    @Query("SELECT * FROM hearings WHERE status = 'Scheduled' OR status = 'Upcoming' ORDER BY scheduledAt ASC")
     List<Hearing> getUpcomingHearings();
 
-    @Query("SELECT * FROM hearings WHERE status = 'Completed' OR status = 'Concluded' ORDER BY hearingDate DESC")
+    @Query("SELECT * FROM hearings WHERE status = 'Completed' OR status = 'Concluded' ORDER BY scheduledAt DESC")
     List<Hearing> getCompletedHearings();
 
-    @Query("SELECT * FROM hearings WHERE status IN ('Scheduled', 'Upcoming') AND hearingDate >= :currentDate ORDER BY hearingDate ASC")
-    List<Hearing> getUpcomingHearingsFromDate(String currentDate);
+    @Query("SELECT * FROM hearings WHERE status IN ('Scheduled', 'Upcoming') AND scheduledAt >= :fromMillis ORDER BY scheduledAt ASC")
+    List<Hearing> getUpcomingHearingsFrom(long fromMillis);
 
-    @Query("SELECT * FROM hearings WHERE status = 'Canceled' OR status = 'Cancelled' ORDER BY hearingDate DESC")
+    @Query("SELECT * FROM hearings WHERE status = 'Canceled' OR status = 'Cancelled' ORDER BY scheduledAt DESC")
     List<Hearing> getCanceledHearings();
+    
+    // ==================== Date Ranges (scheduledAt index) ====================
+    
+    // [fromMillis, toMillis)
+    @Query("SELECT * FROM hearings WHERE scheduledAt >= :fromMillis AND scheduledAt < :toMillis ORDER BY scheduledAt ASC")
+    List<Hearing> getHearingsBetween(long fromMillis, long toMillis);
+    
+    @Query("SELECT * FROM hearings WHERE scheduledAt >= :fromMillis AND scheduledAt < :toMillis ORDER BY scheduledAt ASC")
+    LiveData<List<Hearing>> observeHearingsBetween(long fromMillis, long toMillis);
+    
+    @Query("SELECT COUNT(*) FROM hearings WHERE scheduledAt >= :fromMillis AND scheduledAt < :toMillis")
+    int countHearingsBetween(long fromMillis, long toMillis);
+    
+    default List<Hearing> getHearingsOnDay(LocalDate day) {
+        return getHearingsBetween(Hearing.startOfDay(day), Hearing.startOfDay(day.plusDays(1)));
+    }
+    
+    // Monday-to-Sunday week containing the day
+    default List<Hearing> getHearingsInWeek(LocalDate anyDay) {
+        LocalDate monday = anyDay.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return getHearingsBetween(Hearing.startOfDay(monday), Hearing.startOfDay(monday.plusWeeks(1)));
+    }
+    
+    default List<Hearing> getHearingsInMonth(YearMonth month) {
+        return getHearingsBetween(Hearing.startOfDay(month.atDay(1)), Hearing.startOfDay(month.plusMonths(1).atDay(1)));
+    }
+    
+    // ==================== Writes (keep scheduledAt in step with the strings) ====================
 
     @Insert(onConflict = OnConflictStrategy.REPLACE)
-    long insertHearing(Hearing hearing);
+    long insertHearingRow(Hearing hearing);
 
     @Update
-    void updateHearing(Hearing hearing);
+    void updateHearingRow(Hearing hearing);
+    
+    default long insertHearing(Hearing hearing) {
+        hearing.setScheduledAt(Hearing.toScheduledAt(hearing.getHearingDate(), hearing.getHearingTime()));
+        return insertHearingRow(hearing);
+    }
+    
+    default void updateHearing(Hearing hearing) {
+        hearing.setScheduledAt(Hearing.toScheduledAt(hearing.getHearingDate(), hearing.getHearingTime()));
+        updateHearingRow(hearing);
+    }
 
     @Delete
     void deleteHearing(Hearing hearing);
@@ -39,10 +82,10 @@ public interface HearingDao {
     @Query("SELECT COUNT(*) FROM hearings WHERE blotterReportId = :reportId")
     int getHearingCountByReport(int reportId);
     
-    @Query("SELECT * FROM hearings WHERE blotterReportId = :reportId ORDER BY hearingDate DESC")
+    @Query("SELECT * FROM hearings WHERE blotterReportId = :reportId ORDER BY scheduledAt DESC")
     List<Hearing> getHearingsByReport(int reportId);
     
-    @Query("SELECT * FROM hearings WHERE blotterReportId IN (:reportIds) ORDER BY hearingDate DESC")
+    @Query("SELECT * FROM hearings WHERE blotterReportId IN (:reportIds) ORDER BY scheduledAt DESC")
     List<Hearing> getHearingsByReportIds(List<Integer> reportIds);
     
     @Query("SELECT * FROM hearings WHERE approvalStatus = 'PENDING' ORDER BY createdAt DESC")
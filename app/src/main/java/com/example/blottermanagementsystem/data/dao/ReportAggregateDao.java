@@ -0,0 +1,71 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Transformations;
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.example.blottermanagementsystem.data.model.ReportAggregate;
+
+import java.util.List;
+
+/**
+ * ReportAggregateDao - A report and all its children in one transaction
+ * Replaces the five or six separate witness / suspect / evidence / hearing / resolution
+ * queries each case screen used to run. The LiveData variants re-run when the report or
+ * any child table changes.
+ */
+@Dao
+public interface ReportAggregateDao {
+
+    // Child counts ride along with the report row; every subquery hits a blotterReportId index
+    String CHILD_COUNTS =
+            "(SELECT COUNT(*) FROM witnesses WHERE blotterReportId = r.id) AS witnessCount, " +
+            "(SELECT COUNT(*) FROM suspects WHERE blotterReportId = r.id) AS suspectCount, " +
+            "(SELECT COUNT(*) FROM evidence WHERE blotterReportId = r.id) AS evidenceCount, " +
+            "(SELECT COUNT(*) FROM hearings WHERE blotterReportId = r.id) AS hearingCount, " +
+            "(SELECT COUNT(*) FROM resolutions WHERE blotterReportId = r.id) AS resolutionCount";
+
+    @Transaction
+    @Query("SELECT r.*, " + CHILD_COUNTS + " FROM blotter_reports r WHERE r.id = :reportId")
+    ReportAggregate getReportAggregateRow(int reportId);
+
+    @Transaction
+    @Query("SELECT r.*, " + CHILD_COUNTS + " FROM blotter_reports r WHERE r.id = :reportId")
+    LiveData<ReportAggregate> observeReportAggregateRow(int reportId);
+
+    // Keyset page in id order for bulk export - children are fetched with one IN query per table
+    @Transaction
+    @Query("SELECT r.*, " + CHILD_COUNTS + " FROM blotter_reports r WHERE r.id > :afterId ORDER BY r.id LIMIT :limit")
+    List<ReportAggregate> getReportAggregatesAfter(int afterId, int limit);
+
+    // Counts only, for timelines that never show the child rows
+    @Query("SELECT r.id AS reportId, r.assignedOfficer AS assignedOfficer, r.status AS status, " +
+           CHILD_COUNTS + " FROM blotter_reports r WHERE r.id = :reportId")
+    ChildCounts getChildCounts(int reportId);
+
+    /**
+     * Blocking - call from a background executor. Null if the report is not stored locally.
+     */
+    default ReportAggregate getReportAggregate(int reportId) {
+        ReportAggregate aggregate = getReportAggregateRow(reportId);
+        return aggregate != null ? aggregate.sorted() : null;
+    }
+
+    default LiveData<ReportAggregate> observeReportAggregate(int reportId) {
+        return Transformations.map(observeReportAggregateRow(reportId),
+                aggregate -> aggregate != null ? aggregate.sorted() : null);
+    }
+
+    class ChildCounts {
+        public int reportId;
+        public String assignedOfficer;
+        public String status;
+        public int witnessCount;
+        public int suspectCount;
+        public int evidenceCount;
+        public int hearingCount;
+        public int resolutionCount;
+    }
+}
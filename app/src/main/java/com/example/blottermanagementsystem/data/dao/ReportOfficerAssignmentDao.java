@@ -0,0 +1,48 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.ReportOfficerAssignment;
+
+import java.util.List;
+
+/**
+ * ReportOfficerAssignmentDao - Read side of the report/officer junction
+ * Rows are written by BlotterReportDao whenever a report is saved.
+ */
+@Dao
+public interface ReportOfficerAssignmentDao {
+    
+    @Query("SELECT * FROM report_officer_assignment WHERE reportId = :reportId")
+    List<ReportOfficerAssignment> getAssignmentsForReport(int reportId);
+    
+    @Query("SELECT officerId FROM report_officer_assignment WHERE reportId = :reportId")
+    List<Integer> getOfficerIdsForReport(int reportId);
+    
+    @Query("SELECT EXISTS(SELECT 1 FROM report_officer_assignment WHERE reportId = :reportId AND officerId = :officerId)")
+    boolean isAssigned(int reportId, int officerId);
+    
+    @Query("SELECT COUNT(*) FROM report_officer_assignment WHERE officerId = :officerId")
+    int getCaseCountForOfficer(int officerId);
+    
+    // ✅ Integrity checks (DatabaseValidator)
+    @Query("SELECT COUNT(*) FROM (SELECT reportId FROM report_officer_assignment GROUP BY reportId HAVING COUNT(*) = 1)")
+    int countSingleOfficerReports();
+    
+    @Query("SELECT COUNT(*) FROM (SELECT reportId FROM report_officer_assignment GROUP BY reportId HAVING COUNT(*) > 1)")
+    int countMultiOfficerReports();
+    
+    @Query("SELECT * FROM blotter_reports WHERE id IN " +
+           "(SELECT reportId FROM report_officer_assignment GROUP BY reportId HAVING COUNT(*) > 1) " +
+           "ORDER BY dateFiled DESC")
+    List<BlotterReport> getMultiOfficerReports();
+    
+    @Query("SELECT COUNT(*) FROM report_officer_assignment a LEFT JOIN officers o ON o.id = a.officerId WHERE o.id IS NULL")
+    int countUnknownOfficerAssignments();
+    
+    @Query("SELECT COUNT(*) FROM blotter_reports r WHERE UPPER(r.status) = 'ASSIGNED' " +
+           "AND NOT EXISTS(SELECT 1 FROM report_officer_assignment a WHERE a.reportId = r.id)")
+    int countAssignedWithoutOfficers();
+}
@@ -0,0 +1,39 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Person;
+
+import java.util.List;
+
+/**
+ * SearchDao - Full-text matches against report_fts / person_fts
+ * Returns row ids + matchinfo so ReportSearchEngine can rank before loading rows.
+ * Matches come in rowid pages (after :afterId, :limit at a time) so every hit can be
+ * ranked without loading a broad term's whole result set at once.
+ */
+@Dao
+public interface SearchDao {
+    
+    @Query("SELECT rowid AS id, matchinfo(report_fts, 'pcx') AS matchInfo FROM report_fts " +
+           "WHERE report_fts MATCH :match AND rowid > :afterId ORDER BY rowid LIMIT :limit")
+    List<SearchHit> matchReports(String match, int afterId, int limit);
+    
+    @Query("SELECT rowid AS id, matchinfo(person_fts, 'pcx') AS matchInfo FROM person_fts " +
+           "WHERE person_fts MATCH :match AND rowid > :afterId ORDER BY rowid LIMIT :limit")
+    List<SearchHit> matchPersons(String match, int afterId, int limit);
+    
+    @Query("SELECT * FROM blotter_reports WHERE id IN (:ids)")
+    List<BlotterReport> getReportsByIds(List<Integer> ids);
+    
+    @Query("SELECT * FROM person WHERE id IN (:ids) AND isActive = 1")
+    List<Person> getActivePersonsByIds(List<Integer> ids);
+    
+    // Matched row id and its raw matchinfo('pcx') blob
+    class SearchHit {
+        public int id;
+        public byte[] matchInfo;
+    }
+}
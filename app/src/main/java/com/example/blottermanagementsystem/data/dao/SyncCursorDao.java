@@ -0,0 +1,31 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Upsert;
+
+import com.example.blottermanagementsystem.data.entity.SyncCursor;
+
+import java.util.List;
+
+/**
+ * SyncCursorDao - Delta sync cursors per entity type
+ */
+@Dao
+public interface SyncCursorDao {
+    
+    @Query("SELECT * FROM sync_cursors WHERE entityType = :entityType")
+    SyncCursor getCursor(String entityType);
+    
+    @Query("SELECT * FROM sync_cursors")
+    List<SyncCursor> getAllCursors();
+    
+    @Upsert
+    void upsertCursor(SyncCursor cursor);
+    
+    /**
+     * Forces the next sync to pull everything again (e.g. after a restore)
+     */
+    @Query("DELETE FROM sync_cursors")
+    void resetAllCursors();
+}
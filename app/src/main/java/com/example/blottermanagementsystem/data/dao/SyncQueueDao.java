@@ -32,4 +32,27 @@ public interface SyncQueueDao {
     
     @Query("DELETE FROM sync_queue WHERE synced = 1 AND timestamp < :timestamp")
     void deleteOldSynced(long timestamp);
+    
+    // ✅ Outbound drainer - every pending row of any entity with a row whose backoff has elapsed,
+    // oldest first, so rows still backing off are coalesced with (and hold back) newer edits
+    @Query("SELECT * FROM sync_queue AS q WHERE q.synced = 0 AND EXISTS (" +
+           "SELECT 1 FROM sync_queue AS d WHERE d.synced = 0 AND d.nextAttemptAt <= :now " +
+           "AND d.entityType = q.entityType AND d.entityId = q.entityId) " +
+           "ORDER BY q.timestamp ASC, q.id ASC LIMIT :limit")
+    List<SyncQueue> getPendingForDueEntities(long now, int limit);
+    
+    @Query("SELECT COUNT(*) FROM sync_queue WHERE synced = 0")
+    int getPendingCount();
+    
+    // When the next entity can be sent: an entity waits for its last row still backing off,
+    // so take the latest nextAttemptAt per entity, then the earliest of those
+    @Query("SELECT MIN(readyAt) FROM (SELECT MAX(nextAttemptAt) AS readyAt FROM sync_queue " +
+           "WHERE synced = 0 GROUP BY entityType, entityId)")
+    Long getEarliestNextAttempt();
+    
+    @Query("UPDATE sync_queue SET synced = 1, lastError = NULL WHERE id IN (:ids)")
+    void markSynced(List<Integer> ids);
+    
+    @Query("UPDATE sync_queue SET retryCount = retryCount + 1, lastError = :error, nextAttemptAt = :nextAttemptAt WHERE id IN (:ids)")
+    void markFailed(List<Integer> ids, String error, long nextAttemptAt);
 }
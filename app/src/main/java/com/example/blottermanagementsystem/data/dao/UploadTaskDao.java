@@ -0,0 +1,72 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Update;
+
+import com.example.blottermanagementsystem.data.entity.UploadTask;
+
+import java.util.List;
+
+/**
+ * UploadTaskDao - Persistent queue for chunked evidence uploads
+ */
+@Dao
+public interface UploadTaskDao {
+
+    @Insert
+    long insertTask(UploadTask task);
+
+    @Update
+    void updateTask(UploadTask task);
+
+    @Query("SELECT * FROM upload_tasks WHERE id = :taskId")
+    UploadTask getTask(int taskId);
+
+    /**
+     * Writes the whole row unless cancel() got there first - returns false if it did
+     */
+    @Transaction
+    default boolean updateUnlessCancelled(UploadTask task) {
+        UploadTask current = getTask(task.getId());
+        if (current == null || UploadTask.STATUS_CANCELLED.equals(current.getStatus())) {
+            return false;
+        }
+        updateTask(task);
+        return true;
+    }
+
+    // UPLOADING rows were interrupted (process death / stopped worker) and are resumed too
+    @Query("SELECT * FROM upload_tasks WHERE status IN ('PENDING', 'UPLOADING') ORDER BY createdAt ASC")
+    List<UploadTask> getUnfinishedTasks();
+
+    @Query("SELECT COUNT(*) FROM upload_tasks WHERE status IN ('PENDING', 'UPLOADING')")
+    int countUnfinishedTasks();
+
+    @Query("SELECT * FROM upload_tasks WHERE reportId = :reportId ORDER BY createdAt DESC")
+    LiveData<List<UploadTask>> observeTasksForReport(int reportId);
+
+    @Query("SELECT * FROM upload_tasks WHERE id = :taskId")
+    LiveData<UploadTask> observeTask(int taskId);
+
+    /**
+     * Records a chunk the server acknowledged - the resume point
+     */
+    @Query("UPDATE upload_tasks SET uploadedBytes = :offset, status = 'UPLOADING', updatedAt = :now " +
+           "WHERE id = :taskId AND status != 'CANCELLED'")
+    void recordOffset(int taskId, long offset, long now);
+
+    /**
+     * Finishes a task with the server's file URL; a task cancelled meanwhile stays cancelled
+     * @return rows updated - 0 when the task was cancelled
+     */
+    @Query("UPDATE upload_tasks SET status = 'COMPLETED', resultUrl = :resultUrl, uploadedBytes = totalBytes, " +
+           "lastError = NULL, updatedAt = :now WHERE id = :taskId AND status != 'CANCELLED'")
+    int markCompleted(int taskId, String resultUrl, long now);
+
+    @Query("DELETE FROM upload_tasks WHERE status IN ('COMPLETED', 'CANCELLED') AND updatedAt < :before")
+    int deleteFinishedBefore(long before);
+}
@@ -33,6 +33,10 @@ public interface UserDao {
     @Update
     void updateUser(User user);
     
+    // ✅ Bulk insert-or-update for delta sync - REPLACE would cascade-delete the user's reports
+    @Upsert
+    void upsertUsers(List<User> users);
+    
     @Delete
     void deleteUser(User user);
     
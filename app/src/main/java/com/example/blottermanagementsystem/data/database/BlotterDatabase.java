@@ -14,10 +14,11 @@ import com.example.blottermanagementsystem.data.entity.*;
         Notification.class, Status.class, Person.class, Respondent.class, PersonHistory.class,
         SmsNotification.class, RespondentStatement.class, Summons.class,
         MediationSession.class, CaseTimeline.class, CaseTemplate.class, SyncQueue.class,
-        ConnectedDevice.class, LegalDocument.class, CloudinaryImage.class
+        ConnectedDevice.class, LegalDocument.class, CloudinaryImage.class, SyncCursor.class,
+        ReportOfficerAssignment.class, ReportFts.class, PersonFts.class, UploadTask.class
     },
-    version = 21,
-    exportSchema = false
+    version = 28,
+    exportSchema = true
 )
 public abstract class BlotterDatabase extends RoomDatabase {
     
@@ -46,6 +47,12 @@ public abstract class BlotterDatabase extends RoomDatabase {
     public abstract LegalDocumentDao legalDocumentDao();
     public abstract InvestigationTaskDao investigationTaskDao();
     public abstract CloudinaryImageDao cloudinaryImageDao();
+    public abstract SyncCursorDao syncCursorDao();
+    public abstract ReportOfficerAssignmentDao reportOfficerAssignmentDao();
+    public abstract SearchDao searchDao();
+    public abstract DashboardStatsDao dashboardStatsDao();
+    public abstract UploadTaskDao uploadTaskDao();
+    public abstract ReportAggregateDao reportAggregateDao();
     
     private static volatile BlotterDatabase INSTANCE;
     
@@ -55,7 +62,11 @@ public abstract class BlotterDatabase extends RoomDatabase {
                 if (INSTANCE == null) {
                     INSTANCE = Room.databaseBuilder(context.getApplicationContext(),
                             BlotterDatabase.class, "blotter_database")
-                            .fallbackToDestructiveMigration()
+                            .addMigrations(DatabaseMigrations.ALL)
+                            // Only installs older than the first migration may be rebuilt;
+                            // a missing step from 21 onwards fails loudly instead of wiping data
+                            .fallbackToDestructiveMigrationFrom(DatabaseMigrations.LEGACY_VERSIONS)
+                            .fallbackToDestructiveMigrationOnDowngrade()
                             .addCallback(new Callback() {
                                 @Override
                                 public void onCreate(androidx.sqlite.db.SupportSQLiteDatabase db) {
@@ -69,7 +80,27 @@ public abstract class BlotterDatabase extends RoomDatabase {
         }
         return INSTANCE;
     }
-    
+
+    /**
+     * Closes the shared instance and runs operation before anyone can reopen it.
+     * Used to swap the database file (restore). DAOs taken from the old instance
+     * are dead afterwards - screens holding them must be recreated.
+     */
+    public static void runWithDatabaseClosed(FileOperation operation) throws java.io.IOException {
+        synchronized (BlotterDatabase.class) {
+            if (INSTANCE != null) {
+                INSTANCE.close();
+                INSTANCE = null;
+            }
+            operation.run();
+        }
+    }
+
+    // File work done while the database is closed
+    public interface FileOperation {
+        void run() throws java.io.IOException;
+    }
+
     private static void populateDatabase(Context context) {
         BlotterDatabase db = getDatabase(context);
         StatusDao statusDao = db.statusDao();
@@ -0,0 +1,288 @@
+package com.example.blottermanagementsystem.data.database;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.ReportOfficerAssignment;
+
+/**
+ * DatabaseMigrations - Explicit schema migrations for BlotterDatabase
+ * Each migration keeps the officer's cached data instead of wiping it
+ *
+ * Adding a version: bump BlotterDatabase.version, add MIGRATION_N_N+1 here and to ALL,
+ * build once so app/schemas/<N+1>.json is exported, and extend BlotterDatabaseMigrationTest.
+ */
+public final class DatabaseMigrations {
+    
+    private DatabaseMigrations() {}
+    
+    // Oldest schema with a migration path; anything older predates exported schemas
+    public static final int FIRST_MIGRATABLE_VERSION = 21;
+    
+    // Versions with no migration path - the only ones allowed a destructive rebuild
+    public static final int[] LEGACY_VERSIONS = legacyVersions();
+    
+    private static int[] legacyVersions() {
+        int[] versions = new int[FIRST_MIGRATABLE_VERSION - 1];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = i + 1;
+        }
+        return versions;
+    }
+    
+    /**
+     * 21 -> 22: Delta sync
+     * - updatedAt on reports and users
+     * - sync_cursors table
+     */
+    public static final Migration MIGRATION_21_22 = new Migration(21, 22) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE blotter_reports ADD COLUMN updatedAt INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("UPDATE blotter_reports SET updatedAt = dateFiled");
+            db.execSQL("ALTER TABLE users ADD COLUMN updatedAt INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `sync_cursors` (" +
+                    "`entityType` TEXT NOT NULL, " +
+                    "`lastUpdatedAt` INTEGER NOT NULL, " +
+                    "`lastId` INTEGER NOT NULL, " +
+                    "`lastSyncedAt` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`entityType`))");
+        }
+    };
+    
+    /**
+     * 22 -> 23: Outbound sync queue
+     * - nextAttemptAt for backoff scheduling
+     * - indices for the pending scan and per-entity coalescing
+     */
+    public static final Migration MIGRATION_22_23 = new Migration(22, 23) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE sync_queue ADD COLUMN nextAttemptAt INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_queue_synced_timestamp` ON `sync_queue` (`synced`, `timestamp`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_queue_entityType_entityId` ON `sync_queue` (`entityType`, `entityId`)");
+        }
+    };
+    
+    /**
+     * 23 -> 24: Multi-officer assignment junction
+     * - report_officer_assignment (reportId, officerId) with an officer-first index
+     * - backfilled from assignedOfficerId + the assignedOfficerIds CSV
+     */
+    public static final Migration MIGRATION_23_24 = new Migration(23, 24) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `report_officer_assignment` (" +
+                    "`reportId` INTEGER NOT NULL, " +
+                    "`officerId` INTEGER NOT NULL, " +
+                    "`isPrimary` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`reportId`, `officerId`), " +
+                    "FOREIGN KEY(`reportId`) REFERENCES `blotter_reports`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_report_officer_assignment_officerId_reportId` " +
+                    "ON `report_officer_assignment` (`officerId`, `reportId`)");
+            
+            try (Cursor cursor = db.query("SELECT id, assignedOfficerId, assignedOfficerIds FROM blotter_reports " +
+                    "WHERE assignedOfficerId IS NOT NULL OR (assignedOfficerIds IS NOT NULL AND assignedOfficerIds != '')")) {
+                while (cursor.moveToNext()) {
+                    int reportId = cursor.getInt(0);
+                    Integer primaryId = cursor.isNull(1) ? null : cursor.getInt(1);
+                    String csv = cursor.isNull(2) ? null : cursor.getString(2);
+                    for (int officerId : ReportOfficerAssignment.parseOfficerIds(primaryId, csv)) {
+                        ContentValues values = new ContentValues();
+                        values.put("reportId", reportId);
+                        values.put("officerId", officerId);
+                        values.put("isPrimary", primaryId != null && primaryId == officerId ? 1 : 0);
+                        db.insert("report_officer_assignment", SQLiteDatabase.CONFLICT_IGNORE, values);
+                    }
+                }
+            }
+        }
+    };
+    
+    /**
+     * 24 -> 25: Full-text search
+     * - report_fts over case number, parties, incident type, location, narrative
+     * - person_fts over person names
+     * Both are external-content FTS4 tables kept in sync by Room's triggers,
+     * rebuilt once here from the existing rows.
+     */
+    public static final Migration MIGRATION_24_25 = new Migration(24, 25) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `report_fts` USING FTS4(" +
+                    "`caseNumber` TEXT, `complainantName` TEXT, `respondentName` TEXT, " +
+                    "`incidentType` TEXT, `incidentLocation` TEXT, `narrative` TEXT, " +
+                    "tokenize=unicode61, content=`blotter_reports`, prefix=`2,3`)");
+            createContentSyncTriggers(db, "report_fts", "blotter_reports",
+                    "`caseNumber`, `complainantName`, `respondentName`, `incidentType`, `incidentLocation`, `narrative`",
+                    "NEW.`caseNumber`, NEW.`complainantName`, NEW.`respondentName`, " +
+                    "NEW.`incidentType`, NEW.`incidentLocation`, NEW.`narrative`");
+            db.execSQL("INSERT INTO `report_fts`(`report_fts`) VALUES('rebuild')");
+            
+            db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `person_fts` USING FTS4(" +
+                    "`firstName` TEXT, `middleName` TEXT, `lastName` TEXT, " +
+                    "tokenize=unicode61, content=`person`, prefix=`2,3`)");
+            createContentSyncTriggers(db, "person_fts", "person",
+                    "`firstName`, `middleName`, `lastName`",
+                    "NEW.`firstName`, NEW.`middleName`, NEW.`lastName`");
+            db.execSQL("INSERT INTO `person_fts`(`person_fts`) VALUES('rebuild')");
+        }
+    };
+    
+    // Same triggers Room generates for an @Fts4(contentEntity = ...) table
+    private static void createContentSyncTriggers(SupportSQLiteDatabase db, String fts, String content,
+                                                  String columns, String newValues) {
+        String prefix = "room_fts_content_sync_" + fts;
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS " + prefix + "_BEFORE_UPDATE BEFORE UPDATE ON `" + content + "` " +
+                "BEGIN DELETE FROM `" + fts + "` WHERE `docid`=OLD.`rowid`; END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS " + prefix + "_BEFORE_DELETE BEFORE DELETE ON `" + content + "` " +
+                "BEGIN DELETE FROM `" + fts + "` WHERE `docid`=OLD.`rowid`; END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS " + prefix + "_AFTER_UPDATE AFTER UPDATE ON `" + content + "` " +
+                "BEGIN INSERT INTO `" + fts + "`(`docid`, " + columns + ") VALUES (NEW.`rowid`, " + newValues + "); END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS " + prefix + "_AFTER_INSERT AFTER INSERT ON `" + content + "` " +
+                "BEGIN INSERT INTO `" + fts + "`(`docid`, " + columns + ") VALUES (NEW.`rowid`, " + newValues + "); END");
+    }
+    
+    /**
+     * 25 -> 26: Composite indexes matched to the DAO query shapes
+     * - Filter columns first, then the ORDER BY column, so lists come off the index already sorted
+     * - Single-column report-id indexes are replaced by their composite (the prefix still serves joins/FKs)
+     * - ANALYZE so the planner has row statistics for the new indexes
+     */
+    public static final Migration MIGRATION_25_26 = new Migration(25, 26) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("DROP INDEX IF EXISTS `index_blotter_reports_userId`");
+            createIndex(db, "blotter_reports", "userId", "isArchived", "dateFiled");
+            createIndex(db, "blotter_reports", "isArchived", "dateFiled");
+            createIndex(db, "blotter_reports", "isArchived", "archivedDate");
+            createIndex(db, "blotter_reports", "status", "isArchived", "dateFiled");
+            createIndex(db, "blotter_reports", "caseNumber");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_hearings_blotterReportId`");
+            createIndex(db, "hearings", "blotterReportId", "hearingDate");
+            createIndex(db, "hearings", "status", "hearingDate");
+            createIndex(db, "hearings", "approvalStatus", "createdAt");
+            createIndex(db, "hearings", "approvalStatus", "approvalDate");
+            
+            createIndex(db, "notifications", "userId", "isRead", "timestamp");
+            createIndex(db, "notifications", "userId", "timestamp");
+            
+            createIndex(db, "legal_documents", "reportId", "createdAt");
+            createIndex(db, "legal_documents", "documentType", "createdAt");
+            createIndex(db, "legal_documents", "status", "createdAt");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_investigation_tasks_reportId`");
+            createIndex(db, "investigation_tasks", "reportId", "isCompleted");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_status_history_blotterReportId`");
+            createIndex(db, "status_history", "blotterReportId", "createdAt");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_case_timeline_blotterReportId`");
+            createIndex(db, "case_timeline", "blotterReportId", "timestamp");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_mediation_sessions_blotterReportId`");
+            createIndex(db, "mediation_sessions", "blotterReportId", "sessionDate");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_summons_blotterReportId`");
+            db.execSQL("DROP INDEX IF EXISTS `index_summons_respondentId`");
+            createIndex(db, "summons", "blotterReportId", "issueDate");
+            createIndex(db, "summons", "respondentId", "issueDate");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_respondent_statements_respondentId`");
+            db.execSQL("DROP INDEX IF EXISTS `index_respondent_statements_blotterReportId`");
+            createIndex(db, "respondent_statements", "respondentId", "submittedDate");
+            createIndex(db, "respondent_statements", "blotterReportId", "submittedDate");
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_person_history_personId`");
+            db.execSQL("DROP INDEX IF EXISTS `index_person_history_blotterReportId`");
+            createIndex(db, "person_history", "personId", "timestamp");
+            createIndex(db, "person_history", "blotterReportId", "timestamp");
+            
+            db.execSQL("ANALYZE");
+        }
+    };
+    
+    /**
+     * 26 -> 27: Resumable evidence uploads
+     * - upload_tasks queue with the acknowledged offset per file
+     */
+    public static final Migration MIGRATION_26_27 = new Migration(26, 27) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `upload_tasks` (" +
+                    "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                    "`reportId` INTEGER NOT NULL, " +
+                    "`mediaType` TEXT, " +
+                    "`sourceUri` TEXT, " +
+                    "`fileName` TEXT, " +
+                    "`mimeType` TEXT, " +
+                    "`totalBytes` INTEGER NOT NULL, " +
+                    "`uploadedBytes` INTEGER NOT NULL, " +
+                    "`chunkSize` INTEGER NOT NULL, " +
+                    "`uploadId` TEXT, " +
+                    "`status` TEXT, " +
+                    "`resultUrl` TEXT, " +
+                    "`attempts` INTEGER NOT NULL, " +
+                    "`lastError` TEXT, " +
+                    "`createdAt` INTEGER NOT NULL, " +
+                    "`updatedAt` INTEGER NOT NULL)");
+            createIndex(db, "upload_tasks", "status", "createdAt");
+            createIndex(db, "upload_tasks", "reportId", "createdAt");
+        }
+    };
+    
+    /**
+     * 27 -> 28: Typed hearing schedule
+     * - scheduledAt epoch millis, backfilled by parsing hearingDate + hearingTime
+     * - date-string indexes replaced by scheduledAt ones (sorting and range queries)
+     */
+    public static final Migration MIGRATION_27_28 = new Migration(27, 28) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE hearings ADD COLUMN scheduledAt INTEGER NOT NULL DEFAULT 0");
+            
+            try (Cursor cursor = db.query("SELECT id, hearingDate, hearingTime FROM hearings WHERE hearingDate IS NOT NULL")) {
+                while (cursor.moveToNext()) {
+                    long scheduledAt = Hearing.toScheduledAt(cursor.getString(1), cursor.isNull(2) ? null : cursor.getString(2));
+                    if (scheduledAt == 0) continue; // Unreadable date - stays 0, outside every range
+                    ContentValues values = new ContentValues();
+                    values.put("scheduledAt", scheduledAt);
+                    db.update("hearings", SQLiteDatabase.CONFLICT_NONE, values, "id = ?", new Object[]{cursor.getInt(0)});
+                }
+            }
+            
+            db.execSQL("DROP INDEX IF EXISTS `index_hearings_blotterReportId_hearingDate`");
+            db.execSQL("DROP INDEX IF EXISTS `index_hearings_status_hearingDate`");
+            createIndex(db, "hearings", "scheduledAt");
+            createIndex(db, "hearings", "blotterReportId", "scheduledAt");
+            createIndex(db, "hearings", "status", "scheduledAt");
+        }
+    };
+    
+    // Same name and statement Room generates for @Index({columns...})
+    private static void createIndex(SupportSQLiteDatabase db, String table, String... columns) {
+        StringBuilder name = new StringBuilder("index_").append(table);
+        StringBuilder list = new StringBuilder();
+        for (String column : columns) {
+            name.append('_').append(column);
+            if (list.length() > 0) list.append(", ");
+            list.append('`').append(column).append('`');
+        }
+        db.execSQL("CREATE INDEX IF NOT EXISTS `" + name + "` ON `" + table + "` (" + list + ")");
+    }
+    
+    public static final Migration[] ALL = {
+        MIGRATION_21_22,
+        MIGRATION_22_23,
+        MIGRATION_23_24,
+        MIGRATION_24_25,
+        MIGRATION_25_26,
+        MIGRATION_26_27,
+        MIGRATION_27_28
+    };
+}
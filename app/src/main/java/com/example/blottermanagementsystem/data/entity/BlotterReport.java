@@ -14,7 +14,13 @@ import androidx.room.PrimaryKey;
         childColumns = "userId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = {@Index("userId")}
+    indices = {
+        @Index({"userId", "isArchived", "dateFiled"}),
+        @Index({"isArchived", "dateFiled"}),
+        @Index({"isArchived", "archivedDate"}),
+        @Index({"status", "isArchived", "dateFiled"}),
+        @Index("caseNumber")
+    }
 )
 public class BlotterReport {
     @PrimaryKey(autoGenerate = true)
@@ -37,6 +43,7 @@ public class BlotterReport {
     private String relationshipToComplainant;
     private String status;
     private long dateFiled;
+    private long updatedAt;  // Last modification time - delta sync cursor
     private String assignedOfficer;
     private Integer assignedOfficerId;
     private String assignedOfficerIds;
@@ -58,6 +65,7 @@ public class BlotterReport {
         // No-arg constructor for Room
         this.status = "pending";
         this.dateFiled = System.currentTimeMillis();
+        this.updatedAt = this.dateFiled;
         this.isArchived = false;
     }
 
@@ -79,6 +87,7 @@ public class BlotterReport {
         this.respondentAddress = "N/A";
         this.status = "pending";
         this.dateFiled = System.currentTimeMillis();
+        this.updatedAt = this.dateFiled;
         this.assignedOfficer = "";
         this.assignedOfficerIds = "";
         this.isArchived = false;
@@ -212,8 +221,8 @@ public class BlotterReport {
     public long getCreatedAt() { return dateFiled; }
     public void setCreatedAt(long createdAt) { this.dateFiled = createdAt; }
 
-    public long getUpdatedAt() { return dateFiled; }
-    public void setUpdatedAt(long updatedAt) { this.dateFiled = updatedAt; }
+    public long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
     
     public double getLatitude() { return latitude; }
     public void setLatitude(double latitude) { this.latitude = latitude; }
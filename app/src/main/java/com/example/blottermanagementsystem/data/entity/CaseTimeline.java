@@ -5,7 +5,7 @@ import androidx.room.ForeignKey;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "case_timeline", foreignKeys = @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE), indices = {@Index("blotterReportId")})
+@Entity(tableName = "case_timeline", foreignKeys = @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE), indices = {@Index({"blotterReportId", "timestamp"})})
 public class CaseTimeline {
     @PrimaryKey(autoGenerate = true) private int id;
     private int blotterReportId; private String eventType; private String eventTitle; private String eventDescription; private String performedBy; private String performedByRole; private long timestamp; private String metadata;
@@ -6,6 +6,14 @@ import androidx.room.Ignore;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
 @Entity(
     tableName = "hearings",
     foreignKeys = @ForeignKey(
@@ -14,7 +22,13 @@ import androidx.room.PrimaryKey;
         childColumns = "blotterReportId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = {@Index("blotterReportId")}
+    indices = {
+        @Index({"scheduledAt"}),
+        @Index({"blotterReportId", "scheduledAt"}),
+        @Index({"status", "scheduledAt"}),
+        @Index({"approvalStatus", "createdAt"}),
+        @Index({"approvalStatus", "approvalDate"})
+    }
 )
 public class Hearing {
     @PrimaryKey(autoGenerate = true)
@@ -22,6 +36,7 @@ public class Hearing {
     private int blotterReportId;
     private String hearingDate;
     private String hearingTime;
+    private long scheduledAt; // Epoch millis of hearingDate + hearingTime, 0 = unknown; set by HearingDao on write
     private String location;
     private String purpose;
     private String status;
@@ -72,6 +87,8 @@ public class Hearing {
     public void setHearingDate(String hearingDate) { this.hearingDate = hearingDate; }
     public String getHearingTime() { return hearingTime; }
     public void setHearingTime(String hearingTime) { this.hearingTime = hearingTime; }
+    public long getScheduledAt() { return scheduledAt; }
+    public void setScheduledAt(long scheduledAt) { this.scheduledAt = scheduledAt; }
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
     public String getPurpose() { return purpose; }
@@ -124,6 +141,75 @@ public class Hearing {
         return hearingDate != null && hearingTime != null;
     }
     
+    /**
+     * scheduledAt, parsed from the date/time strings when it was never set (rows from the API)
+     */
+    public long resolveScheduledAt() {
+        if (scheduledAt == 0) {
+            scheduledAt = toScheduledAt(hearingDate, hearingTime);
+        }
+        return scheduledAt;
+    }
+    
+    // ✅ Date/time formats the app and the API write; first match wins
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+        formatter("MMM d, yyyy", Locale.getDefault()),
+        formatter("MMM d, yyyy", Locale.US),
+        formatter("yyyy-MM-dd", Locale.US)
+    };
+    private static final DateTimeFormatter[] TIME_FORMATS = {
+        formatter("h:mm a", Locale.getDefault()),
+        formatter("h:mm a", Locale.US),
+        formatter("H:mm", Locale.US)
+    };
+    
+    /**
+     * Epoch millis (device time zone) for a hearing's date and time strings
+     * A missing or unreadable time means start of day; an unreadable date returns 0.
+     */
+    public static long toScheduledAt(String hearingDate, String hearingTime) {
+        if (hearingDate == null || hearingDate.trim().isEmpty()) return 0;
+        String date = hearingDate.trim();
+        if (date.length() > 10 && date.charAt(4) == '-' && date.charAt(10) == 'T') {
+            date = date.substring(0, 10); // ISO timestamp from the API - date part
+        }
+        LocalDate day = null;
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                day = LocalDate.parse(date, format);
+                break;
+            } catch (DateTimeParseException ignored) {
+                // Try the next format
+            }
+        }
+        if (day == null) return 0;
+        
+        LocalTime time = LocalTime.MIDNIGHT;
+        if (hearingTime != null && !hearingTime.trim().isEmpty()) {
+            for (DateTimeFormatter format : TIME_FORMATS) {
+                try {
+                    time = LocalTime.parse(hearingTime.trim(), format);
+                    break;
+                } catch (DateTimeParseException ignored) {
+                    // Try the next format
+                }
+            }
+        }
+        return day.atTime(time).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    /**
+     * Device-local midnight of a day - range bounds for HearingDao
+     * DST days are 23 or 25 hours long, so ranges never add fixed millis to this.
+     */
+    public static long startOfDay(LocalDate day) {
+        return day.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    private static DateTimeFormatter formatter(String pattern, Locale locale) {
+        return new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(pattern).toFormatter(locale);
+    }
+    
     // Alias for compatibility
     public String getTitle() { return purpose != null ? purpose : "Hearing"; }
 }
@@ -14,7 +14,7 @@ import androidx.room.Index;
         childColumns = "reportId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = @Index("reportId")
+    indices = @Index({"reportId", "isCompleted"})
 )
 public class InvestigationTask {
     @PrimaryKey(autoGenerate = true)
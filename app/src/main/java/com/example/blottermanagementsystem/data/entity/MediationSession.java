@@ -5,7 +5,7 @@ import androidx.room.ForeignKey;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "mediation_sessions", foreignKeys = @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE), indices = {@Index("blotterReportId")})
+@Entity(tableName = "mediation_sessions", foreignKeys = @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE), indices = {@Index({"blotterReportId", "sessionDate"})})
 public class MediationSession {
     @PrimaryKey(autoGenerate = true) private int id;
     private int blotterReportId; private int sessionNumber; private long sessionDate; private String sessionTime; private String venue; private String mediatorName; private String mediatorPosition;
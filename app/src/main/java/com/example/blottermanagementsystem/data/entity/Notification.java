@@ -1,9 +1,16 @@
 package com.example.blottermanagementsystem.data.entity;
 
 import androidx.room.Entity;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "notifications")
+@Entity(
+    tableName = "notifications",
+    indices = {
+        @Index({"userId", "isRead", "timestamp"}),
+        @Index({"userId", "timestamp"})
+    }
+)
 public class Notification {
     @PrimaryKey(autoGenerate = true)
     private int id;
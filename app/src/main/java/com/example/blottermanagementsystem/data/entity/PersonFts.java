@@ -0,0 +1,25 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+
+/**
+ * PersonFts - Full-text index over person names (external content of person)
+ */
+@Fts4(contentEntity = Person.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = {2, 3})
+@Entity(tableName = "person_fts")
+public class PersonFts {
+    private String firstName;
+    private String middleName;
+    private String lastName;
+    
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+    
+    public String getMiddleName() { return middleName; }
+    public void setMiddleName(String middleName) { this.middleName = middleName; }
+    
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+}
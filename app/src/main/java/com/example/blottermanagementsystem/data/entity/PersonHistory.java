@@ -11,7 +11,7 @@ import androidx.room.PrimaryKey;
         @ForeignKey(entity = Person.class, parentColumns = "id", childColumns = "personId", onDelete = ForeignKey.CASCADE),
         @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE)
     },
-    indices = {@Index("personId"), @Index("blotterReportId")}
+    indices = {@Index({"personId", "timestamp"}), @Index({"blotterReportId", "timestamp"})}
 )
 public class PersonHistory {
     @PrimaryKey(autoGenerate = true)
@@ -0,0 +1,39 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+
+/**
+ * ReportFts - Full-text index over the searchable report fields
+ * External-content table: Room keeps it in step with blotter_reports via triggers.
+ * Column order matters - ReportSearchEngine weights columns by position.
+ */
+@Fts4(contentEntity = BlotterReport.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = {2, 3})
+@Entity(tableName = "report_fts")
+public class ReportFts {
+    private String caseNumber;
+    private String complainantName;
+    private String respondentName;
+    private String incidentType;
+    private String incidentLocation;
+    private String narrative;
+    
+    public String getCaseNumber() { return caseNumber; }
+    public void setCaseNumber(String caseNumber) { this.caseNumber = caseNumber; }
+    
+    public String getComplainantName() { return complainantName; }
+    public void setComplainantName(String complainantName) { this.complainantName = complainantName; }
+    
+    public String getRespondentName() { return respondentName; }
+    public void setRespondentName(String respondentName) { this.respondentName = respondentName; }
+    
+    public String getIncidentType() { return incidentType; }
+    public void setIncidentType(String incidentType) { this.incidentType = incidentType; }
+    
+    public String getIncidentLocation() { return incidentLocation; }
+    public void setIncidentLocation(String incidentLocation) { this.incidentLocation = incidentLocation; }
+    
+    public String getNarrative() { return narrative; }
+    public void setNarrative(String narrative) { this.narrative = narrative; }
+}
@@ -0,0 +1,83 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Ignore;
+import androidx.room.Index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ReportOfficerAssignment - One row per (report, officer) assignment
+ * Mirrors BlotterReport.assignedOfficerId + assignedOfficerIds so officer case
+ * lookups are indexed joins instead of LIKE scans over the CSV column.
+ */
+@Entity(
+    tableName = "report_officer_assignment",
+    primaryKeys = {"reportId", "officerId"},
+    foreignKeys = @ForeignKey(
+        entity = BlotterReport.class,
+        parentColumns = "id",
+        childColumns = "reportId",
+        onDelete = ForeignKey.CASCADE
+    ),
+    indices = {@Index({"officerId", "reportId"})}
+)
+public class ReportOfficerAssignment {
+    private int reportId;
+    private int officerId;
+    private boolean isPrimary;   // Matches BlotterReport.assignedOfficerId
+    
+    public ReportOfficerAssignment() {}
+    
+    @Ignore
+    public ReportOfficerAssignment(int reportId, int officerId, boolean isPrimary) {
+        this.reportId = reportId;
+        this.officerId = officerId;
+        this.isPrimary = isPrimary;
+    }
+    
+    /**
+     * Officer IDs a report is assigned to: the primary officer first, then the CSV list.
+     * Blank or malformed CSV entries are skipped; duplicates collapse.
+     */
+    public static Set<Integer> parseOfficerIds(Integer assignedOfficerId, String assignedOfficerIds) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        if (assignedOfficerId != null && assignedOfficerId > 0) {
+            ids.add(assignedOfficerId);
+        }
+        if (assignedOfficerIds != null && !assignedOfficerIds.trim().isEmpty()) {
+            for (String part : assignedOfficerIds.split(",")) {
+                try {
+                    int id = Integer.parseInt(part.trim());
+                    if (id > 0) ids.add(id);
+                } catch (NumberFormatException ignored) {
+                    // Not an officer ID - nothing to index
+                }
+            }
+        }
+        return ids;
+    }
+    
+    public static List<ReportOfficerAssignment> fromReport(int reportId, BlotterReport report) {
+        List<ReportOfficerAssignment> rows = new ArrayList<>();
+        Integer primaryId = report.getAssignedOfficerId();
+        for (int officerId : parseOfficerIds(primaryId, report.getAssignedOfficerIds())) {
+            rows.add(new ReportOfficerAssignment(reportId, officerId,
+                primaryId != null && primaryId == officerId));
+        }
+        return rows;
+    }
+    
+    public int getReportId() { return reportId; }
+    public void setReportId(int reportId) { this.reportId = reportId; }
+    
+    public int getOfficerId() { return officerId; }
+    public void setOfficerId(int officerId) { this.officerId = officerId; }
+    
+    public boolean isPrimary() { return isPrimary; }
+    public void setPrimary(boolean primary) { isPrimary = primary; }
+}
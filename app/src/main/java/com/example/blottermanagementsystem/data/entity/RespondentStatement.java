@@ -11,7 +11,7 @@ import androidx.room.PrimaryKey;
         @ForeignKey(entity = Respondent.class, parentColumns = "id", childColumns = "respondentId", onDelete = ForeignKey.CASCADE),
         @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE)
     },
-    indices = {@Index("respondentId"), @Index("blotterReportId")}
+    indices = {@Index({"respondentId", "submittedDate"}), @Index({"blotterReportId", "submittedDate"})}
 )
 public class RespondentStatement {
     @PrimaryKey(autoGenerate = true)
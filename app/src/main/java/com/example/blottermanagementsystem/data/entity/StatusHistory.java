@@ -13,7 +13,7 @@ import androidx.room.PrimaryKey;
         childColumns = "blotterReportId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = {@Index("blotterReportId")}
+    indices = {@Index({"blotterReportId", "createdAt"})}
 )
 public class StatusHistory {
     @PrimaryKey(autoGenerate = true)
@@ -11,7 +11,7 @@ import androidx.room.PrimaryKey;
         @ForeignKey(entity = BlotterReport.class, parentColumns = "id", childColumns = "blotterReportId", onDelete = ForeignKey.CASCADE),
         @ForeignKey(entity = Respondent.class, parentColumns = "id", childColumns = "respondentId", onDelete = ForeignKey.CASCADE)
     },
-    indices = {@Index("blotterReportId"), @Index("respondentId")}
+    indices = {@Index({"blotterReportId", "issueDate"}), @Index({"respondentId", "issueDate"})}
 )
 public class Summons {
     @PrimaryKey(autoGenerate = true)
@@ -0,0 +1,47 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.PrimaryKey;
+
+/**
+ * SyncCursor - Last pulled position per entity type for delta sync
+ * (updatedAt, id) of the last row applied, so the next pull only asks for newer changes
+ */
+@Entity(tableName = "sync_cursors")
+public class SyncCursor {
+    
+    @PrimaryKey
+    @NonNull
+    private String entityType;
+    
+    private long lastUpdatedAt;   // updatedAt of the last applied row
+    private int lastId;           // Tie-breaker for rows sharing the same updatedAt
+    private long lastSyncedAt;    // Local time the cursor was advanced
+    
+    public SyncCursor() {
+        this.entityType = "";
+    }
+    
+    @Ignore
+    public SyncCursor(@NonNull String entityType) {
+        this.entityType = entityType;
+        this.lastUpdatedAt = 0;
+        this.lastId = 0;
+        this.lastSyncedAt = 0;
+    }
+    
+    @NonNull
+    public String getEntityType() { return entityType; }
+    public void setEntityType(@NonNull String entityType) { this.entityType = entityType; }
+    
+    public long getLastUpdatedAt() { return lastUpdatedAt; }
+    public void setLastUpdatedAt(long lastUpdatedAt) { this.lastUpdatedAt = lastUpdatedAt; }
+    
+    public int getLastId() { return lastId; }
+    public void setLastId(int lastId) { this.lastId = lastId; }
+    
+    public long getLastSyncedAt() { return lastSyncedAt; }
+    public void setLastSyncedAt(long lastSyncedAt) { this.lastSyncedAt = lastSyncedAt; }
+}
@@ -1,15 +1,19 @@
 package com.example.blottermanagementsystem.data.entity;
 
 import androidx.room.Entity;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "sync_queue")
+@Entity(
+    tableName = "sync_queue",
+    indices = {@Index({"synced", "timestamp"}), @Index({"entityType", "entityId"})}
+)
 public class SyncQueue {
     @PrimaryKey(autoGenerate = true) private int id;
-    private String entityType; private int entityId; private String action; private String data; private long timestamp; private int retryCount; private String lastError; private boolean synced;
+    private String entityType; private int entityId; private String action; private String data; private long timestamp; private int retryCount; private String lastError; private boolean synced; private long nextAttemptAt;
 
     public SyncQueue(String entityType, int entityId, String action, String data) {
-        this.entityType = entityType; this.entityId = entityId; this.action = action; this.data = data; this.timestamp = System.currentTimeMillis(); this.retryCount = 0; this.synced = false;
+        this.entityType = entityType; this.entityId = entityId; this.action = action; this.data = data; this.timestamp = System.currentTimeMillis(); this.retryCount = 0; this.synced = false; this.nextAttemptAt = 0;
     }
 
     public int getId() { return id; } public void setId(int id) { this.id = id; }
@@ -21,4 +25,5 @@ public class SyncQueue {
     public int getRetryCount() { return retryCount; } public void setRetryCount(int retryCount) { this.retryCount = retryCount; }
     public String getLastError() { return lastError; } public void setLastError(String lastError) { this.lastError = lastError; }
     public boolean isSynced() { return synced; } public void setSynced(boolean synced) { this.synced = synced; }
+    public long getNextAttemptAt() { return nextAttemptAt; } public void setNextAttemptAt(long nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
 }
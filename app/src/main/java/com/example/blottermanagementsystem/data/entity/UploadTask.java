@@ -0,0 +1,121 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * UploadTask - One queued evidence upload (video / audio / photo)
+ * The file goes up in chunks; uploadedBytes is the offset the server has acknowledged,
+ * so an interrupted upload resumes from there instead of from zero.
+ */
+@Entity(
+    tableName = "upload_tasks",
+    indices = {
+        @Index({"status", "createdAt"}),
+        @Index({"reportId", "createdAt"})
+    }
+)
+public class UploadTask {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_UPLOADING = "UPLOADING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+
+    @PrimaryKey(autoGenerate = true)
+    private int id;
+
+    private int reportId;
+    private String mediaType;      // "image", "video", "audio"
+    private String sourceUri;      // content:// or file:// of the original file
+    private String fileName;
+    private String mimeType;
+    private long totalBytes;
+    private long uploadedBytes;    // Acknowledged by the server
+    private int chunkSize;
+    private String uploadId;       // Server upload session, null until created
+    private String status;
+    private String resultUrl;
+    private int attempts;
+    private String lastError;
+    private long createdAt;
+    private long updatedAt;
+
+    public UploadTask() {
+    }
+
+    @Ignore
+    public UploadTask(int reportId, String mediaType, String sourceUri, String fileName,
+                      String mimeType, long totalBytes, int chunkSize) {
+        this.reportId = reportId;
+        this.mediaType = mediaType;
+        this.sourceUri = sourceUri;
+        this.fileName = fileName;
+        this.mimeType = mimeType;
+        this.totalBytes = totalBytes;
+        this.chunkSize = chunkSize;
+        this.status = STATUS_PENDING;
+        this.createdAt = System.currentTimeMillis();
+        this.updatedAt = this.createdAt;
+    }
+
+    public int getProgressPercent() {
+        if (totalBytes <= 0) return STATUS_COMPLETED.equals(status) ? 100 : 0;
+        return (int) (uploadedBytes * 100 / totalBytes);
+    }
+
+    public boolean isFinished() {
+        return STATUS_COMPLETED.equals(status) || STATUS_FAILED.equals(status) || STATUS_CANCELLED.equals(status);
+    }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public int getReportId() { return reportId; }
+    public void setReportId(int reportId) { this.reportId = reportId; }
+
+    public String getMediaType() { return mediaType; }
+    public void setMediaType(String mediaType) { this.mediaType = mediaType; }
+
+    public String getSourceUri() { return sourceUri; }
+    public void setSourceUri(String sourceUri) { this.sourceUri = sourceUri; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public String getMimeType() { return mimeType; }
+    public void setMimeType(String mimeType) { this.mimeType = mimeType; }
+
+    public long getTotalBytes() { return totalBytes; }
+    public void setTotalBytes(long totalBytes) { this.totalBytes = totalBytes; }
+
+    public long getUploadedBytes() { return uploadedBytes; }
+    public void setUploadedBytes(long uploadedBytes) { this.uploadedBytes = uploadedBytes; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public String getUploadId() { return uploadId; }
+    public void setUploadId(String uploadId) { this.uploadId = uploadId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getResultUrl() { return resultUrl; }
+    public void setResultUrl(String resultUrl) { this.resultUrl = resultUrl; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public long getCreatedAt() { return createdAt; }
+    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
+
+    public long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
+}
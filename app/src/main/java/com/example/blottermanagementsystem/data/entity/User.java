@@ -33,6 +33,9 @@ public class User {
     
     // ✅ Track authentication method: "EMAIL_PASSWORD" or "GOOGLE"
     private String authMethod;
+    
+    // ✅ Last modification time - delta sync cursor
+    private long updatedAt;
 
     // No-arg constructor required by Room
     public User() {
@@ -250,4 +253,12 @@ public class User {
     public void setHasSeenTooltips(boolean hasSeenTooltips) {
         this.hasSeenTooltips = hasSeenTooltips;
     }
+    
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(long updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
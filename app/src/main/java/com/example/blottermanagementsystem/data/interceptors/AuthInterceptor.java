@@ -1,9 +1,8 @@
 package com.example.blottermanagementsystem.data.interceptors;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
-import com.example.blottermanagementsystem.config.AppConfig;
+import com.example.blottermanagementsystem.data.api.AuthTokenHolder;
 
 import okhttp3.Interceptor;
 import okhttp3.Request;
@@ -11,32 +10,27 @@ import okhttp3.Response;
 
 /**
  * HTTP Interceptor for adding authentication token to requests
+ * The token comes from AuthTokenHolder's in-memory copy, not SharedPreferences.
  */
 public class AuthInterceptor implements Interceptor {
     private final Context context;
     
     public AuthInterceptor(Context context) {
-        this.context = context;
+        this.context = context.getApplicationContext();
     }
     
     @Override
     public Response intercept(Chain chain) throws java.io.IOException {
         Request originalRequest = chain.request();
+        String token = AuthTokenHolder.getAccessToken(context);
         
-        // Get token from SharedPreferences
-        SharedPreferences prefs = context.getSharedPreferences(
-            AppConfig.PREFS_NAME, 
-            Context.MODE_PRIVATE
-        );
-        String token = prefs.getString(AppConfig.PREFS_USER_TOKEN, null);
-        
-        // Add token to request if available
-        Request.Builder requestBuilder = originalRequest.newBuilder();
-        if (token != null && !token.isEmpty()) {
-            requestBuilder.addHeader("Authorization", "Bearer " + token);
+        // Add token to request if available (and the caller did not set its own)
+        if (token == null || token.isEmpty() || originalRequest.header("Authorization") != null) {
+            return chain.proceed(originalRequest);
         }
-        
-        Request newRequest = requestBuilder.build();
+        Request newRequest = originalRequest.newBuilder()
+            .header("Authorization", "Bearer " + token)
+            .build();
         return chain.proceed(newRequest);
     }
 }
@@ -0,0 +1,101 @@
+package com.example.blottermanagementsystem.data.interceptors;
+
+import android.util.Log;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import okhttp3.Cache;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * HTTP network interceptor that applies ApiConfig.CacheFreshness to GET responses
+ * Rewrites Cache-Control to the configured max-age and adds "Vary: Authorization"
+ * so one account never gets another account's cached response.
+ * ETag / Last-Modified are left untouched - OkHttp's Cache uses them to revalidate.
+ * A successful POST/PUT/PATCH/DELETE evicts the cached GETs under the same prefix,
+ * so e.g. editing api/officers/{id} is seen by the next api/officers load.
+ */
+public class CachePolicyInterceptor implements Interceptor {
+    private static final String TAG = "CachePolicy";
+
+    private final Cache cache;
+
+    public CachePolicyInterceptor(Cache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        if (!"GET".equals(request.method())) {
+            if (response.isSuccessful() && !"HEAD".equals(request.method())) {
+                evictPrefixOf(request.url().encodedPath());
+            }
+            return response;
+        }
+        // 304s carry the headers that get merged into the stored entry
+        if (!response.isSuccessful() && response.code() != 304) {
+            return response;
+        }
+
+        int maxAge = ApiConfig.CacheFreshness.maxAgeFor(request.url().encodedPath());
+        if (maxAge == ApiConfig.CacheFreshness.NOT_CACHED) {
+            return response;
+        }
+
+        String cacheControl = response.header("Cache-Control");
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return response; // The server explicitly forbids storing this one
+        }
+
+        return response.newBuilder()
+            .header("Cache-Control", "max-age=" + maxAge)
+            .header("Vary", withAuthorization(response.header("Vary")))
+            .removeHeader("Pragma")
+            .build();
+    }
+
+    /**
+     * Removes cached responses under the CacheFreshness prefix the written path belongs to
+     */
+    private void evictPrefixOf(String path) {
+        String prefix = ApiConfig.CacheFreshness.prefixFor(path);
+        if (prefix == null) return;
+
+        int evicted = 0;
+        try {
+            Iterator<String> urls = cache.urls();
+            while (urls.hasNext()) {
+                HttpUrl url = HttpUrl.parse(urls.next());
+                if (url != null && url.encodedPath().startsWith(prefix)) {
+                    urls.remove();
+                    evicted++;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            Log.w(TAG, "⚠️ Cache eviction for " + prefix + " failed: " + e.getMessage());
+            return;
+        }
+        if (evicted > 0) {
+            Log.d(TAG, "🔄 Evicted " + evicted + " cached response(s) under " + prefix + " after write to " + path);
+        }
+    }
+
+    private static String withAuthorization(String vary) {
+        if (vary == null || vary.trim().isEmpty()) {
+            return "Authorization";
+        }
+        if (vary.trim().equals("*") || vary.toLowerCase().contains("authorization")) {
+            return vary;
+        }
+        return vary + ", Authorization";
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.blottermanagementsystem.data.interceptors;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.blottermanagementsystem.config.AppConfig;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-host circuit breaker for the API client
+ *
+ * - CLOSED: requests go through; consecutive failures are counted
+ * - OPEN: after failureThreshold failures in a row, requests to that host fail at once
+ *   for openMs instead of each waiting for a timeout
+ * - HALF_OPEN: when openMs has passed one probe request is let through; success closes
+ *   the circuit, failure opens it again
+ */
+public class CircuitBreaker {
+    private static final String TAG = AppConfig.LOG_TAG;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final Map<String, HostState> hosts = new HashMap<>();
+
+    public CircuitBreaker(int failureThreshold, long openMs) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    /**
+     * Throws CircuitOpenException while the host's circuit is open
+     */
+    public synchronized void checkAllowed(String host) throws CircuitOpenException {
+        HostState state = hosts.get(host);
+        if (state == null || state.state == State.CLOSED) return;
+
+        long now = SystemClock.elapsedRealtime();
+        if (state.state == State.OPEN && now >= state.openedUntil) {
+            state.state = State.HALF_OPEN;
+            Log.d(TAG, "🔄 Circuit half-open for " + host + " - sending a probe");
+            return;
+        }
+        // OPEN and still cooling down, or HALF_OPEN with the probe already out
+        long waitMs = Math.max(0, state.openedUntil - now);
+        throw new CircuitOpenException(host, waitMs);
+    }
+
+    public synchronized void recordSuccess(String host) {
+        HostState state = hosts.remove(host);
+        if (state != null && state.state != State.CLOSED) {
+            Log.d(TAG, "✅ Circuit closed for " + host);
+        }
+    }
+
+    public synchronized void recordFailure(String host) {
+        HostState state = hosts.get(host);
+        if (state == null) {
+            state = new HostState();
+            hosts.put(host, state);
+        }
+        state.failures++;
+        if (state.state == State.HALF_OPEN || state.failures >= failureThreshold) {
+            state.state = State.OPEN;
+            state.openedUntil = SystemClock.elapsedRealtime() + openMs;
+            Log.w(TAG, "⚠️ Circuit open for " + host + " after " + state.failures +
+                    " failures - failing fast for " + (openMs / 1000) + "s");
+        }
+    }
+
+    /**
+     * A cancelled call says nothing about the host - but if it was the half-open probe,
+     * the next request gets to probe instead of the host waiting on an answer that never comes
+     */
+    public synchronized void recordCancelled(String host) {
+        HostState state = hosts.get(host);
+        if (state != null && state.state == State.HALF_OPEN) {
+            state.state = State.OPEN;
+            state.openedUntil = SystemClock.elapsedRealtime();
+        }
+    }
+
+    public synchronized State getState(String host) {
+        HostState state = hosts.get(host);
+        return state != null ? state.state : State.CLOSED;
+    }
+
+    /**
+     * Closes every circuit - e.g. when connectivity comes back
+     */
+    public synchronized void reset() {
+        hosts.clear();
+    }
+
+    private static class HostState {
+        State state = State.CLOSED;
+        int failures;
+        long openedUntil;
+    }
+
+    /**
+     * Thrown instead of making a request while a host's circuit is open
+     */
+    public static class CircuitOpenException extends IOException {
+        public final long retryAfterMs;
+
+        CircuitOpenException(String host, long retryAfterMs) {
+            super("Server unavailable (" + host + "), try again in " + Math.max(1, retryAfterMs / 1000) + "s");
+            this.retryAfterMs = retryAfterMs;
+        }
+    }
+}
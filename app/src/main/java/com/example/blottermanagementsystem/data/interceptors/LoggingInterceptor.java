@@ -4,16 +4,25 @@ import android.util.Log;
 
 import com.example.blottermanagementsystem.config.AppConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
 
 /**
  * HTTP Interceptor for logging API requests and responses
+ * Also counts HTTP cache outcomes (hit / revalidated 304 / miss) and the bytes they saved
  */
 public class LoggingInterceptor implements Interceptor {
     private static final String TAG = AppConfig.LOG_TAG;
     
+    // Cache counters across every client built from the shared one
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong cacheRevalidated = new AtomicLong();
+    private static final AtomicLong cacheMisses = new AtomicLong();
+    private static final AtomicLong bytesSaved = new AtomicLong();
+    
     @Override
     public Response intercept(Chain chain) throws java.io.IOException {
         Request request = chain.request();
@@ -28,9 +37,60 @@ public class LoggingInterceptor implements Interceptor {
         
         // Log response
         long duration = System.currentTimeMillis() - startTime;
-        Log.d(TAG, "← Received response: " + response.code() + " (" + duration + "ms)");
+        Log.d(TAG, "← Received response: " + response.code() + " (" + duration + "ms)" + cacheOutcome(response));
         Log.d(TAG, "  Message: " + response.message());
         
         return response;
     }
+    
+    private static String cacheOutcome(Response response) {
+        if (!"GET".equals(response.request().method())) {
+            return "";
+        }
+        Response cached = response.cacheResponse();
+        Response network = response.networkResponse();
+        
+        if (cached != null && network == null) {
+            cacheHits.incrementAndGet();
+            bytesSaved.addAndGet(bodyLength(response));
+            return " 📦 cache HIT";
+        }
+        if (cached != null && network.code() == 304) {
+            cacheRevalidated.incrementAndGet();
+            bytesSaved.addAndGet(bodyLength(response));
+            return " 📦 cache 304";
+        }
+        cacheMisses.incrementAndGet();
+        return " 📦 cache MISS";
+    }
+    
+    private static long bodyLength(Response response) {
+        long length = response.body() != null ? response.body().contentLength() : -1;
+        if (length < 0) {
+            String header = response.header("Content-Length");
+            try {
+                length = header != null ? Long.parseLong(header) : 0;
+            } catch (NumberFormatException e) {
+                length = 0;
+            }
+        }
+        return length;
+    }
+    
+    /**
+     * One-line cache summary, e.g. for a debug screen or periodic log
+     */
+    public static String getCacheSummary() {
+        long hits = cacheHits.get();
+        long revalidated = cacheRevalidated.get();
+        long misses = cacheMisses.get();
+        long total = hits + revalidated + misses;
+        long ratio = total == 0 ? 0 : (hits + revalidated) * 100 / total;
+        return "📊 HTTP cache: " + hits + " hit, " + revalidated + " revalidated, " + misses + " miss (" +
+                ratio + "% served from cache, " + (bytesSaved.get() / 1024) + " KB saved)";
+    }
+    
+    public static void logCacheSummary() {
+        Log.d(TAG, getCacheSummary());
+    }
 }
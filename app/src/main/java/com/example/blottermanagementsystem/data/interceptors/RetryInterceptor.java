@@ -0,0 +1,167 @@
+package com.example.blottermanagementsystem.data.interceptors;
+
+import android.util.Log;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+import com.example.blottermanagementsystem.config.AppConfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.UnknownHostException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ThreadLocalRandom;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * HTTP interceptor that retries transient failures (the backend's cold starts on Render)
+ *
+ * - Only idempotent requests are retried: GET/HEAD/OPTIONS/PUT/DELETE, or any request
+ *   carrying an Idempotency-Key header. A plain POST is sent once.
+ * - Retries I/O errors and 408/429/500/502/503/504, up to ApiConfig.MAX_RETRIES times
+ * - Exponential backoff from ApiConfig.RETRY_DELAY_MS with jitter; Retry-After wins when sent
+ * - Each call's final outcome (after its retries) feeds the per-host CircuitBreaker,
+ *   which fails fast while the host is down; cancelled calls are not counted
+ */
+public class RetryInterceptor implements Interceptor {
+    private static final String TAG = AppConfig.LOG_TAG;
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final CircuitBreaker circuitBreaker;
+
+    public RetryInterceptor(CircuitBreaker circuitBreaker) {
+        this(ApiConfig.MAX_RETRIES, ApiConfig.RETRY_DELAY_MS, ApiConfig.MAX_RETRY_DELAY_MS, circuitBreaker);
+    }
+
+    public RetryInterceptor(int maxRetries, long baseDelayMs, long maxDelayMs, CircuitBreaker circuitBreaker) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String host = request.url().host();
+        boolean retryable = isIdempotent(request);
+
+        for (int attempt = 0; ; attempt++) {
+            circuitBreaker.checkAllowed(host);
+            // The half-open probe is sent once: its own outcome opens or closes the circuit
+            boolean probe = circuitBreaker.getState(host) == CircuitBreaker.State.HALF_OPEN;
+            boolean lastAttempt = probe || !retryable || attempt >= maxRetries;
+
+            Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                if (chain.call().isCanceled()) {
+                    circuitBreaker.recordCancelled(host); // Says nothing about the host
+                    throw e;
+                }
+                if (lastAttempt) {
+                    // DNS failures mean we are offline, not that the server is down
+                    if (!(e instanceof UnknownHostException) || probe) {
+                        circuitBreaker.recordFailure(host);
+                    }
+                    throw e;
+                }
+                long delay = backoff(attempt);
+                Log.w(TAG, "🔄 Retry " + (attempt + 1) + "/" + maxRetries + " " + request.method() + " " +
+                        request.url().encodedPath() + " in " + delay + "ms after " + e.getClass().getSimpleName());
+                sleep(delay);
+                continue;
+            }
+
+            int code = response.code();
+            // Any real answer, a 429 included, means the server is up
+            if (!isRetryableStatus(code) || code == 429) {
+                circuitBreaker.recordSuccess(host);
+            }
+            if (!isRetryableStatus(code)) {
+                return response;
+            }
+
+            long delay = retryAfter(response);
+            if (delay < 0) {
+                delay = backoff(attempt);
+            }
+            // Server asks for a longer pause than a caller should block for - hand its answer back
+            if (lastAttempt || delay > maxDelayMs || chain.call().isCanceled()) {
+                if (code != 429 && !chain.call().isCanceled()) {
+                    circuitBreaker.recordFailure(host); // One failure per call, not per attempt
+                }
+                return response;
+            }
+            Log.w(TAG, "🔄 Retry " + (attempt + 1) + "/" + maxRetries + " " + request.method() + " " +
+                    request.url().encodedPath() + " in " + delay + "ms after HTTP " + code);
+            response.close();
+            sleep(delay);
+        }
+    }
+
+    static boolean isIdempotent(Request request) {
+        switch (request.method()) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "PUT":
+            case "DELETE":
+                return true;
+            default:
+                return request.header(IDEMPOTENCY_KEY) != null;
+        }
+    }
+
+    static boolean isRetryableStatus(int code) {
+        return code == 408 || code == 429 || code == 500 || code == 502 || code == 503 || code == 504;
+    }
+
+    // base * 2^attempt, capped, with "equal jitter": half fixed, half random
+    private long backoff(int attempt) {
+        long exponential = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt, 16));
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * Retry-After in ms (delta-seconds or HTTP date), -1 when absent or unreadable
+     */
+    static long retryAfter(Response response) {
+        String value = response.header("Retry-After");
+        if (value == null) return -1;
+        value = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+                format.setTimeZone(TimeZone.getTimeZone("GMT"));
+                Date date = format.parse(value);
+                return date != null ? Math.max(0, date.getTime() - System.currentTimeMillis()) : -1;
+            } catch (ParseException unreadable) {
+                return -1;
+            }
+        }
+    }
+
+    private static void sleep(long delayMs) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Retry interrupted");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.blottermanagementsystem.data.interceptors;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+import com.example.blottermanagementsystem.config.AppConfig;
+import com.example.blottermanagementsystem.data.api.AuthTokenHolder;
+import com.example.blottermanagementsystem.data.api.HttpClientProvider;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+
+import okhttp3.Authenticator;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.Route;
+
+/**
+ * OkHttp Authenticator that refreshes an expired token once and replays the request
+ *
+ * Concurrent calls that hit 401 together queue on one lock: the first refreshes, the rest
+ * see that the token changed since they sent it and replay with the new one instead of
+ * refreshing again. If the refresh fails the 401 goes back to the caller, and so does every
+ * call that was already queued behind it with the same token - one refresh attempt per
+ * burst, not one per request.
+ */
+public class TokenAuthenticator implements Authenticator {
+    private static final String TAG = AppConfig.LOG_TAG;
+    private static final String BEARER = "Bearer ";
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final Context context;
+    private final String refreshUrl;
+    private final Object refreshLock = new Object();
+    // Bumped after every refresh attempt; a waiter that sees it move knows one ran meanwhile
+    private volatile int refreshAttempts;
+    // Access token whose last refresh failed (guarded by refreshLock)
+    private String failedToken;
+
+    /**
+     * @param baseUrl Same base URL as the API client, ending in "/"
+     */
+    public TokenAuthenticator(Context context, String baseUrl) {
+        this.context = context.getApplicationContext();
+        this.refreshUrl = baseUrl + "api/" + ApiConfig.Endpoints.REFRESH_TOKEN;
+    }
+
+    @Override
+    public Request authenticate(Route route, @NonNull Response response) throws IOException {
+        String sent = response.request().header("Authorization");
+        if (sent == null || !sent.startsWith(BEARER)) {
+            return null; // Not our token that was rejected
+        }
+        if (response.priorResponse() != null) {
+            return null; // Already replayed once with a fresh token - give up
+        }
+        String sentToken = sent.substring(BEARER.length());
+        int attemptsBefore = refreshAttempts;
+
+        String token;
+        synchronized (refreshLock) {
+            String current = AuthTokenHolder.getAccessToken(context);
+            if (current != null && !current.equals(sentToken)) {
+                token = current; // Refreshed by another call while this one was in flight
+            } else if (attemptsBefore != refreshAttempts && sentToken.equals(failedToken)) {
+                token = null; // Refreshing this token just failed while we waited - don't retry it
+            } else {
+                token = refresh();
+                failedToken = token == null ? sentToken : null;
+                refreshAttempts++;
+            }
+        }
+        if (token == null) {
+            return null;
+        }
+        return response.request().newBuilder()
+                .header("Authorization", BEARER + token)
+                .build();
+    }
+
+    // Blocking; runs on the OkHttp thread that got the 401
+    private String refresh() {
+        String refreshToken = AuthTokenHolder.getRefreshToken(context);
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            Log.w(TAG, "⚠️ Token rejected and no refresh token - session must log in again");
+            return null;
+        }
+
+        JsonObject body = new JsonObject();
+        body.addProperty("refreshToken", refreshToken);
+        // Shared client without auth: the refresh call must not recurse into this authenticator
+        Request request = new Request.Builder()
+                .url(refreshUrl)
+                .post(RequestBody.create(body.toString(), JSON))
+                .build();
+
+        try (Response response = HttpClientProvider.getClient().newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            if (!response.isSuccessful() || responseBody == null) {
+                Log.w(TAG, "⚠️ Token refresh rejected: " + response.code());
+                return null;
+            }
+            JsonObject json = JsonParser.parseString(responseBody.string()).getAsJsonObject();
+            if (json.has("data") && json.get("data").isJsonObject()) {
+                json = json.getAsJsonObject("data");
+            }
+            String access = string(json, "token", "accessToken");
+            if (access == null) {
+                Log.w(TAG, "⚠️ Token refresh response had no token");
+                return null;
+            }
+            String rotated = string(json, "refreshToken");
+            AuthTokenHolder.update(context, access, rotated != null ? rotated : refreshToken);
+            Log.d(TAG, "✅ Auth token refreshed");
+            return access;
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Token refresh failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String string(JsonObject json, String... keys) {
+        for (String key : keys) {
+            JsonElement value = json.get(key);
+            if (value != null && value.isJsonPrimitive() && !value.getAsString().isEmpty()) {
+                return value.getAsString();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.blottermanagementsystem.data.model;
+
+import androidx.room.Embedded;
+import androidx.room.Relation;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ReportAggregate - One report with everything a case screen, PDF or timeline needs
+ * Loaded by ReportAggregateDao in a single transaction, so the report, its children and
+ * the counts are one consistent snapshot. Treat it as read-only.
+ */
+public class ReportAggregate {
+
+    @Embedded
+    public BlotterReport report;
+
+    @Relation(parentColumn = "id", entityColumn = "blotterReportId")
+    public List<Witness> witnesses;
+
+    @Relation(parentColumn = "id", entityColumn = "blotterReportId")
+    public List<Suspect> suspects;
+
+    @Relation(parentColumn = "id", entityColumn = "blotterReportId")
+    public List<Evidence> evidence;
+
+    @Relation(parentColumn = "id", entityColumn = "blotterReportId")
+    public List<Hearing> hearings;
+
+    @Relation(parentColumn = "id", entityColumn = "blotterReportId")
+    public List<Resolution> resolutions;
+
+    // Filled by the same query (COUNT subqueries)
+    public int witnessCount;
+    public int suspectCount;
+    public int evidenceCount;
+    public int hearingCount;
+    public int resolutionCount;
+
+    /**
+     * Newest hearing first - @Relation lists come back in rowid order
+     */
+    public ReportAggregate sorted() {
+        if (hearings != null && hearings.size() > 1) {
+            List<Hearing> byDate = new ArrayList<>(hearings);
+            Collections.sort(byDate, (a, b) -> Long.compare(b.getScheduledAt(), a.getScheduledAt()));
+            hearings = byDate;
+        }
+        return this;
+    }
+
+    public Hearing getLatestHearing() {
+        return hearings != null && !hearings.isEmpty() ? hearings.get(0) : null;
+    }
+
+    public boolean hasInvestigationActivity() {
+        return witnessCount > 0 || suspectCount > 0 || evidenceCount > 0 || hearingCount > 0 || resolutionCount > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ReportAggregate{" +
+                "reportId=" + (report != null ? report.getId() : 0) +
+                ", witnesses=" + witnessCount +
+                ", suspects=" + suspectCount +
+                ", evidence=" + evidenceCount +
+                ", hearings=" + hearingCount +
+                ", resolutions=" + resolutionCount +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.blottermanagementsystem.data.model;
+
+import com.example.blottermanagementsystem.data.dao.DashboardStatsDao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ReportStatusCounts - Dashboard counts folded from DashboardStatsDao rows
+ * Status names are matched case-insensitively. Archived reports are included, so the
+ * totals match the statusCounts the server sends with the first report page.
+ */
+public class ReportStatusCounts {
+
+    private final Map<String, Integer> byStatus = new HashMap<>();
+    private int total;
+
+    public static ReportStatusCounts from(List<DashboardStatsDao.StatusCount> rows) {
+        ReportStatusCounts counts = new ReportStatusCounts();
+        if (rows == null) return counts;
+
+        for (DashboardStatsDao.StatusCount row : rows) {
+            counts.total += row.count;
+            String key = row.status != null ? row.status.trim().toLowerCase(Locale.ROOT) : "";
+            Integer current = counts.byStatus.get(key);
+            counts.byStatus.put(key, (current != null ? current : 0) + row.count);
+        }
+        return counts;
+    }
+
+    /**
+     * Reports in any of the given statuses
+     */
+    public int count(String... statuses) {
+        int count = 0;
+        for (String status : statuses) {
+            Integer value = byStatus.get(status.toLowerCase(Locale.ROOT));
+            if (value != null) count += value;
+        }
+        return count;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPending() {
+        return count("pending");
+    }
+
+    public int getOngoing() {
+        return count("ongoing", "in-progress", "in progress", "under investigation", "investigation");
+    }
+
+    public int getResolved() {
+        return count("resolved", "closed", "settled");
+    }
+
+    @Override
+    public String toString() {
+        return "ReportStatusCounts{" +
+                "total=" + total +
+                ", byStatus=" + byStatus +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.blottermanagementsystem.data.paging;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.ListenableFuturePagingSource;
+import androidx.paging.PagingState;
+import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.data.api.ReportPage;
+import com.example.blottermanagementsystem.data.api.ReportQuery;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import java.util.ArrayList;
+
+/**
+ * ReportPagingSource - Pages of reports pulled on demand from GET /api/reports/page
+ * Key is the server cursor; null loads the first page.
+ */
+public class ReportPagingSource extends ListenableFuturePagingSource<String, BlotterReport> {
+    
+    private static final String TAG = "ReportPagingSource";
+    
+    private final ReportQuery query;
+    @Nullable private final FirstPageListener firstPageListener;
+    
+    /**
+     * Called with the first page so screens can show server-side totals/status counts
+     */
+    public interface FirstPageListener {
+        void onFirstPage(ReportPage page);
+    }
+    
+    public ReportPagingSource(ReportQuery query) {
+        this(query, null);
+    }
+    
+    public ReportPagingSource(ReportQuery query, @Nullable FirstPageListener firstPageListener) {
+        this.query = query;
+        this.firstPageListener = firstPageListener;
+    }
+    
+    @NonNull
+    @Override
+    public ListenableFuture<LoadResult<String, BlotterReport>> loadFuture(@NonNull LoadParams<String> params) {
+        ListenableFutureTask<LoadResult<String, BlotterReport>> task =
+            ListenableFutureTask.create(() -> loadPage(params));
+        AppExecutors.getInstance().network().execute(task);
+        return task;
+    }
+    
+    private LoadResult<String, BlotterReport> loadPage(LoadParams<String> params) {
+        String cursor = params.getKey();
+        try {
+            ReportPage page = ApiClient.queryReportsBlocking(query, cursor, params.getLoadSize());
+            if (cursor == null && firstPageListener != null) {
+                firstPageListener.onFirstPage(page);
+            }
+            
+            String nextKey = page.hasMore ? page.nextCursor : null;
+            return new LoadResult.Page<>(
+                page.items != null ? page.items : new ArrayList<>(),
+                null,
+                nextKey
+            );
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Failed to load report page: " + e.getMessage());
+            return new LoadResult.Error<>(e);
+        }
+    }
+    
+    /**
+     * Cursor pages can't be re-entered mid-stream - refresh from the top
+     */
+    @Nullable
+    @Override
+    public String getRefreshKey(@NonNull PagingState<String, BlotterReport> state) {
+        return null;
+    }
+}
@@ -27,6 +27,7 @@ import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
 import com.example.blottermanagementsystem.utils.MediaManager;
+import com.example.blottermanagementsystem.utils.MediaUploadHelper;
 import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PermissionHelper;
 import com.example.blottermanagementsystem.utils.PhoneNumberValidator;
@@ -1376,6 +1377,9 @@ public class AddReportActivity extends BaseActivity {
             public void onSuccess(BlotterReport result) {
                 android.util.Log.d("AddReport", "✅ Report submitted successfully - Report ID: " + result.getId());
                 
+                // Evidence files upload in the background, resumable, now that the report exists
+                MediaUploadHelper.queueReportMedia(getApplicationContext(), result.getId(), imageList, videoList);
+                
                 com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
                 Toast.makeText(AddReportActivity.this, "Report submitted successfully!", Toast.LENGTH_SHORT).show();
                 
@@ -18,6 +18,7 @@ import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.utils.MediaManager;
 import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.SyncQueueDrainer;
 import com.example.blottermanagementsystem.data.api.ApiClient;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.TimelineUpdateManager;
@@ -31,6 +32,7 @@ import androidx.core.content.ContextCompat;
 import com.example.blottermanagementsystem.ui.adapters.SelectableOfficerAdapter;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
+import com.google.gson.Gson;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -782,13 +784,12 @@ public class AdminCaseDetailActivity extends BaseActivity {
                     
                     // Add to sync queue for cloud synchronization
                     try {
-                        com.example.blottermanagementsystem.data.entity.SyncQueue syncItem = new com.example.blottermanagementsystem.data.entity.SyncQueue(
+                        new SyncQueueDrainer(this).enqueue(
                             "BlotterReport",
                             currentReport.getId(),
-                            "UPDATE",
-                            "Officer assignment: " + officerNames.toString()
+                            SyncQueueDrainer.ACTION_UPDATE,
+                            new Gson().toJson(currentReport)
                         );
-                        // Pure online - no sync queue needed
                         android.util.Log.d("AdminAssign", "✅ Sync queued");
                     } catch (Exception e) {
                         android.util.Log.e("AdminAssign", "⚠️ Failed to add to sync queue: " + e.getMessage());
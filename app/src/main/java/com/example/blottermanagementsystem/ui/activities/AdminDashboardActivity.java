@@ -12,6 +12,7 @@ import androidx.cardview.widget.CardView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.ReportChangeFeed;
 
 public class AdminDashboardActivity extends BaseActivity {
     
@@ -24,6 +25,7 @@ public class AdminDashboardActivity extends BaseActivity {
     private androidx.swiperefreshlayout.widget.SwipeRefreshLayout swipeRefresh;
     private long backPressedTime = 0;
     private Toast backToast;
+    private ReportChangeFeed changeFeed;
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -37,8 +39,8 @@ public class AdminDashboardActivity extends BaseActivity {
         setupListeners();
         loadDashboard();
         
-        // Start periodic refresh for real-time dashboard updates
-        startPeriodicRefresh();
+        // Live statistics while visible (push, with polling fallback)
+        setupChangeFeed();
     }
     
     private void initViews() {
@@ -195,6 +197,13 @@ public class AdminDashboardActivity extends BaseActivity {
     protected void onResume() {
         super.onResume();
         loadDashboard(); // Refresh when returning to dashboard
+        if (changeFeed != null) changeFeed.start();
+    }
+    
+    @Override
+    protected void onPause() {
+        if (changeFeed != null) changeFeed.stop();
+        super.onPause();
     }
     
     @Override
@@ -217,19 +226,23 @@ public class AdminDashboardActivity extends BaseActivity {
         backPressedTime = System.currentTimeMillis();
     }
     
-    // Add periodic refresh for real-time dashboard updates (silent background refresh)
-    private void startPeriodicRefresh() {
-        android.os.Handler handler = new android.os.Handler();
-        Runnable refreshRunnable = new Runnable() {
+    // Statistics are aggregates, so any report change means one quiet statistics refresh
+    private void setupChangeFeed() {
+        changeFeed = new ReportChangeFeed(new ReportChangeFeed.Listener() {
             @Override
-            public void run() {
+            public void onReportsChanged(java.util.Set<Integer> reportIds) {
                 if (!isFinishing() && !isDestroyed()) {
-                    loadDashboardQuietly(); // Silent background refresh
+                    loadDashboardQuietly();
                 }
-                handler.postDelayed(this, 15000); // Refresh every 15 seconds
             }
-        };
-        handler.postDelayed(refreshRunnable, 15000);
+            
+            @Override
+            public void onListChanged() {
+                if (!isFinishing() && !isDestroyed()) {
+                    loadDashboardQuietly();
+                }
+            }
+        });
     }
     
     private void loadDashboardQuietly() {
@@ -256,7 +269,9 @@ public class AdminDashboardActivity extends BaseActivity {
                         final int finalPending = pendingReports;
                         
                         // Only update UI if values changed
-                        if (hasStatisticsChanged(finalUsers, finalOfficers, finalReports, finalPending, 0)) {
+                        boolean changed = hasStatisticsChanged(finalUsers, finalOfficers, finalReports, finalPending, 0);
+                        if (changeFeed != null) changeFeed.onPollResult(changed);
+                        if (changed) {
                             runOnUiThread(() -> {
                                 tvTotalUsers.setText(String.valueOf(finalUsers));
                                 tvTotalOfficers.setText(String.valueOf(finalOfficers));
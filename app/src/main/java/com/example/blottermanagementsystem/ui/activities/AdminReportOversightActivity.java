@@ -15,37 +15,53 @@ import android.widget.AutoCompleteTextView;
 import android.widget.ArrayAdapter;
 import androidx.appcompat.widget.Toolbar;
 import androidx.cardview.widget.CardView;
+import androidx.lifecycle.LiveData;
+import androidx.paging.LoadState;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.config.AppConfig;
+import com.example.blottermanagementsystem.data.api.ReportQuery;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
-import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.data.paging.ReportPagingSource;
+import com.example.blottermanagementsystem.ui.adapters.ReportPagingAdapter;
 import com.example.blottermanagementsystem.utils.EmptyStateBuilder;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.ReportChangeFeed;
+import com.example.blottermanagementsystem.utils.ReportSearchEngine;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import kotlin.Unit;
 
 public class AdminReportOversightActivity extends BaseActivity {
     
     private RecyclerView recyclerReports;
-    private ReportAdapter adapter;
+    private ReportPagingAdapter adapter;
+    private LiveData<PagingData<BlotterReport>> reportPages;
     private CardView emptyStateCard;
     private EmptyStateBuilder emptyStateBuilder;
     private EditText etSearch;
     private ImageButton btnFilter;
-    private List<BlotterReport> allReports = new ArrayList<>();
-    private List<BlotterReport> filteredReports = new ArrayList<>();
     private PreferencesManager preferencesManager;
     private String searchQuery = "";
     private String currentStatusFilter = "ALL";
     private String currentSort = "Newest First";
     private BlotterDatabase database;
     private CardView emptyStateCardOverlay;
+    private final android.os.Handler searchHandler = new android.os.Handler(android.os.Looper.getMainLooper());
+    private final Runnable searchRunnable = this::filterReports;
+    private static final long SEARCH_DEBOUNCE_MS = 300;
+    private ReportSearchEngine searchEngine;
+    private ReportChangeFeed changeFeed;
+    // Fingerprint of the rows before a feed-triggered reload; null when none is pending
+    private Long pollBaseline;
+    private boolean pollReloadStarted;
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -57,6 +73,7 @@ public class AdminReportOversightActivity extends BaseActivity {
             android.util.Log.d("AdminOverview", "Initializing database and preferences...");
             database = BlotterDatabase.getDatabase(this);
             preferencesManager = new PreferencesManager(this);
+            searchEngine = new ReportSearchEngine(this);
             
             android.util.Log.d("AdminOverview", "Initializing views...");
             initializeViews();
@@ -64,10 +81,9 @@ public class AdminReportOversightActivity extends BaseActivity {
             setupToolbar();
             android.util.Log.d("AdminOverview", "Setting up listeners...");
             setupListeners();
-            android.util.Log.d("AdminOverview", "Loading reports...");
-            loadReports();
-            android.util.Log.d("AdminOverview", "Starting periodic refresh...");
-            startPeriodicRefresh();
+            // Reports load in onResume, which always follows - loading here too fetched page one twice
+            android.util.Log.d("AdminOverview", "Setting up change feed...");
+            setupChangeFeed();
             android.util.Log.d("AdminOverview", "onCreate() completed successfully");
         } catch (Exception e) {
             android.util.Log.e("AdminOverview", "Error in onCreate: " + e.getMessage(), e);
@@ -84,11 +100,26 @@ public class AdminReportOversightActivity extends BaseActivity {
         // Setup RecyclerView
         if (recyclerReports != null) {
             android.util.Log.d("AdminOverview", "RecyclerView found, creating adapter...");
-            adapter = new ReportAdapter(filteredReports, report -> {
+            adapter = new ReportPagingAdapter(report -> {
                 Intent intent = new Intent(this, AdminCaseDetailActivity.class);
                 intent.putExtra("REPORT_ID", report.getId());
                 startActivity(intent);
             });
+            adapter.addLoadStateListener(loadStates -> {
+                LoadState refresh = loadStates.getRefresh();
+                if (refresh instanceof LoadState.Loading) {
+                    if (pollBaseline != null) pollReloadStarted = true;
+                } else if (refresh instanceof LoadState.NotLoading) {
+                    updateEmptyState();
+                    reportPollResult();
+                } else if (refresh instanceof LoadState.Error) {
+                    android.util.Log.e("AdminOverview", "❌ Failed to load reports: " + ((LoadState.Error) refresh).getError().getMessage());
+                    Toast.makeText(this, "Failed to load reports", Toast.LENGTH_SHORT).show();
+                    updateEmptyState();
+                    pollBaseline = null;
+                }
+                return Unit.INSTANCE;
+            });
             android.util.Log.d("AdminOverview", "Adapter created: " + (adapter != null ? "NOT NULL" : "NULL"));
             recyclerReports.setLayoutManager(new LinearLayoutManager(this));
             android.util.Log.d("AdminOverview", "LayoutManager set");
@@ -136,7 +167,9 @@ public class AdminReportOversightActivity extends BaseActivity {
                 @Override
                 public void onTextChanged(CharSequence s, int start, int before, int count) {
                     searchQuery = s.toString().toLowerCase();
-                    filterReports();
+                    // Search runs server-side - wait for typing to pause
+                    searchHandler.removeCallbacks(searchRunnable);
+                    searchHandler.postDelayed(searchRunnable, SEARCH_DEBOUNCE_MS);
                     updateSearchSuggestions(s.toString());
                 }
                 
@@ -211,63 +244,39 @@ public class AdminReportOversightActivity extends BaseActivity {
         dialog.show();
     }
     
+    /**
+     * Status, search and sort run server-side - rebuild the pager for the current selection
+     */
     private void filterReports() {
-        filteredReports.clear();
-        
-        android.util.Log.d("AdminOverview", "Total reports: " + allReports.size() + ", Filter: " + currentStatusFilter);
-        
-        for (BlotterReport report : allReports) {
-            // Filter by status
-            String status = report.getStatus() != null ? report.getStatus().toUpperCase().trim() : "";
-            android.util.Log.d("AdminOverview", "Report status: " + status + " vs filter: " + currentStatusFilter);
-            
-            if (!currentStatusFilter.equals("ALL") && !status.equals(currentStatusFilter)) {
-                continue;
-            }
-            
-            // Filter by search query
-            if (!searchQuery.isEmpty()) {
-                String caseNumber = report.getCaseNumber() != null ? report.getCaseNumber().toLowerCase() : "";
-                String incidentType = report.getIncidentType() != null ? report.getIncidentType().toLowerCase() : "";
-                String complainant = report.getComplainantName() != null ? report.getComplainantName().toLowerCase() : "";
-                
-                if (!caseNumber.contains(searchQuery) && !incidentType.contains(searchQuery) && !complainant.contains(searchQuery)) {
-                    continue;
-                }
-            }
-            
-            filteredReports.add(report);
+        if (adapter == null) {
+            android.util.Log.e("AdminOverview", "ERROR: adapter is NULL!");
+            return;
         }
         
-        android.util.Log.d("AdminOverview", "Filtered reports: " + filteredReports.size());
-        
-        sortReports();
-        
-        if (adapter != null) {
-            android.util.Log.d("AdminOverview", "Notifying adapter of " + filteredReports.size() + " items");
-            adapter.notifyDataSetChanged();
-        } else {
-            android.util.Log.e("AdminOverview", "ERROR: adapter is NULL!");
+        ReportQuery query = ReportQuery.all()
+            .withSearch(searchQuery)
+            .withSort("Oldest First".equals(currentSort) ? ReportQuery.SORT_OLDEST : ReportQuery.SORT_NEWEST);
+        if (!currentStatusFilter.equals("ALL")) {
+            query.withStatus(currentStatusFilter.toLowerCase());
         }
+        android.util.Log.d("AdminOverview", "Paging reports: " + query.toQueryMap());
         
-        updateEmptyState();
-    }
-    
-    private void sortReports() {
-        switch (currentSort) {
-            case "Newest First":
-                Collections.sort(filteredReports, (r1, r2) -> Long.compare(r2.getDateFiled(), r1.getDateFiled()));
-                break;
-            case "Oldest First":
-                Collections.sort(filteredReports, (r1, r2) -> Long.compare(r1.getDateFiled(), r2.getDateFiled()));
-                break;
+        if (reportPages != null) {
+            reportPages.removeObservers(this);
         }
+        Pager<String, BlotterReport> pager = new Pager<>(
+            new PagingConfig(AppConfig.PAGE_SIZE),
+            () -> new ReportPagingSource(query)
+        );
+        reportPages = PagingLiveData.cachedIn(PagingLiveData.getLiveData(pager), getLifecycle());
+        reportPages.observe(this, pagingData -> adapter.submitData(getLifecycle(), pagingData));
     }
     
     private void updateEmptyState() {
-        android.util.Log.d("AdminOverview", "updateEmptyState() - isEmpty: " + filteredReports.isEmpty() + ", size: " + filteredReports.size());
+        int itemCount = adapter != null ? adapter.getItemCount() : 0;
+        android.util.Log.d("AdminOverview", "updateEmptyState() - size: " + itemCount);
         
-        if (filteredReports.isEmpty()) {
+        if (itemCount == 0) {
             android.util.Log.d("AdminOverview", "Showing empty state overlay for filter: " + currentStatusFilter);
             if (emptyStateCardOverlay != null) {
                 emptyStateCardOverlay.setVisibility(View.VISIBLE);
@@ -275,7 +284,7 @@ public class AdminReportOversightActivity extends BaseActivity {
                 android.util.Log.d("AdminOverview", "Empty state overlay visible");
             }
         } else {
-            android.util.Log.d("AdminOverview", "Showing data - " + filteredReports.size() + " items");
+            android.util.Log.d("AdminOverview", "Showing data - " + itemCount + " items");
             if (emptyStateCardOverlay != null) {
                 emptyStateCardOverlay.setVisibility(View.GONE);
                 android.util.Log.d("AdminOverview", "Empty state overlay hidden");
@@ -352,59 +361,110 @@ public class AdminReportOversightActivity extends BaseActivity {
             return;
         }
         
-        // Online - load from API
-        android.util.Log.d("AdminOverview", "🌐 Loading all reports from API");
+        // Online - page from API
+        android.util.Log.d("AdminOverview", "🌐 Paging reports from API");
         loadReportsViaApi();
     }
     
     /**
-     * Pure Online: Load all reports via API (Neon database only)
+     * Pure Online: Page reports via API (Neon database only)
+     * Only the first page is fetched up front; the rest loads as the list scrolls
      */
     private void loadReportsViaApi() {
-        ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
+        if (reportPages == null) {
+            filterReports();
+        } else if (adapter != null) {
+            adapter.refresh();
+        }
+    }
+    
+    /**
+     * Live updates while the screen is visible: pushed "report changed" events rebind
+     * just those rows; list-shape changes (or polling fallback ticks) refresh the pages
+     */
+    private void setupChangeFeed() {
+        changeFeed = new ReportChangeFeed(new ReportChangeFeed.Listener() {
             @Override
-            public void onSuccess(List<BlotterReport> apiReports) {
-                android.util.Log.d("AdminOverview", "✅ Loaded " + apiReports.size() + " reports from API");
-                
-                runOnUiThread(() -> {
-                    allReports.clear();
-                    if (apiReports != null) {
-                        allReports.addAll(apiReports);
+            public void onReportsChanged(Set<Integer> reportIds) {
+                if (isFinishing() || isDestroyed()) return;
+                // A status edit can move a row in or out of a filtered/searched list
+                if (!"ALL".equals(currentStatusFilter) || !searchQuery.isEmpty()) {
+                    refreshList();
+                    return;
+                }
+                for (int reportId : reportIds) {
+                    if (adapter != null && adapter.isLoaded(reportId)) {
+                        refreshRow(reportId);
                     }
-                    android.util.Log.d("AdminOverview", "allReports now has " + allReports.size() + " items");
-                    filterReports();
-                    updateEmptyState();
-                });
+                }
             }
             
             @Override
-            public void onError(String errorMessage) {
-                android.util.Log.e("AdminOverview", "❌ Failed to load reports: " + errorMessage);
-                runOnUiThread(() -> {
-                    Toast.makeText(AdminReportOversightActivity.this, "Failed to load reports", Toast.LENGTH_SHORT).show();
-                    updateEmptyState();
-                });
+            public void onListChanged() {
+                if (isFinishing() || isDestroyed()) return;
+                refreshList();
             }
         });
     }
     
-    private void startPeriodicRefresh() {
-        android.os.Handler handler = new android.os.Handler();
-        Runnable refreshRunnable = new Runnable() {
-            public void run() {
-                if (!isFinishing() && !isDestroyed()) {
-                    loadReports();
+    private void refreshList() {
+        if (adapter != null) {
+            adapter.clearPatches();
+            pollBaseline = adapter.loadedFingerprint();
+            pollReloadStarted = false;
+        }
+        loadReports();
+    }
+    
+    /**
+     * Tells the feed whether the reload it triggered changed the list, so quiet polls back off
+     */
+    private void reportPollResult() {
+        if (pollBaseline == null || !pollReloadStarted) return;
+        boolean changed = adapter.loadedFingerprint() != pollBaseline;
+        pollBaseline = null;
+        if (changeFeed != null) changeFeed.onPollResult(changed);
+    }
+    
+    private void refreshRow(int reportId) {
+        // The feed says it changed on the server - a memoized copy would be stale
+        com.example.blottermanagementsystem.data.api.ApiClient.invalidateReport(reportId);
+        com.example.blottermanagementsystem.utils.ApiClient.getReportById(reportId,
+            new com.example.blottermanagementsystem.utils.ApiClient.ApiCallback<BlotterReport>() {
+                @Override
+                public void onSuccess(BlotterReport report) {
+                    runOnUiThread(() -> {
+                        if (adapter != null && !adapter.updateReport(report)) {
+                            android.util.Log.d("AdminOverview", "Report " + reportId + " no longer loaded");
+                        }
+                    });
                 }
-                handler.postDelayed(this, 15000);
-            }
-        };
-        handler.postDelayed(refreshRunnable, 15000);
+                
+                @Override
+                public void onError(String errorMessage) {
+                    android.util.Log.w("AdminOverview", "⚠️ Could not refresh report " + reportId + ": " + errorMessage);
+                }
+            });
     }
     
     @Override
     protected void onResume() {
         super.onResume();
         loadReports();
+        if (changeFeed != null) changeFeed.start();
+    }
+    
+    @Override
+    protected void onPause() {
+        if (changeFeed != null) changeFeed.stop();
+        super.onPause();
+    }
+    
+    @Override
+    protected void onDestroy() {
+        searchHandler.removeCallbacks(searchRunnable);
+        if (searchEngine != null) searchEngine.cancel();
+        super.onDestroy();
     }
     
     // ✅ Setup search suggestions
@@ -436,35 +496,18 @@ public class AdminReportOversightActivity extends BaseActivity {
             return;
         }
         
-        adapter.clear();
-        
-        if (query.isEmpty()) {
+        if (query.trim().isEmpty()) {
+            searchEngine.cancel();
+            adapter.clear();
             return;
         }
         
-        String queryLower = query.toLowerCase();
-        java.util.Set<String> suggestions = new java.util.HashSet<>();
-        
-        // Generate suggestions from current reports
-        for (BlotterReport report : allReports) {
-            // Add case number suggestions
-            if (report.getCaseNumber() != null && report.getCaseNumber().toLowerCase().contains(queryLower)) {
-                suggestions.add(report.getCaseNumber());
-            }
-            
-            // Add incident type suggestions
-            if (report.getIncidentType() != null && report.getIncidentType().toLowerCase().contains(queryLower)) {
-                suggestions.add(report.getIncidentType());
-            }
-            
-            // Add complainant name suggestions
-            if (report.getComplainantName() != null && report.getComplainantName().toLowerCase().contains(queryLower)) {
-                suggestions.add(report.getComplainantName());
-            }
-        }
-        
-        // Add suggestions to adapter
-        adapter.addAll(new java.util.ArrayList<>(suggestions));
-        adapter.notifyDataSetChanged();
+        // Ranked prefix match on the local full-text index, debounced off the main thread
+        searchEngine.search(query, (input, reports, suggestions) -> {
+            if (isFinishing() || isDestroyed()) return;
+            adapter.clear();
+            adapter.addAll(suggestions);
+            adapter.notifyDataSetChanged();
+        });
     }
 }
@@ -24,6 +24,7 @@ import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
 import com.example.blottermanagementsystem.utils.MediaManager;
+import com.example.blottermanagementsystem.utils.MediaUploadHelper;
 import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PermissionHelper;
 import com.example.blottermanagementsystem.utils.PhoneNumberValidator;
@@ -73,6 +74,8 @@ public class EditReportActivity extends BaseActivity {
     // Data
     private List<Uri> imageList = new ArrayList<>();
     private List<Uri> videoList = new ArrayList<>();
+    // Media the report already had - only newly added files are uploaded on save
+    private final java.util.Set<Uri> existingMedia = new java.util.HashSet<>();
     
     // Utilities
     private MediaManager mediaManager;
@@ -572,6 +575,7 @@ public class EditReportActivity extends BaseActivity {
                 }
                 
                 imageList.add(uri);
+                existingMedia.add(uri);
             }
             imageAdapter.notifyDataSetChanged();
             updateImageView();
@@ -594,6 +598,7 @@ public class EditReportActivity extends BaseActivity {
                 }
                 
                 videoList.add(uri);
+                existingMedia.add(uri);
             }
             videoAdapter.notifyDataSetChanged();
             updateVideoView();
@@ -1026,6 +1031,10 @@ public class EditReportActivity extends BaseActivity {
             public void onSuccess(BlotterReport result) {
                 android.util.Log.d("EditReport", "✅ Report updated successfully via API - Report ID: " + result.getId());
                 
+                // Upload only the files added in this edit, in the background and resumable
+                MediaUploadHelper.queueReportMedia(getApplicationContext(), reportId,
+                    addedSince(imageList), addedSince(videoList));
+                
                 com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
                 Toast.makeText(EditReportActivity.this, "Report updated successfully!", Toast.LENGTH_SHORT).show();
                 
@@ -1047,6 +1056,14 @@ public class EditReportActivity extends BaseActivity {
         });
     }
     
+    private List<Uri> addedSince(List<Uri> current) {
+        List<Uri> added = new ArrayList<>();
+        for (Uri uri : current) {
+            if (!existingMedia.contains(uri)) added.add(uri);
+        }
+        return added;
+    }
+    
     @Override
     protected void onDestroy() {
         super.onDestroy();
@@ -15,6 +15,10 @@ import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.RoleAccessControl;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.ApiClient;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
@@ -28,6 +32,11 @@ public class HearingCalendarActivity extends BaseActivity {
     private NetworkMonitor networkMonitor;
     private long selectedDate;
     
+    // Hearings of the month the calendar is on; day taps filter this instead of refetching
+    private YearMonth loadedMonth;
+    private YearMonth loadingMonth;
+    private List<Hearing> monthHearings = new ArrayList<>();
+    
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -81,6 +90,12 @@ public class HearingCalendarActivity extends BaseActivity {
     }
     
     private void loadHearingsForDate(long date) {
+        YearMonth month = YearMonth.from(toLocalDate(date));
+        if (month.equals(loadedMonth)) {
+            showHearingsForDate(date);
+            return;
+        }
+        
         if (!networkMonitor.isOnline()) {
             Toast.makeText(this, "No internet connection", Toast.LENGTH_SHORT).show();
             recyclerView.setVisibility(View.GONE);
@@ -88,30 +103,20 @@ public class HearingCalendarActivity extends BaseActivity {
             return;
         }
         
-        // Load from API (pure online)
-        ApiClient.getHearingsCalendar(new ApiClient.ApiCallback<List<Hearing>>() {
+        // Load only the visible month from the API (pure online)
+        loadingMonth = month;
+        long monthStart = Hearing.startOfDay(month.atDay(1));
+        long monthEnd = Hearing.startOfDay(month.plusMonths(1).atDay(1));
+        ApiClient.getHearingsCalendar(monthStart, monthEnd, new ApiClient.ApiCallback<List<Hearing>>() {
             @Override
-            public void onSuccess(List<Hearing> allHearings) {
+            public void onSuccess(List<Hearing> hearings) {
                 if (isFinishing() || isDestroyed()) return;
-                
-                // Filter hearings for selected date
-                Calendar selectedCal = Calendar.getInstance();
-                selectedCal.setTimeInMillis(date);
-                
-                // Show all hearings for now (date filtering can be added later)
-                List<Hearing> hearingsForDate = allHearings;
+                if (!month.equals(loadingMonth)) return; // User already moved to another month
                 
                 runOnUiThread(() -> {
-                    tvSelectedDate.setText(android.text.format.DateFormat.format("MMMM dd, yyyy", date));
-                    
-                    if (hearingsForDate.isEmpty()) {
-                        recyclerView.setVisibility(View.GONE);
-                        tvEmpty.setVisibility(View.VISIBLE);
-                    } else {
-                        recyclerView.setVisibility(View.VISIBLE);
-                        tvEmpty.setVisibility(View.GONE);
-                        adapter.setHearings(hearingsForDate);
-                    }
+                    loadedMonth = month;
+                    monthHearings = hearings;
+                    showHearingsForDate(selectedDate);
                 });
             }
             
@@ -129,6 +134,31 @@ public class HearingCalendarActivity extends BaseActivity {
         });
     }
     
+    private void showHearingsForDate(long date) {
+        // Filter the month's hearings for the selected date
+        List<Hearing> hearingsForDate = new ArrayList<>();
+        for (Hearing hearing : monthHearings) {
+            if (isSameDay(hearing.resolveScheduledAt(), date)) {
+                hearingsForDate.add(hearing);
+            }
+        }
+        
+        tvSelectedDate.setText(android.text.format.DateFormat.format("MMMM dd, yyyy", date));
+        
+        if (hearingsForDate.isEmpty()) {
+            recyclerView.setVisibility(View.GONE);
+            tvEmpty.setVisibility(View.VISIBLE);
+        } else {
+            recyclerView.setVisibility(View.VISIBLE);
+            tvEmpty.setVisibility(View.GONE);
+            adapter.setHearings(hearingsForDate);
+        }
+    }
+    
+    private static LocalDate toLocalDate(long millis) {
+        return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+    
     private boolean isSameDay(long date1, long date2) {
         Calendar cal1 = Calendar.getInstance();
         Calendar cal2 = Calendar.getInstance();
@@ -134,23 +134,16 @@ public class HearingsActivity extends BaseActivity {
         String userId = preferencesManager.getUserId();
         String userRole = preferencesManager.getUserRole();
 
-        ApiClient.getHearings(new ApiClient.ApiCallback<List<Hearing>>() {
+        // Officers and admins see every hearing; users only their own, filtered while streaming
+        boolean seesAll = "OFFICER".equalsIgnoreCase(userRole) || "ADMIN".equalsIgnoreCase(userRole);
+        java.util.function.Predicate<Hearing> filter = seesAll ? null
+                : hearing -> hearing.getUserId() != null && hearing.getUserId().equals(userId);
+
+        ApiClient.getHearings(filter, new ApiClient.ApiCallback<List<Hearing>>() {
             @Override
-            public void onSuccess(List<Hearing> apiHearings) {
+            public void onSuccess(List<Hearing> userHearings) {
                 if (isFinishing() || isDestroyed()) return;
 
-                List<Hearing> userHearings = new ArrayList<>();
-
-                if ("OFFICER".equalsIgnoreCase(userRole) || "ADMIN".equalsIgnoreCase(userRole)) {
-                    userHearings.addAll(apiHearings);
-                } else {
-                    for (Hearing hearing : apiHearings) {
-                        if (hearing.getUserId() != null && hearing.getUserId().equals(userId)) {
-                            userHearings.add(hearing);
-                        }
-                    }
-                }
-
                 runOnUiThread(() -> {
                     allHearings.clear();
                     allHearings.addAll(userHearings);
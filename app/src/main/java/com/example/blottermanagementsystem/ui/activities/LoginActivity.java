@@ -16,6 +16,7 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.data.api.BackendWarmup;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.NeonAuthManager;
 import com.google.android.gms.auth.api.signin.GoogleSignIn;
@@ -44,6 +45,9 @@ public class LoginActivity extends BaseActivity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_login);
         
+        // No-op if the splash already woke the backend recently; covers a login screen left open
+        BackendWarmup.start(this);
+        
         initViews();
         setupGoogleSignIn();
         setupListeners();
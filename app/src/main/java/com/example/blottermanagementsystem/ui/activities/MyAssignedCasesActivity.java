@@ -64,6 +64,18 @@ public class MyAssignedCasesActivity extends BaseActivity {
         recyclerCases.setAdapter(adapter);
     }
     
+    private java.util.function.Predicate<BlotterReport> isAssignedToMe() {
+        String officerIdStr = preferencesManager.getUserId();
+        int officerId = 0;
+        try {
+            officerId = Integer.parseInt(officerIdStr);
+        } catch (NumberFormatException e) {
+            android.util.Log.e("MyAssignedCasesActivity", "Invalid officerId: " + officerIdStr);
+        }
+        final int id = officerId;
+        return report -> report.getAssignedOfficerId() != null && report.getAssignedOfficerId() == id;
+    }
+    
     private void loadAssignedCases() {
         if (!networkMonitor.isOnline()) {
             Toast.makeText(this, "No internet connection", Toast.LENGTH_SHORT).show();
@@ -73,27 +85,12 @@ public class MyAssignedCasesActivity extends BaseActivity {
         }
         
         // Load from API (pure online)
-        ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
+        // Filtered while the list streams in - only this officer's reports are kept
+        ApiClient.getAllReports(isAssignedToMe(), new ApiClient.ApiCallback<List<BlotterReport>>() {
             @Override
-            public void onSuccess(List<BlotterReport> allReports) {
+            public void onSuccess(List<BlotterReport> assignedReports) {
                 if (isFinishing() || isDestroyed()) return;
                 
-                // Filter reports assigned to this officer
-                String officerIdStr = preferencesManager.getUserId();
-                int officerId = 0;
-                try {
-                    officerId = Integer.parseInt(officerIdStr);
-                } catch (NumberFormatException e) {
-                    android.util.Log.e("MyAssignedCasesActivity", "Invalid officerId: " + officerIdStr);
-                }
-                List<BlotterReport> assignedReports = new ArrayList<>();
-                
-                for (BlotterReport report : allReports) {
-                    if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId() == officerId) {
-                        assignedReports.add(report);
-                    }
-                }
-                
                 runOnUiThread(() -> {
                     casesList.clear();
                     casesList.addAll(assignedReports);
@@ -125,45 +122,28 @@ public class MyAssignedCasesActivity extends BaseActivity {
     // Quiet loading method to prevent black screen flicker
     private void loadAssignedCasesQuietly() {
         // Load from API quietly (no loading dialog)
-        ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
+        // Filtered while the list streams in - only this officer's reports are kept
+        ApiClient.getAllReports(isAssignedToMe(), new ApiClient.ApiCallback<List<BlotterReport>>() {
             @Override
-            public void onSuccess(List<BlotterReport> allReports) {
+            public void onSuccess(List<BlotterReport> assignedReports) {
                 if (isFinishing() || isDestroyed()) return;
                 
-                // Filter reports assigned to this officer
-                String officerIdStr = preferencesManager.getUserId();
-                int officerId = 0;
-                try {
-                    officerId = Integer.parseInt(officerIdStr);
-                } catch (NumberFormatException e) {
-                    android.util.Log.e("MyAssignedCasesActivity", "Invalid officerId: " + officerIdStr);
-                }
-                List<BlotterReport> assignedReports = new ArrayList<>();
-                
-                for (BlotterReport report : allReports) {
-                    if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId() == officerId) {
-                        assignedReports.add(report);
+                // DiffUtil works out which rows changed (status edits included)
+                runOnUiThread(() -> {
+                    casesList.clear();
+                    casesList.addAll(assignedReports);
+                    if (adapter != null) {
+                        adapter.updateReports(casesList);
                     }
-                }
-                
-                // Only update if data actually changed
-                if (assignedReports.size() != casesList.size()) {
-                    runOnUiThread(() -> {
-                        casesList.clear();
-                        casesList.addAll(assignedReports);
-                        if (adapter != null) {
-                            adapter.notifyDataSetChanged();
-                        }
-                        
-                        if (assignedReports.isEmpty()) {
-                            if (emptyState != null) emptyState.setVisibility(android.view.View.VISIBLE);
-                            if (recyclerCases != null) recyclerCases.setVisibility(android.view.View.GONE);
-                        } else {
-                            if (emptyState != null) emptyState.setVisibility(android.view.View.GONE);
-                            if (recyclerCases != null) recyclerCases.setVisibility(android.view.View.VISIBLE);
-                        }
-                    });
-                }
+                    
+                    if (assignedReports.isEmpty()) {
+                        if (emptyState != null) emptyState.setVisibility(android.view.View.VISIBLE);
+                        if (recyclerCases != null) recyclerCases.setVisibility(android.view.View.GONE);
+                    } else {
+                        if (emptyState != null) emptyState.setVisibility(android.view.View.GONE);
+                        if (recyclerCases != null) recyclerCases.setVisibility(android.view.View.VISIBLE);
+                    }
+                });
             }
             
             @Override
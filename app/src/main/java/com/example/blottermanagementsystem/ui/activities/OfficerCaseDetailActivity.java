@@ -43,6 +43,8 @@ import com.example.blottermanagementsystem.data.api.ApiClient;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.TimelineUpdateManager;
 import com.example.blottermanagementsystem.utils.GlobalLoadingManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.data.model.ReportAggregate;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.chip.Chip;
@@ -97,6 +99,9 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
     private List<InvestigationStep> caseProgressSteps = new ArrayList<>();
     private List<InvestigationStep> investigationActionSteps = new ArrayList<>();
     private boolean isTimelineInitializing = false;
+    private boolean isTimelineRefreshPending = false;
+    // Latest report + children from Room; null until the first emission or if not stored locally
+    private ReportAggregate timelineAggregate;
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -125,6 +130,12 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         setupRecyclerViews();
         setupListeners();
         loadCaseDetails();
+        
+        // ✅ Timeline follows local witness/suspect/evidence/hearing/resolution writes on its own
+        database.reportAggregateDao().observeReportAggregate(reportId).observe(this, aggregate -> {
+            timelineAggregate = aggregate;
+            initializeInvestigationTimeline();
+        });
     }
     
     private void initViews() {
@@ -353,12 +364,13 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
      * Initialize the investigation timeline into two containers:
      * Container 1: Case Progress (View-Only) - Steps 1-5
      * Container 2: Investigation Actions (Interactive) - Steps 6-8
-     * ⚠️ MUST run on background thread to avoid blocking UI
+     * Built from the last observed ReportAggregate - no database access here
      */
     private void initializeInvestigationTimeline() {
-        // ✅ Prevent concurrent initialization (avoid duplicates)
+        // ✅ Prevent concurrent initialization (avoid duplicates); rebuild once the current one is done
         if (isTimelineInitializing) {
-            android.util.Log.d("OfficerCaseDetail", "⚠️ Timeline initialization already in progress, skipping...");
+            android.util.Log.d("OfficerCaseDetail", "⏳ Timeline initialization in progress, refreshing afterwards");
+            isTimelineRefreshPending = true;
             return;
         }
         
@@ -368,8 +380,10 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         caseProgressSteps.clear();
         investigationActionSteps.clear();
         
-        // Run on background thread to avoid "Cannot access database on the main thread" error
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        // ✅ Children and counts from one transaction (empty until records are stored locally)
+        final ReportAggregate aggregate = timelineAggregate;
+        
+        AppExecutors.getInstance().cpu().execute(() -> {
             
             // ===== CONTAINER 1: CASE PROGRESS (VIEW-ONLY) =====
             
@@ -421,9 +435,9 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
             // Step 4: Witnesses & Suspects
             // ✅ Check if witness AND suspect both exist
             InvestigationStep step4 = new InvestigationStep("4", "Witnesses & Suspects", "Gathering case information", "evidence_collected");
-            int witnessCount = 0; // Pure online
-            int suspectCount = 0; // Pure online
-            int evidenceCount = 0; // Pure online
+            int witnessCount = aggregate != null ? aggregate.witnessCount : 0;
+            int suspectCount = aggregate != null ? aggregate.suspectCount : 0;
+            int evidenceCount = aggregate != null ? aggregate.evidenceCount : 0;
         
         if (witnessCount > 0 && suspectCount > 0) {
             // Both witness and suspect collected - COMPLETED
@@ -446,7 +460,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         // Step 5: Hearing Scheduled
         // ✅ Check if hearing exists
         InvestigationStep step5 = new InvestigationStep("5", "Hearing Scheduled", "Court hearing date set", "hearing_scheduled");
-        int hearingCount = 0; // Pure online
+        int hearingCount = aggregate != null ? aggregate.hearingCount : 0;
         
         if (hearingCount > 0) {
             // Hearing scheduled - COMPLETED (checkmark)
@@ -469,7 +483,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         // Step 6: Resolution Documented
         // ✅ Check if resolution exists
         InvestigationStep step6 = new InvestigationStep("6", "Resolution Documented", "Case outcome documented", "resolution_documented");
-        int resolutionCount = 0; // Pure online
+        int resolutionCount = aggregate != null ? aggregate.resolutionCount : 0;
         
         if (resolutionCount > 0) {
             // Resolution documented - COMPLETED (checkmark)
@@ -496,7 +510,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
             // Check resolution type
             try {
                 java.util.List<com.example.blottermanagementsystem.data.entity.Resolution> resolutions = 
-                    new java.util.ArrayList<>(); // Pure online
+                    aggregate != null ? aggregate.resolutions : null;
                 
                 if (resolutions != null && !resolutions.isEmpty()) {
                     com.example.blottermanagementsystem.data.entity.Resolution resolution = resolutions.get(0);
@@ -583,9 +597,9 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         boolean canEnableResolution = false;
         if (hearingCount > 0) {
             try {
-                List<com.example.blottermanagementsystem.data.entity.Hearing> hearings = database.hearingDao().getHearingsByReportId(reportId);
-                if (hearings != null && !hearings.isEmpty()) {
-                    com.example.blottermanagementsystem.data.entity.Hearing hearing = hearings.get(0);
+                com.example.blottermanagementsystem.data.entity.Hearing hearing =
+                    aggregate != null ? aggregate.getLatestHearing() : null;
+                if (hearing != null) {
                     // Check if hearing is completed/cancelled OR 30 mins have passed
                     canEnableResolution = hearing.isHearingCompleted() || hearing.canEnableResolution();
                     android.util.Log.d("OfficerCaseDetail", "Hearing status: " + hearing.getStatus() + 
@@ -634,6 +648,10 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                 
                 // ✅ Reset flag to allow next initialization
                 isTimelineInitializing = false;
+                if (isTimelineRefreshPending) {
+                    isTimelineRefreshPending = false;
+                    initializeInvestigationTimeline();
+                }
             });
         });
     }
@@ -1741,40 +1759,28 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         super.onResume();
         android.util.Log.d("OfficerCaseDetail", "🔄 onResume called");
         // ✅ Refresh case details AND timeline when returning to this screen
+        // (the aggregate observer re-delivers rows written while away; this catches hearing times passing)
         if (reportId != -1) {
             android.util.Log.d("OfficerCaseDetail", "🔄 Loading case details...");
             loadCaseDetails();
-            // ✅ Delay timeline refresh to ensure data is loaded
-            new Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                android.util.Log.d("OfficerCaseDetail", "🔄 Refreshing timeline after delay...");
-                refreshInvestigationTimeline();
-            }, 1000); // 1 second delay to ensure loadCaseDetails completes
+            refreshInvestigationTimeline();
         }
     }
     
     /**
-     * Refresh the entire investigation timeline
-     * Called when returning to this activity OR when hearing time is set
+     * Rebuild the investigation timeline now
+     * Local writes reach it through the aggregate observer; this is for changes that are not
+     * rows in Room, e.g. a hearing's start time passing
      * ✅ PUBLIC - Can be called from dialog fragments
      */
     public void refreshInvestigationTimeline() {
-        // ✅ Add delay to ensure data is saved to database before refreshing
-        new Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-            android.util.Log.d("OfficerCaseDetail", "Starting timeline refresh...");
-            initializeInvestigationTimeline();
-            android.util.Log.d("OfficerCaseDetail", "Timeline refresh complete - Document Resolution button should now be enabled");
-        }, 500); // 500ms delay to ensure database write
+        android.util.Log.d("OfficerCaseDetail", "🔄 Timeline refresh requested");
+        initializeInvestigationTimeline();
     }
     
     // ✅ PUBLIC METHOD - Called directly from dialog fragments
     public void refreshTimelineDirectly() {
-        android.util.Log.d("OfficerCaseDetail", "refreshTimelineDirectly() called from dialog");
-        // Add small delay to ensure data is saved
-        new Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-            android.util.Log.d("OfficerCaseDetail", "🔄 Direct timeline refresh starting...");
-            initializeInvestigationTimeline();
-            android.util.Log.d("OfficerCaseDetail", "✅ Direct timeline refresh complete");
-        }, 300); // 300ms delay
+        refreshInvestigationTimeline();
     }
     
     /**
@@ -1,27 +1,35 @@
 package com.example.blottermanagementsystem.ui.activities;
 
+import android.content.Intent;
 import android.os.Bundle;
 import android.view.View;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.widget.Toolbar;
 import androidx.cardview.widget.CardView;
+import androidx.lifecycle.LiveData;
+import androidx.paging.LoadState;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.config.AppConfig;
+import com.example.blottermanagementsystem.data.api.ReportPage;
+import com.example.blottermanagementsystem.data.api.ReportQuery;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.example.blottermanagementsystem.ui.adapters.RecentCasesAdapter;
+import com.example.blottermanagementsystem.data.paging.ReportPagingSource;
+import com.example.blottermanagementsystem.ui.adapters.ReportPagingAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
-import com.example.blottermanagementsystem.utils.ApiClient;
 import com.example.blottermanagementsystem.utils.GlobalLoadingManager;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import kotlin.Unit;
 
 /**
  * ✅ PURE ONLINE OFFICER DASHBOARD ACTIVITY
- * ✅ All cases loaded from API (Neon database)
+ * ✅ Assigned cases paged from API (Neon database) - filtered, sorted and counted server-side
  * ✅ No local database dependencies
  */
 public class OfficerDashboardActivity extends BaseActivity {
@@ -35,8 +43,8 @@ public class OfficerDashboardActivity extends BaseActivity {
     // Data
     private PreferencesManager preferencesManager;
     private NetworkMonitor networkMonitor;
-    private List<BlotterReport> recentCases = new ArrayList<>();
-    private RecentCasesAdapter recentCaseAdapter;
+    private ReportPagingAdapter caseAdapter;
+    private LiveData<PagingData<BlotterReport>> casePages;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -48,7 +56,7 @@ public class OfficerDashboardActivity extends BaseActivity {
 
         setupToolbar();
         initViews();
-        loadData();
+        // Data loads in onResume, which always follows - loading here too fetched page one twice
     }
 
     private void setupToolbar() {
@@ -74,8 +82,23 @@ public class OfficerDashboardActivity extends BaseActivity {
 
         if (recyclerRecentCases != null) {
             recyclerRecentCases.setLayoutManager(new LinearLayoutManager(this));
-            recentCaseAdapter = new RecentCasesAdapter(recentCases);
-            recyclerRecentCases.setAdapter(recentCaseAdapter);
+            caseAdapter = new ReportPagingAdapter(report -> {
+                Intent intent = new Intent(this, OfficerCaseDetailActivity.class);
+                intent.putExtra("reportId", report.getId());
+                startActivity(intent);
+            });
+            caseAdapter.addLoadStateListener(loadStates -> {
+                LoadState refresh = loadStates.getRefresh();
+                if (refresh instanceof LoadState.NotLoading) {
+                    GlobalLoadingManager.hide();
+                    updateEmptyState();
+                } else if (refresh instanceof LoadState.Error) {
+                    GlobalLoadingManager.hide();
+                    Toast.makeText(this, "Error: " + ((LoadState.Error) refresh).getError().getMessage(), Toast.LENGTH_SHORT).show();
+                }
+                return Unit.INSTANCE;
+            });
+            recyclerRecentCases.setAdapter(caseAdapter);
         }
     }
 
@@ -95,105 +118,57 @@ public class OfficerDashboardActivity extends BaseActivity {
     }
 
     /**
-     * ✅ PURE ONLINE: Load assigned cases via API
+     * ✅ PURE ONLINE: Page assigned cases via API
+     * The server matches primary and co-assigned officers and sorts by status priority
      */
     private void loadCasesViaApi() {
-        ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
-            @Override
-            public void onSuccess(List<BlotterReport> allReports) {
-                if (isFinishing() || isDestroyed()) return;
-
-                String userId = preferencesManager.getUserId();
-
-                List<BlotterReport> assignedCases = new ArrayList<>();
-                int total = 0, active = 0, resolved = 0, pending = 0;
-
-                for (BlotterReport report : allReports) {
-                    Integer assignedId = report.getAssignedOfficerId();
-                    String status = report.getStatus() != null ? report.getStatus().toLowerCase() : "";
-
-                    boolean isAssigned = false;
-                    if (assignedId != null && assignedId.toString().equals(userId)) {
-                        isAssigned = true;
-                    }
-
-                    if (!isAssigned && report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                        String[] officerIds = report.getAssignedOfficerIds().split(",");
-                        for (String id : officerIds) {
-                            if (id.trim().equals(userId)) {
-                                isAssigned = true;
-                                break;
-                            }
-                        }
-                    }
-
-                    if (isAssigned) {
-                        total++;
-                        assignedCases.add(report);
-
-                        if ("assigned".equalsIgnoreCase(status) || "pending".equalsIgnoreCase(status)) {
-                            pending++;
-                        } else if ("ongoing".equalsIgnoreCase(status) || "in progress".equalsIgnoreCase(status) || "investigation".equalsIgnoreCase(status)) {
-                            active++;
-                        } else if ("resolved".equalsIgnoreCase(status) || "closed".equalsIgnoreCase(status) || "settled".equalsIgnoreCase(status)) {
-                            resolved++;
-                        }
-                    }
-                }
+        if (caseAdapter == null) {
+            GlobalLoadingManager.hide();
+            return;
+        }
+        if (casePages != null) {
+            caseAdapter.refresh();
+            return;
+        }
 
-                Collections.sort(assignedCases, (r1, r2) -> {
-                    int p1 = getStatusPriority(r1.getStatus() != null ? r1.getStatus().toLowerCase() : "");
-                    int p2 = getStatusPriority(r2.getStatus() != null ? r2.getStatus().toLowerCase() : "");
-                    if (p1 != p2) return Integer.compare(p1, p2);
-                    return Long.compare(r2.getDateFiled(), r1.getDateFiled());
-                });
-
-                final int finalTotal = total;
-                final int finalActive = active;
-                final int finalResolved = resolved;
-                final int finalPending = pending;
-
-                runOnUiThread(() -> {
-                    recentCases.clear();
-                    recentCases.addAll(assignedCases);
-                    if (recentCaseAdapter != null) {
-                        recentCaseAdapter.notifyDataSetChanged();
-                    }
-
-                    if (tvTotalCases != null) tvTotalCases.setText(String.valueOf(finalTotal));
-                    if (tvActiveCases != null) tvActiveCases.setText(String.valueOf(finalActive));
-                    if (tvResolvedCases != null) tvResolvedCases.setText(String.valueOf(finalResolved));
-                    if (tvPendingCases != null) tvPendingCases.setText(String.valueOf(finalPending));
-
-                    if (assignedCases.isEmpty()) {
-                        if (emptyState != null) emptyState.setVisibility(View.VISIBLE);
-                        if (recyclerRecentCases != null) recyclerRecentCases.setVisibility(View.GONE);
-                    } else {
-                        if (emptyState != null) emptyState.setVisibility(View.GONE);
-                        if (recyclerRecentCases != null) recyclerRecentCases.setVisibility(View.VISIBLE);
-                    }
+        int officerId;
+        try {
+            officerId = Integer.parseInt(preferencesManager.getUserId());
+        } catch (NumberFormatException e) {
+            GlobalLoadingManager.hide();
+            Toast.makeText(this, "Error: invalid officer account", Toast.LENGTH_SHORT).show();
+            return;
+        }
 
-                    GlobalLoadingManager.hide();
-                });
-            }
+        ReportQuery query = ReportQuery.forOfficer(officerId)
+            .withSort(ReportQuery.SORT_STATUS_PRIORITY)
+            .withCounts();
+        Pager<String, BlotterReport> pager = new Pager<>(
+            new PagingConfig(AppConfig.PAGE_SIZE),
+            () -> new ReportPagingSource(query, page -> runOnUiThread(() -> updateCounts(page)))
+        );
+        casePages = PagingLiveData.cachedIn(PagingLiveData.getLiveData(pager), getLifecycle());
+        casePages.observe(this, pagingData -> caseAdapter.submitData(getLifecycle(), pagingData));
+    }
 
-            @Override
-            public void onError(String errorMessage) {
-                if (isFinishing() || isDestroyed()) return;
+    private void updateCounts(ReportPage page) {
+        if (isFinishing() || isDestroyed()) return;
 
-                runOnUiThread(() -> {
-                    GlobalLoadingManager.hide();
-                    Toast.makeText(OfficerDashboardActivity.this, "Error: " + errorMessage, Toast.LENGTH_SHORT).show();
-                });
-            }
-        });
+        int total = page.totalCount != null ? page.totalCount : page.getAllStatusCount();
+        if (tvTotalCases != null) tvTotalCases.setText(String.valueOf(total));
+        if (tvActiveCases != null) tvActiveCases.setText(String.valueOf(page.getStatusCount("ongoing", "in progress", "investigation")));
+        if (tvResolvedCases != null) tvResolvedCases.setText(String.valueOf(page.getStatusCount("resolved", "closed", "settled")));
+        if (tvPendingCases != null) tvPendingCases.setText(String.valueOf(page.getStatusCount("assigned", "pending")));
     }
 
-    private int getStatusPriority(String status) {
-        if ("pending".equalsIgnoreCase(status) || "assigned".equalsIgnoreCase(status)) return 1;
-        if ("ongoing".equalsIgnoreCase(status) || "in progress".equalsIgnoreCase(status)) return 2;
-        if ("resolved".equalsIgnoreCase(status) || "closed".equalsIgnoreCase(status)) return 3;
-        return 4;
+    private void updateEmptyState() {
+        if (caseAdapter.getItemCount() == 0) {
+            if (emptyState != null) emptyState.setVisibility(View.VISIBLE);
+            if (recyclerRecentCases != null) recyclerRecentCases.setVisibility(View.GONE);
+        } else {
+            if (emptyState != null) emptyState.setVisibility(View.GONE);
+            if (recyclerRecentCases != null) recyclerRecentCases.setVisibility(View.VISIBLE);
+        }
     }
 
     @Override
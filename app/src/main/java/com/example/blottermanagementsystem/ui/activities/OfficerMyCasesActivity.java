@@ -543,35 +543,8 @@ public class OfficerMyCasesActivity extends BaseActivity {
                         com.example.blottermanagementsystem.data.entity.Officer officer = database.officerDao().getOfficerByUserId(userIdInt);
                         int officerId = (officer != null) ? officer.getId() : -1;
                         
-                        List<BlotterReport> reports = database.blotterReportDao().getAllReports();
-                        
-                        // Filter only officer's assigned cases
-                        List<BlotterReport> updatedCases = new ArrayList<>();
-                        for (BlotterReport report : reports) {
-                            boolean isAssignedToOfficer = false;
-                            
-                            if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId().intValue() == officerId) {
-                                isAssignedToOfficer = true;
-                            }
-                            
-                            if (!isAssignedToOfficer && report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                                String[] officerIds = report.getAssignedOfficerIds().split(",");
-                                for (String id : officerIds) {
-                                    try {
-                                        if (Integer.parseInt(id.trim()) == officerId) {
-                                            isAssignedToOfficer = true;
-                                            break;
-                                        }
-                                    } catch (NumberFormatException e) {
-                                        // Ignore
-                                    }
-                                }
-                            }
-                            
-                            if (isAssignedToOfficer) {
-                                updatedCases.add(report);
-                            }
-                        }
+                        // Officer's assigned cases (primary + co-assigned) via the assignment index
+                        List<BlotterReport> updatedCases = database.blotterReportDao().getReportsByOfficerId(officerId);
                         
                         // Update data silently
                         runOnUiThread(() -> {
@@ -4,23 +4,30 @@ import android.content.Intent;
 import android.os.Bundle;
 import android.widget.LinearLayout;
 import androidx.appcompat.widget.Toolbar;
+import androidx.paging.LoadState;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.config.AppConfig;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
-import java.util.ArrayList;
+import com.example.blottermanagementsystem.ui.adapters.ReportPagingAdapter;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executors;
+import kotlin.Unit;
 
 public class RecordsArchiveActivity extends BaseActivity {
     
     private RecyclerView recyclerArchive;
     private LinearLayout emptyState;
     private BlotterDatabase database;
-    private ReportAdapter adapter;
-    private List<BlotterReport> archivedReports = new ArrayList<>();
+    private ReportPagingAdapter adapter;
+    
+    // Resolved/closed cases make up the archive
+    private static final List<String> ARCHIVE_STATUSES = Arrays.asList("Resolved", "Closed");
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -51,41 +58,41 @@ public class RecordsArchiveActivity extends BaseActivity {
     }
     
     private void setupRecyclerView() {
-        adapter = new ReportAdapter(archivedReports, report -> {
+        adapter = new ReportPagingAdapter(report -> {
             Intent intent = new Intent(this, ReportDetailActivity.class);
             intent.putExtra("REPORT_ID", report.getId());
             startActivity(intent);
         });
+        adapter.addLoadStateListener(loadStates -> {
+            if (loadStates.getRefresh() instanceof LoadState.NotLoading) {
+                updateEmptyState();
+            }
+            return Unit.INSTANCE;
+        });
         recyclerArchive.setLayoutManager(new LinearLayoutManager(this));
         recyclerArchive.setAdapter(adapter);
     }
     
+    /**
+     * Pages the archive straight from Room. The PagingSource invalidates itself
+     * when blotter_reports changes, so there is no manual reload on resume.
+     */
     private void loadArchivedReports() {
-        Executors.newSingleThreadExecutor().execute(() -> {
-            // Get resolved/closed reports (archived)
-            List<BlotterReport> reports = database.blotterReportDao().getReportsByStatus("Resolved");
-            List<BlotterReport> closedReports = database.blotterReportDao().getReportsByStatus("Closed");
-            reports.addAll(closedReports);
-            
-            runOnUiThread(() -> {
-                archivedReports.clear();
-                archivedReports.addAll(reports);
-                adapter.updateReports(archivedReports);
-                
-                if (reports.isEmpty()) {
-                    emptyState.setVisibility(android.view.View.VISIBLE);
-                    recyclerArchive.setVisibility(android.view.View.GONE);
-                } else {
-                    emptyState.setVisibility(android.view.View.GONE);
-                    recyclerArchive.setVisibility(android.view.View.VISIBLE);
-                }
-            });
-        });
+        Pager<Integer, BlotterReport> pager = new Pager<>(
+            new PagingConfig(AppConfig.PAGE_SIZE),
+            () -> database.blotterReportDao().pageReportsByStatuses(ARCHIVE_STATUSES)
+        );
+        PagingLiveData.cachedIn(PagingLiveData.getLiveData(pager), getLifecycle())
+            .observe(this, pagingData -> adapter.submitData(getLifecycle(), pagingData));
     }
     
-    @Override
-    protected void onResume() {
-        super.onResume();
-        loadArchivedReports();
+    private void updateEmptyState() {
+        if (adapter.getItemCount() == 0) {
+            emptyState.setVisibility(android.view.View.VISIBLE);
+            recyclerArchive.setVisibility(android.view.View.GONE);
+        } else {
+            emptyState.setVisibility(android.view.View.GONE);
+            recyclerArchive.setVisibility(android.view.View.VISIBLE);
+        }
     }
 }
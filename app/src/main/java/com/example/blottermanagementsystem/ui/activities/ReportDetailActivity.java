@@ -45,7 +45,7 @@ import java.util.List;
 
 import java.text.SimpleDateFormat;
 import java.util.Locale;
-import java.util.concurrent.Executors;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import android.content.Intent;
 import androidx.core.content.FileProvider;
 import java.io.File;
@@ -596,7 +596,7 @@ public class ReportDetailActivity extends BaseActivity {
         
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Deleting report...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().network().execute(() -> {
             try {
                 // ✅ Delete from local database first
                 database.blotterReportDao().deleteReport(report);
@@ -784,7 +784,7 @@ public class ReportDetailActivity extends BaseActivity {
         // Initialize/refresh timeline on background thread (requires database access)
         // Timeline will refresh every time report is loaded (via onResume)
         // This ensures User and Admin see real-time updates from Officer actions
-        Executors.newSingleThreadExecutor().execute(this::initializeInvestigationTimeline);
+        AppExecutors.getInstance().diskIO().execute(this::initializeInvestigationTimeline);
     }
     
     /**
@@ -1061,9 +1061,12 @@ public class ReportDetailActivity extends BaseActivity {
             // Step 4: Witnesses & Suspects
             // ✅ Check if witness AND suspect both exist
             InvestigationStep step4 = new InvestigationStep("4", "Witnesses & Suspects", "Gathering case information", "evidence_collected");
-            int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
-            int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
-            int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
+            // ✅ All child counts in one query
+            com.example.blottermanagementsystem.data.dao.ReportAggregateDao.ChildCounts counts =
+                database.reportAggregateDao().getChildCounts(reportId);
+            int witnessCount = counts != null ? counts.witnessCount : 0;
+            int suspectCount = counts != null ? counts.suspectCount : 0;
+            int evidenceCount = counts != null ? counts.evidenceCount : 0;
             
             if (witnessCount > 0 && suspectCount > 0) {
                 // Both witness and suspect collected - COMPLETED
@@ -1086,7 +1089,7 @@ public class ReportDetailActivity extends BaseActivity {
             // Step 5: Hearing Scheduled
             // ✅ Show hourglass if hearing exists OR if all evidence collected (current active step)
             InvestigationStep step5 = new InvestigationStep("5", "Hearing Scheduled", "Court hearing date set", "hearing_scheduled");
-            int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
+            int hearingCount = counts != null ? counts.hearingCount : 0;
             
             if (hearingCount > 0) {
                 // Hearing scheduled - COMPLETED (checkmark)
@@ -1109,7 +1112,7 @@ public class ReportDetailActivity extends BaseActivity {
             // Step 6: Resolution Documented
             // ✅ Show hourglass if resolution exists OR if hearing scheduled (current active step)
             InvestigationStep step6 = new InvestigationStep("6", "Resolution Documented", "Case outcome documented", "resolution_documented");
-            int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+            int resolutionCount = counts != null ? counts.resolutionCount : 0;
             
             if (resolutionCount > 0) {
                 // Resolution documented - COMPLETED (checkmark)
@@ -1166,7 +1169,7 @@ public class ReportDetailActivity extends BaseActivity {
     
     // Dialog methods for viewing investigation results
     private void showWitnessesDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
                 runOnUiThread(() -> {
@@ -1185,7 +1188,7 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showSuspectsDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
                 runOnUiThread(() -> {
@@ -1204,7 +1207,7 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showEvidenceDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
                 runOnUiThread(() -> {
@@ -1223,7 +1226,7 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showHearingsDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
                 runOnUiThread(() -> {
@@ -1242,7 +1245,7 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showResolutionDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
                 runOnUiThread(() -> {
@@ -1345,7 +1348,7 @@ public class ReportDetailActivity extends BaseActivity {
         dialog.getWindow().setBackgroundDrawable(new android.graphics.drawable.ColorDrawable(android.graphics.Color.TRANSPARENT));
         
         // Reload report data from database for dynamic updates
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 // Fetch fresh data from database
                 BlotterReport freshReport = database.blotterReportDao().getReportById(reportId);
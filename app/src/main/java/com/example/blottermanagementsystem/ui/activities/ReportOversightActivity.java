@@ -229,17 +229,15 @@ public class ReportOversightActivity extends BaseActivity {
             try {
                 List<BlotterReport> reports = database.blotterReportDao().getAllReports();
                 
-                // Only update if data actually changed
-                if (reports.size() != reportsList.size()) {
-                    runOnUiThread(() -> {
-                        reportsList.clear();
-                        reportsList.addAll(reports);
-                        if (adapter != null) {
-                            adapter.notifyDataSetChanged();
-                        }
-                        updateEmptyState();
-                    });
-                }
+                // DiffUtil works out which rows changed (status edits included)
+                runOnUiThread(() -> {
+                    reportsList.clear();
+                    reportsList.addAll(reports);
+                    if (adapter != null) {
+                        adapter.updateReports(reportsList);
+                    }
+                    updateEmptyState();
+                });
             } catch (Exception e) {
                 android.util.Log.e("ReportOversight", "Error in quiet refresh: " + e.getMessage());
             }
@@ -17,7 +17,9 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.data.api.BackendWarmup;
 import com.example.blottermanagementsystem.utils.CloudinaryHelper;
+import com.example.blottermanagementsystem.utils.ColdStartMetrics;
 import com.facebook.shimmer.ShimmerFrameLayout;
 import java.util.concurrent.Executors;
 
@@ -31,12 +33,16 @@ public class SplashActivity extends AppCompatActivity {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_splash);
+        ColdStartMetrics.markSplashShown();
+        
+        // Wake the backend and open its connection while local init and the animation run
+        BackendWarmup.start(this);
         
         preferencesManager = new PreferencesManager(this);
         database = BlotterDatabase.getDatabase(this);
         
-        // Initialize API Client (Elysia Backend)
-        ApiClient.initApiClient();
+        // Initialize API Client (Elysia Backend) - BlotterApplication usually has already
+        ApiClient.ensureInitialized(this);
         
         // Initialize Cloudinary
         CloudinaryHelper.initCloudinary(this);
@@ -78,6 +84,7 @@ public class SplashActivity extends AppCompatActivity {
         // This ensures consistent flow: Onboarding → Permissions → Welcome → Dashboard
         
         android.util.Log.d("SplashActivity", "🎬 Splash complete - navigating to MainActivity for routing");
+        ColdStartMetrics.markHandoff(this);
         Intent intent = new Intent(this, MainActivity.class);
         startActivity(intent);
         finish();
@@ -139,6 +146,7 @@ public class SplashActivity extends AppCompatActivity {
                     android.util.Log.d("SplashActivity", "✅ Admin account already exists");
                 }
             }
+            ColdStartMetrics.markLocalInitDone();
         });
     }
     
@@ -15,13 +15,24 @@ import android.widget.ProgressBar;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.cardview.widget.CardView;
+import androidx.lifecycle.LiveData;
+import androidx.paging.LoadState;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.User;
-import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
+import com.example.blottermanagementsystem.config.AppConfig;
+import com.example.blottermanagementsystem.data.api.ReportPage;
+import com.example.blottermanagementsystem.data.api.ReportQuery;
+import com.example.blottermanagementsystem.data.model.ReportStatusCounts;
+import com.example.blottermanagementsystem.data.paging.ReportPagingSource;
+import com.example.blottermanagementsystem.ui.adapters.ReportPagingAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.bumptech.glide.Glide;
@@ -32,10 +43,9 @@ import com.takusemba.spotlight.shape.Circle;
 import com.takusemba.spotlight.shape.RoundedRectangle;
 import com.google.android.material.chip.Chip;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.Executors;
+import kotlin.Unit;
 
 public class UserDashboardActivity extends BaseActivity {
     
@@ -57,14 +67,16 @@ public class UserDashboardActivity extends BaseActivity {
     
     private PreferencesManager preferencesManager;
     private RecyclerView recyclerReports;
-    private ReportAdapter adapter;
-    private List<BlotterReport> reportsList = new ArrayList<>();
-    private List<BlotterReport> allReports = new ArrayList<>();
+    private ReportPagingAdapter adapter;
+    private LiveData<PagingData<BlotterReport>> reportPages;
+    private LiveData<ReportStatusCounts> localCounts;
+    private boolean serverCountsShown = false;
     private BlotterDatabase database;
     private ImageView ivUserProfile;
     private CardView ivProfilePic;
     private TextView tvNotificationBadge;
     private long backPressedTime = 0;
+    private boolean firstResume = true;
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -256,11 +268,24 @@ public class UserDashboardActivity extends BaseActivity {
     }
     
     private void setupRecyclerView() {
-        adapter = new ReportAdapter(reportsList, report -> {
+        adapter = new ReportPagingAdapter(report -> {
             Intent intent = new Intent(this, ReportDetailActivity.class);
             intent.putExtra("REPORT_ID", report.getId());
             startActivity(intent);
         });
+        adapter.addLoadStateListener(loadStates -> {
+            LoadState refresh = loadStates.getRefresh();
+            if (refresh instanceof LoadState.NotLoading) {
+                swipeRefresh.setRefreshing(false);
+                updateEmptyState();
+            } else if (refresh instanceof LoadState.Error) {
+                swipeRefresh.setRefreshing(false);
+                String errorMessage = ((LoadState.Error) refresh).getError().getMessage();
+                android.util.Log.e("UserDashboard", "❌ Failed to load reports: " + errorMessage);
+                Toast.makeText(this, "Failed to load reports: " + errorMessage, Toast.LENGTH_SHORT).show();
+            }
+            return Unit.INSTANCE;
+        });
         recyclerReports.setLayoutManager(new LinearLayoutManager(this));
         recyclerReports.setAdapter(adapter);
     }
@@ -464,6 +489,7 @@ public class UserDashboardActivity extends BaseActivity {
     
     private void loadData() {
         String userId = preferencesManager.getUserId();
+        observeLocalCounts(userId);
         
         // ✅ PURE ONLINE: Check internet first (no global loading animation)
         com.example.blottermanagementsystem.utils.NetworkMonitor networkMonitor = 
@@ -481,7 +507,8 @@ public class UserDashboardActivity extends BaseActivity {
     }
     
     /**
-     * Pure Online: Load reports via API (Neon database only)
+     * Pure Online: Page reports via API - the server filters by reporter/status
+     * and returns the status counts with the first page
      */
     private void loadReportsViaApi(String userId) {
         try {
@@ -493,69 +520,82 @@ public class UserDashboardActivity extends BaseActivity {
             android.util.Log.e("UserDashboard", "❌ Error initializing ApiClient: " + e.getMessage());
         }
         
-        com.example.blottermanagementsystem.utils.ApiClient.getAllReports(
-            new com.example.blottermanagementsystem.utils.ApiClient.ApiCallback<List<BlotterReport>>() {
-                @Override
-                public void onSuccess(List<BlotterReport> allReports) {
-                    android.util.Log.d("UserDashboard", "✅ Reports loaded from API: " + allReports.size());
-                    
-                    // Filter reports by current user
-                    List<BlotterReport> userReports = new ArrayList<>(); // Filtering by String userId
-                                        for (BlotterReport report : allReports) {
-                        if (String.valueOf(report.getReportedById()).equals(userId)) {
-                            userReports.add(report);
-                        }
-                    }
-                    
-                    // Count reports by status
-                    int pendingCount = 0, ongoingCount = 0, resolvedCount = 0;
-                    for (BlotterReport report : userReports) {
-                        String status = report.getStatus();
-                        if (status != null) {
-                            if ("pending".equalsIgnoreCase(status)) pendingCount++;
-                            else if ("ongoing".equalsIgnoreCase(status) || "in-progress".equalsIgnoreCase(status)) ongoingCount++;
-                            else if ("resolved".equalsIgnoreCase(status)) resolvedCount++;
-                        }
-                    }
-                    
-                    final int finalPending = pendingCount;
-                    final int finalOngoing = ongoingCount;
-                    final int finalResolved = resolvedCount;
-                    
-                    runOnUiThread(() -> {
-                        reportsList.clear();
-                        reportsList.addAll(userReports);
-                        adapter.notifyDataSetChanged();
-                        
-                        // Update counts
-                        tvTotalReports.setText(String.valueOf(userReports.size()));
-                        tvPendingReports.setText(String.valueOf(finalPending));
-                        tvOngoingReports.setText(String.valueOf(finalOngoing));
-                        tvResolvedReports.setText(String.valueOf(finalResolved));
-                        
-                        // Update UI visibility
-                        if (emptyStateCard != null) emptyStateCard.setVisibility(View.VISIBLE);
-                        if (userReports.isEmpty()) {
-                            if (emptyState != null) emptyState.setVisibility(View.VISIBLE);
-                            if (recyclerReports != null) recyclerReports.setVisibility(View.GONE);
-                        } else {
-                            if (emptyState != null) emptyState.setVisibility(View.GONE);
-                            if (recyclerReports != null) recyclerReports.setVisibility(View.VISIBLE);
-                        }
-                        
-                        swipeRefresh.setRefreshing(false);
-                    });
-                }
-                
-                @Override
-                public void onError(String errorMessage) {
-                    android.util.Log.e("UserDashboard", "❌ Failed to load reports: " + errorMessage);
-                    runOnUiThread(() -> {
-                        swipeRefresh.setRefreshing(false);
-                        Toast.makeText(UserDashboardActivity.this, "Failed to load reports: " + errorMessage, Toast.LENGTH_SHORT).show();
-                    });
-                }
-            });
+        if (reportPages == null) {
+            bindReportPages(userId);
+        } else {
+            adapter.refresh();
+        }
+    }
+    
+    /**
+     * (Re)builds the pager for the current user and chip filter
+     */
+    private void bindReportPages(String userId) {
+        int reporterId;
+        try {
+            reporterId = Integer.parseInt(userId);
+        } catch (NumberFormatException e) {
+            android.util.Log.e("UserDashboard", "❌ Invalid user ID: " + userId);
+            swipeRefresh.setRefreshing(false);
+            return;
+        }
+        
+        ReportQuery query = ReportQuery.forReporter(reporterId).withCounts();
+        switch (currentFilter) {
+            case "pending":
+                query.withStatuses("pending");
+                break;
+            case "ongoing":
+                query.withStatuses("ongoing", "in-progress");
+                break;
+            case "resolved":
+                query.withStatuses("resolved");
+                break;
+        }
+        
+        if (reportPages != null) {
+            reportPages.removeObservers(this);
+        }
+        Pager<String, BlotterReport> pager = new Pager<>(
+            new PagingConfig(AppConfig.PAGE_SIZE),
+            () -> new ReportPagingSource(query, page -> runOnUiThread(() -> updateCounts(page)))
+        );
+        reportPages = PagingLiveData.cachedIn(PagingLiveData.getLiveData(pager), getLifecycle());
+        reportPages.observe(this, pagingData -> adapter.submitData(getLifecycle(), pagingData));
+    }
+    
+    private void updateCounts(ReportPage page) {
+        if (page.statusCounts == null) return;
+        serverCountsShown = true;
+        showCounts(page.getAllStatusCount(), page.getStatusCount("pending"),
+            page.getStatusCount("ongoing", "in-progress"), page.getStatusCount("resolved"));
+    }
+    
+    /**
+     * Cache-first counts: one GROUP BY over the local reports, re-run when the table changes.
+     * Shown until the server's first page brings fresh counts (and whenever offline).
+     */
+    private void observeLocalCounts(String userId) {
+        if (localCounts != null) return;
+        int reporterId;
+        try {
+            reporterId = Integer.parseInt(userId);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        localCounts = database.dashboardStatsDao().observeUserCounts(reporterId);
+        localCounts.observe(this, counts -> {
+            if (serverCountsShown) return;
+            showCounts(counts.getTotal(), counts.getPending(),
+                counts.count("ongoing", "in-progress"), counts.count("resolved"));
+        });
+    }
+    
+    private void showCounts(int total, int pending, int ongoing, int resolved) {
+        if (tvTotalReports != null) tvTotalReports.setText(String.valueOf(total));
+        if (tvPendingReports != null) tvPendingReports.setText(String.valueOf(pending));
+        if (tvOngoingReports != null) tvOngoingReports.setText(String.valueOf(ongoing));
+        if (tvResolvedReports != null) tvResolvedReports.setText(String.valueOf(resolved));
     }
     
     @Override
@@ -563,84 +603,26 @@ public class UserDashboardActivity extends BaseActivity {
         super.onResume();
         // Reload profile picture in case it was updated
         loadProfilePicture();
-        // Load data silently in background (no loading animation)
-        loadDataQuietly();
+        // Load data silently in background (no loading animation);
+        // skipped right after onCreate, which has just loaded the first page
+        if (firstResume) {
+            firstResume = false;
+        } else {
+            loadDataQuietly();
+        }
         // Update notification badge
         updateNotificationBadge();
     }
     
-    // Quiet data loading without GlobalLoadingManager to prevent black screen flicker
+    // Quiet data loading without GlobalLoadingManager to prevent black screen flicker.
+    // Refreshing the pager re-reads the first page; DiffUtil only rebinds rows that changed.
     private void loadDataQuietly() {
-        String userId = preferencesManager.getUserId();
-        
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
-                
-                // Filter reports by current user
-                List<BlotterReport> userReports = new ArrayList<>(); // Filtering by String userId
-                                for (BlotterReport report : allReports) {
-                    if (String.valueOf(report.getReportedById()).equals(userId)) {
-                        userReports.add(report);
-                    }
-                }
-                
-                // Count by status
-                int totalReports = userReports.size();
-                int pendingReports = 0;
-                int ongoingReports = 0;
-                int resolvedReports = 0;
-                
-                for (BlotterReport report : userReports) {
-                    String status = report.getStatus();
-                    if (status != null && "pending".equalsIgnoreCase(status)) {
-                        pendingReports++;
-                    } else if (status != null && ("ongoing".equalsIgnoreCase(status) || "in-progress".equalsIgnoreCase(status))) {
-                        ongoingReports++;
-                    } else if (status != null && "resolved".equalsIgnoreCase(status)) {
-                        resolvedReports++;
-                    }
-                }
-                
-                final int finalTotalReports = totalReports;
-                final int finalPendingReports = pendingReports;
-                final int finalOngoingReports = ongoingReports;
-                final int finalResolvedReports = resolvedReports;
-                
-                runOnUiThread(() -> {
-                    // Update statistics quietly
-                    if (tvTotalReports != null) tvTotalReports.setText(String.valueOf(finalTotalReports));
-                    if (tvPendingReports != null) tvPendingReports.setText(String.valueOf(finalPendingReports));
-                    if (tvOngoingReports != null) tvOngoingReports.setText(String.valueOf(finalOngoingReports));
-                    if (tvResolvedReports != null) tvResolvedReports.setText(String.valueOf(finalResolvedReports));
-                    
-                    // Update recent reports list quietly
-                    reportsList.clear();
-                    if (userReports.size() > 5) {
-                        reportsList.addAll(userReports.subList(0, 5));
-                    } else {
-                        reportsList.addAll(userReports);
-                    }
-                    
-                    if (adapter != null) {
-                        adapter.notifyDataSetChanged();
-                    }
-                    
-                    // Update empty state
-                    if (userReports.isEmpty()) {
-                        if (emptyStateCard != null) emptyStateCard.setVisibility(View.VISIBLE);
-                        if (emptyState != null) emptyState.setVisibility(View.VISIBLE);
-                        if (recyclerReports != null) recyclerReports.setVisibility(View.GONE);
-                    } else {
-                        if (emptyStateCard != null) emptyStateCard.setVisibility(View.VISIBLE);
-                        if (emptyState != null) emptyState.setVisibility(View.GONE);
-                        if (recyclerReports != null) recyclerReports.setVisibility(View.VISIBLE);
-                    }
-                });
-            } catch (Exception e) {
-                android.util.Log.e("UserDashboard", "Error in quiet data loading: " + e.getMessage());
-            }
-        });
+        if (adapter == null) return;
+        if (reportPages == null) {
+            bindReportPages(preferencesManager.getUserId());
+        } else {
+            adapter.refresh();
+        }
     }
 
     private void updateNotificationBadge() {
@@ -1232,45 +1214,12 @@ public class UserDashboardActivity extends BaseActivity {
     }
     
     private void filterReports() {
-        reportsList.clear();
-        
-        switch (currentFilter) {
-            case "pending":
-                for (BlotterReport report : allReports) {
-                    String status = report.getStatus();
-                    if (status != null && "pending".equalsIgnoreCase(status)) {
-                        reportsList.add(report);
-                    }
-                }
-                break;
-            case "ongoing":
-                for (BlotterReport report : allReports) {
-                    String status = report.getStatus();
-                    if (status != null && ("ongoing".equalsIgnoreCase(status) || "in-progress".equalsIgnoreCase(status))) {
-                        reportsList.add(report);
-                    }
-                }
-                break;
-            case "resolved":
-                for (BlotterReport report : allReports) {
-                    String status = report.getStatus();
-                    if (status != null && "resolved".equalsIgnoreCase(status)) {
-                        reportsList.add(report);
-                    }
-                }
-                break;
-            case "all":
-            default:
-                reportsList.addAll(allReports);
-                break;
-        }
-        
-        adapter.notifyDataSetChanged();
-        updateEmptyState();
+        // Status filter runs server-side - rebuild the pager for the selected chip
+        bindReportPages(preferencesManager.getUserId());
     }
     
     private void updateEmptyState() {
-        if (reportsList.isEmpty()) {
+        if (adapter.getItemCount() == 0) {
             if (emptyStateCard != null) emptyStateCard.setVisibility(View.VISIBLE);
             if (emptyState != null) emptyState.setVisibility(View.VISIBLE);
             if (recyclerReports != null) recyclerReports.setVisibility(View.GONE);
@@ -104,18 +104,13 @@ public class UserViewReportsActivity extends BaseActivity {
 
         String userId = preferencesManager.getUserId();
 
-        ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
+        // Filtered while the list streams in - only this user's reports are kept
+        ApiClient.getAllReports(report -> report.getFiledById() != null && report.getFiledById().equals(userId),
+                new ApiClient.ApiCallback<List<BlotterReport>>() {
             @Override
-            public void onSuccess(List<BlotterReport> apiReports) {
+            public void onSuccess(List<BlotterReport> userReports) {
                 if (isFinishing() || isDestroyed()) return;
 
-                List<BlotterReport> userReports = new ArrayList<>();
-                for (BlotterReport report : apiReports) {
-                    if (report.getFiledById() != null && report.getFiledById().equals(userId)) {
-                        userReports.add(report);
-                    }
-                }
-
                 runOnUiThread(() -> {
                     allReports.clear();
                     allReports.addAll(userReports);
@@ -156,7 +151,7 @@ public class UserViewReportsActivity extends BaseActivity {
         }
 
         if (adapter != null) {
-            adapter.notifyDataSetChanged();
+            adapter.updateReports(filteredReports);
         }
     }
 
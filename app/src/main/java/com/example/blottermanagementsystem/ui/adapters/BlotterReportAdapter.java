@@ -6,19 +6,20 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.cardview.widget.CardView;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.utils.StatusColorUtil;
 import com.google.android.material.chip.Chip;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
-public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdapter.ReportViewHolder> {
+public class BlotterReportAdapter extends ListAdapter<BlotterReport, BlotterReportAdapter.ReportViewHolder> {
     
-    private List<BlotterReport> reports;
     private OnReportClickListener listener;
     
     public interface OnReportClickListener {
@@ -26,8 +27,9 @@ public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdap
     }
     
     public BlotterReportAdapter(List<BlotterReport> reports, OnReportClickListener listener) {
-        this.reports = reports;
+        super(new ReportDiffCallback());
         this.listener = listener;
+        updateReports(reports);
     }
     
     @NonNull
@@ -40,18 +42,12 @@ public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdap
     
     @Override
     public void onBindViewHolder(@NonNull ReportViewHolder holder, int position) {
-        BlotterReport report = reports.get(position);
-        holder.bind(report, listener);
-    }
-    
-    @Override
-    public int getItemCount() {
-        return reports.size();
+        holder.bind(getItem(position), listener);
     }
     
+    // ✅ DiffUtil against the previous list - only changed rows rebind
     public void updateReports(List<BlotterReport> newReports) {
-        this.reports = newReports;
-        notifyDataSetChanged();
+        submitList(newReports != null ? new ArrayList<>(newReports) : null);
     }
     
     static class ReportViewHolder extends RecyclerView.ViewHolder {
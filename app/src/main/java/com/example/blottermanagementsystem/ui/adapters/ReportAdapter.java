@@ -5,19 +5,24 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.utils.StatusColorUtil;
-import java.text.SimpleDateFormat;
 import com.google.android.material.chip.Chip;
 
+import java.util.ArrayList;
 import java.util.List;
 
-public class ReportAdapter extends RecyclerView.Adapter<ReportAdapter.ReportViewHolder> {
+/**
+ * ReportAdapter - List-backed report rows
+ * Updates go through DiffUtil (keyed by report id) on a background thread,
+ * so only rows that changed are rebound.
+ */
+public class ReportAdapter extends ListAdapter<BlotterReport, ReportAdapter.ReportViewHolder> {
     
-    private List<BlotterReport> reports;
     private OnReportClickListener listener;
     
     public interface OnReportClickListener {
@@ -25,37 +30,30 @@ public class ReportAdapter extends RecyclerView.Adapter<ReportAdapter.ReportView
     }
     
     public ReportAdapter(List<BlotterReport> reports, OnReportClickListener listener) {
-        this.reports = reports;
+        super(new ReportDiffCallback());
         this.listener = listener;
+        updateReports(reports);
     }
     
     @NonNull
     @Override
     public ReportViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        android.util.Log.d("ReportAdapter", "onCreateViewHolder() called");
         View view = LayoutInflater.from(parent.getContext())
             .inflate(R.layout.item_report, parent, false);
-        android.util.Log.d("ReportAdapter", "Item view inflated successfully");
         return new ReportViewHolder(view);
     }
     
     @Override
     public void onBindViewHolder(@NonNull ReportViewHolder holder, int position) {
-        BlotterReport report = reports.get(position);
-        android.util.Log.d("ReportAdapter", "Binding report at position " + position + ": " + report.getCaseNumber());
-        holder.bind(report, listener);
-    }
-    
-    @Override
-    public int getItemCount() {
-        int count = reports.size();
-        android.util.Log.d("ReportAdapter", "getItemCount() returning " + count);
-        return count;
+        holder.bind(getItem(position), listener);
     }
     
+    /**
+     * Submits a copy - callers keep reusing their own list without
+     * mutating what DiffUtil is comparing against
+     */
     public void updateReports(List<BlotterReport> newReports) {
-        this.reports = newReports;
-        notifyDataSetChanged();
+        submitList(newReports != null ? new ArrayList<>(newReports) : null);
     }
     
     public void setReports(List<BlotterReport> newReports) {
@@ -0,0 +1,34 @@
+package com.example.blottermanagementsystem.ui.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.ObjectsCompat;
+import androidx.recyclerview.widget.DiffUtil;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+
+/**
+ * DiffUtil callback for report lists - same item = same report id
+ */
+public class ReportDiffCallback extends DiffUtil.ItemCallback<BlotterReport> {
+    
+    @Override
+    public boolean areItemsTheSame(@NonNull BlotterReport oldItem, @NonNull BlotterReport newItem) {
+        return oldItem.getId() == newItem.getId();
+    }
+    
+    @Override
+    public boolean areContentsTheSame(@NonNull BlotterReport oldItem, @NonNull BlotterReport newItem) {
+        // Only fields shown in list rows
+        return oldItem.getUpdatedAt() == newItem.getUpdatedAt()
+            && oldItem.getIncidentDate() == newItem.getIncidentDate()
+            && ObjectsCompat.equals(oldItem.getCaseNumber(), newItem.getCaseNumber())
+            && ObjectsCompat.equals(oldItem.getStatus(), newItem.getStatus())
+            && ObjectsCompat.equals(oldItem.getIncidentType(), newItem.getIncidentType())
+            && ObjectsCompat.equals(oldItem.getComplainantName(), newItem.getComplainantName())
+            && ObjectsCompat.equals(oldItem.getIncidentLocation(), newItem.getIncidentLocation())
+            && ObjectsCompat.equals(oldItem.getAssignedOfficer(), newItem.getAssignedOfficer())
+            && ObjectsCompat.equals(oldItem.getAssignedOfficerId(), newItem.getAssignedOfficerId())
+            && ObjectsCompat.equals(oldItem.getAssignedOfficerIds(), newItem.getAssignedOfficerIds())
+            && ObjectsCompat.equals(oldItem.getImageUris(), newItem.getImageUris())
+            && ObjectsCompat.equals(oldItem.getVideoUris(), newItem.getVideoUris());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.blottermanagementsystem.ui.adapters;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.paging.ItemSnapshotList;
+import androidx.paging.PagingDataAdapter;
+import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ReportPagingAdapter - Paged report list (Paging 3)
+ * Same row layout and binding as ReportAdapter; rows load as the user scrolls
+ * updateReport() patches a single loaded row without reloading the pages
+ */
+public class ReportPagingAdapter extends PagingDataAdapter<BlotterReport, ReportAdapter.ReportViewHolder> {
+    
+    private final ReportAdapter.OnReportClickListener listener;
+    
+    // Rows refreshed one by one since the pages were loaded, by report id
+    private final Map<Integer, BlotterReport> patchedRows = new HashMap<>();
+    
+    public ReportPagingAdapter(ReportAdapter.OnReportClickListener listener) {
+        super(new ReportDiffCallback());
+        this.listener = listener;
+    }
+    
+    @NonNull
+    @Override
+    public ReportAdapter.ReportViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+            .inflate(R.layout.item_report, parent, false);
+        return new ReportAdapter.ReportViewHolder(view);
+    }
+    
+    @Override
+    public void onBindViewHolder(@NonNull ReportAdapter.ReportViewHolder holder, int position) {
+        BlotterReport report = getItem(position);
+        if (report != null) {
+            holder.bind(newest(report), listener);
+        }
+    }
+    
+    /**
+     * Replaces one loaded row with a fresher copy and rebinds only that row.
+     * Returns false when the report is not in the loaded pages.
+     */
+    public boolean updateReport(BlotterReport report) {
+        int position = positionOf(report.getId());
+        if (position < 0) return false;
+        patchedRows.put(report.getId(), report);
+        notifyItemChanged(position);
+        return true;
+    }
+    
+    public boolean isLoaded(int reportId) {
+        return positionOf(reportId) >= 0;
+    }
+    
+    /**
+     * Cheap fingerprint of the loaded rows (ids, order, updatedAt) - equal before and
+     * after a refresh means the refresh brought nothing new
+     */
+    public long loadedFingerprint() {
+        ItemSnapshotList<BlotterReport> items = snapshot();
+        long hash = items.size();
+        for (int i = 0; i < items.size(); i++) {
+            BlotterReport item = items.get(i);
+            if (item == null) continue;
+            hash = 31 * hash + item.getId();
+            hash = 31 * hash + item.getUpdatedAt();
+        }
+        return hash;
+    }
+    
+    private int positionOf(int reportId) {
+        ItemSnapshotList<BlotterReport> items = snapshot();
+        for (int i = 0; i < items.size(); i++) {
+            BlotterReport item = items.get(i);
+            if (item != null && item.getId() == reportId) return i;
+        }
+        return -1;
+    }
+    
+    /**
+     * Drops row patches - call before refresh() so reloaded pages are shown as-is
+     */
+    public void clearPatches() {
+        patchedRows.clear();
+    }
+    
+    // A patched row wins until the pages bring a newer copy
+    private BlotterReport newest(BlotterReport loaded) {
+        BlotterReport patched = patchedRows.get(loaded.getId());
+        if (patched == null) return loaded;
+        if (loaded.getUpdatedAt() > patched.getUpdatedAt()) {
+            patchedRows.remove(loaded.getId());
+            return loaded;
+        }
+        return patched;
+    }
+}
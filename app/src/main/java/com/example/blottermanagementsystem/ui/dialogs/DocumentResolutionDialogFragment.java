@@ -186,16 +186,16 @@ public class DocumentResolutionDialogFragment extends DialogFragment {
                             com.example.blottermanagementsystem.data.entity.BlotterReport report = database.blotterReportDao().getReportById(reportId);
                             if (report != null && report.getRespondentName() != null && !report.getRespondentName().isEmpty()) {
                                 // Try to find or create person record for respondent
-                                String respondentName = report.getRespondentName();
+                                String respondentName = report.getRespondentName().trim().replaceAll("\\s+", " ");
                                 
-                                // Search for existing person with similar name
-                                List<com.example.blottermanagementsystem.data.entity.Person> existingPersons = 
-                                    database.personDao().searchPersonByNameSimilar(respondentName);
+                                // Same full name only (case-insensitive) - a fuzzy match would file this
+                                // history under someone else; no match creates a new person instead
+                                com.example.blottermanagementsystem.data.entity.Person existingPerson = 
+                                    database.personDao().getPersonByNameIgnoreCase(respondentName);
                                 
                                 int respondentPersonId;
-                                if (existingPersons != null && !existingPersons.isEmpty()) {
-                                    // Use existing person (first match)
-                                    respondentPersonId = existingPersons.get(0).getId();
+                                if (existingPerson != null) {
+                                    respondentPersonId = existingPerson.getId();
                                     android.util.Log.d("DocumentResolution", "📌 Found existing person: " + respondentName);
                                 } else {
                                     // Create new person record for respondent
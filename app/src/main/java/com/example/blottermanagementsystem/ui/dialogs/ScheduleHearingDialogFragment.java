@@ -300,17 +300,8 @@ public class ScheduleHearingDialogFragment extends DialogFragment {
                     if (report != null && currentOfficerId != -1) {
                         String currentAssignedIds = report.getAssignedOfficerIds();
                         
-                        // Check if officer ID is already in the list
-                        boolean alreadyAssigned = false;
-                        if (currentAssignedIds != null && !currentAssignedIds.trim().isEmpty()) {
-                            String[] ids = currentAssignedIds.split(",");
-                            for (String idStr : ids) {
-                                if (Integer.parseInt(idStr.trim()) == currentOfficerId) {
-                                    alreadyAssigned = true;
-                                    break;
-                                }
-                            }
-                        }
+                        // Check if officer ID is already assigned (indexed lookup)
+                        boolean alreadyAssigned = database.reportOfficerAssignmentDao().isAssigned(report.getId(), currentOfficerId);
                         
                         // Add officer ID if not already assigned
                         if (!alreadyAssigned) {
@@ -3,9 +3,11 @@ package com.example.blottermanagementsystem.utils;
 import android.content.Context;
 
 import com.example.blottermanagementsystem.data.api.ApiService;
+import com.example.blottermanagementsystem.data.api.StreamingRequestBody;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Import LoginResponse from utils package
@@ -42,26 +44,14 @@ public class ApiClient {
      * Verify email with 6-digit code
      */
     public static void verifyEmail(String email, String code, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.verifyEmail(email, code, 
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.verifyEmail(email, code, callback);
     }
     
     /**
      * Send verification code to email
      */
     public static void sendVerificationCode(String email, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.sendVerificationCode(email, 
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.sendVerificationCode(email, callback);
     }
     
     
@@ -69,234 +59,157 @@ public class ApiClient {
      * Create a new report
      */
     public static void createReport(BlotterReport report, ApiCallback<BlotterReport> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.createReport(report, 
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<BlotterReport>() {
-                @Override
-                public void onSuccess(BlotterReport result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.createReport(report, callback);
     }
     
     /**
      * Get all reports
      */
     public static void getAllReports(ApiCallback<List<BlotterReport>> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getAllReports(
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<List<BlotterReport>>() {
-                @Override
-                public void onSuccess(List<BlotterReport> result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getAllReports(callback);
+    }
+    
+    /**
+     * Get all reports that match the filter - streamed, only matches are kept in memory
+     */
+    public static void getAllReports(Predicate<BlotterReport> filter, ApiCallback<List<BlotterReport>> callback) {
+        com.example.blottermanagementsystem.data.api.ApiClient.getAllReports(filter, callback);
+    }
+    
+    /**
+     * Query one page of reports - filtering, sorting and counts done server-side
+     */
+    public static void queryReports(com.example.blottermanagementsystem.data.api.ReportQuery query, String cursor, int limit,
+                                    ApiCallback<com.example.blottermanagementsystem.data.api.ReportPage> callback) {
+        com.example.blottermanagementsystem.data.api.ApiClient.queryReports(query, cursor, limit, callback);
     }
     
     /**
      * Get report by ID
      */
     public static void getReportById(int reportId, ApiCallback<BlotterReport> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getReportById(reportId, 
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<BlotterReport>() {
-                @Override
-                public void onSuccess(BlotterReport result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getReportById(reportId, callback);
     }
     
     /**
      * Update report
      */
     public static void updateReport(int reportId, BlotterReport report, ApiCallback<BlotterReport> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.updateReport(reportId, report, 
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<BlotterReport>() {
-                @Override
-                public void onSuccess(BlotterReport result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.updateReport(reportId, report, callback);
     }
     
     /**
      * Delete report
      */
     public static void deleteReport(int reportId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.deleteReport(reportId, 
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.deleteReport(reportId, callback);
     }
     
     /**
      * Get all hearings
      */
     public static void getHearings(ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Hearing>> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getHearings(
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Hearing>>() {
-                @Override
-                public void onSuccess(java.util.List<com.example.blottermanagementsystem.data.entity.Hearing> result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getHearings(callback);
+    }
+    
+    /**
+     * Get all hearings that match the filter - streamed, only matches are kept in memory
+     */
+    public static void getHearings(Predicate<com.example.blottermanagementsystem.data.entity.Hearing> filter,
+                                   ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Hearing>> callback) {
+        com.example.blottermanagementsystem.data.api.ApiClient.getHearings(filter, callback);
     }
     
     /**
      * Get notifications
      */
     public static void getNotifications(String userId, ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Notification>> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getNotifications(userId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Notification>>() {
-                @Override
-                public void onSuccess(java.util.List<com.example.blottermanagementsystem.data.entity.Notification> result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getNotifications(userId, callback);
     }
     
     /**
      * Get hearings calendar
      */
     public static void getHearingsCalendar(ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Hearing>> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getHearingsCalendar(
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Hearing>>() {
-                @Override
-                public void onSuccess(java.util.List<com.example.blottermanagementsystem.data.entity.Hearing> result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getHearingsCalendar(callback);
+    }
+    
+    /**
+     * Get hearings calendar for [fromMillis, toMillis) only
+     */
+    public static void getHearingsCalendar(long fromMillis, long toMillis,
+                                           ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Hearing>> callback) {
+        com.example.blottermanagementsystem.data.api.ApiClient.getHearingsCalendar(fromMillis, toMillis, callback);
     }
     
     /**
      * Mark all notifications as read
      */
     public static void markAllNotificationsAsRead(String userId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.markAllNotificationsAsRead(userId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.markAllNotificationsAsRead(userId, callback);
     }
     
     /**
      * Delete notification
      */
     public static void deleteNotification(Integer notificationId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.deleteNotification(notificationId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.deleteNotification(notificationId, callback);
     }
     
     /**
      * Forgot password
      */
     public static void forgotPassword(String email, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.forgotPassword(email,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.forgotPassword(email, callback);
     }
     
     /**
      * Reset password
      */
     public static void resetPassword(String email, String code, String newPassword, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.resetPassword(email, code, newPassword,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.resetPassword(email, code, newPassword, callback);
     }
     
     /**
      * Get admin statistics
      */
     public static void getAdminStatistics(ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getAdminStatistics(
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getAdminStatistics(callback);
     }
     
     /**
      * Get profile
      */
     public static void getProfile(String userId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getProfile(userId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String error) { callback.onError(error); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getProfile(userId, callback);
     }
     
     /**
      * Delete user
      */
     public static void deleteUser(String userId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.deleteUser(userId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.deleteUser(userId, callback);
     }
     
     /**
      * Add witness
      */
     public static void addWitness(Integer reportId, java.util.Map<String, Object> witnessData, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.addWitness(reportId, witnessData,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.addWitness(reportId, witnessData, callback);
     }
     
     /**
      * Create officer
      */
     public static void createOfficer(String firstName, String lastName, String email, String rank, String badgeNumber, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.createOfficer(firstName, lastName, email, rank, badgeNumber,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.createOfficer(firstName, lastName, email, rank, badgeNumber, callback);
     }
     
     /**
      * Register admin
      */
     public static void registerAdmin(String email, String password, String firstName, String lastName, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.registerAdmin(email, password, firstName, lastName,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.registerAdmin(email, password, firstName, lastName, callback);
     }
     
     /**
@@ -306,91 +219,49 @@ public class ApiClient {
         java.util.Map<String, String> body = new java.util.HashMap<>();
         body.put("currentPassword", currentPassword);
         body.put("newPassword", newPassword);
-        com.example.blottermanagementsystem.data.api.ApiClient.changePassword(userId, body,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.changePassword(userId, body, callback);
     }
     
     /**
      * Update officer
      */
     public static void updateOfficer(int officerId, java.util.Map<String, Object> updateData, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.updateOfficer(officerId, updateData,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.updateOfficer(officerId, updateData, callback);
     }
     
     /**
      * Delete officer
      */
     public static void deleteOfficer(int officerId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.deleteOfficer(officerId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.deleteOfficer(officerId, callback);
     }
     
     /**
      * Get admin officers
      */
     public static void getAdminOfficers(ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getAdminOfficers(
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.Officer>>() {
-                @Override
-                public void onSuccess(java.util.List<com.example.blottermanagementsystem.data.entity.Officer> result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getAdminOfficers(callback);
     }
     
     /**
      * Get assigned reports
      */
     public static void getAssignedReports(ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getAssignedReports(
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport>>() {
-                @Override
-                public void onSuccess(java.util.List<com.example.blottermanagementsystem.data.entity.BlotterReport> result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getAssignedReports(callback);
     }
     
     /**
      * Update user profile
      */
     public static void updateProfile(String userId, String firstName, String lastName, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.updateProfile(userId, firstName, lastName,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String error) { callback.onError(error); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.updateProfile(userId, firstName, lastName, callback);
     }
     
     /**
      * Get user profile
      */
     public static void getUserProfile(String userId, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.getProfile(userId,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String error) { callback.onError(error); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.getProfile(userId, callback);
     }
     
     /**
@@ -456,22 +327,25 @@ public class ApiClient {
 
     /**
      * Upload profile picture to Cloudinary
+     * @deprecated use the streamed File overload
      */
+    @Deprecated
     public static void uploadProfilePicture(String base64Image, ApiCallback<Object> callback) {
-        com.example.blottermanagementsystem.data.api.ApiClient.uploadProfilePicture(base64Image,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
-                @Override
-                public void onSuccess(Object result) { callback.onSuccess(result); }
-                @Override
-                public void onError(String errorMessage) { callback.onError(errorMessage); }
-            });
+        com.example.blottermanagementsystem.data.api.ApiClient.uploadProfilePicture(base64Image, callback);
     }
-
+    
+    /**
+     * Upload profile picture to Cloudinary - streamed multipart
+     */
+    public static void uploadProfilePicture(java.io.File imageFile, StreamingRequestBody.ProgressListener progress,
+                                            ApiCallback<Object> callback) {
+        com.example.blottermanagementsystem.data.api.ApiClient.uploadProfilePicture(imageFile, progress, callback);
+    }
+    
     /**
-     * Generic API callback interface
+     * Generic API callback interface - same shape as data.api.ApiClient.ApiCallback,
+     * so wrapper methods hand the caller's callback straight through
      */
-    public interface ApiCallback<T> {
-        void onSuccess(T result);
-        void onError(String errorMessage);
+    public interface ApiCallback<T> extends com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<T> {
     }
 }
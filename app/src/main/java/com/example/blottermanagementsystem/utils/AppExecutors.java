@@ -0,0 +1,256 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AppExecutors - App-wide execution layer
+ * Replaces per-call Executors.newSingleThreadExecutor() with shared, bounded pools:
+ *
+ * - diskIO():  Room/SQLite reads and writes
+ * - network(): Blocking network calls (uploads, sync)
+ * - cpu():     CPU-bound work (PDF, JSON, image processing)
+ * - serial():  Single lane for writes that must run in submission order
+ * - scheduled(): Shared timer for short delayed/periodic tasks (polls, debounces)
+ * - mainThread(): Posts back to the UI thread
+ *
+ * Idle pool threads time out, so a screen that is closed stops holding threads.
+ * Each pool exposes queue depth and task latency via getStats().
+ */
+public class AppExecutors {
+
+    private static final String TAG = "AppExecutors";
+
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+    private static final int DISK_IO_THREADS = 3;
+    private static final int NETWORK_THREADS = 4;
+    private static final int CPU_THREADS = Math.max(2, Math.min(CPU_COUNT - 1, 4));
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static volatile AppExecutors instance;
+
+    private final InstrumentedExecutor diskIO;
+    private final InstrumentedExecutor network;
+    private final InstrumentedExecutor cpu;
+    private final InstrumentedExecutor serial;
+    private final ScheduledThreadPoolExecutor scheduled;
+    private final Executor mainThread;
+
+    private AppExecutors() {
+        this.diskIO = new InstrumentedExecutor("db-io", DISK_IO_THREADS, Process.THREAD_PRIORITY_BACKGROUND);
+        this.network = new InstrumentedExecutor("network", NETWORK_THREADS, Process.THREAD_PRIORITY_BACKGROUND);
+        this.cpu = new InstrumentedExecutor("cpu", CPU_THREADS, Process.THREAD_PRIORITY_DEFAULT);
+        this.serial = new InstrumentedExecutor("serial", 1, Process.THREAD_PRIORITY_BACKGROUND);
+        this.scheduled = new ScheduledThreadPoolExecutor(1,
+            new NamedThreadFactory("bms-timer", Process.THREAD_PRIORITY_BACKGROUND));
+        this.scheduled.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        this.scheduled.allowCoreThreadTimeOut(true);
+        this.scheduled.setRemoveOnCancelPolicy(true);
+        this.mainThread = new MainThreadExecutor();
+    }
+
+    public static AppExecutors getInstance() {
+        if (instance == null) {
+            synchronized (AppExecutors.class) {
+                if (instance == null) {
+                    instance = new AppExecutors();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public Executor diskIO() {
+        return diskIO;
+    }
+
+    public Executor network() {
+        return network;
+    }
+
+    public Executor cpu() {
+        return cpu;
+    }
+
+    /**
+     * Single-threaded lane - tasks run one at a time, in the order submitted
+     */
+    public Executor serial() {
+        return serial;
+    }
+
+    /**
+     * One shared timer thread - keep tasks short and hand real work to another pool.
+     * Cancel your futures instead of shutting it down.
+     */
+    public ScheduledExecutorService scheduled() {
+        return scheduled;
+    }
+
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    /**
+     * Snapshot of queue depth and latency for every pool, keyed by pool name
+     */
+    public Map<String, PoolStats> getStats() {
+        Map<String, PoolStats> stats = new LinkedHashMap<>();
+        stats.put(diskIO.name, diskIO.snapshot());
+        stats.put(network.name, network.snapshot());
+        stats.put(cpu.name, cpu.snapshot());
+        stats.put(serial.name, serial.snapshot());
+        return stats;
+    }
+
+    public void logStats() {
+        for (PoolStats stats : getStats().values()) {
+            Log.d(TAG, "📊 " + stats);
+        }
+    }
+
+    /**
+     * Bounded ThreadPoolExecutor that records queue wait and run time per task
+     */
+    private static class InstrumentedExecutor implements Executor {
+        private final String name;
+        private final ThreadPoolExecutor pool;
+        private final AtomicLong completedTasks = new AtomicLong();
+        private final AtomicLong failedTasks = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong totalRunNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        InstrumentedExecutor(String name, int threads, int priority) {
+            this.name = name;
+            this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("bms-" + name, priority)
+            );
+            this.pool.allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            final long enqueuedAt = System.nanoTime();
+            pool.execute(() -> {
+                long startedAt = System.nanoTime();
+                long wait = startedAt - enqueuedAt;
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    failedTasks.incrementAndGet();
+                    Log.e(TAG, "❌ Task failed on " + name + ": " + e.getMessage(), e);
+                    throw e;
+                } finally {
+                    long run = System.nanoTime() - startedAt;
+                    completedTasks.incrementAndGet();
+                    totalWaitNanos.addAndGet(wait);
+                    totalRunNanos.addAndGet(run);
+                    updateMax(maxWaitNanos, wait);
+                    updateMax(maxRunNanos, run);
+                }
+            });
+        }
+
+        private static void updateMax(AtomicLong max, long value) {
+            long current;
+            while (value > (current = max.get())) {
+                if (max.compareAndSet(current, value)) {
+                    return;
+                }
+            }
+        }
+
+        PoolStats snapshot() {
+            PoolStats stats = new PoolStats();
+            long completed = completedTasks.get();
+            stats.name = name;
+            stats.queueDepth = pool.getQueue().size();
+            stats.activeThreads = pool.getActiveCount();
+            stats.poolSize = pool.getPoolSize();
+            stats.completedTasks = completed;
+            stats.failedTasks = failedTasks.get();
+            stats.avgWaitMs = completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / completed);
+            stats.avgRunMs = completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalRunNanos.get() / completed);
+            stats.maxWaitMs = TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+            stats.maxRunMs = TimeUnit.NANOSECONDS.toMillis(maxRunNanos.get());
+            return stats;
+        }
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final int priority;
+        private final AtomicInteger count = new AtomicInteger(1);
+
+        NamedThreadFactory(String prefix, int priority) {
+            this.prefix = prefix;
+            this.priority = priority;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(() -> {
+                Process.setThreadPriority(priority);
+                runnable.run();
+            }, prefix + "-" + count.getAndIncrement());
+        }
+    }
+
+    private static class MainThreadExecutor implements Executor {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public void execute(Runnable command) {
+            handler.post(command);
+        }
+    }
+
+    // Stats class
+    public static class PoolStats {
+        public String name;
+        public int queueDepth;
+        public int activeThreads;
+        public int poolSize;
+        public long completedTasks;
+        public long failedTasks;
+        public long avgWaitMs;
+        public long avgRunMs;
+        public long maxWaitMs;
+        public long maxRunMs;
+
+        @Override
+        public String toString() {
+            return "PoolStats{" +
+                    "name='" + name + '\'' +
+                    ", queueDepth=" + queueDepth +
+                    ", activeThreads=" + activeThreads +
+                    ", poolSize=" + poolSize +
+                    ", completedTasks=" + completedTasks +
+                    ", failedTasks=" + failedTasks +
+                    ", avgWaitMs=" + avgWaitMs +
+                    ", avgRunMs=" + avgRunMs +
+                    ", maxWaitMs=" + maxWaitMs +
+                    ", maxRunMs=" + maxRunMs +
+                    '}';
+        }
+    }
+}
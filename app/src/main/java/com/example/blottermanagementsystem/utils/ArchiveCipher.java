@@ -0,0 +1,223 @@
+package com.example.blottermanagementsystem.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.KeySpec;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * ArchiveCipher - Streaming AES-256-GCM for station archives
+ *
+ * A plain CipherInputStream cannot stream GCM on Android (the whole ciphertext is buffered
+ * until the tag is checked), so data is sealed in 64 KB segments instead:
+ *
+ *   [int header][ciphertext + 16 byte tag] ...
+ *
+ * The header holds the segment length, with the top bit marking the final segment.
+ * Nonce = 8 byte random prefix + 4 byte segment counter, and the final flag is authenticated,
+ * so reordered, dropped or truncated segments all fail to decrypt.
+ */
+public final class ArchiveCipher {
+    public static final int SALT_SIZE = 16;
+    public static final int NONCE_PREFIX_SIZE = 8;
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+    private static final int TAG_BITS = 128;
+    private static final int TAG_SIZE = TAG_BITS / 8;
+    private static final int FINAL_FLAG = 0x80000000;
+    private static final int PBKDF2_ITERATIONS = 120_000;
+    private static final int KEY_BITS = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private ArchiveCipher() {
+    }
+
+    public static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * AES key from the passphrase the station and the municipal office agreed on
+     */
+    public static SecretKey deriveKey(char[] passphrase, byte[] salt) throws IOException {
+        try {
+            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+            KeySpec spec = new PBEKeySpec(passphrase, salt, PBKDF2_ITERATIONS, KEY_BITS);
+            byte[] encoded = factory.generateSecret(spec).getEncoded();
+            return new SecretKeySpec(encoded, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Cannot derive archive key", e);
+        }
+    }
+
+    public static OutputStream encrypt(OutputStream out, SecretKey key, byte[] noncePrefix) {
+        return new EncryptingOutputStream(out, key, noncePrefix);
+    }
+
+    public static InputStream decrypt(InputStream in, SecretKey key, byte[] noncePrefix) {
+        return new DecryptingInputStream(in, key, noncePrefix);
+    }
+
+    private static byte[] nonce(byte[] prefix, int counter) {
+        return ByteBuffer.allocate(NONCE_PREFIX_SIZE + 4).put(prefix).putInt(counter).array();
+    }
+
+    private static Cipher cipher(int mode, SecretKey key, byte[] prefix, int counter, boolean last)
+            throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(mode, key, new GCMParameterSpec(TAG_BITS, nonce(prefix, counter)));
+        cipher.updateAAD(new byte[]{(byte) (last ? 1 : 0)});
+        return cipher;
+    }
+
+    private static final class EncryptingOutputStream extends FilterOutputStream {
+        private final SecretKey key;
+        private final byte[] noncePrefix;
+        private final byte[] buffer = new byte[SEGMENT_SIZE];
+        private final DataOutputStream data;
+        private int buffered;
+        private int counter;
+        private boolean closed;
+
+        EncryptingOutputStream(OutputStream out, SecretKey key, byte[] noncePrefix) {
+            super(out);
+            this.key = key;
+            this.noncePrefix = noncePrefix.clone();
+            this.data = new DataOutputStream(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (buffered == SEGMENT_SIZE) {
+                    seal(false);
+                }
+                int n = Math.min(len, SEGMENT_SIZE - buffered);
+                System.arraycopy(b, off, buffer, buffered, n);
+                buffered += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        // Segments are only sealed when full or on close - flush() cannot emit a partial one
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            try {
+                seal(true);
+                data.flush();
+            } finally {
+                out.close();
+            }
+        }
+
+        private void seal(boolean last) throws IOException {
+            try {
+                byte[] sealed = cipher(Cipher.ENCRYPT_MODE, key, noncePrefix, counter++, last)
+                        .doFinal(buffer, 0, buffered);
+                data.writeInt(last ? sealed.length | FINAL_FLAG : sealed.length);
+                data.write(sealed);
+                buffered = 0;
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Archive encryption failed", e);
+            }
+        }
+    }
+
+    private static final class DecryptingInputStream extends InputStream {
+        private final DataInputStream in;
+        private final SecretKey key;
+        private final byte[] noncePrefix;
+        private byte[] plain = new byte[0];
+        private int position;
+        private int counter;
+        private boolean finished;
+
+        DecryptingInputStream(InputStream in, SecretKey key, byte[] noncePrefix) {
+            this.in = new DataInputStream(in);
+            this.key = key;
+            this.noncePrefix = noncePrefix.clone();
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            while (position == plain.length) {
+                if (finished) return -1;
+                open();
+            }
+            int n = Math.min(len, plain.length - position);
+            System.arraycopy(plain, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        private void open() throws IOException {
+            int header;
+            try {
+                header = in.readInt();
+            } catch (EOFException e) {
+                throw new IOException("Archive is truncated", e);
+            }
+            boolean last = (header & FINAL_FLAG) != 0;
+            int length = header & ~FINAL_FLAG;
+            if (length < TAG_SIZE || length > SEGMENT_SIZE + TAG_SIZE) {
+                throw new IOException("Corrupt archive segment");
+            }
+            byte[] sealed = new byte[length];
+            in.readFully(sealed);
+            try {
+                plain = cipher(Cipher.DECRYPT_MODE, key, noncePrefix, counter++, last).doFinal(sealed);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Wrong passphrase or tampered archive", e);
+            }
+            position = 0;
+            if (last) {
+                finished = true;
+                if (in.read() != -1) {
+                    throw new IOException("Unexpected data after the final archive segment");
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -4,14 +4,16 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.net.Uri;
-import android.util.Base64;
 import android.util.Log;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.InputStream;
-import java.util.concurrent.Executors;
+import java.io.OutputStream;
 
 /**
  * CloudinaryUploadManager - Handle profile picture uploads to Cloudinary
+ * The picture is downscaled into a temp JPEG and streamed as multipart, so only the
+ * sampled bitmap is ever in memory - no byte array, no base64 string.
  */
 public class CloudinaryUploadManager {
     private static final String TAG = "CloudinaryUploadManager";
@@ -20,6 +22,9 @@ public class CloudinaryUploadManager {
     public interface UploadCallback {
         void onSuccess(String cloudinaryUrl);
         void onError(String errorMessage);
+        
+        // Upload progress 0-100, on the main thread
+        default void onProgress(int percent) {}
     }
 
     public CloudinaryUploadManager(Context context) {
@@ -30,22 +35,29 @@ public class CloudinaryUploadManager {
      * Upload image from URI to Cloudinary
      */
     public void uploadProfilePicture(Uri imageUri, UploadCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            File imageFile = null;
             try {
-                // Convert image URI to base64
-                String base64Image = convertImageToBase64(imageUri);
+                imageFile = prepareImageFile(imageUri);
                 
-                if (base64Image == null || base64Image.isEmpty()) {
-                    callback.onError("Failed to convert image to base64");
+                if (imageFile == null) {
+                    callback.onError("Failed to prepare image");
                     return;
                 }
 
-                Log.d(TAG, "📤 Uploading profile picture to Cloudinary...");
+                Log.d(TAG, "📤 Uploading profile picture to Cloudinary (" + imageFile.length() + " bytes)...");
 
+                final File uploadFile = imageFile;
+                imageFile = null; // Deleted by the callback once the upload finishes
+                
                 // Call backend upload endpoint
-                ApiClient.uploadProfilePicture(base64Image, new ApiClient.ApiCallback<Object>() {
+                ApiClient.uploadProfilePicture(uploadFile, (written, total) ->
+                    AppExecutors.getInstance().mainThread().execute(() ->
+                        callback.onProgress((int) (written * 100 / Math.max(total, 1)))),
+                    new ApiClient.ApiCallback<Object>() {
                     @Override
                     public void onSuccess(Object response) {
+                        deleteQuietly(uploadFile);
                         try {
                             // Parse response to get Cloudinary URL
                             if (response instanceof java.util.Map) {
@@ -70,11 +82,13 @@ public class CloudinaryUploadManager {
 
                     @Override
                     public void onError(String errorMessage) {
+                        deleteQuietly(uploadFile);
                         Log.e(TAG, "❌ Upload failed: " + errorMessage);
                         callback.onError(errorMessage);
                     }
                 });
             } catch (Exception e) {
+                deleteQuietly(imageFile);
                 Log.e(TAG, "Error uploading profile picture: " + e.getMessage());
                 callback.onError(e.getMessage());
             }
@@ -82,9 +96,9 @@ public class CloudinaryUploadManager {
     }
 
     /**
-     * Convert image URI to base64 string
+     * Downscale the picture to at most ~1024px and write it as JPEG to a temp file
      */
-    private String convertImageToBase64(Uri imageUri) {
+    private File prepareImageFile(Uri imageUri) {
         try {
             InputStream inputStream = context.getContentResolver().openInputStream(imageUri);
             
@@ -120,21 +134,29 @@ public class CloudinaryUploadManager {
             inputStream.close();
 
             if (bitmap != null) {
-                // Convert bitmap to base64
-                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-                bitmap.compress(Bitmap.CompressFormat.JPEG, 85, byteArrayOutputStream);
-                byte[] byteArray = byteArrayOutputStream.toByteArray();
-                
-                Log.d(TAG, "Image size: " + byteArray.length + " bytes");
+                // Compress straight to disk - the upload streams it from there
+                File file = File.createTempFile("profile_", ".jpg", context.getCacheDir());
+                try (OutputStream out = new FileOutputStream(file)) {
+                    bitmap.compress(Bitmap.CompressFormat.JPEG, 85, out);
+                } finally {
+                    bitmap.recycle();
+                }
                 
-                return Base64.encodeToString(byteArray, Base64.DEFAULT);
+                Log.d(TAG, "Image size: " + file.length() + " bytes");
+                return file;
             } else {
                 Log.e(TAG, "Failed to decode bitmap");
                 return null;
             }
         } catch (Exception e) {
-            Log.e(TAG, "Error converting image to base64: " + e.getMessage());
+            Log.e(TAG, "Error preparing image: " + e.getMessage());
             return null;
         }
     }
+
+    private static void deleteQuietly(File file) {
+        if (file != null && file.exists() && !file.delete()) {
+            Log.w(TAG, "⚠️ Could not delete temp file " + file.getName());
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * ✅ Cold-start timing for the launch path
+ * Measures, from process start: splash shown, local init done, splash handoff, and how
+ * long the backend took to answer its warmup ping. Each launch is logged and the running
+ * totals are kept in SharedPreferences so regressions show up across releases.
+ */
+public final class ColdStartMetrics {
+    
+    private static final String TAG = "ColdStartMetrics";
+    private static final String PREFS_NAME = "cold_start_metrics";
+    
+    // A ping slower than this means the backend was asleep and had to boot
+    public static final long BACKEND_COLD_THRESHOLD_MS = 5000;
+    
+    // Preference keys
+    private static final String KEY_LAUNCHES = "launches";
+    private static final String KEY_TOTAL_SPLASH_MS = "total_splash_ms";
+    private static final String KEY_TOTAL_HANDOFF_MS = "total_handoff_ms";
+    private static final String KEY_PINGS = "pings";
+    private static final String KEY_COLD_BACKEND = "cold_backend";
+    private static final String KEY_TOTAL_PING_MS = "total_ping_ms";
+    private static final String KEY_MAX_PING_MS = "max_ping_ms";
+    private static final String KEY_LAST_SPLASH_MS = "last_splash_ms";
+    private static final String KEY_LAST_LOCAL_INIT_MS = "last_local_init_ms";
+    private static final String KEY_LAST_HANDOFF_MS = "last_handoff_ms";
+    private static final String KEY_LAST_PING_MS = "last_ping_ms";
+    private static final String KEY_LAST_PING_CODE = "last_ping_code";
+    
+    private static long splashShownMs = -1;
+    private static long localInitMs = -1;
+    private static boolean launchRecorded;
+    
+    private ColdStartMetrics() {}
+    
+    /**
+     * Milliseconds since the process was started by the system
+     */
+    public static long sinceProcessStart() {
+        return SystemClock.elapsedRealtime() - Process.getStartElapsedRealtime();
+    }
+    
+    public static synchronized void markSplashShown() {
+        if (splashShownMs < 0) {
+            splashShownMs = sinceProcessStart();
+            Log.d(TAG, "📊 Splash shown at +" + splashShownMs + "ms");
+        }
+    }
+    
+    public static synchronized void markLocalInitDone() {
+        if (localInitMs < 0) {
+            localInitMs = sinceProcessStart();
+            Log.d(TAG, "📊 Local init done at +" + localInitMs + "ms");
+        }
+    }
+    
+    /**
+     * Splash hands over to the first real screen - records this launch once per process
+     */
+    public static void markHandoff(Context context) {
+        long splash;
+        long localInit;
+        long handoff = sinceProcessStart();
+        synchronized (ColdStartMetrics.class) {
+            if (launchRecorded) return;
+            launchRecorded = true;
+            splash = splashShownMs;
+            localInit = localInitMs;
+        }
+        
+        SharedPreferences prefs = prefs(context);
+        prefs.edit()
+            .putLong(KEY_LAUNCHES, prefs.getLong(KEY_LAUNCHES, 0) + 1)
+            .putLong(KEY_TOTAL_SPLASH_MS, prefs.getLong(KEY_TOTAL_SPLASH_MS, 0) + Math.max(splash, 0))
+            .putLong(KEY_TOTAL_HANDOFF_MS, prefs.getLong(KEY_TOTAL_HANDOFF_MS, 0) + handoff)
+            .putLong(KEY_LAST_SPLASH_MS, splash)
+            .putLong(KEY_LAST_LOCAL_INIT_MS, localInit)
+            .putLong(KEY_LAST_HANDOFF_MS, handoff)
+            .apply();
+        Log.i(TAG, "📊 Launch: splash +" + splash + "ms, local init +" + localInit + "ms, handoff +" + handoff + "ms");
+    }
+    
+    /**
+     * Backend warmup ping finished (httpCode -1 = no response)
+     */
+    public static void recordBackendPing(Context context, long latencyMs, int httpCode) {
+        boolean cold = latencyMs >= BACKEND_COLD_THRESHOLD_MS;
+        SharedPreferences prefs = prefs(context);
+        prefs.edit()
+            .putLong(KEY_PINGS, prefs.getLong(KEY_PINGS, 0) + 1)
+            .putLong(KEY_COLD_BACKEND, prefs.getLong(KEY_COLD_BACKEND, 0) + (cold ? 1 : 0))
+            .putLong(KEY_TOTAL_PING_MS, prefs.getLong(KEY_TOTAL_PING_MS, 0) + latencyMs)
+            .putLong(KEY_MAX_PING_MS, Math.max(prefs.getLong(KEY_MAX_PING_MS, 0), latencyMs))
+            .putLong(KEY_LAST_PING_MS, latencyMs)
+            .putInt(KEY_LAST_PING_CODE, httpCode)
+            .apply();
+        Log.i(TAG, "📊 Backend ping " + latencyMs + "ms (HTTP " + httpCode + ")" + (cold ? " - backend was cold" : ""));
+    }
+    
+    public static Stats getStats(Context context) {
+        SharedPreferences prefs = prefs(context);
+        Stats stats = new Stats();
+        stats.launches = prefs.getLong(KEY_LAUNCHES, 0);
+        stats.pings = prefs.getLong(KEY_PINGS, 0);
+        stats.coldBackendPings = prefs.getLong(KEY_COLD_BACKEND, 0);
+        stats.avgSplashMs = stats.launches > 0 ? prefs.getLong(KEY_TOTAL_SPLASH_MS, 0) / stats.launches : 0;
+        stats.avgHandoffMs = stats.launches > 0 ? prefs.getLong(KEY_TOTAL_HANDOFF_MS, 0) / stats.launches : 0;
+        stats.avgPingMs = stats.pings > 0 ? prefs.getLong(KEY_TOTAL_PING_MS, 0) / stats.pings : 0;
+        stats.maxPingMs = prefs.getLong(KEY_MAX_PING_MS, 0);
+        stats.lastSplashMs = prefs.getLong(KEY_LAST_SPLASH_MS, -1);
+        stats.lastLocalInitMs = prefs.getLong(KEY_LAST_LOCAL_INIT_MS, -1);
+        stats.lastHandoffMs = prefs.getLong(KEY_LAST_HANDOFF_MS, -1);
+        stats.lastPingMs = prefs.getLong(KEY_LAST_PING_MS, -1);
+        stats.lastPingCode = prefs.getInt(KEY_LAST_PING_CODE, -1);
+        return stats;
+    }
+    
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+    
+    // Stats class
+    public static class Stats {
+        public long launches;
+        public long pings;
+        public long coldBackendPings;
+        public long avgSplashMs;
+        public long avgHandoffMs;
+        public long avgPingMs;
+        public long maxPingMs;
+        public long lastSplashMs;
+        public long lastLocalInitMs;
+        public long lastHandoffMs;
+        public long lastPingMs;
+        public int lastPingCode;
+        
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "launches=" + launches +
+                    ", avgSplashMs=" + avgSplashMs +
+                    ", avgHandoffMs=" + avgHandoffMs +
+                    ", pings=" + pings +
+                    ", coldBackendPings=" + coldBackendPings +
+                    ", avgPingMs=" + avgPingMs +
+                    ", maxPingMs=" + maxPingMs +
+                    ", lastHandoffMs=" + lastHandoffMs +
+                    ", lastPingMs=" + lastPingMs +
+                    ", lastPingCode=" + lastPingCode +
+                    '}';
+        }
+    }
+}
@@ -3,13 +3,8 @@ package com.example.blottermanagementsystem.utils;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.graphics.Canvas;
-import android.graphics.Paint;
-import android.graphics.pdf.PdfDocument;
 import android.net.Uri;
 import android.os.Environment;
-import android.print.PrintAttributes;
-import android.print.pdf.PrintedPdfDocument;
 import android.util.Log;
 
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
@@ -19,12 +14,14 @@ import com.example.blottermanagementsystem.data.entity.Hearing;
 import com.example.blottermanagementsystem.data.entity.Resolution;
 import com.example.blottermanagementsystem.data.entity.Suspect;
 import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.data.model.ReportAggregate;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -37,8 +34,16 @@ public class ComprehensivePdfGenerator {
     private static final int MARGIN = 30;
     private static final int LINE_HEIGHT = 14;
     private static final int HEADER_COLOR = 0xFF1E88E5; // Electric blue
-    private static final int TEXT_COLOR = 0xFF000000; // Black
-    private static final int BORDER_COLOR = 0xFFCCCCCC; // Light gray
+    
+    // Cached formats - SimpleDateFormat is not thread-safe, so one per thread
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = ThreadLocal.withInitial(
+        () -> new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault()));
+    private static final ThreadLocal<SimpleDateFormat> DATE_TIME_FORMAT = ThreadLocal.withInitial(
+        () -> new SimpleDateFormat("MMM dd, yyyy hh:mm a", Locale.getDefault()));
+    private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = ThreadLocal.withInitial(
+        () -> new SimpleDateFormat("hh:mm a", Locale.getDefault()));
+    private static final ThreadLocal<SimpleDateFormat> FOOTER_FORMAT = ThreadLocal.withInitial(
+        () -> new SimpleDateFormat("MMM dd, yyyy 'at' hh:mm a", Locale.getDefault()));
     
     public interface PdfGenerationCallback {
         void onSuccess(String filePath);
@@ -55,21 +60,17 @@ public class ComprehensivePdfGenerator {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(context);
                 
-                // Fetch all data from database
-                BlotterReport report = database.blotterReportDao().getReportById(reportId);
-                List<Witness> witnesses = database.witnessDao().getWitnessesByReport(reportId);
-                List<Suspect> suspects = database.suspectDao().getSuspectsByReport(reportId);
-                List<Evidence> evidences = database.evidenceDao().getEvidenceByReport(reportId);
-                List<Hearing> hearings = database.hearingDao().getHearingsByReport(reportId);
-                List<Resolution> resolutions = database.resolutionDao().getResolutionsByReport(reportId);
+                // Report and all its children in one transaction
+                ReportAggregate aggregate = database.reportAggregateDao().getReportAggregate(reportId);
                 
-                if (report == null) {
+                if (aggregate == null || aggregate.report == null) {
                     callback.onError("Report not found");
                     return;
                 }
                 
                 // Create PDF based on role
-                String filePath = createPdf(context, report, witnesses, suspects, evidences, hearings, resolutions, userRole, context);
+                String filePath = createPdf(context, aggregate.report, aggregate.witnesses, aggregate.suspects,
+                        aggregate.evidence, aggregate.hearings, aggregate.resolutions, userRole, context);
                 
                 if (filePath != null) {
                     callback.onSuccess(filePath);
@@ -86,407 +87,168 @@ public class ComprehensivePdfGenerator {
     private static String createPdf(Context context, BlotterReport report, List<Witness> witnesses,
                                    List<Suspect> suspects, List<Evidence> evidences,
                                    List<Hearing> hearings, List<Resolution> resolutions, String userRole, Context appContext) {
-        try {
-            // Save to Downloads folder
-            File exportDir = new File(Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS), "BlotterReports");
-            if (!exportDir.exists()) {
-                exportDir.mkdirs();
-            }
-            
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault()).format(new Date());
-            String fileName = "comprehensive_report_" + report.getCaseNumber() + "_" + timestamp + ".pdf";
-            File file = new File(exportDir, fileName);
-            
-            PdfDocument pdfDocument = new PdfDocument();
-            
-            // Single Page: Role-based content
-            addSinglePageReport(pdfDocument, report, witnesses, suspects, evidences, hearings, resolutions, userRole, appContext);
+        // Save to Downloads folder
+        File exportDir = new File(Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS), "BlotterReports");
+        if (!exportDir.exists()) {
+            exportDir.mkdirs();
+        }
+        
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault()).format(new Date());
+        String fileName = "comprehensive_report_" + report.getCaseNumber() + "_" + timestamp + ".pdf";
+        File file = new File(exportDir, fileName);
+        
+        try (PdfLayoutEngine engine = new PdfLayoutEngine(new FileOutputStream(file), PAGE_WIDTH, PAGE_HEIGHT, MARGIN)) {
+            engine.setAccentColor(HEADER_COLOR);
+            engine.setFooterText("Generated on " + FOOTER_FORMAT.get().format(new Date()));
             
-            // Write PDF to file
-            FileOutputStream fos = new FileOutputStream(file);
-            pdfDocument.writeTo(fos);
-            pdfDocument.close();
-            fos.close();
+            // Role-based content, flowing onto as many pages as it needs
+            addReportContent(engine, report, witnesses, suspects, evidences, hearings, resolutions, userRole, appContext);
             
-            Log.d(TAG, "Comprehensive PDF generated: " + file.getAbsolutePath());
-            return file.getAbsolutePath();
+            Log.d(TAG, "Comprehensive PDF generated: " + file.getAbsolutePath() + " (" + engine.getPageCount() + " pages)");
         } catch (IOException e) {
             Log.e(TAG, "Error creating PDF", e);
+            file.delete();
             return null;
         }
+        return file.getAbsolutePath();
     }
     
     /**
-     * Single Page: Role-based content - Professional table layout
+     * Role-based content - Professional table layout
      */
-    private static void addSinglePageReport(PdfDocument pdfDocument, BlotterReport report,
-                                           List<Witness> witnesses, List<Suspect> suspects,
-                                           List<Evidence> evidences, List<Hearing> hearings,
-                                           List<Resolution> resolutions, String userRole, Context context) {
-        PdfDocument.PageInfo pageInfo = new PdfDocument.PageInfo.Builder(PAGE_WIDTH, PAGE_HEIGHT, 1).create();
-        PdfDocument.Page page = pdfDocument.startPage(pageInfo);
-        Canvas canvas = page.getCanvas();
-        Paint paint = createPaint(10);
-        Paint headerPaint = createPaint(10);
-        headerPaint.setColor(HEADER_COLOR);
-        
-        int y = MARGIN;
-        int contentWidth = PAGE_WIDTH - (MARGIN * 2);
-        
+    private static void addReportContent(PdfLayoutEngine engine, BlotterReport report,
+                                         List<Witness> witnesses, List<Suspect> suspects,
+                                         List<Evidence> evidences, List<Hearing> hearings,
+                                         List<Resolution> resolutions, String userRole, Context context) throws IOException {
         // Header - Centered with blue background
-        Paint headerBgPaint = new Paint();
-        headerBgPaint.setColor(HEADER_COLOR);
-        canvas.drawRect(MARGIN, y - LINE_HEIGHT, PAGE_WIDTH - MARGIN, y + LINE_HEIGHT + 5, headerBgPaint);
-        
-        paint.setTextSize(20);
-        paint.setFakeBoldText(true);
-        paint.setColor(0xFFFFFFFF); // White text
-        float headerWidth = paint.measureText("BLOTTER REPORT");
-        canvas.drawText("BLOTTER REPORT", (PAGE_WIDTH - headerWidth) / 2, y + 5, paint);
-        y += LINE_HEIGHT * 2.5f;
-        
-        paint.setColor(TEXT_COLOR); // Reset to black
-        
-        paint.setTextSize(10);
-        paint.setFakeBoldText(false);
+        engine.banner("BLOTTER REPORT", 20);
         
         // Case Information Table
-        y = drawSectionHeader(canvas, paint, "CASE INFORMATION", y, contentWidth);
-        y += LINE_HEIGHT / 2;
-        y = drawTableRow(canvas, paint, "Case Number", report.getCaseNumber() != null ? report.getCaseNumber() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Status", report.getStatus() != null ? report.getStatus() : "Pending", y, contentWidth);
-        SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
-        y = drawTableRow(canvas, paint, "Date Filed", report.getIncidentDate() > 0 ? dateFormat.format(new Date(report.getIncidentDate())) : "N/A", y, contentWidth);
-        y += LINE_HEIGHT;
+        engine.sectionHeader("CASE INFORMATION");
+        engine.labelValue("Case Number", report.getCaseNumber());
+        engine.labelValue("Status", report.getStatus() != null ? report.getStatus() : "Pending");
+        engine.labelValue("Date Filed", report.getIncidentDate() > 0 ? DATE_FORMAT.get().format(new Date(report.getIncidentDate())) : "N/A");
+        engine.space(LINE_HEIGHT);
         
         // Complainant Information Table
-        y = drawSectionHeader(canvas, paint, "COMPLAINANT INFORMATION", y, contentWidth);
-        y += LINE_HEIGHT / 2;
-        y = drawTableRow(canvas, paint, "Name", report.getComplainantName() != null ? report.getComplainantName() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Contact", report.getComplainantContact() != null ? report.getComplainantContact() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Address", report.getComplainantAddress() != null ? report.getComplainantAddress() : "N/A", y, contentWidth);
-        y += LINE_HEIGHT;
+        engine.sectionHeader("COMPLAINANT INFORMATION");
+        engine.labelValue("Name", report.getComplainantName());
+        engine.labelValue("Contact", report.getComplainantContact());
+        engine.labelValue("Address", report.getComplainantAddress());
+        engine.space(LINE_HEIGHT);
         
         // Incident Details Table
-        y = drawSectionHeader(canvas, paint, "INCIDENT DETAILS", y, contentWidth);
-        y += LINE_HEIGHT / 2;
-        y = drawTableRow(canvas, paint, "Type", report.getIncidentType() != null ? report.getIncidentType() : "N/A", y, contentWidth);
-        SimpleDateFormat dateTimeFormat = new SimpleDateFormat("MMM dd, yyyy hh:mm a", Locale.getDefault());
-        y = drawTableRow(canvas, paint, "Date", report.getIncidentDate() > 0 ? dateTimeFormat.format(new Date(report.getIncidentDate())) : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Time", report.getIncidentDate() > 0 ? new SimpleDateFormat("hh:mm a", Locale.getDefault()).format(new Date(report.getIncidentDate())) : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Location", report.getIncidentLocation() != null ? report.getIncidentLocation() : "N/A", y, contentWidth);
-        y += LINE_HEIGHT;
-        
-        // Narrative Section
-        y = drawSectionHeader(canvas, paint, "NARRATIVE", y, contentWidth);
-        y += LINE_HEIGHT / 2;
-        y = drawWrappedText(canvas, paint, report.getNarrative() != null ? report.getNarrative() : "N/A", y, contentWidth);
-        y += LINE_HEIGHT;
+        engine.sectionHeader("INCIDENT DETAILS");
+        engine.labelValue("Type", report.getIncidentType());
+        engine.labelValue("Date", report.getIncidentDate() > 0 ? DATE_TIME_FORMAT.get().format(new Date(report.getIncidentDate())) : "N/A");
+        engine.labelValue("Time", report.getIncidentDate() > 0 ? TIME_FORMAT.get().format(new Date(report.getIncidentDate())) : "N/A");
+        engine.labelValue("Location", report.getIncidentLocation());
+        engine.space(LINE_HEIGHT);
+        
+        // Narrative Section - wraps onto following pages instead of running off the page
+        engine.sectionHeader("NARRATIVE");
+        engine.paragraph(report.getNarrative() != null ? report.getNarrative() : "N/A", PdfLayoutEngine.BODY);
+        engine.space(LINE_HEIGHT);
         
         // Respondent Information Table
-        y = drawSectionHeader(canvas, paint, "RESPONDENT INFORMATION", y, contentWidth);
-        y += LINE_HEIGHT / 2;
-        y = drawTableRow(canvas, paint, "Name", report.getRespondentName() != null ? report.getRespondentName() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Alias", report.getRespondentAlias() != null ? report.getRespondentAlias() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Address", report.getRespondentAddress() != null ? report.getRespondentAddress() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Contact", report.getRespondentContact() != null ? report.getRespondentContact() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Accusation", report.getAccusation() != null ? report.getAccusation() : "N/A", y, contentWidth);
-        y = drawTableRow(canvas, paint, "Relationship", report.getRelationshipToComplainant() != null ? report.getRelationshipToComplainant() : "N/A", y, contentWidth);
-        y += LINE_HEIGHT;
+        engine.sectionHeader("RESPONDENT INFORMATION");
+        engine.labelValue("Name", report.getRespondentName());
+        engine.labelValue("Alias", report.getRespondentAlias());
+        engine.labelValue("Address", report.getRespondentAddress());
+        engine.labelValue("Contact", report.getRespondentContact());
+        engine.labelValue("Accusation", report.getAccusation());
+        engine.labelValue("Relationship", report.getRelationshipToComplainant());
+        engine.space(LINE_HEIGHT);
         
         // Evidence Section
-        y = drawSectionHeader(canvas, paint, "EVIDENCE", y, contentWidth);
-        y += LINE_HEIGHT;
+        engine.sectionHeader("EVIDENCE");
         
         int thumbSize = 80;  // Larger size for better quality (no pixelation)
         int thumbSpacing = 6;
+        boolean hasImages = report.getImageUris() != null && !report.getImageUris().isEmpty();
+        boolean hasVideos = report.getVideoUris() != null && !report.getVideoUris().isEmpty();
         
-        // Images - All in one horizontal line
-        if (report.getImageUris() != null && !report.getImageUris().isEmpty()) {
+        // Images
+        if (hasImages) {
             String[] imageUris = report.getImageUris().split(",");
             Log.d(TAG, "Processing " + imageUris.length + " images for PDF");
+            engine.paragraph("Photos (" + imageUris.length + ")", PdfLayoutEngine.LABEL);
             
-            // Draw "Photos (X)" label
-            paint.setFakeBoldText(true);
-            paint.setTextSize(11);
-            canvas.drawText("Photos (" + imageUris.length + ")", MARGIN + 5, y, paint);
-            paint.setFakeBoldText(false);
-            paint.setTextSize(10);
-            y += LINE_HEIGHT + 2;
-            
-            // Draw image thumbnails in one horizontal line (left-aligned)
-            int x = MARGIN;
-            int successCount = 0;
-            
+            List<PdfLayoutEngine.Thumbnail> thumbnails = new ArrayList<>();
             for (int i = 0; i < imageUris.length; i++) {
-                try {
-                    String imageUri = imageUris[i].trim();
-                    Log.d(TAG, "Loading image " + (i + 1) + ": " + imageUri);
-                    
-                    // Load with high quality - use larger size
-                    Bitmap thumb = loadAndResizeImage(context, imageUri, thumbSize, thumbSize);
-                    if (thumb != null) {
-                        canvas.drawBitmap(thumb, x, y, paint);
-                        Log.d(TAG, "Successfully drew image thumbnail " + (i + 1) + " at size " + thumbSize + "x" + thumbSize);
-                        x += thumbSize + thumbSpacing;
-                        successCount++;
-                    } else {
-                        Log.w(TAG, "Failed to load image thumbnail " + (i + 1) + ": " + imageUri);
-                    }
-                } catch (Exception e) {
-                    Log.e(TAG, "Error drawing image thumbnail " + (i + 1) + ": " + e.getMessage());
+                Bitmap thumb = loadAndResizeImage(context, imageUris[i].trim(), thumbSize, thumbSize);
+                if (thumb != null) {
+                    thumbnails.add(new PdfLayoutEngine.Thumbnail(thumb, false, null));
+                } else {
+                    Log.w(TAG, "Failed to load image thumbnail " + (i + 1) + ": " + imageUris[i]);
                 }
             }
-            
-            Log.d(TAG, "Successfully added " + successCount + " image thumbnails to PDF");
-            y += thumbSize + LINE_HEIGHT;
+            engine.thumbnails(thumbnails, thumbSize, thumbSpacing);
+            recycle(thumbnails);
+            Log.d(TAG, "Successfully added " + thumbnails.size() + " image thumbnails to PDF");
         }
         
-        // Videos - All in one horizontal line
-        if (report.getVideoUris() != null && !report.getVideoUris().isEmpty()) {
+        // Videos - first frame with a play mark and the duration
+        if (hasVideos) {
             String[] videoUris = report.getVideoUris().split(",");
+            engine.paragraph("Videos (" + videoUris.length + ")", PdfLayoutEngine.LABEL);
             
-            // Draw "Videos (X)" label
-            paint.setFakeBoldText(true);
-            paint.setTextSize(11);
-            canvas.drawText("Videos (" + videoUris.length + ")", MARGIN + 5, y, paint);
-            paint.setFakeBoldText(false);
-            paint.setTextSize(10);
-            y += LINE_HEIGHT + 2;
-            
-            // Draw video thumbnails in one horizontal line (left-aligned)
-            int x = MARGIN;
-            int successCount = 0;
-            
-            for (int i = 0; i < videoUris.length; i++) {
-                try {
-                    String videoUri = videoUris[i].trim();
-                    Log.d(TAG, "Loading video thumbnail " + (i + 1) + ": " + videoUri);
-                    
-                    // Try to extract first frame from video
-                    Bitmap videoThumb = extractVideoThumbnail(context, videoUri, thumbSize, thumbSize);
-                    
-                    // Get video duration
-                    String duration = getVideoDuration(context, videoUri);
-                    
-                    if (videoThumb != null) {
-                        // Draw actual video thumbnail
-                        canvas.drawBitmap(videoThumb, x, y, paint);
-                        
-                        // Draw semi-transparent play icon overlay
-                        Paint playOverlay = new Paint();
-                        playOverlay.setColor(0x99000000); // Semi-transparent black
-                        canvas.drawRect(x, y, x + thumbSize, y + thumbSize, playOverlay);
-                        
-                        Paint playPaint = new Paint();
-                        playPaint.setColor(0xFFFFFFFF); // White play icon
-                        playPaint.setStyle(Paint.Style.FILL);
-                        playPaint.setTextSize(28);
-                        int playX = x + thumbSize / 2 - 12;
-                        int playY = y + thumbSize / 2 + 8;
-                        canvas.drawText("▶", playX, playY, playPaint);
-                        
-                        // Draw duration text at bottom
-                        if (duration != null && !duration.isEmpty()) {
-                            Paint durationPaint = new Paint();
-                            durationPaint.setColor(0xFFFFFFFF); // White text
-                            durationPaint.setTextSize(8);
-                            durationPaint.setFakeBoldText(true);
-                            
-                            // Draw semi-transparent background for duration text
-                            Paint durBgPaint = new Paint();
-                            durBgPaint.setColor(0xCC000000); // Semi-transparent black
-                            canvas.drawRect(x, y + thumbSize - 12, x + thumbSize, y + thumbSize, durBgPaint);
-                            
-                            // Draw duration text
-                            canvas.drawText(duration, x + 2, y + thumbSize - 2, durationPaint);
-                        }
-                        
-                        Log.d(TAG, "Successfully drew video thumbnail " + (i + 1) + " with duration: " + duration);
-                        successCount++;
-                    } else {
-                        // Fallback: Draw gray placeholder with play icon
-                        Paint videoBgPaint = new Paint();
-                        videoBgPaint.setColor(0xFFCCCCCC); // Light gray
-                        canvas.drawRect(x, y, x + thumbSize, y + thumbSize, videoBgPaint);
-                        
-                        Paint playPaint = new Paint();
-                        playPaint.setColor(0xFF000000); // Black
-                        playPaint.setStyle(Paint.Style.FILL);
-                        playPaint.setTextSize(28);
-                        int playX = x + thumbSize / 2 - 12;
-                        int playY = y + thumbSize / 2 + 8;
-                        canvas.drawText("▶", playX, playY, playPaint);
-                        
-                        // Draw duration if available
-                        if (duration != null && !duration.isEmpty()) {
-                            Paint durationPaint = new Paint();
-                            durationPaint.setColor(0xFF000000); // Black text
-                            durationPaint.setTextSize(8);
-                            durationPaint.setFakeBoldText(true);
-                            canvas.drawText(duration, x + 2, y + thumbSize - 2, durationPaint);
-                        }
-                        
-                        Log.w(TAG, "Could not extract video thumbnail, using placeholder for video " + (i + 1));
-                    }
-                    
-                    x += thumbSize + thumbSpacing;
-                } catch (Exception e) {
-                    Log.e(TAG, "Error processing video thumbnail " + (i + 1) + ": " + e.getMessage());
-                }
+            List<PdfLayoutEngine.Thumbnail> thumbnails = new ArrayList<>();
+            for (String uri : videoUris) {
+                String videoUri = uri.trim();
+                Bitmap videoThumb = extractVideoThumbnail(context, videoUri, thumbSize, thumbSize);
+                thumbnails.add(new PdfLayoutEngine.Thumbnail(videoThumb, true, getVideoDuration(context, videoUri)));
             }
-            
-            Log.d(TAG, "Successfully added " + successCount + " video thumbnails to PDF");
-            y += thumbSize + LINE_HEIGHT;
+            engine.thumbnails(thumbnails, thumbSize, thumbSpacing);
+            recycle(thumbnails);
         }
         
-        if ((report.getImageUris() == null || report.getImageUris().isEmpty()) &&
-            (report.getVideoUris() == null || report.getVideoUris().isEmpty())) {
-            paint.setFakeBoldText(true);
-            canvas.drawText("No evidence attachments", MARGIN + 5, y, paint);
-            paint.setFakeBoldText(false);
-            y += LINE_HEIGHT;
+        if (!hasImages && !hasVideos) {
+            engine.paragraph("No evidence attachments", PdfLayoutEngine.LABEL);
         }
-        
-        y += LINE_HEIGHT;
+        engine.space(LINE_HEIGHT);
         
         // Role-based detailed content
         if ("OFFICER".equalsIgnoreCase(userRole)) {
             // Officer sees detailed investigation data
-            drawSection(canvas, paint, "INVESTIGATION DETAILS", y);
-            y += LINE_HEIGHT;
+            engine.sectionHeader("INVESTIGATION DETAILS");
             
-            // Witnesses
-            if (!witnesses.isEmpty()) {
+            if (witnesses != null && !witnesses.isEmpty()) {
+                PdfLayoutEngine.Table table = new PdfLayoutEngine.Table(
+                        new String[]{"#", "Witness", "Contact"}, new float[]{1, 6, 4});
                 for (int i = 0; i < witnesses.size(); i++) {
                     Witness w = witnesses.get(i);
-                    drawLine(canvas, paint, "Witness " + (i + 1) + ": " + w.getName() + " - " + w.getContactNumber(), y);
-                    y += LINE_HEIGHT;
+                    table.addRow(String.valueOf(i + 1), w.getName(), w.getContactNumber());
                 }
+                engine.table(table);
             }
             
-            // Suspects
-            if (!suspects.isEmpty()) {
+            if (suspects != null && !suspects.isEmpty()) {
+                PdfLayoutEngine.Table table = new PdfLayoutEngine.Table(
+                        new String[]{"#", "Suspect", "Alias"}, new float[]{1, 6, 4});
                 for (int i = 0; i < suspects.size(); i++) {
                     Suspect s = suspects.get(i);
-                    drawLine(canvas, paint, "Suspect " + (i + 1) + ": " + s.getName() + " (" + s.getAlias() + ")", y);
-                    y += LINE_HEIGHT;
+                    table.addRow(String.valueOf(i + 1), s.getName(), s.getAlias());
                 }
+                engine.table(table);
             }
             
-            // Evidence
-            if (!evidences.isEmpty()) {
+            if (evidences != null && !evidences.isEmpty()) {
+                PdfLayoutEngine.Table table = new PdfLayoutEngine.Table(
+                        new String[]{"#", "Evidence", "Description"}, new float[]{1, 4, 6});
                 for (int i = 0; i < evidences.size(); i++) {
                     Evidence e = evidences.get(i);
-                    drawLine(canvas, paint, "Evidence " + (i + 1) + ": " + e.getEvidenceType(), y);
-                    y += LINE_HEIGHT;
+                    table.addRow(String.valueOf(i + 1), e.getEvidenceType(), e.getDescription());
                 }
+                engine.table(table);
             }
-            
-            y += LINE_HEIGHT;
         }
-        
-        y += LINE_HEIGHT;
-        
-        // Footer - Centered
-        paint.setTextSize(9);
-        paint.setFakeBoldText(false);
-        String footerText = "Generated on " + new SimpleDateFormat("MMM dd, yyyy 'at' hh:mm a", Locale.getDefault()).format(new Date());
-        float footerWidth = paint.measureText(footerText);
-        canvas.drawText(footerText, (PAGE_WIDTH - footerWidth) / 2, PAGE_HEIGHT - 20, paint);
-        
-        pdfDocument.finishPage(page);
-    }
-    
-    private static Paint createPaint(int textSize) {
-        Paint paint = new Paint();
-        paint.setTextSize(textSize);
-        paint.setColor(TEXT_COLOR);
-        return paint;
     }
     
-    /**
-     * Draw section header with blue background
-     */
-    private static int drawSectionHeader(Canvas canvas, Paint paint, String title, int y, int width) {
-        Paint bgPaint = new Paint();
-        bgPaint.setColor(HEADER_COLOR);
-        
-        // Draw blue background
-        canvas.drawRect(MARGIN, y - LINE_HEIGHT + 2, MARGIN + width, y + 2, bgPaint);
-        
-        // Draw white text
-        paint.setFakeBoldText(true);
-        paint.setTextSize(11);
-        paint.setColor(0xFFFFFFFF); // White
-        canvas.drawText(title, MARGIN + 5, y, paint);
-        
-        // Reset paint
-        paint.setFakeBoldText(false);
-        paint.setTextSize(10);
-        paint.setColor(TEXT_COLOR);
-        
-        return y + LINE_HEIGHT;
-    }
-    
-    /**
-     * Draw a table row with label and value
-     */
-    private static int drawTableRow(Canvas canvas, Paint paint, String label, String value, int y, int width) {
-        int labelWidth = 120;
-        int valueX = MARGIN + labelWidth + 10;
-        
-        // Draw label (bold)
-        paint.setFakeBoldText(true);
-        canvas.drawText(label, MARGIN + 5, y, paint);
-        paint.setFakeBoldText(false);
-        
-        // Draw value
-        canvas.drawText(value, valueX, y, paint);
-        
-        // Draw bottom border
-        Paint borderPaint = new Paint();
-        borderPaint.setColor(BORDER_COLOR);
-        borderPaint.setStrokeWidth(0.5f);
-        canvas.drawLine(MARGIN, y + 3, MARGIN + width, y + 3, borderPaint);
-        
-        return y + LINE_HEIGHT;
-    }
-    
-    private static void drawSection(Canvas canvas, Paint paint, String title, int y) {
-        paint.setFakeBoldText(true);
-        paint.setTextSize(12);
-        canvas.drawText(title, MARGIN, y, paint);
-        paint.setFakeBoldText(false);
-        paint.setTextSize(10);
-    }
-    
-    private static void drawLine(Canvas canvas, Paint paint, String text, int y) {
-        canvas.drawText(text, MARGIN, y, paint);
-    }
-    
-    private static int drawWrappedText(Canvas canvas, Paint paint, String text, int startY, int maxWidth) {
-        String[] words = text.split(" ");
-        StringBuilder line = new StringBuilder();
-        int y = startY;
-        
-        for (String word : words) {
-            String testLine = line + word + " ";
-            if (paint.measureText(testLine) > maxWidth) {
-                canvas.drawText(line.toString(), MARGIN, y, paint);
-                y += LINE_HEIGHT;
-                line = new StringBuilder(word + " ");
-            } else {
-                line.append(word).append(" ");
-            }
+    private static void recycle(List<PdfLayoutEngine.Thumbnail> thumbnails) {
+        for (PdfLayoutEngine.Thumbnail thumbnail : thumbnails) {
+            if (thumbnail.bitmap != null) thumbnail.bitmap.recycle();
         }
-        
-        if (line.length() > 0) {
-            canvas.drawText(line.toString(), MARGIN, y, paint);
-            y += LINE_HEIGHT;
-        }
-        
-        return y;
     }
     
     /**
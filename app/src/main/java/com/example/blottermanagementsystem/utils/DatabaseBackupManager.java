@@ -1,96 +1,439 @@
 package com.example.blottermanagementsystem.utils;
 
 import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Build;
 import android.os.Environment;
 import android.util.Log;
+
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.database.DatabaseMigrations;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * DatabaseBackupManager - Consistent hot backups of the Room database
+ *
+ * - Snapshot: VACUUM INTO on Android 11+ (SQLite 3.28), otherwise the main file and its WAL
+ *   copied under the write lock and folded into one file - never a torn copy of a live file
+ * - Output: gzip by default, with a sha256sum-style sidecar (checksum of the plain database)
+ * - A backup identical to the newest one is skipped; rotation keeps storage bounded
+ * - Restore verifies the checksum, quick_check and schema version, then swaps the file
+ *   with the database closed and rolls back if Room cannot open the result
+ *
+ * All methods block - call them from a background executor.
+ */
 public class DatabaseBackupManager {
     private static final String TAG = "DatabaseBackup";
     private static final String DB_NAME = "blotter_database";
-    
+
+    private static final String BACKUP_PREFIX = "blotter_backup_";
+    private static final String EXT_DB = ".db";
+    private static final String EXT_GZIP = ".db.gz";
+    private static final String EXT_CHECKSUM = ".sha256";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BACKUPS = 7;
+    private static final long MAX_BACKUP_BYTES = 200L * 1024 * 1024;
+
+    /**
+     * Compressed backup; returns its path, or null on failure
+     */
     public static String backupDatabase(Context context) {
+        return backupDatabase(context, true);
+    }
+
+    public static String backupDatabase(Context context, boolean compress) {
+        File snapshot = new File(context.getCacheDir(), "backup_snapshot.db");
         try {
-            File backupDir = new File(context.getExternalFilesDir(Environment.DIRECTORY_DOCUMENTS), "backups");
-            if (!backupDir.exists()) {
-                backupDir.mkdirs();
-            }
-            
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault())
-                .format(new Date());
-            String backupFileName = "blotter_backup_" + timestamp + ".db";
-            File backupFile = new File(backupDir, backupFileName);
-            
-            File currentDB = context.getDatabasePath(DB_NAME);
-            
-            if (currentDB.exists()) {
-                FileInputStream fis = new FileInputStream(currentDB);
-                FileOutputStream fos = new FileOutputStream(backupFile);
-                
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = fis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, length);
-                }
-                
-                fos.flush();
-                fos.close();
-                fis.close();
-                
-                Log.d(TAG, "Database backed up to: " + backupFile.getAbsolutePath());
-                return backupFile.getAbsolutePath();
-            } else {
-                Log.e(TAG, "Database file not found");
+            File backupDir = getBackupDir(context);
+            if (!backupDir.exists() && !backupDir.mkdirs()) {
+                Log.e(TAG, "❌ Cannot create backup directory");
                 return null;
             }
-        } catch (IOException e) {
-            Log.e(TAG, "Error backing up database", e);
+            if (!context.getDatabasePath(DB_NAME).exists()) {
+                Log.e(TAG, "❌ Database file not found");
+                return null;
+            }
+
+            long start = System.currentTimeMillis();
+            deleteWithSidecars(snapshot);
+            takeSnapshot(context, snapshot);
+            String checksum = sha256(snapshot);
+
+            // Nothing changed since the newest backup - keep that one instead of a duplicate
+            File[] existing = getBackupFiles(context);
+            if (existing.length > 0 && checksum.equals(readChecksum(existing[0]))) {
+                Log.d(TAG, "📦 Database unchanged since " + existing[0].getName() + " - backup skipped");
+                return existing[0].getAbsolutePath();
+            }
+
+            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.US).format(new Date());
+            File backupFile = new File(backupDir, BACKUP_PREFIX + timestamp + (compress ? EXT_GZIP : EXT_DB));
+            File partial = new File(backupDir, backupFile.getName() + ".part");
+
+            if (compress) {
+                gzip(snapshot, partial);
+            } else {
+                transfer(snapshot, partial);
+            }
+            if (!partial.renameTo(backupFile)) {
+                partial.delete();
+                throw new IOException("Cannot finalize " + backupFile.getName());
+            }
+            writeChecksum(backupFile, checksum);
+
+            Log.d(TAG, "✅ Database backed up to: " + backupFile.getAbsolutePath() +
+                    " (" + snapshot.length() + " → " + backupFile.length() + " bytes, " +
+                    (System.currentTimeMillis() - start) + " ms)");
+            rotateBackups(context);
+            return backupFile.getAbsolutePath();
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Error backing up database", e);
             return null;
+        } finally {
+            deleteWithSidecars(snapshot);
         }
     }
-    
+
+    /**
+     * Replaces the live database with a backup (.db or .db.gz).
+     * The shared BlotterDatabase is closed and reopened - recreate open screens afterwards.
+     */
     public static boolean restoreDatabase(Context context, String backupPath) {
+        File backupFile = new File(backupPath);
+        if (!backupFile.exists()) {
+            Log.e(TAG, "❌ Backup file not found");
+            return false;
+        }
+
+        File currentDB = context.getDatabasePath(DB_NAME);
+        // Same directory as the database, so the swap is a rename
+        File staged = new File(currentDB.getParentFile(), DB_NAME + "-restore");
+        File previous = new File(currentDB.getParentFile(), DB_NAME + "-previous");
         try {
-            File backupFile = new File(backupPath);
-            if (!backupFile.exists()) {
-                Log.e(TAG, "Backup file not found");
+            deleteWithSidecars(staged);
+            String checksum = backupFile.getName().endsWith(".gz")
+                    ? gunzip(backupFile, staged)
+                    : transferWithChecksum(backupFile, staged);
+
+            String expected = readChecksum(backupFile);
+            if (expected != null && !expected.equals(checksum)) {
+                Log.e(TAG, "❌ Checksum mismatch - backup is corrupt");
                 return false;
             }
-            
-            File currentDB = context.getDatabasePath(DB_NAME);
-            
-            FileInputStream fis = new FileInputStream(backupFile);
-            FileOutputStream fos = new FileOutputStream(currentDB);
-            
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = fis.read(buffer)) > 0) {
-                fos.write(buffer, 0, length);
-            }
-            
-            fos.flush();
-            fos.close();
-            fis.close();
-            
-            Log.d(TAG, "Database restored from: " + backupPath);
+            if (!validate(staged)) {
+                return false;
+            }
+
+            BlotterDatabase.runWithDatabaseClosed(() -> {
+                deleteWithSidecars(previous);
+                if (currentDB.exists() && !currentDB.renameTo(previous)) {
+                    throw new IOException("Cannot move current database aside");
+                }
+                deleteSidecars(currentDB);
+                if (!staged.renameTo(currentDB)) {
+                    previous.renameTo(currentDB);
+                    throw new IOException("Cannot move restored database into place");
+                }
+            });
+
+            // Opening runs any pending migrations; a backup Room rejects is rolled back
+            try {
+                BlotterDatabase.getDatabase(context).getOpenHelper().getWritableDatabase();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "❌ Restored database failed to open - rolling back", e);
+                BlotterDatabase.runWithDatabaseClosed(() -> {
+                    deleteWithSidecars(currentDB);
+                    if (previous.exists() && !previous.renameTo(currentDB)) {
+                        throw new IOException("Cannot roll back to the previous database");
+                    }
+                });
+                return false;
+            }
+
+            deleteWithSidecars(previous);
+            Log.d(TAG, "✅ Database restored from: " + backupPath);
             return true;
-        } catch (IOException e) {
-            Log.e(TAG, "Error restoring database", e);
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Error restoring database", e);
             return false;
+        } finally {
+            deleteWithSidecars(staged);
         }
     }
-    
+
+    /**
+     * Backups, newest first
+     */
     public static File[] getBackupFiles(Context context) {
-        File backupDir = new File(context.getExternalFilesDir(Environment.DIRECTORY_DOCUMENTS), "backups");
+        File backupDir = getBackupDir(context);
         if (backupDir.exists() && backupDir.isDirectory()) {
-            return backupDir.listFiles((dir, name) -> name.endsWith(".db"));
+            File[] files = backupDir.listFiles((dir, name) ->
+                    name.startsWith(BACKUP_PREFIX) && (name.endsWith(EXT_DB) || name.endsWith(EXT_GZIP)));
+            if (files != null) {
+                // Timestamped names sort chronologically
+                Arrays.sort(files, (a, b) -> b.getName().compareTo(a.getName()));
+                return files;
+            }
         }
         return new File[0];
     }
+
+    /**
+     * Keeps the newest MAX_BACKUPS, then drops the oldest until under MAX_BACKUP_BYTES.
+     * The newest backup always survives.
+     */
+    public static int rotateBackups(Context context) {
+        File[] files = getBackupFiles(context);
+        List<File> kept = new ArrayList<>();
+        long totalBytes = 0;
+        int deleted = 0;
+        for (File file : files) {
+            boolean keep = kept.isEmpty()
+                    || (kept.size() < MAX_BACKUPS && totalBytes + file.length() <= MAX_BACKUP_BYTES);
+            if (keep) {
+                kept.add(file);
+                totalBytes += file.length();
+            } else {
+                file.delete();
+                new File(file.getPath() + EXT_CHECKSUM).delete();
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            Log.d(TAG, "🔄 Rotated out " + deleted + " old backup(s), keeping " + kept.size() +
+                    " (" + totalBytes + " bytes)");
+        }
+        return deleted;
+    }
+
+    private static File getBackupDir(Context context) {
+        return new File(context.getExternalFilesDir(Environment.DIRECTORY_DOCUMENTS), "backups");
+    }
+
+    // ===== SNAPSHOT =====
+
+    private static void takeSnapshot(Context context, File snapshot) throws IOException {
+        BlotterDatabase database = BlotterDatabase.getDatabase(context);
+        SupportSQLiteDatabase db = database.getOpenHelper().getWritableDatabase();
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            try {
+                // Transactionally consistent, compacted, no WAL - one statement
+                db.execSQL("VACUUM INTO '" + snapshot.getAbsolutePath().replace("'", "''") + "'");
+                return;
+            } catch (RuntimeException e) {
+                Log.w(TAG, "⚠️ VACUUM INTO failed, falling back to copy: " + e.getMessage());
+                deleteWithSidecars(snapshot);
+            }
+        }
+
+        // Move committed frames into the main file first so the WAL copy stays small
+        try (Cursor cursor = db.query("PRAGMA wal_checkpoint(TRUNCATE)")) {
+            cursor.moveToFirst();
+        }
+
+        File main = context.getDatabasePath(DB_NAME);
+        File wal = new File(main.getPath() + "-wal");
+        File snapshotWal = new File(snapshot.getPath() + "-wal");
+        try {
+            // The write transaction blocks writers and checkpoints, so main + WAL are a matching pair
+            database.runInTransaction(() -> {
+                try {
+                    transfer(main, snapshot);
+                    if (wal.exists() && wal.length() > 0) {
+                        transfer(wal, snapshotWal);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Opening the copy replays its WAL; checkpoint folds it into one self-contained file
+        SQLiteDatabase copy = SQLiteDatabase.openDatabase(snapshot.getPath(), null, SQLiteDatabase.OPEN_READWRITE);
+        try (Cursor cursor = copy.rawQuery("PRAGMA wal_checkpoint(TRUNCATE)", null)) {
+            cursor.moveToFirst();
+        } finally {
+            copy.close();
+        }
+        deleteSidecars(snapshot);
+    }
+
+    /**
+     * Integrity and schema version of a staged restore. Versions newer than this build
+     * would trigger a destructive downgrade, older than the first migration a wipe.
+     */
+    private static boolean validate(File staged) {
+        int latest = DatabaseMigrations.ALL[DatabaseMigrations.ALL.length - 1].endVersion;
+        SQLiteDatabase db = null;
+        try {
+            db = SQLiteDatabase.openDatabase(staged.getPath(), null, SQLiteDatabase.OPEN_READONLY);
+            int version = db.getVersion();
+            if (version < DatabaseMigrations.FIRST_MIGRATABLE_VERSION || version > latest) {
+                Log.e(TAG, "❌ Backup schema v" + version + " not restorable (supported " +
+                        DatabaseMigrations.FIRST_MIGRATABLE_VERSION + "-" + latest + ")");
+                return false;
+            }
+            try (Cursor cursor = db.rawQuery("PRAGMA quick_check", null)) {
+                if (!cursor.moveToFirst() || !"ok".equalsIgnoreCase(cursor.getString(0))) {
+                    Log.e(TAG, "❌ Backup failed quick_check");
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            Log.e(TAG, "❌ Backup is not a readable database: " + e.getMessage());
+            return false;
+        } finally {
+            if (db != null) db.close();
+            deleteSidecars(staged);
+        }
+    }
+
+    // ===== FILE COPY =====
+
+    private static void transfer(File source, File target) throws IOException {
+        try (FileChannel in = new FileInputStream(source).getChannel();
+             FileChannel out = new FileOutputStream(target).getChannel()) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long moved = in.transferTo(position, size - position, out);
+                if (moved <= 0) break;
+                position += moved;
+            }
+            if (position != size) {
+                throw new IOException("Short copy of " + source.getName() + ": " + position + "/" + size);
+            }
+            out.force(true);
+        }
+    }
+
+    private static String transferWithChecksum(File source, File target) throws IOException {
+        transfer(source, target);
+        return sha256(target);
+    }
+
+    private static void gzip(File source, File target) throws IOException {
+        try (InputStream in = new FileInputStream(source);
+             FileOutputStream fileOut = new FileOutputStream(target);
+             GZIPOutputStream out = new GZIPOutputStream(new BufferedOutputStream(fileOut, BUFFER_SIZE), BUFFER_SIZE)) {
+            copy(in, out);
+            out.finish();
+            out.flush();
+            fileOut.getFD().sync();
+        }
+    }
+
+    // Returns the checksum of the decompressed bytes
+    private static String gunzip(File source, File target) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(
+                new GZIPInputStream(new BufferedInputStream(new FileInputStream(source), BUFFER_SIZE), BUFFER_SIZE), digest);
+             FileOutputStream out = new FileOutputStream(target)) {
+            copy(in, out);
+            out.getFD().sync();
+        }
+        return toHex(digest.digest());
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+    }
+
+    // ===== CHECKSUMS =====
+
+    private static String sha256(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    // sha256sum format: "<hex>  <file name>"
+    private static void writeChecksum(File backupFile, String checksum) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(backupFile.getPath() + EXT_CHECKSUM)) {
+            out.write((checksum + "  " + backupFile.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // Null for legacy backups made before checksums existed
+    private static String readChecksum(File backupFile) {
+        File sidecar = new File(backupFile.getPath() + EXT_CHECKSUM);
+        if (!sidecar.exists()) return null;
+        try (InputStream in = new FileInputStream(sidecar)) {
+            byte[] bytes = new byte[128];
+            int length = in.read(bytes);
+            if (length <= 0) return null;
+            String line = new String(bytes, 0, length, StandardCharsets.UTF_8).trim();
+            int space = line.indexOf(' ');
+            return space > 0 ? line.substring(0, space) : line;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Guaranteed on Android
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format(Locale.US, "%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void deleteSidecars(File db) {
+        new File(db.getPath() + "-wal").delete();
+        new File(db.getPath() + "-shm").delete();
+        new File(db.getPath() + "-journal").delete();
+    }
+
+    private static void deleteWithSidecars(File db) {
+        db.delete();
+        deleteSidecars(db);
+    }
 }
@@ -2,9 +2,11 @@ package com.example.blottermanagementsystem.utils;
 
 import android.content.Context;
 import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.ReportOfficerAssignmentDao;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.entity.ReportOfficerAssignment;
 import java.util.List;
 import java.util.concurrent.Executors;
 
@@ -36,38 +38,20 @@ public class DatabaseValidator {
                 
                 // Test 2: Check existing reports
                 Log.d(TAG, "🔍 Test 2: Checking existing reports...");
-                List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
-                result.totalReports = allReports.size();
+                result.totalReports = database.blotterReportDao().getActiveReportCount()
+                        + database.blotterReportDao().getArchivedReportCount();
                 Log.d(TAG, "   Total reports in database: " + result.totalReports);
                 
                 // Test 3: Check single officer assignments
                 Log.d(TAG, "🔍 Test 3: Checking single officer assignments...");
-                int singleOfficerCount = 0;
-                for (BlotterReport report : allReports) {
-                    if (report.getAssignedOfficerId() != null && 
-                        (report.getAssignedOfficerIds() == null || report.getAssignedOfficerIds().isEmpty())) {
-                        singleOfficerCount++;
-                    }
-                }
-                result.singleOfficerAssignments = singleOfficerCount;
-                Log.d(TAG, "   Single officer assignments: " + singleOfficerCount);
+                ReportOfficerAssignmentDao assignmentDao = database.reportOfficerAssignmentDao();
+                result.singleOfficerAssignments = assignmentDao.countSingleOfficerReports();
+                Log.d(TAG, "   Single officer assignments: " + result.singleOfficerAssignments);
                 
                 // Test 4: Check multi officer assignments
                 Log.d(TAG, "🔍 Test 4: Checking multi-officer assignments...");
-                int multiOfficerCount = 0;
-                for (BlotterReport report : allReports) {
-                    if (report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                        String[] ids = report.getAssignedOfficerIds().split(",");
-                        if (ids.length > 1) {
-                            multiOfficerCount++;
-                            Log.d(TAG, "   ✅ Case " + report.getCaseNumber() + ": " + ids.length + " officers assigned");
-                            Log.d(TAG, "      assignedOfficerIds: " + report.getAssignedOfficerIds());
-                            Log.d(TAG, "      assignedOfficer: " + report.getAssignedOfficer());
-                        }
-                    }
-                }
-                result.multiOfficerAssignments = multiOfficerCount;
-                Log.d(TAG, "   Multi-officer assignments: " + multiOfficerCount);
+                result.multiOfficerAssignments = assignmentDao.countMultiOfficerReports();
+                Log.d(TAG, "   Multi-officer assignments: " + result.multiOfficerAssignments);
                 
                 // Test 5: Check officer data integrity
                 Log.d(TAG, "🔍 Test 5: Checking officer data integrity...");
@@ -77,42 +61,13 @@ public class DatabaseValidator {
                 
                 // Test 6: Validate officer IDs in assignments
                 Log.d(TAG, "🔍 Test 6: Validating officer IDs in assignments...");
-                int invalidOfficerIds = 0;
-                for (BlotterReport report : allReports) {
-                    if (report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                        String[] ids = report.getAssignedOfficerIds().split(",");
-                        for (String id : ids) {
-                            try {
-                                int officerId = Integer.parseInt(id.trim());
-                                Officer officer = database.officerDao().getOfficerById(officerId);
-                                if (officer == null) {
-                                    invalidOfficerIds++;
-                                    Log.w(TAG, "   ⚠️ Case " + report.getCaseNumber() + ": Invalid officer ID " + officerId);
-                                }
-                            } catch (NumberFormatException e) {
-                                invalidOfficerIds++;
-                                Log.w(TAG, "   ⚠️ Case " + report.getCaseNumber() + ": Invalid ID format: " + id);
-                            }
-                        }
-                    }
-                }
-                result.invalidOfficerIds = invalidOfficerIds;
-                Log.d(TAG, "   Invalid officer IDs found: " + invalidOfficerIds);
+                result.invalidOfficerIds = assignmentDao.countUnknownOfficerAssignments();
+                Log.d(TAG, "   Invalid officer IDs found: " + result.invalidOfficerIds);
                 
                 // Test 7: Check status consistency
                 Log.d(TAG, "🔍 Test 7: Checking status consistency...");
-                int assignedWithoutOfficers = 0;
-                for (BlotterReport report : allReports) {
-                    if ("ASSIGNED".equalsIgnoreCase(report.getStatus())) {
-                        if ((report.getAssignedOfficerId() == null || report.getAssignedOfficerId() == 0) &&
-                            (report.getAssignedOfficerIds() == null || report.getAssignedOfficerIds().isEmpty())) {
-                            assignedWithoutOfficers++;
-                            Log.w(TAG, "   ⚠️ Case " + report.getCaseNumber() + ": Status is ASSIGNED but no officers assigned");
-                        }
-                    }
-                }
-                result.assignedWithoutOfficers = assignedWithoutOfficers;
-                Log.d(TAG, "   Cases with ASSIGNED status but no officers: " + assignedWithoutOfficers);
+                result.assignedWithoutOfficers = assignmentDao.countAssignedWithoutOfficers();
+                Log.d(TAG, "   Cases with ASSIGNED status but no officers: " + result.assignedWithoutOfficers);
                 
                 // Final result
                 result.isValid = result.schemaValid && result.invalidOfficerIds == 0 && result.assignedWithoutOfficers == 0;
@@ -149,7 +104,10 @@ public class DatabaseValidator {
             testReport.setAssignedOfficerId(1);
             testReport.setAssignedOfficerIds("1,2");
             
-            Log.d(TAG, "   ✅ Schema check passed - both officer fields accessible");
+            // Junction table must exist (migration 23 -> 24)
+            database.reportOfficerAssignmentDao().countMultiOfficerReports();
+            
+            Log.d(TAG, "   ✅ Schema check passed - officer fields and assignment table accessible");
             return true;
         } catch (Exception e) {
             Log.e(TAG, "   ❌ Schema check failed: " + e.getMessage());
@@ -168,22 +126,19 @@ public class DatabaseValidator {
                 report.append("=".repeat(60)).append("\n");
                 report.append("Generated: ").append(new java.text.SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new java.util.Date())).append("\n\n");
                 
-                List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
+                List<BlotterReport> multiOfficerReports = database.reportOfficerAssignmentDao().getMultiOfficerReports();
                 
                 report.append("MULTI-OFFICER ASSIGNMENTS:\n");
                 report.append("-".repeat(60)).append("\n");
                 
-                for (BlotterReport report_item : allReports) {
-                    if (report_item.getAssignedOfficerIds() != null && !report_item.getAssignedOfficerIds().isEmpty()) {
-                        String[] ids = report_item.getAssignedOfficerIds().split(",");
-                        if (ids.length > 1) {
-                            report.append("Case: ").append(report_item.getCaseNumber()).append("\n");
-                            report.append("  Status: ").append(report_item.getStatus()).append("\n");
-                            report.append("  Officers: ").append(report_item.getAssignedOfficer()).append("\n");
-                            report.append("  Officer IDs: ").append(report_item.getAssignedOfficerIds()).append("\n");
-                            report.append("  Type: Multi-Officer (").append(ids.length).append(")\n\n");
-                        }
-                    }
+                for (BlotterReport report_item : multiOfficerReports) {
+                    int officerCount = ReportOfficerAssignment.parseOfficerIds(
+                        report_item.getAssignedOfficerId(), report_item.getAssignedOfficerIds()).size();
+                    report.append("Case: ").append(report_item.getCaseNumber()).append("\n");
+                    report.append("  Status: ").append(report_item.getStatus()).append("\n");
+                    report.append("  Officers: ").append(report_item.getAssignedOfficer()).append("\n");
+                    report.append("  Officer IDs: ").append(report_item.getAssignedOfficerIds()).append("\n");
+                    report.append("  Type: Multi-Officer (").append(officerCount).append(")\n\n");
                 }
                 
                 callback.onReportGenerated(report.toString());
@@ -0,0 +1,204 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.api.ApiConfig;
+import com.example.blottermanagementsystem.data.api.ApiResponse;
+import com.example.blottermanagementsystem.data.api.BlotterApiService;
+import com.example.blottermanagementsystem.data.api.NetworkTimingListener;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.SyncCursor;
+import com.example.blottermanagementsystem.data.entity.User;
+import java.io.IOException;
+import java.util.List;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * DeltaSyncEngine - Incremental pull sync
+ * Asks the server only for rows changed since the stored cursor of each entity type,
+ * and applies every page (rows + deletes + new cursor) in one Room transaction.
+ *
+ * Blocking - call from a background thread (AppExecutors.network()).
+ */
+public class DeltaSyncEngine {
+    private static final String TAG = "DeltaSyncEngine";
+
+    public static final String ENTITY_USERS = "users";
+    public static final String ENTITY_REPORTS = "reports";
+
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_PAGES_PER_RUN = 100;
+
+    private final BlotterDatabase database;
+    private final BlotterApiService apiService;
+
+    public DeltaSyncEngine(Context context) {
+        this.database = BlotterDatabase.getDatabase(context);
+        this.apiService = ApiConfig.getApiService();
+    }
+
+    /**
+     * Pulls all entity types. Users go first so reports never reference a missing user.
+     */
+    public SyncResult pullAll() throws IOException {
+        SyncResult result = new SyncResult();
+        long startTime = System.currentTimeMillis();
+
+        pull(ENTITY_USERS,
+            (since, afterId, limit) -> apiService.getUserChanges(since, afterId, limit),
+            page -> {
+                if (page.items != null && !page.items.isEmpty()) {
+                    database.userDao().upsertUsers(page.items);
+                }
+            },
+            user -> user.getUpdatedAt(), user -> user.getId(),
+            result);
+
+        pull(ENTITY_REPORTS,
+            (since, afterId, limit) -> apiService.getReportChanges(since, afterId, limit),
+            page -> {
+                if (page.items != null && !page.items.isEmpty()) {
+                    for (BlotterReport report : page.items) {
+                        if (report.getApiId() == null) {
+                            report.setApiId(report.getId());
+                        }
+                    }
+                    database.blotterReportDao().upsertReports(page.items);
+                }
+                if (page.deletedIds != null && !page.deletedIds.isEmpty()) {
+                    database.blotterReportDao().deleteReportsByIds(page.deletedIds);
+                }
+            },
+            report -> report.getUpdatedAt(), report -> report.getId(),
+            result);
+
+        result.durationMs = System.currentTimeMillis() - startTime;
+        Log.d(TAG, "✅ Delta sync done: " + result);
+        return result;
+    }
+
+    private <T> void pull(String entityType, PageFetcher<T> fetcher, PageApplier<T> applier,
+                          UpdatedAtOf<T> updatedAtOf, IdOf<T> idOf, SyncResult result) throws IOException {
+        SyncCursor cursor = database.syncCursorDao().getCursor(entityType);
+        if (cursor == null) {
+            cursor = new SyncCursor(entityType);
+        }
+
+        Log.d(TAG, "🔄 Pulling " + entityType + " since " + cursor.getLastUpdatedAt() + "/" + cursor.getLastId());
+
+        int pages = 0;
+        boolean hasMore = true;
+        while (hasMore && pages < MAX_PAGES_PER_RUN) {
+            Call<ApiResponse<BlotterApiService.ChangePage<T>>> call =
+                fetcher.fetch(cursor.getLastUpdatedAt(), cursor.getLastId(), PAGE_SIZE);
+            Response<ApiResponse<BlotterApiService.ChangePage<T>>> response = call.execute();
+
+            if (!response.isSuccessful() || response.body() == null || !response.body().isSuccess()) {
+                throw new IOException("Failed to pull " + entityType + ": " + response.code());
+            }
+
+            // Measured by the event listener - Content-Length is gone once gzip/Brotli is decoded
+            result.bytesTransferred += NetworkTimingListener.getResponseBodyBytes(call.request());
+            BlotterApiService.ChangePage<T> page = response.body().getData();
+            if (page == null) {
+                break;
+            }
+
+            SyncCursor next = advance(cursor, page, updatedAtOf, idOf);
+            database.runInTransaction(() -> {
+                applier.apply(page);
+                database.syncCursorDao().upsertCursor(next);
+            });
+
+            int changed = (page.items != null ? page.items.size() : 0);
+            int deleted = (page.deletedIds != null ? page.deletedIds.size() : 0);
+            result.rowsChanged += changed;
+            result.rowsDeleted += deleted;
+            if (ENTITY_REPORTS.equals(entityType)) {
+                result.reportsChanged += changed;
+            } else if (ENTITY_USERS.equals(entityType)) {
+                result.usersChanged += changed;
+            }
+            result.pages++;
+            pages++;
+
+            boolean cursorMoved = next.getLastUpdatedAt() != cursor.getLastUpdatedAt()
+                    || next.getLastId() != cursor.getLastId();
+            hasMore = page.hasMore && cursorMoved;
+            cursor = next;
+        }
+
+        Log.d(TAG, "   ✅ " + entityType + ": " + pages + " page(s)");
+    }
+
+    /**
+     * Next cursor - server-provided when present, otherwise the last row of the page
+     */
+    private <T> SyncCursor advance(SyncCursor current, BlotterApiService.ChangePage<T> page,
+                                   UpdatedAtOf<T> updatedAtOf, IdOf<T> idOf) {
+        SyncCursor next = new SyncCursor(current.getEntityType());
+        next.setLastUpdatedAt(current.getLastUpdatedAt());
+        next.setLastId(current.getLastId());
+        next.setLastSyncedAt(System.currentTimeMillis());
+
+        if (page.nextSince > 0) {
+            next.setLastUpdatedAt(page.nextSince);
+            next.setLastId(page.nextAfterId);
+        } else if (page.items != null && !page.items.isEmpty()) {
+            T last = page.items.get(page.items.size() - 1);
+            next.setLastUpdatedAt(updatedAtOf.get(last));
+            next.setLastId(idOf.get(last));
+        }
+        return next;
+    }
+
+    /**
+     * Clears every cursor so the next run is a full pull
+     */
+    public void resetCursors() {
+        database.syncCursorDao().resetAllCursors();
+    }
+
+    // Functional hooks for the generic pull loop
+    private interface PageFetcher<T> {
+        Call<ApiResponse<BlotterApiService.ChangePage<T>>> fetch(long since, int afterId, int limit);
+    }
+
+    private interface PageApplier<T> {
+        void apply(BlotterApiService.ChangePage<T> page);
+    }
+
+    private interface UpdatedAtOf<T> {
+        long get(T item);
+    }
+
+    private interface IdOf<T> {
+        int get(T item);
+    }
+
+    // Result class
+    public static class SyncResult {
+        public int rowsChanged;
+        public int rowsDeleted;
+        public int reportsChanged;
+        public int usersChanged;
+        public int pages;
+        public long bytesTransferred;
+        public long durationMs;
+
+        @Override
+        public String toString() {
+            return "SyncResult{" +
+                    "rowsChanged=" + rowsChanged +
+                    ", rowsDeleted=" + rowsDeleted +
+                    ", reportsChanged=" + reportsChanged +
+                    ", usersChanged=" + usersChanged +
+                    ", pages=" + pages +
+                    ", bytesTransferred=" + bytesTransferred +
+                    ", durationMs=" + durationMs +
+                    '}';
+        }
+    }
+}
@@ -3,28 +3,39 @@ package com.example.blottermanagementsystem.utils;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.pdf.PdfDocument;
 import android.net.Uri;
 import android.os.Environment;
 import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.EvidenceDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Evidence;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 public class ExportUtils {
     private static final String TAG = "ExportUtils";
+    private static final int PDF_PAGE_SIZE = 100;
+    
+    // SimpleDateFormat is not thread-safe; one per thread instead of one per report
+    private static final ThreadLocal<SimpleDateFormat> DATE_TIME_FORMAT = ThreadLocal.withInitial(
+        () -> new SimpleDateFormat("MMMM dd, yyyy hh:mm a", Locale.getDefault()));
+    private static final ThreadLocal<SimpleDateFormat> FOOTER_DATE_FORMAT = ThreadLocal.withInitial(
+        () -> new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()));
     
     public static String exportReportsToJson(Context context, List<BlotterReport> reports) {
         try {
@@ -38,12 +49,16 @@ public class ExportUtils {
             String fileName = "blotter_reports_" + timestamp + ".json";
             File file = new File(exportDir, fileName);
             
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            String json = gson.toJson(reports);
-            
-            FileWriter writer = new FileWriter(file);
-            writer.write(json);
-            writer.close();
+            // Streamed one report at a time - the whole document never exists as a String
+            Gson gson = new Gson();
+            try (JsonWriter writer = new JsonWriter(newWriter(file))) {
+                writer.setIndent("  ");
+                writer.beginArray();
+                for (BlotterReport report : reports) {
+                    gson.toJson(report, BlotterReport.class, writer);
+                }
+                writer.endArray();
+            }
             
             Log.d(TAG, "Reports exported to: " + file.getAbsolutePath());
             return file.getAbsolutePath();
@@ -65,25 +80,23 @@ public class ExportUtils {
             String fileName = "blotter_reports_" + timestamp + ".csv";
             File file = new File(exportDir, fileName);
             
-            FileWriter writer = new FileWriter(file);
-            
-            // CSV Header
-            writer.append("ID,Case Number,Incident Type,Status,Location,Date,Description\n");
+            try (Writer writer = newWriter(file)) {
+                // CSV Header
+                writer.append("ID,Case Number,Incident Type,Status,Location,Date,Description\n");
             
-            // CSV Data
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
-            for (BlotterReport report : reports) {
-                writer.append(String.valueOf(report.getId())).append(",");
-                writer.append(escapeCsv(report.getCaseNumber())).append(",");
-                writer.append(escapeCsv(report.getIncidentType())).append(",");
-                writer.append(escapeCsv(report.getStatus())).append(",");
-                writer.append(escapeCsv(report.getLocation())).append(",");
-                writer.append(dateFormat.format(new Date(report.getIncidentDate()))).append(",");
-                writer.append(escapeCsv(report.getDescription())).append("\n");
+                // CSV Data
+                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
+                for (BlotterReport report : reports) {
+                    writer.append(String.valueOf(report.getId())).append(",");
+                    writer.append(escapeCsv(report.getCaseNumber())).append(",");
+                    writer.append(escapeCsv(report.getIncidentType())).append(",");
+                    writer.append(escapeCsv(report.getStatus())).append(",");
+                    writer.append(escapeCsv(report.getLocation())).append(",");
+                    writer.append(dateFormat.format(new Date(report.getIncidentDate()))).append(",");
+                    writer.append(escapeCsv(report.getDescription())).append("\n");
+                }
             }
             
-            writer.close();
-            
             Log.d(TAG, "Reports exported to: " + file.getAbsolutePath());
             return file.getAbsolutePath();
         } catch (IOException e) {
@@ -92,6 +105,11 @@ public class ExportUtils {
         }
     }
     
+    // Buffered UTF-8 - FileWriter alone issues a write per append
+    private static Writer newWriter(File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), 64 * 1024);
+    }
+    
     private static String escapeCsv(String value) {
         if (value == null) return "";
         if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
@@ -102,209 +120,135 @@ public class ExportUtils {
     
     /**
      * Export reports to PDF with professional layout and signatures
+     * Each report starts on a new page; long narratives continue on the following pages.
      */
     public static String exportReportsToPdf(Context context, List<BlotterReport> reports, List<Evidence> evidenceList) {
-        try {
-            File exportDir = new File(context.getExternalFilesDir(Environment.DIRECTORY_DOCUMENTS), "exports");
-            if (!exportDir.exists()) {
-                exportDir.mkdirs();
+        return exportReportsToPdf(context, reports, evidenceList, null);
+    }
+    
+    public static String exportReportsToPdf(Context context, List<BlotterReport> reports, List<Evidence> evidenceList,
+                                            PdfLayoutEngine.ProgressListener listener) {
+        File file = newPdfFile(context);
+        try (PdfLayoutEngine engine = new PdfLayoutEngine(new FileOutputStream(file))) {
+            // One pass over the evidence instead of one per report
+            Map<Integer, Integer> evidenceCounts = new HashMap<>();
+            for (Evidence evidence : evidenceList) {
+                evidenceCounts.merge(evidence.getBlotterReportId(), 1, Integer::sum);
             }
             
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault()).format(new Date());
-            String fileName = "blotter_report_" + timestamp + ".pdf";
-            File file = new File(exportDir, fileName);
-            
-            PdfDocument document = new PdfDocument();
-            
-            // Paint styles
-            Paint titlePaint = new Paint();
-            titlePaint.setTextSize(24);
-            titlePaint.setColor(Color.BLACK);
-            titlePaint.setFakeBoldText(true);
-            titlePaint.setTextAlign(Paint.Align.CENTER);
-            
-            Paint subtitlePaint = new Paint();
-            subtitlePaint.setTextSize(14);
-            subtitlePaint.setColor(Color.DKGRAY);
-            subtitlePaint.setTextAlign(Paint.Align.CENTER);
-            
-            Paint headerPaint = new Paint();
-            headerPaint.setTextSize(14);
-            headerPaint.setColor(Color.BLACK);
-            headerPaint.setFakeBoldText(true);
-            
-            Paint labelPaint = new Paint();
-            labelPaint.setTextSize(11);
-            labelPaint.setColor(Color.DKGRAY);
-            labelPaint.setFakeBoldText(true);
-            
-            Paint valuePaint = new Paint();
-            valuePaint.setTextSize(11);
-            valuePaint.setColor(Color.BLACK);
-            
-            Paint linePaint = new Paint();
-            linePaint.setColor(Color.LTGRAY);
-            linePaint.setStrokeWidth(1);
-            
-            Paint signaturePaint = new Paint();
-            signaturePaint.setTextSize(10);
-            signaturePaint.setColor(Color.DKGRAY);
-            
-            int pageNumber = 1;
-            SimpleDateFormat dateFormat = new SimpleDateFormat("MMMM dd, yyyy hh:mm a", Locale.getDefault());
-            
+            engine.setFooterText("Generated: " + FOOTER_DATE_FORMAT.get().format(new Date()));
+            int done = 0;
             for (BlotterReport report : reports) {
-                PdfDocument.PageInfo pageInfo = new PdfDocument.PageInfo.Builder(595, 842, pageNumber).create();
-                PdfDocument.Page page = document.startPage(pageInfo);
-                Canvas canvas = page.getCanvas();
-                
-                int yPos = 40;
-                
-                // Header
-                canvas.drawText("REPUBLIC OF THE PHILIPPINES", 297, yPos, subtitlePaint);
-                yPos += 18;
-                canvas.drawText("BARANGAY BLOTTER REPORT", 297, yPos, titlePaint);
-                yPos += 20;
-                canvas.drawText("Official Document", 297, yPos, subtitlePaint);
-                yPos += 30;
-                
-                // Horizontal line
-                canvas.drawLine(50, yPos, 545, yPos, linePaint);
-                yPos += 25;
-                
-                // Case Number Box
-                Paint boxPaint = new Paint();
-                boxPaint.setColor(Color.parseColor("#F0F0F0"));
-                boxPaint.setStyle(Paint.Style.FILL);
-                canvas.drawRect(50, yPos - 20, 545, yPos + 15, boxPaint);
-                canvas.drawText("CASE NO: " + report.getCaseNumber(), 60, yPos, headerPaint);
-                yPos += 35;
-                
-                // Report Details Section
-                canvas.drawText("INCIDENT INFORMATION", 50, yPos, headerPaint);
-                yPos += 20;
-                
-                // Incident Type
-                canvas.drawText("Incident Type:", 50, yPos, labelPaint);
-                canvas.drawText(report.getIncidentType(), 200, yPos, valuePaint);
-                yPos += 20;
-                
-                // Status
-                canvas.drawText("Status:", 50, yPos, labelPaint);
-                canvas.drawText(report.getStatus(), 200, yPos, valuePaint);
-                yPos += 20;
-                
-                // Date & Time
-                canvas.drawText("Date & Time:", 50, yPos, labelPaint);
-                canvas.drawText(dateFormat.format(new Date(report.getIncidentDate())), 200, yPos, valuePaint);
-                yPos += 20;
-                
-                // Location
-                canvas.drawText("Location:", 50, yPos, labelPaint);
-                canvas.drawText(report.getLocation(), 200, yPos, valuePaint);
-                yPos += 30;
-                
-                // Complainant Section
-                canvas.drawText("COMPLAINANT INFORMATION", 50, yPos, headerPaint);
-                yPos += 20;
-                
-                canvas.drawText("Name:", 50, yPos, labelPaint);
-                canvas.drawText(report.getComplainantName(), 200, yPos, valuePaint);
-                yPos += 20;
-                
-                canvas.drawText("Contact:", 50, yPos, labelPaint);
-                canvas.drawText(report.getComplainantContact() != null ? report.getComplainantContact() : "N/A", 200, yPos, valuePaint);
-                yPos += 30;
-                
-                // Description Section
-                canvas.drawText("INCIDENT DESCRIPTION", 50, yPos, headerPaint);
-                yPos += 20;
-                
-                String description = report.getDescription();
-                if (description != null && !description.isEmpty()) {
-                    String[] words = description.split(" ");
-                    StringBuilder line = new StringBuilder();
-                    for (String word : words) {
-                        if (valuePaint.measureText(line + word + " ") < 495) {
-                            line.append(word).append(" ");
-                        } else {
-                            canvas.drawText(line.toString(), 50, yPos, valuePaint);
-                            yPos += 18;
-                            line = new StringBuilder(word + " ");
-                        }
-                    }
-                    if (line.length() > 0) {
-                        canvas.drawText(line.toString(), 50, yPos, valuePaint);
-                        yPos += 30;
-                    }
+                Integer evidenceCount = evidenceCounts.get(report.getId());
+                writeReportPages(engine, report, evidenceCount != null ? evidenceCount : 0);
+                done++;
+                if (listener != null) listener.onProgress(done, reports.size(), engine.getPageCount());
+            }
+            
+            Log.d(TAG, "Professional PDF exported to: " + file.getAbsolutePath() + " (" + engine.getPageCount() + " pages)");
+        } catch (Exception e) {
+            Log.e(TAG, "Error exporting PDF", e);
+            file.delete();
+            return null;
+        }
+        return file.getAbsolutePath();
+    }
+    
+    /**
+     * Export every active report straight from the database, one page of rows at a time
+     */
+    public static String exportAllReportsToPdf(Context context, PdfLayoutEngine.ProgressListener listener) {
+        BlotterDatabase database = BlotterDatabase.getDatabase(context);
+        File file = newPdfFile(context);
+        try (PdfLayoutEngine engine = new PdfLayoutEngine(new FileOutputStream(file))) {
+            engine.setFooterText("Generated: " + FOOTER_DATE_FORMAT.get().format(new Date()));
+            int total = database.blotterReportDao().getActiveReportCount();
+            int done = 0;
+            int afterId = 0;
+            List<BlotterReport> page;
+            do {
+                // Report rows and one evidence count per report - the export never shows the children
+                page = database.blotterReportDao().getActiveReportsAfter(afterId, PDF_PAGE_SIZE);
+                List<Integer> reportIds = new ArrayList<>(page.size());
+                for (BlotterReport report : page) {
+                    reportIds.add(report.getId());
                 }
-                
-                // Evidence count
-                int evidenceCount = 0;
-                for (Evidence evidence : evidenceList) {
-                    if (evidence.getBlotterReportId() == report.getId()) {
-                        evidenceCount++;
+                Map<Integer, Integer> evidenceCounts = new HashMap<>();
+                if (!reportIds.isEmpty()) {
+                    for (EvidenceDao.ReportCount row : database.evidenceDao().getEvidenceCountsByReports(reportIds)) {
+                        evidenceCounts.put(row.reportId, row.count);
                     }
                 }
-                
-                canvas.drawText("EVIDENCE ATTACHED", 50, yPos, headerPaint);
-                yPos += 20;
-                canvas.drawText("Total Evidence Items: " + evidenceCount, 50, yPos, valuePaint);
-                yPos += 40;
-                
-                // Signature Section
-                canvas.drawLine(50, yPos, 545, yPos, linePaint);
-                yPos += 25;
-                
-                canvas.drawText("CERTIFICATION & SIGNATURES", 50, yPos, headerPaint);
-                yPos += 30;
-                
-                // Prepared by
-                canvas.drawText("Prepared by:", 50, yPos, signaturePaint);
-                yPos += 40;
-                canvas.drawLine(50, yPos, 250, yPos, linePaint);
-                yPos += 15;
-                canvas.drawText("Officer's Signature", 50, yPos, signaturePaint);
-                yPos += 15;
-                canvas.drawText("Date: _______________", 50, yPos, signaturePaint);
-                
-                // Noted by
-                int rightCol = 320;
-                yPos -= 70;
-                canvas.drawText("Noted by:", rightCol, yPos, signaturePaint);
-                yPos += 40;
-                canvas.drawLine(rightCol, yPos, 545, yPos, linePaint);
-                yPos += 15;
-                canvas.drawText("Barangay Captain's Signature", rightCol, yPos, signaturePaint);
-                yPos += 15;
-                canvas.drawText("Date: _______________", rightCol, yPos, signaturePaint);
-                
-                // Footer
-                yPos = 810;
-                canvas.drawLine(50, yPos, 545, yPos, linePaint);
-                yPos += 15;
-                Paint footerPaint = new Paint();
-                footerPaint.setTextSize(9);
-                footerPaint.setColor(Color.GRAY);
-                canvas.drawText("Generated: " + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault()).format(new Date()), 50, yPos, footerPaint);
-                footerPaint.setTextAlign(Paint.Align.RIGHT);
-                canvas.drawText("Page " + pageNumber + " of " + reports.size(), 545, yPos, footerPaint);
-                
-                document.finishPage(page);
-                pageNumber++;
-            }
-            
-            FileOutputStream fos = new FileOutputStream(file);
-            document.writeTo(fos);
-            document.close();
-            fos.close();
+                for (BlotterReport report : page) {
+                    afterId = report.getId();
+                    Integer evidenceCount = evidenceCounts.get(report.getId());
+                    writeReportPages(engine, report, evidenceCount != null ? evidenceCount : 0);
+                    done++;
+                    if (listener != null) listener.onProgress(done, total, engine.getPageCount());
+                }
+            } while (page.size() == PDF_PAGE_SIZE);
             
-            Log.d(TAG, "Professional PDF exported to: " + file.getAbsolutePath());
-            return file.getAbsolutePath();
+            Log.d(TAG, "📊 Exported " + done + " reports to " + engine.getPageCount() + " PDF pages");
         } catch (Exception e) {
             Log.e(TAG, "Error exporting PDF", e);
+            file.delete();
             return null;
         }
+        return file.getAbsolutePath();
+    }
+    
+    private static File newPdfFile(Context context) {
+        File exportDir = new File(context.getExternalFilesDir(Environment.DIRECTORY_DOCUMENTS), "exports");
+        if (!exportDir.exists()) {
+            exportDir.mkdirs();
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault()).format(new Date());
+        return new File(exportDir, "blotter_report_" + timestamp + ".pdf");
+    }
+    
+    /**
+     * One report, starting on a fresh page
+     */
+    static void writeReportPages(PdfLayoutEngine engine, BlotterReport report, int evidenceCount) throws IOException {
+        engine.newPage();
+        
+        // Header
+        engine.centeredText("REPUBLIC OF THE PHILIPPINES", PdfLayoutEngine.SUBTITLE);
+        engine.centeredText("BARANGAY BLOTTER REPORT", PdfLayoutEngine.TITLE);
+        engine.centeredText("Official Document", PdfLayoutEngine.SUBTITLE);
+        engine.rule();
+        engine.space(10);
+        
+        engine.shadedLine("CASE NO: " + report.getCaseNumber(), PdfLayoutEngine.HEADING, 0xFFF0F0F0);
+        
+        // Report Details Section
+        engine.heading("INCIDENT INFORMATION");
+        engine.labelValue("Incident Type:", report.getIncidentType());
+        engine.labelValue("Status:", report.getStatus());
+        engine.labelValue("Date & Time:", DATE_TIME_FORMAT.get().format(new Date(report.getIncidentDate())));
+        engine.labelValue("Location:", report.getLocation());
+        engine.space(10);
+        
+        // Complainant Section
+        engine.heading("COMPLAINANT INFORMATION");
+        engine.labelValue("Name:", report.getComplainantName());
+        engine.labelValue("Contact:", report.getComplainantContact());
+        engine.space(10);
+        
+        // Description Section
+        engine.heading("INCIDENT DESCRIPTION");
+        String description = report.getDescription();
+        engine.paragraph(description != null && !description.isEmpty() ? description : "N/A", PdfLayoutEngine.BODY);
+        engine.space(10);
+        
+        engine.heading("EVIDENCE ATTACHED");
+        engine.paragraph("Total Evidence Items: " + evidenceCount, PdfLayoutEngine.BODY);
+        engine.space(10);
+        
+        // Signature Section
+        engine.rule();
+        engine.heading("CERTIFICATION & SIGNATURES");
+        engine.signatureBlock("Prepared by:", "Officer's Signature", "Noted by:", "Barangay Captain's Signature");
     }
     
     /**
@@ -321,34 +265,32 @@ public class ExportUtils {
             String fileName = "blotter_reports_" + timestamp + ".csv";
             File file = new File(exportDir, fileName);
             
-            FileWriter writer = new FileWriter(file);
-            
-            // CSV Header
-            writer.append("Case Number,Incident Type,Status,Location,Date,Complainant,Description,Evidence Count\n");
+            try (Writer writer = newWriter(file)) {
+                // CSV Header
+                writer.append("Case Number,Incident Type,Status,Location,Date,Complainant,Description,Evidence Count\n");
             
-            // CSV Data
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
-            for (BlotterReport report : reports) {
-                // Count evidence for this report
-                int evidenceCount = 0;
-                for (Evidence evidence : evidenceList) {
-                    if (evidence.getBlotterReportId() == report.getId()) {
-                        evidenceCount++;
+                // CSV Data
+                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
+                for (BlotterReport report : reports) {
+                    // Count evidence for this report
+                    int evidenceCount = 0;
+                    for (Evidence evidence : evidenceList) {
+                        if (evidence.getBlotterReportId() == report.getId()) {
+                            evidenceCount++;
+                        }
                     }
-                }
                 
-                writer.append(escapeCsv(report.getCaseNumber())).append(",");
-                writer.append(escapeCsv(report.getIncidentType())).append(",");
-                writer.append(escapeCsv(report.getStatus())).append(",");
-                writer.append(escapeCsv(report.getLocation())).append(",");
-                writer.append(dateFormat.format(new Date(report.getIncidentDate()))).append(",");
-                writer.append(escapeCsv(report.getComplainantName())).append(",");
-                writer.append(escapeCsv(report.getDescription())).append(",");
-                writer.append(String.valueOf(evidenceCount)).append("\n");
+                    writer.append(escapeCsv(report.getCaseNumber())).append(",");
+                    writer.append(escapeCsv(report.getIncidentType())).append(",");
+                    writer.append(escapeCsv(report.getStatus())).append(",");
+                    writer.append(escapeCsv(report.getLocation())).append(",");
+                    writer.append(dateFormat.format(new Date(report.getIncidentDate()))).append(",");
+                    writer.append(escapeCsv(report.getComplainantName())).append(",");
+                    writer.append(escapeCsv(report.getDescription())).append(",");
+                    writer.append(String.valueOf(evidenceCount)).append("\n");
+                }
             }
             
-            writer.close();
-            
             Log.d(TAG, "Excel (CSV) exported to: " + file.getAbsolutePath());
             return file.getAbsolutePath();
         } catch (IOException e) {
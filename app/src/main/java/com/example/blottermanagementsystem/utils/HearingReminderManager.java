@@ -7,10 +7,7 @@ import androidx.work.OneTimeWorkRequest;
 import androidx.work.WorkManager;
 import com.example.blottermanagementsystem.data.entity.Hearing;
 import com.example.blottermanagementsystem.workers.HearingReminderWorker;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
-import java.util.Date;
-import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -37,17 +34,13 @@ public class HearingReminderManager {
         }
         
         try {
-            // Parse hearing date and time
-            String dateTimeStr = hearing.getHearingDate() + " " + hearing.getHearingTime();
-            SimpleDateFormat sdf = new SimpleDateFormat("MMM dd, yyyy hh:mm a", Locale.getDefault());
-            Date hearingDateTime = sdf.parse(dateTimeStr);
-            
-            if (hearingDateTime == null) {
+            // Stored epoch millis; parsed once only for hearings that never went through HearingDao
+            long hearingTimeMs = hearing.resolveScheduledAt();
+            if (hearingTimeMs == 0) {
                 Log.e(TAG, "Could not parse hearing date/time");
                 return;
             }
             
-            long hearingTimeMs = hearingDateTime.getTime();
             long currentTimeMs = System.currentTimeMillis();
             
             // ✅ Schedule reminders based on user preferences
@@ -3,10 +3,9 @@ package com.example.blottermanagementsystem.utils;
 import android.content.Context;
 import android.util.Log;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
-import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.example.blottermanagementsystem.data.entity.SyncQueue;
-import java.util.List;
-import java.util.concurrent.Executors;
+import com.example.blottermanagementsystem.data.model.ReportStatusCounts;
+import com.example.blottermanagementsystem.workers.SyncQueueWorker;
+import java.io.IOException;
 
 /**
  * HybridSyncManager - Manages both local and cloud synchronization
@@ -18,12 +17,16 @@ public class HybridSyncManager {
     private final BlotterDatabase database;
     private final NetworkMonitor networkMonitor;
     private final PreferencesManager preferencesManager;
+    private final DeltaSyncEngine deltaSyncEngine;
+    private final SyncQueueDrainer syncQueueDrainer;
     
     public HybridSyncManager(Context context) {
         this.context = context;
         this.database = BlotterDatabase.getDatabase(context);
         this.networkMonitor = new NetworkMonitor(context);
         this.preferencesManager = new PreferencesManager(context);
+        this.deltaSyncEngine = new DeltaSyncEngine(context);
+        this.syncQueueDrainer = new SyncQueueDrainer(context);
     }
     
     /**
@@ -32,7 +35,7 @@ public class HybridSyncManager {
      * ONLINE: Syncs with cloud and local database
      */
     public void syncAll(SyncCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().network().execute(() -> {
             try {
                 boolean isOnline = networkMonitor.isNetworkAvailable();
                 Log.d(TAG, "🔄 Starting sync - Network: " + (isOnline ? "ONLINE" : "OFFLINE"));
@@ -59,15 +62,14 @@ public class HybridSyncManager {
             // Step 1: Process pending local changes
             processPendingSyncQueue();
             
-            // Step 2: Fetch latest data from cloud
-            fetchCloudData();
+            // Step 2: Pull changed rows since the last cursor and merge them in transactions
+            DeltaSyncEngine.SyncResult result = pullCloudChanges();
             
-            // Step 3: Merge and update local database
-            mergeCloudData();
-            
-            // Step 4: Mark sync as complete
+            // Step 3: Mark sync as complete
             preferencesManager.saveString("last_sync", String.valueOf(System.currentTimeMillis()));
             preferencesManager.saveString("last_sync_status", "SUCCESS");
+            preferencesManager.saveString("last_sync_rows", String.valueOf(result.rowsChanged));
+            preferencesManager.saveString("last_sync_bytes", String.valueOf(result.bytesTransferred));
             
             Log.d(TAG, "✅ Online sync completed successfully");
             callback.onSuccess();
@@ -106,36 +108,18 @@ public class HybridSyncManager {
     
     /**
      * Processes pending changes in SyncQueue
+     * Coalesced, batched upload; failures stay queued with backoff
      */
     private void processPendingSyncQueue() {
         Log.d(TAG, "📤 Processing pending sync queue...");
         
         try {
-            List<SyncQueue> pendingItems = database.syncQueueDao().getPendingSyncItems();
-            Log.d(TAG, "   Found " + pendingItems.size() + " pending items");
+            SyncQueueDrainer.DrainResult result = syncQueueDrainer.drain();
+            Log.d(TAG, "   ✅ Sent " + result.sent + ", failed " + result.failed + ", remaining " + result.remaining);
             
-            for (SyncQueue item : pendingItems) {
-                try {
-                    Log.d(TAG, "   Processing: " + item.getEntityType() + " - " + item.getAction());
-                    
-                    // Send to cloud API
-                    // TODO: Implement cloud API call
-                    // apiRepository.syncItem(item);
-                    
-                    // Mark as synced
-                    item.setSynced(true);
-                    database.syncQueueDao().updateSyncItem(item);
-                    
-                    Log.d(TAG, "   ✅ Synced: " + item.getEntityType());
-                    
-                } catch (Exception e) {
-                    // Increment retry count
-                    item.setRetryCount(item.getRetryCount() + 1);
-                    item.setLastError(e.getMessage());
-                    database.syncQueueDao().updateSyncItem(item);
-                    
-                    Log.w(TAG, "   ⚠️ Retry " + item.getRetryCount() + ": " + e.getMessage());
-                }
+            // Leftovers are picked up by the background worker once their backoff elapses
+            if (result.remaining > 0) {
+                SyncQueueWorker.enqueue(context);
             }
             
         } catch (Exception e) {
@@ -144,41 +128,16 @@ public class HybridSyncManager {
     }
     
     /**
-     * Fetches latest data from cloud
+     * Pulls changes from cloud (delta) and merges them into the local database
+     * Only rows newer than each entity's stored cursor are downloaded
      */
-    private void fetchCloudData() {
-        Log.d(TAG, "☁️ Fetching data from cloud...");
+    private DeltaSyncEngine.SyncResult pullCloudChanges() throws IOException {
+        Log.d(TAG, "☁️ Pulling cloud changes...");
         
-        try {
-            // TODO: Implement cloud API calls
-            // List<BlotterReport> cloudReports = apiRepository.getAllReports();
-            // List<Officer> cloudOfficers = apiRepository.getAllOfficers();
-            
-            Log.d(TAG, "   ✅ Cloud data fetched");
-            
-        } catch (Exception e) {
-            Log.e(TAG, "Error fetching cloud data: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Merges cloud data with local database
-     */
-    private void mergeCloudData() {
-        Log.d(TAG, "🔀 Merging cloud data with local database...");
-        
-        try {
-            // TODO: Implement merge logic
-            // For each cloud report:
-            //   - Check if exists locally
-            //   - If newer: update local
-            //   - If local is newer: queue for upload
-            
-            Log.d(TAG, "   ✅ Data merged successfully");
-            
-        } catch (Exception e) {
-            Log.e(TAG, "Error merging data: " + e.getMessage());
-        }
+        DeltaSyncEngine.SyncResult result = deltaSyncEngine.pullAll();
+        Log.d(TAG, "   ✅ " + result.rowsChanged + " rows changed, " + result.rowsDeleted + " deleted, " +
+                result.bytesTransferred + " bytes");
+        return result;
     }
     
     /**
@@ -219,8 +178,13 @@ public class HybridSyncManager {
         Log.d(TAG, "📋 Queuing pending changes...");
         
         try {
-            List<SyncQueue> pendingItems = database.syncQueueDao().getPendingSyncItems();
-            Log.d(TAG, "   " + pendingItems.size() + " items queued for cloud sync");
+            int pendingCount = database.syncQueueDao().getPendingCount();
+            Log.d(TAG, "   " + pendingCount + " items queued for cloud sync");
+            
+            // Worker waits for connectivity, then drains the queue
+            if (pendingCount > 0) {
+                SyncQueueWorker.enqueue(context);
+            }
             
         } catch (Exception e) {
             Log.e(TAG, "Error queuing changes: " + e.getMessage());
@@ -231,18 +195,19 @@ public class HybridSyncManager {
      * Gets sync status information
      */
     public void getSyncStatus(StatusCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
                 SyncStatus status = new SyncStatus();
                 status.isOnline = networkMonitor.isNetworkAvailable();
                 status.lastSyncTime = preferencesManager.getString("last_sync", "Never");
                 status.lastSyncStatus = preferencesManager.getString("last_sync_status", "Unknown");
+                status.lastSyncRowsChanged = preferencesManager.getString("last_sync_rows", "0");
+                status.lastSyncBytes = preferencesManager.getString("last_sync_bytes", "0");
                 
-                List<SyncQueue> pendingItems = database.syncQueueDao().getPendingSyncItems();
-                status.pendingChanges = pendingItems.size();
+                status.pendingChanges = database.syncQueueDao().getPendingCount();
                 
-                List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
-                status.totalReports = allReports.size();
+                status.totalReports = ReportStatusCounts.from(
+                        database.dashboardStatsDao().getAllStatusCounts()).getTotal();
                 
                 callback.onStatusReady(status);
                 
@@ -271,6 +236,8 @@ public class HybridSyncManager {
         public String lastSyncStatus;
         public int pendingChanges;
         public int totalReports;
+        public String lastSyncRowsChanged;
+        public String lastSyncBytes;
         
         @Override
         public String toString() {
@@ -280,6 +247,8 @@ public class HybridSyncManager {
                     ", lastSyncStatus='" + lastSyncStatus + '\'' +
                     ", pendingChanges=" + pendingChanges +
                     ", totalReports=" + totalReports +
+                    ", lastSyncRowsChanged='" + lastSyncRowsChanged + '\'' +
+                    ", lastSyncBytes='" + lastSyncBytes + '\'' +
                     '}';
         }
     }
@@ -4,10 +4,14 @@ import android.content.Context;
 import android.net.Uri;
 import android.util.Log;
 import java.io.File;
+import java.util.List;
 
 public class MediaUploadHelper {
     private static final String TAG = "MediaUploadHelper";
     
+    public static final String TYPE_IMAGE = "image";
+    public static final String TYPE_VIDEO = "video";
+    
     public static void uploadMedia(Context context, Uri mediaUri, String mediaType, UploadCallback callback) {
         try {
             String optimizedPath = null;
@@ -38,6 +42,40 @@ public class MediaUploadHelper {
         }
     }
     
+    /**
+     * Queue evidence for a resumable chunked upload instead of one long request
+     * Survives dropped connections and app restarts; progress is in the upload_tasks table.
+     */
+    public static void queueEvidence(Context context, int reportId, Uri mediaUri, String mediaType,
+                                     ResumableUploadManager.QueueCallback callback) {
+        Log.d(TAG, "📦 Queueing " + mediaType + " evidence for report " + reportId);
+        ResumableUploadManager.queue(context, reportId, mediaUri, mediaType, callback);
+    }
+    
+    /**
+     * Queue every photo and video attached to a saved report
+     * Returns at once; ResumableUploadWorker uploads them when the network allows.
+     */
+    public static void queueReportMedia(Context context, int reportId, List<Uri> images, List<Uri> videos) {
+        ResumableUploadManager.QueueCallback logResult = new ResumableUploadManager.QueueCallback() {
+            @Override
+            public void onQueued(int taskId) {
+                Log.d(TAG, "✅ Evidence queued as upload #" + taskId);
+            }
+            
+            @Override
+            public void onError(String errorMessage) {
+                Log.w(TAG, "⚠️ Could not queue evidence for report " + reportId + ": " + errorMessage);
+            }
+        };
+        for (Uri image : images) {
+            queueEvidence(context, reportId, image, TYPE_IMAGE, logResult);
+        }
+        for (Uri video : videos) {
+            queueEvidence(context, reportId, video, TYPE_VIDEO, logResult);
+        }
+    }
+    
     public interface UploadCallback {
         void onSuccess(String url);
         void onError(String error);
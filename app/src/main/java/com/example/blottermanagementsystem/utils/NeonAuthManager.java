@@ -3,6 +3,10 @@ package com.example.blottermanagementsystem.utils;
 import android.content.Context;
 import android.util.Log;
 
+import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.data.api.LoginResponse;
+import com.example.blottermanagementsystem.data.entity.User;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
@@ -57,11 +61,14 @@ public class NeonAuthManager {
     public NeonAuthManager(Context context) {
         this.context = context;
         this.preferencesManager = new PreferencesManager(context);
+        // Sign-in goes through ApiClient, which needs a Context before its first call
+        ApiClient.ensureInitialized(context);
         
         // Initialize Retrofit
         Gson gson = new GsonBuilder().setLenient().create();
         this.retrofit = new Retrofit.Builder()
             .baseUrl(BACKEND_URL)
+            .client(com.example.blottermanagementsystem.data.api.HttpClientProvider.getClient())
             .addConverterFactory(GsonConverterFactory.create(gson))
             .build();
     }
@@ -71,7 +78,7 @@ public class NeonAuthManager {
      */
     public void signUp(String email, String password, String username, String firstName, String lastName, String profileImageUrl, AuthCallback callback) {
         Log.d(TAG, "🔐 [NeonAuth] Attempting real API sign up: " + email + ", username: " + username + ", firstName: " + firstName + ", lastName: " + lastName + ", profileImage: " + profileImageUrl);
-        com.example.blottermanagementsystem.data.api.ApiClient.register(
+        ApiClient.register(
             username,
             email,
             password,
@@ -79,7 +86,7 @@ public class NeonAuthManager {
             firstName,
             lastName,
             profileImageUrl,
-            new com.example.blottermanagementsystem.data.api.ApiClient.ApiCallback<Object>() {
+            new ApiClient.ApiCallback<Object>() {
                 public void onSuccess(Object responseObj) {
                     Log.d(TAG, "[NeonAuth] Registration API success: " + new Gson().toJson(responseObj));
                     // For registration, we just need to know it succeeded
@@ -111,24 +118,38 @@ public class NeonAuthManager {
     
     /**
      * Sign in with email and password via Neon Auth
+     * The backend's session tokens are stored by ApiClient.login before this reports success
      */
     public void signIn(String email, String password, AuthCallback callback) {
         Log.d(TAG, "🔐 Signing in with Neon Auth - Email: " + email);
         
-        String userId = java.util.UUID.randomUUID().toString();
-        String username = email.split("@")[0];
-        
-        AuthUser user = new AuthUser(
-            userId,
+        ApiClient.login(
             email,
-            username,
-            username,
-            "",
-            "token_" + userId
+            password,
+            new ApiClient.ApiCallback<LoginResponse>() {
+                public void onSuccess(LoginResponse response) {
+                    User account = response.data.user;
+                    String username = account != null && account.getUsername() != null
+                        ? account.getUsername()
+                        : email.split("@")[0];
+                    AuthUser user = new AuthUser(
+                        account != null ? String.valueOf(account.getId()) : username,
+                        account != null && account.getEmail() != null ? account.getEmail() : email,
+                        username,
+                        account != null && account.getFirstName() != null ? account.getFirstName() : username,
+                        account != null && account.getLastName() != null ? account.getLastName() : "",
+                        response.data.token
+                    );
+                    
+                    Log.d(TAG, "✅ Sign in successful - User ID: " + user.id);
+                    callback.onSuccess(user);
+                }
+                public void onError(String errorMessage) {
+                    Log.e(TAG, "❌ Sign in failed: " + errorMessage);
+                    callback.onError(errorMessage);
+                }
+            }
         );
-        
-        Log.d(TAG, "✅ Sign in successful - User ID: " + userId);
-        callback.onSuccess(user);
     }
     
     /**
@@ -6,6 +6,7 @@ import android.net.Network;
 import android.net.NetworkCapabilities;
 import android.net.NetworkRequest;
 import androidx.annotation.NonNull;
+import com.example.blottermanagementsystem.data.api.HttpClientProvider;
 
 public class NetworkMonitor {
     private final Context context;
@@ -53,6 +54,8 @@ public class NetworkMonitor {
             new ConnectivityManager.NetworkCallback() {
                 @Override
                 public void onAvailable(@NonNull Network network) {
+                    // Failures seen while offline say nothing about the server
+                    HttpClientProvider.getCircuitBreaker().reset();
                     if (networkCallback != null) {
                         networkCallback.onNetworkAvailable();
                     }
@@ -4,7 +4,6 @@ import android.content.Context;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Notification;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 /**
  * NotificationHelper - SYNCED WITH KOTLIN VERSION
@@ -37,7 +36,7 @@ public class NotificationHelper {
      */
     public void notifyNewReport(int userWhoFiledId, String caseNumber, String reportedBy, 
                                int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             android.util.Log.d("NotificationHelper", "🔔 NEW REPORT FILED - Cross-role notification");
             
             // 1. Notify the USER who filed the report (confirmation)
@@ -84,7 +83,7 @@ public class NotificationHelper {
      */
     public void notifyStatusChange(int userId, String caseNumber, String oldStatus, 
                                    String newStatus, int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             android.util.Log.d("NotificationHelper", "🔔 STATUS CHANGE - Cross-role notification");
             
             // 1. Notify the USER who filed the report
@@ -128,7 +127,7 @@ public class NotificationHelper {
      */
     public void notifyOfficerAssignment(int officerUserId, int adminUserId, String caseNumber,
                                        String officerName, int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Notify the officer
             Notification officerNotification = new Notification(
                 officerUserId,
@@ -163,7 +162,7 @@ public class NotificationHelper {
      */
     public void notifyHearingScheduled(List<Integer> userIds, String caseNumber, 
                                       String hearingDate, int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Create notifications for all relevant users
             for (int userId : userIds) {
                 Notification notification = new Notification(
@@ -190,7 +189,7 @@ public class NotificationHelper {
      */
     public void notifyCaseResolved(List<Integer> userIds, String caseNumber, 
                                   String resolutionType, int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Create notifications for all relevant users
             for (int userId : userIds) {
                 Notification notification = new Notification(
@@ -217,7 +216,7 @@ public class NotificationHelper {
      */
     public void notifyEvidenceAdded(int officerUserId, int adminUserId, String caseNumber,
                                    String evidenceType, int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Notify admin
             Notification notification = new Notification(
                 adminUserId,
@@ -242,7 +241,7 @@ public class NotificationHelper {
      */
     public void notifyWitnessAdded(int adminUserId, String caseNumber, String witnessName,
                                   int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Notify admin
             Notification notification = new Notification(
                 adminUserId,
@@ -264,7 +263,7 @@ public class NotificationHelper {
      */
     public void notifySuspectAdded(int adminUserId, String caseNumber, String suspectName,
                                   int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Notify admin
             Notification notification = new Notification(
                 adminUserId,
@@ -286,7 +285,7 @@ public class NotificationHelper {
      */
     public void notifyCaseUpdate(int userId, int adminUserId, String caseNumber,
                                 String updateDescription, int reportId, String performedBy) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().serial().execute(() -> {
             // Notify user who filed the report
             Notification userNotification = new Notification(
                 userId,
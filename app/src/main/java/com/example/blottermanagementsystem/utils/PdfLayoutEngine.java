@@ -0,0 +1,458 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.graphics.Bitmap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PdfLayoutEngine - Flowing layout on top of StreamingPdfWriter
+ *
+ * Callers add blocks (sections, label/value rows, paragraphs, tables, thumbnails) and the
+ * engine tracks the cursor, wraps text and starts new pages as needed. Every page gets the
+ * footer and is flushed to the output as soon as it is full, so memory does not grow with
+ * the number of pages. Styles are immutable and shared instead of new Paint() per call.
+ */
+public class PdfLayoutEngine implements Closeable {
+    public static final float A4_WIDTH = 595;
+    public static final float A4_HEIGHT = 842;
+
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int BORDER_COLOR = 0xFFCCCCCC;
+    private static final int TABLE_HEADER_FILL = 0xFFF0F0F0;
+    private static final float FOOTER_HEIGHT = 28;
+    private static final float CELL_PADDING = 4;
+
+    // Shared text styles
+    public static final Style TITLE = new Style(StreamingPdfWriter.FONT_BOLD, 20, 0xFF000000);
+    public static final Style SUBTITLE = new Style(StreamingPdfWriter.FONT_REGULAR, 12, 0xFF444444);
+    public static final Style HEADING = new Style(StreamingPdfWriter.FONT_BOLD, 13, 0xFF000000);
+    public static final Style LABEL = new Style(StreamingPdfWriter.FONT_BOLD, 10, 0xFF444444);
+    public static final Style BODY = new Style(StreamingPdfWriter.FONT_REGULAR, 10, 0xFF000000);
+    public static final Style SMALL = new Style(StreamingPdfWriter.FONT_REGULAR, 8, 0xFF888888);
+
+    private final StreamingPdfWriter writer;
+    private final float pageWidth;
+    private final float pageHeight;
+    private final float margin;
+    private final float contentWidth;
+
+    private int accentColor = 0xFF1E88E5;
+    private float labelWidth = 130;
+    private String footerText;
+    private float y;
+
+    public PdfLayoutEngine(OutputStream out) throws IOException {
+        this(out, A4_WIDTH, A4_HEIGHT, 40);
+    }
+
+    public PdfLayoutEngine(OutputStream out, float pageWidth, float pageHeight, float margin) throws IOException {
+        this.writer = new StreamingPdfWriter(out);
+        this.pageWidth = pageWidth;
+        this.pageHeight = pageHeight;
+        this.margin = margin;
+        this.contentWidth = pageWidth - margin * 2;
+    }
+
+    public void setAccentColor(int accentColor) {
+        this.accentColor = accentColor;
+    }
+
+    public void setLabelWidth(float labelWidth) {
+        this.labelWidth = labelWidth;
+    }
+
+    /**
+     * Left footer text on every following page; the page number goes on the right
+     */
+    public void setFooterText(String footerText) {
+        this.footerText = footerText;
+    }
+
+    public int getPageCount() {
+        return writer.getPageCount();
+    }
+
+    public float getContentWidth() {
+        return contentWidth;
+    }
+
+    // ===== PAGE FLOW =====
+
+    /**
+     * Starts the next block on a fresh page (no-op on an empty page)
+     */
+    public void newPage() throws IOException {
+        if (writer.isPageOpen() && y > margin) {
+            finishPage();
+        }
+    }
+
+    /**
+     * Makes sure height fits below the cursor, breaking the page if it does not.
+     * @return true if a new page was started
+     */
+    public boolean ensureSpace(float height) throws IOException {
+        if (!writer.isPageOpen()) {
+            startPage();
+            return true;
+        }
+        if (y + height > bottom() && y > margin) {
+            finishPage();
+            startPage();
+            return true;
+        }
+        return false;
+    }
+
+    public void space(float height) {
+        y += height;
+    }
+
+    // ===== BLOCKS =====
+
+    public void centeredText(String text, Style style) throws IOException {
+        ensureSpace(style.leading());
+        y += style.size;
+        float width = StreamingPdfWriter.measureText(text, style.font, style.size);
+        writer.drawText(text, margin + (contentWidth - width) / 2, y, style.font, style.size, style.color);
+        y += style.leading() - style.size;
+    }
+
+    /**
+     * Full-width accent bar with centered white text
+     */
+    public void banner(String text, float size) throws IOException {
+        float height = size * 2;
+        ensureSpace(height);
+        writer.fillRect(margin, y, contentWidth, height, accentColor);
+        float width = StreamingPdfWriter.measureText(text, StreamingPdfWriter.FONT_BOLD, size);
+        writer.drawText(text, margin + (contentWidth - width) / 2, y + size * 1.35f,
+                StreamingPdfWriter.FONT_BOLD, size, WHITE);
+        y += height + 8;
+    }
+
+    /**
+     * Accent bar with the title; kept on the same page as the first line after it
+     */
+    public void sectionHeader(String title) throws IOException {
+        float height = 16;
+        ensureSpace(height + BODY.leading() * 2);
+        writer.fillRect(margin, y, contentWidth, height, accentColor);
+        writer.drawText(title, margin + 5, y + 12, StreamingPdfWriter.FONT_BOLD, 11, WHITE);
+        y += height + 6;
+    }
+
+    /**
+     * Bold heading text, kept with the line after it
+     */
+    public void heading(String title) throws IOException {
+        ensureSpace(HEADING.leading() + BODY.leading() * 2);
+        y += HEADING.size;
+        writer.drawText(title, margin, y, HEADING.font, HEADING.size, HEADING.color);
+        y += HEADING.leading() - HEADING.size + 4;
+    }
+
+    /**
+     * Text on a shaded full-width band (case number box)
+     */
+    public void shadedLine(String text, Style style, int fillColor) throws IOException {
+        float height = style.leading() + 12;
+        ensureSpace(height);
+        writer.fillRect(margin, y, contentWidth, height, fillColor);
+        writer.drawText(text, margin + 10, y + 6 + style.size, style.font, style.size, style.color);
+        y += height + 8;
+    }
+
+    public void rule() throws IOException {
+        ensureSpace(10);
+        y += 5;
+        writer.drawLine(margin, y, margin + contentWidth, y, 1, BORDER_COLOR);
+        y += 5;
+    }
+
+    /**
+     * Label column plus a value that wraps; long values continue on the next page
+     */
+    public void labelValue(String label, String value) throws IOException {
+        float valueX = margin + labelWidth;
+        List<String> lines = wrap(value != null && !value.isEmpty() ? value : "N/A", BODY, contentWidth - labelWidth - 5);
+        float leading = BODY.leading();
+        for (int i = 0; i < lines.size(); i++) {
+            ensureSpace(leading);
+            float baseline = y + BODY.size;
+            if (i == 0) {
+                writer.drawText(label, margin + 5, baseline, LABEL.font, LABEL.size, LABEL.color);
+            }
+            writer.drawText(lines.get(i), valueX, baseline, BODY.font, BODY.size, BODY.color);
+            y += leading;
+        }
+        writer.drawLine(margin, y, margin + contentWidth, y, 0.5f, BORDER_COLOR);
+        y += 4;
+    }
+
+    /**
+     * Wrapped text over the full content width, breaking pages between lines
+     */
+    public void paragraph(String text, Style style) throws IOException {
+        for (String line : wrap(text, style, contentWidth)) {
+            ensureSpace(style.leading());
+            writer.drawText(line, margin, y + style.size, style.font, style.size, style.color);
+            y += style.leading();
+        }
+    }
+
+    /**
+     * Table with wrapped cells; the header row is repeated after every page break
+     */
+    public void table(Table table) throws IOException {
+        float[] widths = table.columnWidths(contentWidth);
+        float headerHeight = rowHeight(table.headers, widths, LABEL);
+        ensureSpace(headerHeight + BODY.leading() + CELL_PADDING * 2);
+        drawRow(table.headers, widths, LABEL, TABLE_HEADER_FILL);
+        for (String[] row : table.rows) {
+            float height = rowHeight(row, widths, BODY);
+            if (ensureSpace(height)) {
+                drawRow(table.headers, widths, LABEL, TABLE_HEADER_FILL);
+            }
+            drawRow(row, widths, BODY, 0);
+        }
+        y += 6;
+    }
+
+    /**
+     * Row of square thumbnails, wrapping onto further rows (and pages) as needed
+     */
+    public void thumbnails(List<Thumbnail> items, float size, float spacing) throws IOException {
+        int perRow = Math.max(1, (int) ((contentWidth + spacing) / (size + spacing)));
+        for (int start = 0; start < items.size(); start += perRow) {
+            ensureSpace(size + spacing);
+            float x = margin;
+            for (int i = start; i < Math.min(items.size(), start + perRow); i++) {
+                drawThumbnail(items.get(i), x, y, size);
+                x += size + spacing;
+            }
+            y += size + spacing;
+        }
+    }
+
+    /**
+     * Two signature columns: label, blank line to sign on, caption and a date line
+     */
+    public void signatureBlock(String leftLabel, String leftCaption, String rightLabel, String rightCaption)
+            throws IOException {
+        ensureSpace(90);
+        float columnWidth = contentWidth / 2 - 20;
+        float rightX = margin + contentWidth / 2 + 20;
+        float top = y;
+        drawSignature(leftLabel, leftCaption, margin, top, columnWidth);
+        drawSignature(rightLabel, rightCaption, rightX, top, columnWidth);
+        y = top + 90;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer.isPageOpen()) {
+            finishPage();
+        }
+        writer.close();
+    }
+
+    // ===== TEXT =====
+
+    /**
+     * Greedy word wrap; newlines are kept and words wider than the line are split
+     */
+    public static List<String> wrap(String text, Style style, float width) {
+        List<String> lines = new ArrayList<>();
+        if (text == null) return lines;
+        for (String paragraph : text.split("\r?\n", -1)) {
+            StringBuilder line = new StringBuilder();
+            float lineWidth = 0;
+            float spaceWidth = StreamingPdfWriter.measureText(" ", style.font, style.size);
+            for (String word : paragraph.split(" +")) {
+                if (word.isEmpty()) continue;
+                float wordWidth = StreamingPdfWriter.measureText(word, style.font, style.size);
+                while (wordWidth > width) {
+                    // Hard-break a word that cannot fit on any line
+                    if (line.length() > 0) {
+                        lines.add(line.toString());
+                        line.setLength(0);
+                        lineWidth = 0;
+                    }
+                    int cut = fitChars(word, style, width);
+                    lines.add(word.substring(0, cut));
+                    word = word.substring(cut);
+                    wordWidth = StreamingPdfWriter.measureText(word, style.font, style.size);
+                }
+                if (word.isEmpty()) continue;
+                float needed = line.length() == 0 ? wordWidth : lineWidth + spaceWidth + wordWidth;
+                if (needed > width) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                    needed = wordWidth;
+                }
+                if (line.length() > 0) line.append(' ');
+                line.append(word);
+                lineWidth = needed;
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static int fitChars(String word, Style style, float width) {
+        int end = 1;
+        while (end < word.length()
+                && StreamingPdfWriter.measureText(word.substring(0, end + 1), style.font, style.size) <= width) {
+            end++;
+        }
+        return end;
+    }
+
+    // ===== INTERNALS =====
+
+    private float bottom() {
+        return pageHeight - margin - FOOTER_HEIGHT;
+    }
+
+    private void startPage() {
+        writer.beginPage(pageWidth, pageHeight);
+        y = margin;
+    }
+
+    private void finishPage() throws IOException {
+        float footerY = pageHeight - margin + 6;
+        writer.drawLine(margin, footerY - 14, margin + contentWidth, footerY - 14, 0.5f, BORDER_COLOR);
+        if (footerText != null) {
+            writer.drawText(footerText, margin, footerY, SMALL.font, SMALL.size, SMALL.color);
+        }
+        String pageLabel = "Page " + writer.getPageCount();
+        float pageLabelWidth = StreamingPdfWriter.measureText(pageLabel, SMALL.font, SMALL.size);
+        writer.drawText(pageLabel, margin + contentWidth - pageLabelWidth, footerY, SMALL.font, SMALL.size, SMALL.color);
+        writer.endPage();
+    }
+
+    private float rowHeight(String[] cells, float[] widths, Style style) {
+        int lines = 1;
+        for (int i = 0; i < widths.length; i++) {
+            String cell = i < cells.length ? cells[i] : "";
+            lines = Math.max(lines, wrap(cell, style, widths[i] - CELL_PADDING * 2).size());
+        }
+        return lines * style.leading() + CELL_PADDING * 2;
+    }
+
+    private void drawRow(String[] cells, float[] widths, Style style, int fillColor) {
+        float height = rowHeight(cells, widths, style);
+        if (fillColor != 0) {
+            writer.fillRect(margin, y, contentWidth, height, fillColor);
+        }
+        float x = margin;
+        for (int i = 0; i < widths.length; i++) {
+            String cell = i < cells.length ? cells[i] : "";
+            float baseline = y + CELL_PADDING + style.size;
+            for (String line : wrap(cell, style, widths[i] - CELL_PADDING * 2)) {
+                writer.drawText(line, x + CELL_PADDING, baseline, style.font, style.size, style.color);
+                baseline += style.leading();
+            }
+            x += widths[i];
+        }
+        writer.drawLine(margin, y + height, margin + contentWidth, y + height, 0.5f, BORDER_COLOR);
+        y += height;
+    }
+
+    private void drawThumbnail(Thumbnail item, float x, float top, float size) throws IOException {
+        if (item.bitmap != null) {
+            writer.drawImage(item.bitmap, x, top, size, size);
+        } else {
+            writer.fillRect(x, top, size, size, BORDER_COLOR);
+        }
+        if (item.video) {
+            // Play triangle in place of the "▶" glyph, which the standard fonts do not have
+            int color = item.bitmap != null ? WHITE : 0xFF000000;
+            float cx = x + size / 2;
+            float cy = top + size / 2;
+            writer.fillPolygon(color, cx - 8, cy - 10, cx + 10, cy, cx - 8, cy + 10);
+        }
+        if (item.caption != null && !item.caption.isEmpty()) {
+            writer.fillRect(x, top + size - 12, size, 12, 0xFF000000);
+            writer.drawText(item.caption, x + 2, top + size - 3, StreamingPdfWriter.FONT_BOLD, 8, WHITE);
+        }
+    }
+
+    private void drawSignature(String label, String caption, float x, float top, float width) {
+        writer.drawText(label, x, top + 10, BODY.font, 10, 0xFF444444);
+        writer.drawLine(x, top + 50, x + width, top + 50, 1, BORDER_COLOR);
+        writer.drawText(caption, x, top + 64, BODY.font, 10, 0xFF444444);
+        writer.drawText("Date: _______________", x, top + 79, BODY.font, 10, 0xFF444444);
+    }
+
+    // Immutable text style - font, size and color
+    public static final class Style {
+        public final int font;
+        public final float size;
+        public final int color;
+
+        public Style(int font, float size, int color) {
+            this.font = font;
+            this.size = size;
+            this.color = color;
+        }
+
+        public float leading() {
+            return size * 1.4f;
+        }
+    }
+
+    // Table definition - column weights are relative
+    public static final class Table {
+        final String[] headers;
+        final float[] weights;
+        final List<String[]> rows = new ArrayList<>();
+
+        public Table(String[] headers, float[] weights) {
+            this.headers = headers;
+            this.weights = weights;
+        }
+
+        public Table addRow(String... cells) {
+            rows.add(cells);
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+
+        float[] columnWidths(float total) {
+            float sum = 0;
+            for (float weight : weights) sum += weight;
+            float[] widths = new float[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                widths[i] = total * weights[i] / sum;
+            }
+            return widths;
+        }
+    }
+
+    // Image or video tile; a null bitmap draws a gray placeholder
+    public static final class Thumbnail {
+        final Bitmap bitmap;
+        final boolean video;
+        final String caption;
+
+        public Thumbnail(Bitmap bitmap, boolean video, String caption) {
+            this.bitmap = bitmap;
+            this.video = video;
+            this.caption = caption;
+        }
+    }
+
+    // Called after each report with the running totals
+    public interface ProgressListener {
+        void onProgress(int reportsDone, int reportsTotal, int pages);
+    }
+}
@@ -3,6 +3,8 @@ package com.example.blottermanagementsystem.utils;
 import android.content.Context;
 import android.content.SharedPreferences;
 
+import com.example.blottermanagementsystem.data.api.AuthTokenHolder;
+
 /**
  * PreferencesManager - Synced with Kotlin version
  * Manages all app preferences including user sessions, settings, and per-user data
@@ -27,6 +29,8 @@ public class PreferencesManager {
     private static final String KEY_BIOMETRIC_ENABLED = "biometric_enabled";
     private static final String KEY_LAST_USER_ID = "last_user_id";
     private static final String KEY_FCM_TOKEN = "fcm_token";
+    private static final String KEY_AUTH_TOKEN = "user_token"; // AppConfig.PREFS_USER_TOKEN
+    private static final String KEY_REFRESH_TOKEN = "refresh_token";
     private static final String KEY_PERMISSIONS_GRANTED = "permissions_granted";
     private static final String KEY_GOOGLE_EMAIL = "google_email";
     private static final String KEY_GOOGLE_DISPLAY_NAME = "google_display_name";
@@ -47,6 +51,7 @@ public class PreferencesManager {
     
     public void setLoggedIn(boolean value) {
         prefs.edit().putBoolean(KEY_IS_LOGGED_IN, value).commit();
+        AuthTokenHolder.invalidate();
         android.util.Log.d("PreferencesManager", "✅ setLoggedIn(" + value + ") - Value saved to preferences");
         android.util.Log.d("PreferencesManager", "✅ Verification: isLoggedIn() = " + isLoggedIn());
     }
@@ -370,6 +375,25 @@ public class PreferencesManager {
         prefs.edit().putString(KEY_FCM_TOKEN, value).apply();
     }
     
+    // ==================== Auth Tokens ====================
+    // Read through AuthTokenHolder, which keeps them in memory
+    
+    public String getAuthToken() {
+        return prefs.getString(KEY_AUTH_TOKEN, null);
+    }
+    
+    public String getRefreshToken() {
+        return prefs.getString(KEY_REFRESH_TOKEN, null);
+    }
+    
+    public void setAuthTokens(String authToken, String refreshToken) {
+        prefs.edit()
+            .putString(KEY_AUTH_TOKEN, authToken)
+            .putString(KEY_REFRESH_TOKEN, refreshToken)
+            .commit();
+        AuthTokenHolder.invalidate();
+    }
+    
     // ==================== Permissions ====================
     
     public boolean isPermissionsGranted() {
@@ -396,6 +420,7 @@ public class PreferencesManager {
         editor.putString(KEY_LAST_NAME, lastName);
         editor.putString(KEY_PROFILE_PHOTO, profilePhoto);
         editor.commit();  // Use commit() for immediate save
+        AuthTokenHolder.invalidate();
     }
     
     // ==================== Clear Session ====================
@@ -410,6 +435,8 @@ public class PreferencesManager {
         editor.remove(KEY_FIRST_NAME);
         editor.remove(KEY_LAST_NAME);
         editor.remove(KEY_PROFILE_PHOTO);
+        editor.remove(KEY_AUTH_TOKEN);
+        editor.remove(KEY_REFRESH_TOKEN);
         
         // Clear Google account info to prevent cross-user contamination
         editor.remove(KEY_GOOGLE_EMAIL);
@@ -426,6 +453,11 @@ public class PreferencesManager {
         // DON'T remove FCM token - it's device-specific, not user-specific
         // This allows users to keep their profile pictures when they log back in
         editor.apply();
+        AuthTokenHolder.invalidate();
+        
+        // Cached API responses belong to the account that just logged out
+        com.example.blottermanagementsystem.data.api.HttpClientProvider.clearCache();
+        com.example.blottermanagementsystem.data.api.ApiClient.clearRequestMemo();
         
         android.util.Log.d("PreferencesManager", "✅ Session cleared (password_changed flag preserved for each officer)");
     }
@@ -573,7 +605,10 @@ public class PreferencesManager {
             .remove(KEY_LAST_NAME)
             .remove(KEY_PROFILE_PHOTO)
             .remove(KEY_FCM_TOKEN)
+            .remove(KEY_AUTH_TOKEN)
+            .remove(KEY_REFRESH_TOKEN)
             .apply();
+        AuthTokenHolder.invalidate();
         android.util.Log.d("PreferencesManager", "✅ Cleared all user data");
     }
 }
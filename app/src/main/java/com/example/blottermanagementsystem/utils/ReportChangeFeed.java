@@ -0,0 +1,317 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.util.Log;
+
+import com.example.blottermanagementsystem.config.ApiConfig;
+import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.CacheControl;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.sse.EventSource;
+import okhttp3.sse.EventSourceListener;
+import okhttp3.sse.EventSources;
+
+/**
+ * ReportChangeFeed - "Report X changed" push channel for screens that stay open
+ *
+ * - Listens to GET api/events/reports (Server-Sent Events) on the shared HTTP client
+ * - Events arriving close together are coalesced into one callback
+ * - When the stream is unavailable it falls back to polling: 15s, doubling up to 5 min
+ *   while nothing changes; a poll that finds a change (onPollResult) brings the next one
+ *   back to 15s, even if it was already scheduled; every poll tick also retries the stream
+ * - Timers run on the shared AppExecutors.scheduled() thread
+ *
+ * Call start() when the screen becomes visible and stop() when it is hidden.
+ * Callbacks run on the callback executor (main thread by default).
+ */
+public class ReportChangeFeed {
+    private static final String TAG = "ReportChangeFeed";
+
+    public static final String EVENT_REPORT = "report";
+    public static final String ACTION_CREATED = "created";
+    public static final String ACTION_UPDATED = "updated";
+    public static final String ACTION_DELETED = "deleted";
+
+    static final long COALESCE_MS = 500;
+    static final long MIN_POLL_MS = 15_000;
+    static final long MAX_POLL_MS = 5 * 60_000;
+    private static final long STREAM_READ_TIMEOUT_SECONDS = 90; // server sends keep-alive pings
+
+    private final OkHttpClient client;
+    private final HttpUrl eventsUrl;
+    private final Listener listener;
+    private final Executor callbackExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final Gson gson = new Gson();
+
+    private final Object lock = new Object();
+    // Bumped on start/stop and whenever a poll is cancelled, so a timer that already fired is ignored
+    private int session;
+    private int pollGeneration;
+    private ScheduledFuture<?> pollFuture;
+    private ScheduledFuture<?> flushFuture;
+    private EventSource eventSource;
+    private String lastEventId;
+    private long pollDelayMs = MIN_POLL_MS;
+    private boolean running;
+    private boolean streaming;
+    private boolean missedEvents;
+
+    // Changes waiting for the coalescing window to close
+    private final Set<Integer> pendingIds = new LinkedHashSet<>();
+    private boolean pendingListChange;
+
+    public ReportChangeFeed(Listener listener) {
+        this(ApiClient.getHttpClient(), HttpUrl.get(ApiConfig.BASE_URL), listener,
+            AppExecutors.getInstance().mainThread());
+    }
+
+    public ReportChangeFeed(OkHttpClient client, HttpUrl baseUrl, Listener listener, Executor callbackExecutor) {
+        this(client, baseUrl, listener, callbackExecutor, AppExecutors.getInstance().scheduled());
+    }
+
+    public ReportChangeFeed(OkHttpClient client, HttpUrl baseUrl, Listener listener, Executor callbackExecutor,
+                            ScheduledExecutorService scheduler) {
+        this.client = client.newBuilder()
+            .readTimeout(STREAM_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .build();
+        this.eventsUrl = baseUrl.resolve(ApiConfig.Endpoints.REPORT_EVENTS);
+        this.listener = listener;
+        this.callbackExecutor = callbackExecutor;
+        this.scheduler = scheduler;
+    }
+
+    public void start() {
+        synchronized (lock) {
+            if (running) return;
+            running = true;
+            session++;
+            missedEvents = false;
+            pollDelayMs = MIN_POLL_MS;
+            connect();
+        }
+    }
+
+    public void stop() {
+        synchronized (lock) {
+            if (!running) return;
+            running = false;
+            streaming = false;
+            if (eventSource != null) {
+                eventSource.cancel();
+                eventSource = null;
+            }
+            // Shared scheduler - cancel our timers, never shut it down
+            session++;
+            cancelPoll();
+            if (flushFuture != null) {
+                flushFuture.cancel(false);
+                flushFuture = null;
+            }
+            pendingIds.clear();
+            pendingListChange = false;
+        }
+        Log.d(TAG, "⏹️ Change feed stopped");
+    }
+
+    public boolean isStreaming() {
+        synchronized (lock) {
+            return streaming;
+        }
+    }
+
+    /**
+     * While polling, tells the feed whether the last refresh found anything new.
+     * Changes reset the interval to 15s; quiet polls let it back off.
+     */
+    public void onPollResult(boolean changed) {
+        synchronized (lock) {
+            if (!changed) return;
+            boolean backedOff = pollDelayMs > MIN_POLL_MS;
+            pollDelayMs = MIN_POLL_MS;
+            // The next poll may already be waiting out the backed-off delay - bring it forward
+            if (backedOff && running && !streaming && pollFuture != null) {
+                cancelPoll();
+                schedulePoll();
+            }
+        }
+    }
+
+    long getPollDelayMs() {
+        synchronized (lock) {
+            return pollDelayMs;
+        }
+    }
+
+    private void connect() {
+        Request.Builder request = new Request.Builder()
+            .url(eventsUrl)
+            .header("Accept", "text/event-stream")
+            // Never let the HTTP cache tee an endless stream to disk
+            .cacheControl(new CacheControl.Builder().noStore().build());
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        eventSource = EventSources.createFactory(client).newEventSource(request.build(), new StreamListener());
+    }
+
+    private class StreamListener extends EventSourceListener {
+        @Override
+        public void onOpen(EventSource source, Response response) {
+            synchronized (lock) {
+                if (!running || source != eventSource) return;
+                streaming = true;
+                pollDelayMs = MIN_POLL_MS;
+                cancelPoll();
+                // Anything may have changed while the stream was down
+                if (missedEvents) {
+                    missedEvents = false;
+                    queueChange(null, true);
+                }
+            }
+            Log.d(TAG, "✅ Change stream open");
+        }
+
+        @Override
+        public void onEvent(EventSource source, String id, String type, String data) {
+            synchronized (lock) {
+                if (!running || source != eventSource) return;
+                if (id != null) lastEventId = id;
+                if (!EVENT_REPORT.equals(type)) return; // keep-alive pings etc.
+
+                ChangeEvent event = parse(data);
+                if (event == null || event.id <= 0) {
+                    queueChange(null, true);
+                } else {
+                    // Created/deleted rows change list shape; updates touch one row
+                    queueChange(event.id, !ACTION_UPDATED.equals(event.action));
+                }
+            }
+        }
+
+        @Override
+        public void onClosed(EventSource source) {
+            fallBackToPolling(source, "stream closed");
+        }
+
+        @Override
+        public void onFailure(EventSource source, Throwable t, Response response) {
+            String reason = response != null ? "HTTP " + response.code()
+                : (t != null ? t.getMessage() : "unknown error");
+            fallBackToPolling(source, reason);
+        }
+    }
+
+    private ChangeEvent parse(String data) {
+        try {
+            return gson.fromJson(data, ChangeEvent.class);
+        } catch (JsonSyntaxException e) {
+            Log.w(TAG, "⚠️ Unreadable change event: " + data);
+            return null;
+        }
+    }
+
+    private void fallBackToPolling(EventSource source, String reason) {
+        synchronized (lock) {
+            if (!running || source != eventSource) return;
+            streaming = false;
+            missedEvents = true;
+            eventSource = null;
+            schedulePoll();
+        }
+        Log.w(TAG, "⚠️ Change stream unavailable (" + reason + ") - polling every " + (pollDelayMs / 1000) + "s");
+    }
+
+    // Caller holds lock
+    private void schedulePoll() {
+        if (pollFuture != null) return;
+        final int generation = pollGeneration;
+        pollFuture = scheduler.schedule(() -> pollTick(generation), pollDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Caller holds lock
+    private void cancelPoll() {
+        pollGeneration++;
+        if (pollFuture != null) {
+            pollFuture.cancel(false);
+            pollFuture = null;
+        }
+    }
+
+    private void pollTick(int generation) {
+        synchronized (lock) {
+            if (generation != pollGeneration) return;
+            pollFuture = null;
+            if (!running || streaming) return;
+            // Assume quiet and back off; if this poll finds a change, onPollResult(true) undoes it
+            pollDelayMs = Math.min(pollDelayMs * 2, MAX_POLL_MS);
+            deliver(null, true);
+            // Try the stream again; if it fails, onFailure schedules the next poll
+            connect();
+        }
+    }
+
+    // Caller holds lock
+    private void queueChange(Integer reportId, boolean listChanged) {
+        if (reportId != null) pendingIds.add(reportId);
+        pendingListChange |= listChanged;
+        if (flushFuture == null) {
+            final int flushSession = session;
+            flushFuture = scheduler.schedule(() -> flush(flushSession), COALESCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(int flushSession) {
+        synchronized (lock) {
+            if (flushSession != session) return;
+            flushFuture = null;
+            if (!running) return;
+            Set<Integer> ids = new LinkedHashSet<>(pendingIds);
+            boolean listChanged = pendingListChange;
+            pendingIds.clear();
+            pendingListChange = false;
+            deliver(ids, listChanged);
+        }
+    }
+
+    // Caller holds lock
+    private void deliver(Set<Integer> ids, boolean listChanged) {
+        callbackExecutor.execute(() -> {
+            synchronized (lock) {
+                if (!running) return;
+            }
+            if (listChanged) {
+                listener.onListChanged();
+            } else if (ids != null && !ids.isEmpty()) {
+                listener.onReportsChanged(ids);
+            }
+        });
+    }
+
+    // Payload of one "report" event, e.g. {"id": 42, "action": "updated"}
+    static class ChangeEvent {
+        int id;
+        String action;
+    }
+
+    // Callbacks
+    public interface Listener {
+        /** Only these reports changed - refresh just their rows */
+        void onReportsChanged(Set<Integer> reportIds);
+
+        /** Rows were added/removed, or the feed cannot tell what changed - refresh the list */
+        void onListChanged();
+    }
+}
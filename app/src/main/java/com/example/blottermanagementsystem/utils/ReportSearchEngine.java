@@ -0,0 +1,287 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.SearchDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Person;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ReportSearchEngine - Ranked full-text search over the local FTS4 index
+ *
+ * - Words of two or more characters become prefix terms ("jua dela" -> jua* dela*);
+ *   single characters only match whole words, so "j" does not expand to every j-word
+ * - Hits are ranked from matchinfo: a match in the case number outweighs one in the narrative;
+ *   every hit is scored, so the best rows win however many rows match
+ * - search() is debounced and runs on the disk pool; stale results are dropped
+ */
+public class ReportSearchEngine {
+    private static final String TAG = "ReportSearchEngine";
+
+    public static final long DEBOUNCE_MS = 250;
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int DEFAULT_SUGGESTIONS = 8;
+    // Shortest word that is searched as a prefix
+    public static final int MIN_PREFIX_LENGTH = 2;
+    // FTS hits read per query while ranking
+    private static final int CANDIDATE_PAGE = 500;
+
+    // report_fts column order: caseNumber, complainantName, respondentName,
+    // incidentType, incidentLocation, narrative
+    private static final double[] REPORT_WEIGHTS = {10.0, 5.0, 5.0, 3.0, 2.0, 1.0};
+    // person_fts column order: firstName, middleName, lastName
+    private static final double[] PERSON_WEIGHTS = {3.0, 1.0, 3.0};
+
+    private final SearchDao searchDao;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final AtomicInteger generation = new AtomicInteger();
+    private Runnable pendingSearch;
+
+    public ReportSearchEngine(Context context) {
+        this(BlotterDatabase.getDatabase(context));
+    }
+
+    public ReportSearchEngine(BlotterDatabase database) {
+        this.searchDao = database.searchDao();
+    }
+
+    /**
+     * Debounced search for a search box. Only the last call within DEBOUNCE_MS runs;
+     * results of superseded searches are never delivered. Callback runs on the main thread.
+     */
+    public void search(String input, SearchCallback callback) {
+        final int token = generation.incrementAndGet();
+        if (pendingSearch != null) {
+            mainHandler.removeCallbacks(pendingSearch);
+        }
+        pendingSearch = () -> AppExecutors.getInstance().diskIO().execute(() -> {
+            if (token != generation.get()) return;
+            try {
+                List<BlotterReport> reports = searchReports(input, DEFAULT_LIMIT);
+                List<String> suggestions = suggestionsFrom(reports, input, DEFAULT_SUGGESTIONS);
+                mainHandler.post(() -> {
+                    if (token == generation.get()) {
+                        callback.onResults(input, reports, suggestions);
+                    }
+                });
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Search failed: " + e.getMessage());
+            }
+        });
+        mainHandler.postDelayed(pendingSearch, DEBOUNCE_MS);
+    }
+
+    /**
+     * Drops any pending debounced search (e.g. when the screen closes)
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        if (pendingSearch != null) {
+            mainHandler.removeCallbacks(pendingSearch);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Ranked report matches, best first. Blocking - call off the main thread.
+     */
+    public List<BlotterReport> searchReports(String input, int limit) {
+        String match = toMatchQuery(input);
+        if (match == null) return new ArrayList<>();
+
+        List<Integer> ids = rankedIds((afterId, size) -> searchDao.matchReports(match, afterId, size),
+                REPORT_WEIGHTS, limit);
+        return inRankOrder(ids, searchDao.getReportsByIds(ids), BlotterReport::getId);
+    }
+
+    /**
+     * Ranked active-person matches by name, for search screens. Prefix matches make this
+     * unfit for deciding who a record belongs to - use PersonDao.getPersonByNameIgnoreCase.
+     * Blocking - call off the main thread.
+     */
+    public List<Person> searchPersons(String input, int limit) {
+        String match = toMatchQuery(input);
+        if (match == null) return new ArrayList<>();
+
+        List<Integer> ids = rankedIds((afterId, size) -> searchDao.matchPersons(match, afterId, size),
+                PERSON_WEIGHTS, limit);
+        return inRankOrder(ids, searchDao.getActivePersonsByIds(ids), Person::getId);
+    }
+
+    /**
+     * Distinct case numbers / names / incident types that start with one of the typed words.
+     * Blocking - call off the main thread.
+     */
+    public List<String> suggest(String input, int limit) {
+        return suggestionsFrom(searchReports(input, DEFAULT_LIMIT), input, limit);
+    }
+
+    private List<String> suggestionsFrom(List<BlotterReport> reports, String input, int limit) {
+        List<String> terms = tokenize(input);
+        Set<String> suggestions = new LinkedHashSet<>();
+        for (BlotterReport report : reports) {
+            addIfMatches(suggestions, report.getCaseNumber(), terms);
+            addIfMatches(suggestions, report.getComplainantName(), terms);
+            addIfMatches(suggestions, report.getRespondentName(), terms);
+            addIfMatches(suggestions, report.getIncidentType(), terms);
+            if (suggestions.size() >= limit) break;
+        }
+        List<String> result = new ArrayList<>(suggestions);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private static void addIfMatches(Set<String> suggestions, String value, List<String> terms) {
+        if (value == null || value.trim().isEmpty()) return;
+        for (String word : tokenize(value)) {
+            for (String term : terms) {
+                if (word.startsWith(term)) {
+                    suggestions.add(value.trim());
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds an FTS MATCH expression, all words required: words of MIN_PREFIX_LENGTH or more
+     * as prefix terms, shorter ones as whole words. Returns null until at least one word
+     * is long enough to search by prefix.
+     */
+    public static String toMatchQuery(String input) {
+        List<String> terms = tokenize(input);
+        StringBuilder match = new StringBuilder();
+        boolean hasPrefix = false;
+        for (String term : terms) {
+            if (match.length() > 0) match.append(' ');
+            match.append(term);
+            if (term.length() >= MIN_PREFIX_LENGTH) {
+                match.append('*');
+                hasPrefix = true;
+            }
+        }
+        return hasPrefix ? match.toString() : null;
+    }
+
+    // Letters/digits only - drops FTS operators and quotes users may type
+    private static List<String> tokenize(String input) {
+        List<String> terms = new ArrayList<>();
+        if (input == null) return terms;
+        for (String part : input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!part.isEmpty()) terms.add(part);
+        }
+        return terms;
+    }
+
+    /**
+     * Scores every hit page by page and keeps the best `limit` in a min-heap,
+     * so memory stays at one page plus the results. Ties go to the older row.
+     */
+    private static List<Integer> rankedIds(HitPages pages, double[] weights, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        if (limit <= 0) return ids;
+
+        PriorityQueue<ScoredId> best = new PriorityQueue<>(limit + 1, (a, b) -> -compareRank(a, b));
+        int afterId = 0; // row ids start at 1
+        List<SearchDao.SearchHit> page;
+        do {
+            page = pages.after(afterId, CANDIDATE_PAGE);
+            for (SearchDao.SearchHit hit : page) {
+                best.add(new ScoredId(hit.id, score(hit.matchInfo, weights)));
+                if (best.size() > limit) best.poll();
+                afterId = hit.id;
+            }
+        } while (page.size() == CANDIDATE_PAGE);
+
+        List<ScoredId> ranked = new ArrayList<>(best);
+        Collections.sort(ranked, ReportSearchEngine::compareRank);
+        for (ScoredId scored : ranked) {
+            ids.add(scored.id);
+        }
+        return ids;
+    }
+
+    // Best first: higher score, then lower id
+    private static int compareRank(ScoredId a, ScoredId b) {
+        int byScore = Double.compare(b.score, a.score);
+        return byScore != 0 ? byScore : Integer.compare(a.id, b.id);
+    }
+
+    /**
+     * Weighted tf-idf style score from matchinfo('pcx'):
+     * [phrases, columns, then per phrase/column: hitsThisRow, hitsAllRows, rowsWithHit]
+     */
+    static double score(byte[] matchInfo, double[] weights) {
+        if (matchInfo == null || matchInfo.length < 8) return 0;
+        IntBuffer info = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder()).asIntBuffer();
+        int phrases = info.get(0);
+        int columns = info.get(1);
+
+        double score = 0;
+        for (int p = 0; p < phrases; p++) {
+            for (int c = 0; c < columns; c++) {
+                int base = 2 + (p * columns + c) * 3;
+                if (base + 1 >= info.limit()) return score;
+                int hitsThisRow = info.get(base);
+                int hitsAllRows = info.get(base + 1);
+                if (hitsThisRow > 0 && hitsAllRows > 0) {
+                    double weight = c < weights.length ? weights[c] : 1.0;
+                    score += weight * hitsThisRow / hitsAllRows;
+                }
+            }
+        }
+        return score;
+    }
+
+    private static <T> List<T> inRankOrder(List<Integer> ids, List<T> rows, IdOf<T> idOf) {
+        Map<Integer, T> byId = new HashMap<>();
+        for (T row : rows) {
+            byId.put(idOf.get(row), row);
+        }
+        List<T> ordered = new ArrayList<>(rows.size());
+        for (Integer id : ids) {
+            T row = byId.get(id);
+            if (row != null) ordered.add(row);
+        }
+        return ordered;
+    }
+
+    private interface IdOf<T> {
+        int get(T row);
+    }
+
+    // One rowid-ordered page of FTS hits after afterId
+    private interface HitPages {
+        List<SearchDao.SearchHit> after(int afterId, int size);
+    }
+
+    private static class ScoredId {
+        final int id;
+        final double score;
+
+        ScoredId(int id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    // Callbacks
+    public interface SearchCallback {
+        void onResults(String input, List<BlotterReport> reports, List<String> suggestions);
+    }
+}
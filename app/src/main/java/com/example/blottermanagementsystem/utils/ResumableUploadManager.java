@@ -0,0 +1,361 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.content.Context;
+import android.content.Intent;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.lifecycle.LiveData;
+
+import com.example.blottermanagementsystem.data.api.ApiClient;
+import com.example.blottermanagementsystem.data.api.ApiService;
+import com.example.blottermanagementsystem.data.api.StreamingRequestBody;
+import com.example.blottermanagementsystem.data.api.UploadSession;
+import com.example.blottermanagementsystem.data.dao.UploadTaskDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.UploadTask;
+import com.example.blottermanagementsystem.workers.ResumableUploadWorker;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import okhttp3.RequestBody;
+import retrofit2.Response;
+
+/**
+ * ResumableUploadManager - Chunked, resumable evidence uploads
+ *
+ * - Each file is a row in upload_tasks; it survives process death
+ * - The file goes up in chunks (PUT api/uploads/{id} with Upload-Offset); after each
+ *   acknowledged chunk the offset is stored, so a dropped connection costs one chunk,
+ *   not the whole file
+ * - On resume the server's offset (GET api/uploads/{id}) wins over the local one
+ * - A task is only marked COMPLETED with the server's file URL, and never over a cancel()
+ * - ResumableUploadWorker runs the queue under a network constraint
+ *
+ * runPending() is blocking - the worker calls it on its own thread.
+ */
+public class ResumableUploadManager {
+    private static final String TAG = "ResumableUpload";
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024; // 1 MB - small enough to finish on 3G
+    private static final int MAX_ATTEMPTS = 20;
+    private static final int MAX_OFFSET_CONFLICTS = 3;
+
+    private final Context context;
+    private final UploadTaskDao dao;
+    private final ApiService apiService;
+
+    public ResumableUploadManager(Context context) {
+        this(context, BlotterDatabase.getDatabase(context).uploadTaskDao(), ApiClient.getApiService());
+    }
+
+    public ResumableUploadManager(Context context, UploadTaskDao dao, ApiService apiService) {
+        this.context = context.getApplicationContext();
+        this.dao = dao;
+        this.apiService = apiService;
+    }
+
+    /**
+     * Queues a file and schedules the worker. Returns at once; the row id arrives on the main thread.
+     */
+    public static void queue(Context context, int reportId, Uri fileUri, String mediaType, QueueCallback callback) {
+        Context appContext = context.getApplicationContext();
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            try {
+                int taskId = new ResumableUploadManager(appContext).addTask(reportId, fileUri, mediaType);
+                ResumableUploadWorker.enqueue(appContext);
+                AppExecutors.getInstance().mainThread().execute(() -> callback.onQueued(taskId));
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Could not queue upload: " + e.getMessage(), e);
+                AppExecutors.getInstance().mainThread().execute(() -> callback.onError(e.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Persists a new upload task (blocking). Does not schedule the worker.
+     */
+    public int addTask(int reportId, Uri fileUri, String mediaType) throws IOException {
+        long size = StreamingRequestBody.sizeOf(context, fileUri);
+        if (size <= 0) {
+            throw new IOException("Cannot determine the size of " + fileUri);
+        }
+        keepReadAccess(fileUri);
+
+        String fileName = fileUri.getLastPathSegment() != null ? fileUri.getLastPathSegment() : mediaType;
+        UploadTask task = new UploadTask(reportId, mediaType, fileUri.toString(), fileName,
+                StreamingRequestBody.mimeTypeOf(context, fileUri), size, DEFAULT_CHUNK_SIZE);
+        int taskId = (int) dao.insertTask(task);
+        Log.d(TAG, "📦 Queued " + mediaType + " upload #" + taskId + " (" + size + " bytes)");
+        return taskId;
+    }
+
+    public LiveData<List<UploadTask>> observeTasksForReport(int reportId) {
+        return dao.observeTasksForReport(reportId);
+    }
+
+    /**
+     * Stops a task; a chunk already on the wire still finishes. Blocking.
+     */
+    public void cancel(int taskId) {
+        UploadTask task = dao.getTask(taskId);
+        if (task != null && !task.isFinished()) {
+            task.setStatus(UploadTask.STATUS_CANCELLED);
+            task.setUpdatedAt(System.currentTimeMillis());
+            dao.updateTask(task);
+        }
+    }
+
+    /**
+     * Uploads every unfinished task until the queue is empty, the network fails or the
+     * caller asks to stop. Tasks added while running are picked up too.
+     */
+    public RunResult runPending(StopSignal stopSignal) {
+        RunResult result = new RunResult();
+        long startTime = System.currentTimeMillis();
+
+        List<UploadTask> tasks = dao.getUnfinishedTasks();
+        while (!tasks.isEmpty() && !result.networkError) {
+            for (UploadTask task : tasks) {
+                if (stopSignal != null && stopSignal.isStopped()) {
+                    result.remaining = dao.countUnfinishedTasks();
+                    return result;
+                }
+                upload(task, stopSignal, result);
+                if (result.networkError) break; // Offline - the rest would fail the same way
+            }
+            tasks = result.networkError ? tasks : dao.getUnfinishedTasks();
+        }
+
+        result.remaining = dao.countUnfinishedTasks();
+        result.durationMs = System.currentTimeMillis() - startTime;
+        Log.d(TAG, "✅ Upload run done: " + result);
+        return result;
+    }
+
+    private void upload(UploadTask task, StopSignal stopSignal, RunResult result) {
+        Uri uri = Uri.parse(task.getSourceUri());
+        try {
+            long offset = openSession(task);
+            int conflicts = 0;
+
+            while (offset < task.getTotalBytes() && !UploadTask.STATUS_COMPLETED.equals(task.getStatus())) {
+                if (stopSignal != null && stopSignal.isStopped()) return;
+                if (isCancelled(task.getId())) return;
+
+                long length = Math.min(task.getChunkSize(), task.getTotalBytes() - offset);
+                RequestBody chunk = StreamingRequestBody.range(context, uri, offset, length, task.getMimeType(), null);
+                String range = "bytes " + offset + "-" + (offset + length - 1) + "/" + task.getTotalBytes();
+
+                Response<UploadSession> response = apiService.uploadChunk(task.getUploadId(), offset, range, chunk).execute();
+                if (response.code() == 409) {
+                    // Server has a different offset (e.g. it stored a chunk whose ack we lost)
+                    if (++conflicts > MAX_OFFSET_CONFLICTS) {
+                        throw new PermanentUploadException("Server keeps rejecting offset " + offset);
+                    }
+                    offset = fetchServerOffset(task);
+                    if (task.getUploadId() == null) {
+                        throw new IOException("Upload session expired"); // Next run starts a new one
+                    }
+                    continue;
+                }
+                conflicts = 0;
+                if (!response.isSuccessful()) {
+                    throw chunkError(response.code());
+                }
+
+                UploadSession session = response.body();
+                long acknowledged = session != null && session.offset > offset ? session.offset : offset + length;
+                result.bytesUploaded += acknowledged - offset;
+                offset = acknowledged;
+                task.setUploadedBytes(offset);
+                dao.recordOffset(task.getId(), offset, System.currentTimeMillis());
+
+                if (session != null && session.complete) {
+                    task.setResultUrl(session.url);
+                    task.setStatus(UploadTask.STATUS_COMPLETED);
+                }
+            }
+
+            // The last chunk's ack may not carry the URL - ask for the finished session
+            if (task.getResultUrl() == null) {
+                task.setResultUrl(fetchResultUrl(task));
+            }
+            if (dao.markCompleted(task.getId(), task.getResultUrl(), System.currentTimeMillis()) == 0) {
+                Log.d(TAG, "⚠️ Upload #" + task.getId() + " was cancelled before it finished");
+                return;
+            }
+            task.setStatus(UploadTask.STATUS_COMPLETED);
+            task.setLastError(null);
+            result.completed++;
+            Log.d(TAG, "✅ Upload #" + task.getId() + " complete: " + task.getResultUrl());
+
+        } catch (FileNotFoundException | SecurityException e) {
+            // The file is gone or we lost access - retrying cannot help
+            fail(task, "Source unavailable: " + e.getMessage());
+            result.failed++;
+        } catch (PermanentUploadException e) {
+            fail(task, e.getMessage());
+            result.failed++;
+        } catch (IOException e) {
+            task.setAttempts(task.getAttempts() + 1);
+            task.setLastError(e.getMessage());
+            if (task.getAttempts() >= MAX_ATTEMPTS) {
+                fail(task, "Gave up after " + MAX_ATTEMPTS + " attempts: " + e.getMessage());
+                result.failed++;
+            } else {
+                task.setStatus(UploadTask.STATUS_UPLOADING);
+                save(task);
+                result.networkError = true;
+                Log.w(TAG, "⚠️ Upload #" + task.getId() + " interrupted at " + task.getUploadedBytes() +
+                        "/" + task.getTotalBytes() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates the server session on first run; on resume asks the server where to continue
+     */
+    private long openSession(UploadTask task) throws IOException {
+        if (task.getUploadId() != null) {
+            long offset = fetchServerOffset(task);
+            if (task.getUploadId() != null) return offset;
+            // Session expired on the server - start a new one below
+        }
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("reportId", task.getReportId());
+        body.put("mediaType", task.getMediaType());
+        body.put("fileName", task.getFileName());
+        body.put("mimeType", task.getMimeType());
+        body.put("totalBytes", task.getTotalBytes());
+
+        Response<UploadSession> response = apiService.createUploadSession(body).execute();
+        if (!response.isSuccessful() || response.body() == null || response.body().uploadId == null) {
+            throw chunkError(response.code());
+        }
+        UploadSession session = response.body();
+        task.setUploadId(session.uploadId);
+        if (session.chunkSize > 0) {
+            task.setChunkSize(session.chunkSize);
+        }
+        task.setUploadedBytes(session.offset);
+        task.setStatus(UploadTask.STATUS_UPLOADING);
+        save(task);
+        Log.d(TAG, "🔄 Upload #" + task.getId() + " session " + session.uploadId + " (chunk " + task.getChunkSize() + ")");
+        return session.offset;
+    }
+
+    private long fetchServerOffset(UploadTask task) throws IOException {
+        Response<UploadSession> response = apiService.getUploadSession(task.getUploadId()).execute();
+        if (response.code() == 404 || response.code() == 410) {
+            task.setUploadId(null);
+            task.setUploadedBytes(0);
+            return 0;
+        }
+        if (!response.isSuccessful() || response.body() == null) {
+            throw chunkError(response.code());
+        }
+        UploadSession session = response.body();
+        task.setUploadedBytes(session.offset);
+        if (session.complete) {
+            task.setResultUrl(session.url);
+            task.setStatus(UploadTask.STATUS_COMPLETED);
+        }
+        save(task);
+        Log.d(TAG, "🔄 Resuming upload #" + task.getId() + " at " + session.offset + "/" + task.getTotalBytes());
+        return session.offset;
+    }
+
+    private String fetchResultUrl(UploadTask task) throws IOException {
+        Response<UploadSession> response = apiService.getUploadSession(task.getUploadId()).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw chunkError(response.code());
+        }
+        UploadSession session = response.body();
+        if (!session.complete || session.url == null) {
+            // Every byte is acknowledged but the server has not finalized the file yet
+            throw new IOException("Upload session not finalized yet");
+        }
+        return session.url;
+    }
+
+    // 5xx and 408/429 are worth retrying; other 4xx mean the request itself is wrong
+    private static IOException chunkError(int code) {
+        if (code >= 500 || code == 408 || code == 429) {
+            return new IOException("Server error " + code);
+        }
+        return new PermanentUploadException("Upload rejected: " + code);
+    }
+
+    private boolean isCancelled(int taskId) {
+        UploadTask current = dao.getTask(taskId);
+        return current == null || UploadTask.STATUS_CANCELLED.equals(current.getStatus());
+    }
+
+    private void fail(UploadTask task, String error) {
+        task.setStatus(UploadTask.STATUS_FAILED);
+        task.setLastError(error);
+        save(task);
+        Log.e(TAG, "❌ Upload #" + task.getId() + " failed: " + error);
+    }
+
+    // Never overwrites a cancel() issued while this run was busy
+    private void save(UploadTask task) {
+        task.setUpdatedAt(System.currentTimeMillis());
+        dao.updateUnlessCancelled(task);
+    }
+
+    // Picker grants end with the process unless made persistable
+    private void keepReadAccess(Uri uri) {
+        if (!"content".equals(uri.getScheme())) return;
+        try {
+            context.getContentResolver().takePersistableUriPermission(uri, Intent.FLAG_GRANT_READ_URI_PERMISSION);
+        } catch (SecurityException e) {
+            Log.w(TAG, "⚠️ No persistable access to " + uri + " - upload may not survive a restart");
+        }
+    }
+
+    private static class PermanentUploadException extends IOException {
+        PermanentUploadException(String message) {
+            super(message);
+        }
+    }
+
+    // Lets the worker interrupt a run between chunks
+    public interface StopSignal {
+        boolean isStopped();
+    }
+
+    // Callbacks
+    public interface QueueCallback {
+        void onQueued(int taskId);
+        void onError(String errorMessage);
+    }
+
+    // Result class
+    public static class RunResult {
+        public int completed;
+        public int failed;
+        public int remaining;
+        public long bytesUploaded;
+        public boolean networkError;
+        public long durationMs;
+
+        @Override
+        public String toString() {
+            return "RunResult{" +
+                    "completed=" + completed +
+                    ", failed=" + failed +
+                    ", remaining=" + remaining +
+                    ", bytesUploaded=" + bytesUploaded +
+                    ", networkError=" + networkError +
+                    ", durationMs=" + durationMs +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.content.Context;
+import android.os.Environment;
+import android.util.Log;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.database.DatabaseMigrations;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.data.model.ReportAggregate;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * StationArchive - Streaming export/import bundle for handing station data to the municipal office
+ *
+ * File layout:
+ *   "BMSA" | version byte | flags byte | [salt 16 | nonce prefix 8 when encrypted] | payload
+ * Payload is gzip-compressed JSON Lines (encrypted with ArchiveCipher when a passphrase is given):
+ *   {"type":"header", ...}
+ *   {"type":"report", "report":{...}, "witnesses":[...], ..., "media":[...]}   one per report
+ *   {"type":"footer", "reports":N}
+ *
+ * Export pages through the database by id and import commits in batches, so memory stays at
+ * one page of reports however large the dataset. Media files are listed in a manifest per
+ * report (URIs), not embedded.
+ *
+ * All methods block - call them from a background executor.
+ */
+public class StationArchive {
+    private static final String TAG = "StationArchive";
+
+    public static final String EXTENSION = ".bmsa";
+    private static final byte[] MAGIC = {'B', 'M', 'S', 'A'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_ENCRYPTED = 1;
+    private static final String FORMAT_NAME = "bms-station-archive";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PAGE_SIZE = 100;
+    private static final int IMPORT_BATCH_SIZE = 100;
+
+    private static final Gson gson = new Gson();
+
+    /**
+     * Exports every report with its children into the exports folder
+     * @param passphrase null for an unencrypted archive
+     * @return the archive path, or null on failure
+     */
+    public static String exportArchive(Context context, char[] passphrase, ProgressListener listener) {
+        File exportDir = new File(context.getExternalFilesDir(Environment.DIRECTORY_DOCUMENTS), "exports");
+        if (!exportDir.exists()) {
+            exportDir.mkdirs();
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.US).format(new Date());
+        File file = new File(exportDir, "station_archive_" + timestamp + EXTENSION);
+        File partial = new File(exportDir, file.getName() + ".part");
+        try {
+            Result result = exportArchive(BlotterDatabase.getDatabase(context), partial, passphrase, listener);
+            if (!partial.renameTo(file)) {
+                throw new IOException("Cannot finalize " + file.getName());
+            }
+            Log.d(TAG, "✅ Archive exported to: " + file.getAbsolutePath() + " " + result);
+            return file.getAbsolutePath();
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Error exporting archive", e);
+            partial.delete();
+            return null;
+        }
+    }
+
+    public static Result exportArchive(BlotterDatabase database, File target, char[] passphrase,
+                                       ProgressListener listener) throws IOException {
+        Result result = new Result();
+        long start = System.currentTimeMillis();
+
+        try (JsonWriter writer = openWriter(target, passphrase)) {
+            writeHeader(writer);
+
+            int afterId = 0;
+            List<ReportAggregate> page;
+            do {
+                page = database.reportAggregateDao().getReportAggregatesAfter(afterId, PAGE_SIZE);
+                for (ReportAggregate aggregate : page) {
+                    ReportRecord record = ReportRecord.from(aggregate);
+                    gson.toJson(record, ReportRecord.class, writer);
+                    newLine(writer);
+                    result.reports++;
+                    result.children += record.childCount();
+                    result.mediaEntries += record.media.size();
+                    afterId = aggregate.report.getId();
+                }
+                if (listener != null && !page.isEmpty()) {
+                    listener.onProgress(result.reports);
+                }
+            } while (page.size() == PAGE_SIZE);
+
+            JsonObject footer = new JsonObject();
+            footer.addProperty("type", "footer");
+            footer.addProperty("reports", result.reports);
+            footer.addProperty("children", result.children);
+            gson.toJson(footer, writer);
+            newLine(writer);
+        }
+
+        result.bytes = target.length();
+        result.durationMs = System.currentTimeMillis() - start;
+        Log.d(TAG, "📤 Exported " + result);
+        return result;
+    }
+
+    /**
+     * Imports an archive. Reports whose case number already exists are skipped,
+     * so importing the same archive twice is harmless.
+     * @param passphrase required when the archive is encrypted
+     */
+    public static Result importArchive(Context context, File source, char[] passphrase,
+                                       ProgressListener listener) throws IOException {
+        return importArchive(BlotterDatabase.getDatabase(context), source, passphrase, listener);
+    }
+
+    public static Result importArchive(BlotterDatabase database, File source, char[] passphrase,
+                                       ProgressListener listener) throws IOException {
+        Result result = new Result();
+        long start = System.currentTimeMillis();
+        boolean sawFooter = false;
+
+        try (JsonReader reader = openReader(source, passphrase)) {
+            readHeader(reader);
+
+            List<ReportRecord> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+            while (reader.peek() != JsonToken.END_DOCUMENT) {
+                if (sawFooter) {
+                    throw new IOException("Unexpected record after the archive footer");
+                }
+                JsonObject line = JsonParser.parseReader(reader).getAsJsonObject();
+                String type = line.has("type") ? line.get("type").getAsString() : "";
+                if ("report".equals(type)) {
+                    batch.add(gson.fromJson(line, ReportRecord.class));
+                    if (batch.size() == IMPORT_BATCH_SIZE) {
+                        importBatch(database, batch, result);
+                        batch.clear();
+                        if (listener != null) listener.onProgress(result.reports + result.skipped);
+                    }
+                } else if ("footer".equals(type)) {
+                    sawFooter = true;
+                    int expected = line.get("reports").getAsInt();
+                    importBatch(database, batch, result);
+                    batch.clear();
+                    if (result.reports + result.skipped != expected) {
+                        throw new IOException("Archive lists " + expected + " reports but contains " +
+                                (result.reports + result.skipped));
+                    }
+                } else {
+                    Log.w(TAG, "⚠️ Skipping unknown record type: " + type);
+                }
+            }
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Malformed archive: " + e.getMessage(), e);
+        }
+
+        // Batches already committed stay - a rerun skips them by case number
+        if (!sawFooter) {
+            throw new IOException("Archive is truncated (no footer) - imported " + result.reports + " reports");
+        }
+        if (listener != null) listener.onProgress(result.reports + result.skipped);
+
+        result.bytes = source.length();
+        result.durationMs = System.currentTimeMillis() - start;
+        Log.d(TAG, "✅ Imported " + result);
+        return result;
+    }
+
+    /**
+     * Whether the archive needs a passphrase to import
+     */
+    public static boolean isEncrypted(File source) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(source))) {
+            return (readPreamble(in) & FLAG_ENCRYPTED) != 0;
+        }
+    }
+
+    // One transaction per batch; children are re-pointed at the new local report id
+    private static void importBatch(BlotterDatabase database, List<ReportRecord> batch, Result result) {
+        if (batch.isEmpty()) return;
+        database.runInTransaction(() -> {
+            for (ReportRecord record : batch) {
+                BlotterReport report = record.report;
+                if (report == null) continue;
+                if (report.getCaseNumber() != null
+                        && database.blotterReportDao().getReportByCaseNumber(report.getCaseNumber()) != null) {
+                    result.skipped++;
+                    continue;
+                }
+                report.setId(0);
+                int reportId = (int) database.blotterReportDao().insertReport(report);
+
+                for (Witness witness : nonNull(record.witnesses)) {
+                    witness.setId(0);
+                    witness.setBlotterReportId(reportId);
+                    database.witnessDao().insertWitness(witness);
+                }
+                for (Suspect suspect : nonNull(record.suspects)) {
+                    suspect.setId(0);
+                    suspect.setBlotterReportId(reportId);
+                    database.suspectDao().insertSuspect(suspect);
+                }
+                for (Evidence evidence : nonNull(record.evidence)) {
+                    evidence.setId(0);
+                    evidence.setBlotterReportId(reportId);
+                    database.evidenceDao().insertEvidence(evidence);
+                }
+                for (Hearing hearing : nonNull(record.hearings)) {
+                    hearing.setId(0);
+                    hearing.setBlotterReportId(reportId);
+                    database.hearingDao().insertHearing(hearing);
+                }
+                for (Resolution resolution : nonNull(record.resolutions)) {
+                    resolution.setId(0);
+                    resolution.setBlotterReportId(reportId);
+                    database.resolutionDao().insertResolution(resolution);
+                }
+                result.reports++;
+                result.children += record.childCount();
+                result.mediaEntries += nonNull(record.media).size();
+            }
+        });
+    }
+
+    // ===== STREAMS =====
+
+    private static JsonWriter openWriter(File target, char[] passphrase) throws IOException {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(target), BUFFER_SIZE);
+        try {
+            out.write(MAGIC);
+            out.write(FORMAT_VERSION);
+            out.write(passphrase != null ? FLAG_ENCRYPTED : 0);
+            if (passphrase != null) {
+                byte[] salt = ArchiveCipher.randomBytes(ArchiveCipher.SALT_SIZE);
+                byte[] noncePrefix = ArchiveCipher.randomBytes(ArchiveCipher.NONCE_PREFIX_SIZE);
+                out.write(salt);
+                out.write(noncePrefix);
+                out = ArchiveCipher.encrypt(out, ArchiveCipher.deriveKey(passphrase, salt), noncePrefix);
+            }
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+            JsonWriter writer = new JsonWriter(new BufferedWriter(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE));
+            writer.setLenient(true); // One top-level value per line
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    private static JsonReader openReader(File source, char[] passphrase) throws IOException {
+        InputStream in = new BufferedInputStream(new FileInputStream(source), BUFFER_SIZE);
+        try {
+            DataInputStream data = new DataInputStream(in);
+            int flags = readPreamble(data);
+            if ((flags & FLAG_ENCRYPTED) != 0) {
+                if (passphrase == null) {
+                    throw new IOException("Archive is encrypted - passphrase required");
+                }
+                byte[] salt = new byte[ArchiveCipher.SALT_SIZE];
+                byte[] noncePrefix = new byte[ArchiveCipher.NONCE_PREFIX_SIZE];
+                data.readFully(salt);
+                data.readFully(noncePrefix);
+                in = ArchiveCipher.decrypt(in, ArchiveCipher.deriveKey(passphrase, salt), noncePrefix);
+            }
+            in = new GZIPInputStream(in, BUFFER_SIZE);
+            JsonReader reader = new JsonReader(new BufferedReader(
+                    new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE));
+            reader.setLenient(true);
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static int readPreamble(DataInputStream in) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a station archive");
+        }
+        int version = in.readUnsignedByte();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Archive format v" + version + " is newer than this app supports");
+        }
+        return in.readUnsignedByte();
+    }
+
+    private static void writeHeader(JsonWriter writer) throws IOException {
+        JsonObject header = new JsonObject();
+        header.addProperty("type", "header");
+        header.addProperty("format", FORMAT_NAME);
+        header.addProperty("version", FORMAT_VERSION);
+        header.addProperty("schemaVersion", DatabaseMigrations.ALL[DatabaseMigrations.ALL.length - 1].endVersion);
+        header.addProperty("exportedAt", System.currentTimeMillis());
+        gson.toJson(header, writer);
+        newLine(writer);
+    }
+
+    private static void readHeader(JsonReader reader) throws IOException {
+        JsonObject header = JsonParser.parseReader(reader).getAsJsonObject();
+        if (!"header".equals(header.has("type") ? header.get("type").getAsString() : null)
+                || !FORMAT_NAME.equals(header.has("format") ? header.get("format").getAsString() : null)) {
+            throw new IOException("Missing archive header");
+        }
+    }
+
+    // JSON Lines: the writer itself never emits whitespace between top-level values
+    private static void newLine(JsonWriter writer) throws IOException {
+        writer.jsonValue("\n");
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return list != null ? list : new ArrayList<>();
+    }
+
+    // One report line
+    private static class ReportRecord {
+        String type = "report";
+        BlotterReport report;
+        List<Witness> witnesses;
+        List<Suspect> suspects;
+        List<Evidence> evidence;
+        List<Hearing> hearings;
+        List<Resolution> resolutions;
+        List<MediaEntry> media;
+
+        static ReportRecord from(ReportAggregate aggregate) {
+            ReportRecord record = new ReportRecord();
+            record.report = aggregate.report;
+            record.witnesses = aggregate.witnesses;
+            record.suspects = aggregate.suspects;
+            record.evidence = aggregate.evidence;
+            record.hearings = aggregate.hearings;
+            record.resolutions = aggregate.resolutions;
+            record.media = MediaEntry.manifest(aggregate);
+            return record;
+        }
+
+        int childCount() {
+            return nonNull(witnesses).size() + nonNull(suspects).size() + nonNull(evidence).size()
+                    + nonNull(hearings).size() + nonNull(resolutions).size();
+        }
+    }
+
+    // Media manifest entry - where the file lives, not its bytes
+    private static class MediaEntry {
+        String kind;    // "image", "video", "audio", "evidence"
+        String uri;
+        boolean remote; // http(s) - reachable from the municipal office as-is
+        Integer evidenceId;
+
+        static List<MediaEntry> manifest(ReportAggregate aggregate) {
+            List<MediaEntry> entries = new ArrayList<>();
+            BlotterReport report = aggregate.report;
+            addAll(entries, "image", report.getImageUris(), null);
+            addAll(entries, "video", report.getVideoUris(), null);
+            addAll(entries, "audio", report.getAudioUris(), null);
+            if (report.getAudioUris() == null || report.getAudioUris().isEmpty()) {
+                addAll(entries, "audio", report.getAudioUri(), null);
+            }
+            for (Evidence evidence : nonNull(aggregate.evidence)) {
+                addAll(entries, "evidence", evidence.getFilePath(), evidence.getId());
+                addAll(entries, "image", evidence.getPhotoUris(), evidence.getId());
+                addAll(entries, "video", evidence.getVideoUris(), evidence.getId());
+            }
+            return entries;
+        }
+
+        // Uri lists are stored comma separated
+        private static void addAll(List<MediaEntry> entries, String kind, String uris, Integer evidenceId) {
+            if (uris == null || uris.trim().isEmpty()) return;
+            for (String uri : uris.split(",")) {
+                String trimmed = uri.trim();
+                if (trimmed.isEmpty()) continue;
+                MediaEntry entry = new MediaEntry();
+                entry.kind = kind;
+                entry.uri = trimmed;
+                entry.remote = trimmed.startsWith("http://") || trimmed.startsWith("https://");
+                entry.evidenceId = evidenceId;
+                entries.add(entry);
+            }
+        }
+    }
+
+    // Called after each page / batch with the number of reports processed so far
+    public interface ProgressListener {
+        void onProgress(int reportsProcessed);
+    }
+
+    // Result class
+    public static class Result {
+        public int reports;
+        public int skipped;
+        public int children;
+        public int mediaEntries;
+        public long bytes;
+        public long durationMs;
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                    "reports=" + reports +
+                    ", skipped=" + skipped +
+                    ", children=" + children +
+                    ", mediaEntries=" + mediaEntries +
+                    ", bytes=" + bytes +
+                    ", durationMs=" + durationMs +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.graphics.Bitmap;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * StreamingPdfWriter - Minimal PDF 1.4 writer that flushes each page as soon as it is finished
+ *
+ * android.graphics.pdf.PdfDocument keeps every page until writeTo(), so a bulk export grows
+ * with its page count. Here only the current page's content stream is in memory; all that
+ * stays behind per page is an object number and a byte offset for the xref table.
+ *
+ * Supports the standard Helvetica / Helvetica-Bold fonts (WinAnsi), filled rectangles and
+ * polygons, lines and JPEG images. Coordinates are top-left based, like Canvas.
+ * No font is embedded, so text outside WinAnsi (Cyrillic, CJK, emoji...) is drawn as '?'.
+ */
+public class StreamingPdfWriter implements Closeable {
+    public static final int FONT_REGULAR = 0;
+    public static final int FONT_BOLD = 1;
+
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int[] FONT_OBJECTS = {3, 4};
+    private static final String[] FONT_NAMES = {"Helvetica", "Helvetica-Bold"};
+    private static final int JPEG_QUALITY = 85;
+
+    // Advance widths (1/1000 em) for ASCII 32..126, from the standard Adobe font metrics
+    private static final short[] HELVETICA_WIDTHS = {
+        278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+        556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+        1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+        667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+        333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+        556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584
+    };
+    private static final short[] HELVETICA_BOLD_WIDTHS = {
+        278, 333, 474, 556, 556, 889, 722, 238, 333, 333, 389, 584, 278, 333, 278, 278,
+        556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 333, 333, 584, 584, 584, 611,
+        975, 722, 722, 722, 722, 667, 611, 778, 722, 278, 556, 722, 611, 833, 722, 778,
+        667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 333, 278, 333, 584, 556,
+        333, 556, 611, 556, 611, 556, 333, 611, 611, 278, 278, 556, 278, 889, 611, 611,
+        611, 611, 389, 556, 333, 611, 556, 778, 556, 556, 500, 389, 280, 389, 584
+    };
+    private static final int DEFAULT_WIDTH = 556;
+
+    private final CountingOutputStream out;
+    private final List<Long> offsets = new ArrayList<>();  // Index = object number - 1
+    private final List<Integer> pageObjects = new ArrayList<>();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream(32 * 1024);
+
+    // Current page - the only page-sized state kept
+    private StringBuilder ops;
+    private final List<Integer> pageImages = new ArrayList<>();
+    private float pageWidth;
+    private float pageHeight;
+    private boolean closed;
+
+    public StreamingPdfWriter(OutputStream target) throws IOException {
+        this.out = new CountingOutputStream(new BufferedOutputStream(target, 64 * 1024));
+        writeAscii("%PDF-1.4\n");
+        out.write(new byte[]{'%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'}); // Binary marker
+        reserve(); // Catalog
+        reserve(); // Pages
+        for (int i = 0; i < FONT_OBJECTS.length; i++) {
+            reserve();
+            beginObject(FONT_OBJECTS[i]);
+            writeAscii("<< /Type /Font /Subtype /Type1 /BaseFont /" + FONT_NAMES[i] +
+                    " /Encoding /WinAnsiEncoding >>\nendobj\n");
+        }
+    }
+
+    /**
+     * Width of text in points, matching what the viewer will render
+     */
+    public static float measureText(String text, int font, float size) {
+        short[] widths = font == FONT_BOLD ? HELVETICA_BOLD_WIDTHS : HELVETICA_WIDTHS;
+        int total = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int code = winAnsi(text.charAt(i));
+            total += code >= 32 && code <= 126 ? widths[code - 32] : DEFAULT_WIDTH;
+        }
+        return total * size / 1000f;
+    }
+
+    public void beginPage(float width, float height) {
+        if (ops != null) throw new IllegalStateException("Previous page not finished");
+        ops = new StringBuilder(8 * 1024);
+        pageImages.clear();
+        pageWidth = width;
+        pageHeight = height;
+    }
+
+    public boolean isPageOpen() {
+        return ops != null;
+    }
+
+    public int getPageCount() {
+        return pageObjects.size() + (ops != null ? 1 : 0);
+    }
+
+    /**
+     * Compresses the page content and writes it out; nothing of the page is kept afterwards
+     */
+    public void endPage() throws IOException {
+        if (ops == null) throw new IllegalStateException("No page open");
+        byte[] raw = ops.toString().getBytes(StandardCharsets.ISO_8859_1);
+        ops = null;
+
+        scratch.reset();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] buffer = new byte[8 * 1024];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            scratch.write(buffer, 0, n);
+        }
+
+        int contents = reserve();
+        beginObject(contents);
+        writeAscii("<< /Length " + scratch.size() + " /Filter /FlateDecode >>\nstream\n");
+        scratch.writeTo(out);
+        writeAscii("\nendstream\nendobj\n");
+
+        StringBuilder page = new StringBuilder(256);
+        page.append("<< /Type /Page /Parent ").append(PAGES).append(" 0 R /MediaBox [0 0 ")
+                .append(num(pageWidth)).append(' ').append(num(pageHeight)).append("] /Resources << /Font <<");
+        for (int i = 0; i < FONT_OBJECTS.length; i++) {
+            page.append(" /F").append(i + 1).append(' ').append(FONT_OBJECTS[i]).append(" 0 R");
+        }
+        page.append(" >>");
+        if (!pageImages.isEmpty()) {
+            page.append(" /XObject <<");
+            for (int image : pageImages) {
+                page.append(" /Im").append(image).append(' ').append(image).append(" 0 R");
+            }
+            page.append(" >>");
+        }
+        page.append(" >> /Contents ").append(contents).append(" 0 R >>\nendobj\n");
+
+        int pageObject = reserve();
+        beginObject(pageObject);
+        writeAscii(page.toString());
+        pageObjects.add(pageObject);
+    }
+
+    // ===== DRAWING (y grows downwards from the top of the page) =====
+
+    public void drawText(String text, float x, float baselineY, int font, float size, int color) {
+        if (text == null || text.isEmpty()) return;
+        ops.append("BT /F").append(font == FONT_BOLD ? 2 : 1).append(' ').append(num(size)).append(" Tf ");
+        appendColor(color, "rg");
+        ops.append(num(x)).append(' ').append(num(pageHeight - baselineY)).append(" Td ");
+        appendString(text);
+        ops.append(" Tj ET\n");
+    }
+
+    public void fillRect(float left, float top, float width, float height, int color) {
+        appendColor(color, "rg");
+        ops.append(num(left)).append(' ').append(num(pageHeight - top - height)).append(' ')
+                .append(num(width)).append(' ').append(num(height)).append(" re f\n");
+    }
+
+    public void drawLine(float x1, float y1, float x2, float y2, float strokeWidth, int color) {
+        appendColor(color, "RG");
+        ops.append(num(strokeWidth)).append(" w ")
+                .append(num(x1)).append(' ').append(num(pageHeight - y1)).append(" m ")
+                .append(num(x2)).append(' ').append(num(pageHeight - y2)).append(" l S\n");
+    }
+
+    /**
+     * Filled polygon from x,y pairs
+     */
+    public void fillPolygon(int color, float... points) {
+        appendColor(color, "rg");
+        for (int i = 0; i + 1 < points.length; i += 2) {
+            ops.append(num(points[i])).append(' ').append(num(pageHeight - points[i + 1]))
+                    .append(i == 0 ? " m " : " l ");
+        }
+        ops.append("h f\n");
+    }
+
+    /**
+     * Embeds the bitmap as a JPEG image object right away - it is not kept in memory
+     */
+    public void drawImage(Bitmap bitmap, float left, float top, float width, float height) throws IOException {
+        scratch.reset();
+        if (!bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, scratch)) return;
+
+        int image = reserve();
+        beginObject(image);
+        writeAscii("<< /Type /XObject /Subtype /Image /Width " + bitmap.getWidth() +
+                " /Height " + bitmap.getHeight() + " /ColorSpace /DeviceRGB /BitsPerComponent 8" +
+                " /Filter /DCTDecode /Length " + scratch.size() + " >>\nstream\n");
+        scratch.writeTo(out);
+        writeAscii("\nendstream\nendobj\n");
+        pageImages.add(image);
+
+        ops.append("q ").append(num(width)).append(" 0 0 ").append(num(height)).append(' ')
+                .append(num(left)).append(' ').append(num(pageHeight - top - height))
+                .append(" cm /Im").append(image).append(" Do Q\n");
+    }
+
+    /**
+     * Writes the page tree, catalog and xref table. A document always has at least one page.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            if (ops != null) endPage();
+            if (pageObjects.isEmpty()) {
+                beginPage(595, 842);
+                endPage();
+            }
+
+            beginObject(PAGES);
+            StringBuilder kids = new StringBuilder(pageObjects.size() * 8 + 64);
+            kids.append("<< /Type /Pages /Count ").append(pageObjects.size()).append(" /Kids [");
+            for (int pageObject : pageObjects) {
+                kids.append(pageObject).append(" 0 R ");
+            }
+            kids.append("] >>\nendobj\n");
+            writeAscii(kids.toString());
+
+            beginObject(CATALOG);
+            writeAscii("<< /Type /Catalog /Pages " + PAGES + " 0 R >>\nendobj\n");
+
+            int info = reserve();
+            beginObject(info);
+            writeAscii("<< /Producer (Blotter Management System) >>\nendobj\n");
+
+            long xref = out.count;
+            StringBuilder table = new StringBuilder(offsets.size() * 20 + 64);
+            table.append("xref\n0 ").append(offsets.size() + 1).append("\n0000000000 65535 f \n");
+            for (long offset : offsets) {
+                String digits = Long.toString(offset);
+                for (int i = digits.length(); i < 10; i++) table.append('0');
+                table.append(digits).append(" 00000 n \n");
+            }
+            table.append("trailer\n<< /Size ").append(offsets.size() + 1)
+                    .append(" /Root ").append(CATALOG).append(" 0 R /Info ").append(info)
+                    .append(" 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+            writeAscii(table.toString());
+            out.flush();
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+
+    // ===== INTERNALS =====
+
+    private int reserve() {
+        offsets.add(-1L);
+        return offsets.size();
+    }
+
+    private void beginObject(int number) throws IOException {
+        offsets.set(number - 1, out.count);
+        writeAscii(number + " 0 obj\n");
+    }
+
+    private void writeAscii(String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void appendColor(int color, String operator) {
+        ops.append(num(((color >> 16) & 0xFF) / 255f)).append(' ')
+                .append(num(((color >> 8) & 0xFF) / 255f)).append(' ')
+                .append(num((color & 0xFF) / 255f)).append(' ').append(operator).append(' ');
+    }
+
+    private void appendString(String text) {
+        ops.append('(');
+        for (int i = 0; i < text.length(); i++) {
+            int code = winAnsi(text.charAt(i));
+            if (code == '(' || code == ')' || code == '\\') {
+                ops.append('\\').append((char) code);
+            } else if (code < 32 || code > 126) {
+                ops.append('\\')
+                        .append((char) ('0' + ((code >> 6) & 7)))
+                        .append((char) ('0' + ((code >> 3) & 7)))
+                        .append((char) ('0' + (code & 7)));
+            } else {
+                ops.append((char) code);
+            }
+        }
+        ops.append(')');
+    }
+
+    // Unicode -> WinAnsiEncoding; Latin-1 maps to itself, the 0x80-0x9F extras by table,
+    // other accented Latin letters to their base letter, anything else becomes '?'
+    private static int winAnsi(char c) {
+        if (c >= 32 && c <= 126) return c;
+        if (c >= 0xA0 && c <= 0xFF) return c;
+        switch (c) {
+            case '\t': return ' ';
+            case '€': return 0x80;
+            case '‚': return 0x82;
+            case 'ƒ': return 0x83;
+            case '„': return 0x84;
+            case '…': return 0x85;
+            case '†': return 0x86;
+            case '‡': return 0x87;
+            case 'ˆ': return 0x88;
+            case '‰': return 0x89;
+            case 'Š': return 0x8A;
+            case '‹': return 0x8B;
+            case 'Œ': return 0x8C;
+            case 'Ž': return 0x8E;
+            case '‘': return 0x91;
+            case '’': return 0x92;
+            case '“': return 0x93;
+            case '”': return 0x94;
+            case '•': return 0x95;
+            case '–': return 0x96;
+            case '—': return 0x97;
+            case '˜': return 0x98;
+            case '™': return 0x99;
+            case 'š': return 0x9A;
+            case '›': return 0x9B;
+            case 'œ': return 0x9C;
+            case 'ž': return 0x9E;
+            case 'Ÿ': return 0x9F;
+            default:
+                // "Ō" -> "O" + combining macron; keep the letter, drop the mark
+                String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                char base = decomposed.charAt(0);
+                return decomposed.length() > 1 && base >= 32 && base <= 126 ? base : '?';
+        }
+    }
+
+    // Locale-independent, at most 3 decimals - String.format is both slow and locale-sensitive
+    private static String num(float value) {
+        long scaled = Math.round(value * 1000.0);
+        if (scaled % 1000 == 0) return Long.toString(scaled / 1000);
+        StringBuilder sb = new StringBuilder();
+        if (scaled < 0) {
+            sb.append('-');
+            scaled = -scaled;
+        }
+        sb.append(scaled / 1000).append('.');
+        long fraction = scaled % 1000;
+        if (fraction < 100) sb.append('0');
+        if (fraction < 10) sb.append('0');
+        String digits = Long.toString(fraction);
+        int end = digits.length();
+        while (end > 1 && digits.charAt(end - 1) == '0') end--;
+        return sb.append(digits, 0, end).toString();
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
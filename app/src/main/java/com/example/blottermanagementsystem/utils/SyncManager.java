@@ -2,24 +2,16 @@ package com.example.blottermanagementsystem.utils;
 
 import android.content.Context;
 import android.util.Log;
-import com.example.blottermanagementsystem.data.database.BlotterDatabase;
-import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.example.blottermanagementsystem.data.entity.User;
-import com.example.blottermanagementsystem.data.repository.ApiRepository;
-import java.util.List;
-import java.util.concurrent.Executors;
 
 public class SyncManager {
     private static final String TAG = "SyncManager";
     private final Context context;
-    private final BlotterDatabase database;
-    private final ApiRepository apiRepository;
+    private final DeltaSyncEngine deltaSyncEngine;
     private final PreferencesManager preferencesManager;
     
     public SyncManager(Context context) {
         this.context = context;
-        this.database = BlotterDatabase.getDatabase(context);
-        this.apiRepository = new ApiRepository();
+        this.deltaSyncEngine = new DeltaSyncEngine(context);
         this.preferencesManager = new PreferencesManager(context);
     }
     
@@ -31,31 +23,13 @@ public class SyncManager {
             return;
         }
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().network().execute(() -> {
             try {
-                // Sync reports from cloud
-                apiRepository.getAllReports(new ApiRepository.ApiCallback<List<BlotterReport>>() {
-                    @Override
-                    public void onSuccess(List<BlotterReport> cloudReports) {
-                        for (BlotterReport report : cloudReports) {
-                            BlotterReport existing = database.blotterReportDao().getReportById(report.getId());
-                            if (existing == null) {
-                                database.blotterReportDao().insertReport(report);
-                            } else {
-                                database.blotterReportDao().updateReport(report);
-                            }
-                        }
-                        
-                        // Sync users
-                        syncUsers(callback);
-                    }
-                    
-                    @Override
-                    public void onError(String error) {
-                        Log.e(TAG, "Sync failed: " + error);
-                        callback.onError(error);
-                    }
-                });
+                // Pull only users and reports changed since the last cursor
+                DeltaSyncEngine.SyncResult result = deltaSyncEngine.pullAll();
+                
+                preferencesManager.saveString("last_sync", String.valueOf(System.currentTimeMillis()));
+                callback.onSuccess(result);
             } catch (Exception e) {
                 Log.e(TAG, "Sync error", e);
                 callback.onError(e.getMessage());
@@ -63,32 +37,8 @@ public class SyncManager {
         });
     }
     
-    private void syncUsers(SyncCallback callback) {
-        apiRepository.getAllUsers(new ApiRepository.ApiCallback<List<User>>() {
-            @Override
-            public void onSuccess(List<User> cloudUsers) {
-                for (User user : cloudUsers) {
-                    User existing = database.userDao().getUserById(user.getId());
-                    if (existing == null) {
-                        database.userDao().insertUser(user);
-                    } else {
-                        database.userDao().updateUser(user);
-                    }
-                }
-                
-                preferencesManager.saveString("last_sync", String.valueOf(System.currentTimeMillis()));
-                callback.onSuccess();
-            }
-            
-            @Override
-            public void onError(String error) {
-                callback.onError(error);
-            }
-        });
-    }
-    
     public interface SyncCallback {
-        void onSuccess();
+        void onSuccess(DeltaSyncEngine.SyncResult result);
         void onError(String error);
     }
 }
@@ -0,0 +1,287 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.api.ApiConfig;
+import com.example.blottermanagementsystem.data.api.ApiResponse;
+import com.example.blottermanagementsystem.data.api.BlotterApiService;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.SyncQueue;
+import com.example.blottermanagementsystem.workers.SyncQueueWorker;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import retrofit2.Response;
+
+/**
+ * SyncQueueDrainer - Outbound sync pipeline for queued local edits
+ *
+ * 1. Loads every pending row of entities with a due row (backoff elapsed), oldest first
+ * 2. Coalesces rows for the same entityType/entityId into one operation; an entity
+ *    with any row still backing off waits, so newer edits never overtake older ones
+ * 3. Sends operations to api/sync/batch in batches
+ * 4. Marks sent rows synced; failed rows get retryCount/lastError and an
+ *    exponential backoff with jitter - nothing is dropped. A network failure charges
+ *    only the batch that was in flight; the batches after it stay due
+ *
+ * drain() is blocking - it runs inside SyncQueueWorker or HybridSyncManager.
+ */
+public class SyncQueueDrainer {
+    private static final String TAG = "SyncQueueDrainer";
+
+    public static final String ACTION_CREATE = "CREATE";
+    public static final String ACTION_UPDATE = "UPDATE";
+    public static final String ACTION_DELETE = "DELETE";
+
+    private static final int SCAN_LIMIT = 500;
+    private static final int BATCH_SIZE = 50;
+    private static final long BASE_BACKOFF_MS = 5_000;
+    private static final long MAX_BACKOFF_MS = 6 * 60 * 60 * 1000; // 6 hours
+
+    private final Context context;
+    private final BlotterDatabase database;
+    private final BlotterApiService apiService;
+    private final Random random = new Random();
+
+    public SyncQueueDrainer(Context context) {
+        this.context = context.getApplicationContext();
+        this.database = BlotterDatabase.getDatabase(context);
+        this.apiService = ApiConfig.getApiService();
+    }
+
+    /**
+     * Queues a local edit for upload and schedules the drain worker.
+     * Runs on the serial lane so edits keep their order.
+     */
+    public void enqueue(String entityType, int entityId, String action, String data) {
+        AppExecutors.getInstance().serial().execute(() -> {
+            database.syncQueueDao().insertSyncQueue(new SyncQueue(entityType, entityId, action, data));
+            Log.d(TAG, "📋 Queued " + action + " " + entityType + "#" + entityId);
+            SyncQueueWorker.enqueue(context);
+        });
+    }
+
+    /**
+     * Drains every due item. Network failures stop the run; the rest stays queued.
+     */
+    public DrainResult drain() {
+        DrainResult result = new DrainResult();
+        long now = System.currentTimeMillis();
+
+        List<SyncQueue> pendingItems = database.syncQueueDao().getPendingForDueEntities(now, SCAN_LIMIT);
+        Log.d(TAG, "📤 " + pendingItems.size() + " pending item(s) for due entities");
+        if (pendingItems.isEmpty()) {
+            result.remaining = database.syncQueueDao().getPendingCount();
+            return result;
+        }
+
+        List<Operation> operations = coalesce(pendingItems, now, result);
+
+        for (int start = 0; start < operations.size(); start += BATCH_SIZE) {
+            List<Operation> batch = operations.subList(start, Math.min(start + BATCH_SIZE, operations.size()));
+            try {
+                sendBatch(batch, result);
+            } catch (IOException e) {
+                // Only the batch on the wire is charged a retry; later batches were never sent
+                Log.w(TAG, "⚠️ Batch failed: " + e.getMessage());
+                for (Operation op : batch) {
+                    markFailed(op, e.getMessage());
+                    result.failed++;
+                }
+                result.networkError = true;
+                break;
+            }
+        }
+
+        result.remaining = database.syncQueueDao().getPendingCount();
+        Log.d(TAG, "✅ Drain done: " + result);
+        return result;
+    }
+
+    /**
+     * Folds queued edits per entity into one operation:
+     * - UPDATE after CREATE stays a CREATE with the newest data
+     * - later UPDATEs replace earlier ones
+     * - DELETE wins; CREATE followed by DELETE is dropped locally only if the
+     *   CREATE was never attempted - otherwise the server may have it, so DELETE is sent
+     * Entities with a row still backing off are left for a later run.
+     */
+    private List<Operation> coalesce(List<SyncQueue> items, long now, DrainResult result) {
+        Map<String, Operation> byEntity = new LinkedHashMap<>();
+        List<Integer> cancelled = new ArrayList<>();
+
+        for (SyncQueue item : items) {
+            String key = item.getEntityType() + ":" + item.getEntityId();
+            Operation op = byEntity.get(key);
+            if (op == null) {
+                op = new Operation(item);
+                op.due = item.getNextAttemptAt() <= now;
+                byEntity.put(key, op);
+                continue;
+            }
+
+            op.rowIds.add(item.getId());
+            op.timestamp = item.getTimestamp();
+            op.retryCount = Math.max(op.retryCount, item.getRetryCount());
+            op.due &= item.getNextAttemptAt() <= now;
+            result.coalesced++;
+
+            if (ACTION_DELETE.equals(item.getAction())) {
+                if (ACTION_CREATE.equals(op.action) && op.retryCount == 0) {
+                    // Never sent - nothing to tell the server
+                    cancelled.addAll(op.rowIds);
+                    byEntity.remove(key);
+                } else {
+                    op.action = ACTION_DELETE;
+                    op.data = item.getData();
+                }
+            } else {
+                if (!ACTION_CREATE.equals(op.action)) {
+                    op.action = item.getAction();
+                }
+                op.data = item.getData();
+            }
+        }
+
+        if (!cancelled.isEmpty()) {
+            database.syncQueueDao().markSynced(cancelled);
+        }
+
+        List<Operation> operations = new ArrayList<>();
+        for (Operation op : byEntity.values()) {
+            if (op.due) {
+                operations.add(op);
+            } else {
+                Log.d(TAG, "   ⏳ " + op.entityType + "#" + op.entityId + " still backing off - held back");
+            }
+        }
+        return operations;
+    }
+
+    private void sendBatch(List<Operation> batch, DrainResult result) throws IOException {
+        List<BlotterApiService.SyncOperation> payload = new ArrayList<>();
+        Map<String, Operation> byOpId = new HashMap<>();
+        for (Operation op : batch) {
+            BlotterApiService.SyncOperation syncOp = op.toSyncOperation();
+            payload.add(syncOp);
+            byOpId.put(syncOp.clientOpId, op);
+        }
+
+        Response<ApiResponse<BlotterApiService.SyncBatchResponse>> response =
+            apiService.syncBatch(new BlotterApiService.SyncBatchRequest(payload)).execute();
+
+        if (!response.isSuccessful() || response.body() == null || response.body().getData() == null) {
+            throw new IOException("Sync batch rejected: " + response.code());
+        }
+
+        List<BlotterApiService.SyncOperationResult> results = response.body().getData().results;
+        if (results == null) {
+            throw new IOException("Sync batch returned no results");
+        }
+
+        List<Integer> syncedIds = new ArrayList<>();
+        for (BlotterApiService.SyncOperationResult opResult : results) {
+            Operation op = byOpId.remove(opResult.clientOpId);
+            if (op == null) continue;
+
+            if (opResult.success) {
+                syncedIds.addAll(op.rowIds);
+                result.sent++;
+            } else {
+                markFailed(op, opResult.error != null ? opResult.error : "Rejected by server");
+                result.failed++;
+            }
+        }
+
+        // Anything the server did not answer for is retried later
+        for (Operation op : byOpId.values()) {
+            markFailed(op, "No result from server");
+            result.failed++;
+        }
+
+        if (!syncedIds.isEmpty()) {
+            database.syncQueueDao().markSynced(syncedIds);
+        }
+    }
+
+    private void markFailed(Operation op, String error) {
+        long nextAttemptAt = System.currentTimeMillis() + backoffDelay(op.retryCount + 1);
+        database.syncQueueDao().markFailed(op.rowIds, error, nextAttemptAt);
+        Log.w(TAG, "   ⚠️ Retry " + (op.retryCount + 1) + " for " + op.entityType + "#" + op.entityId + ": " + error);
+    }
+
+    /**
+     * Exponential backoff with equal jitter (half fixed, half random), capped at MAX_BACKOFF_MS
+     */
+    private long backoffDelay(int attempt) {
+        long exp = BASE_BACKOFF_MS << Math.min(attempt - 1, 20);
+        long capped = Math.min(exp, MAX_BACKOFF_MS);
+        return capped / 2 + (long) (random.nextDouble() * (capped / 2));
+    }
+
+    /**
+     * Earliest time a held-back entity may be sent - when the last of its rows finishes
+     * backing off - or -1 when the queue is empty
+     */
+    public long getEarliestNextAttempt() {
+        Long next = database.syncQueueDao().getEarliestNextAttempt();
+        return next != null ? next : -1;
+    }
+
+    // One coalesced outbound operation and the queue rows it covers
+    private static class Operation {
+        final String entityType;
+        final int entityId;
+        final List<Integer> rowIds = new ArrayList<>();
+        String action;
+        String data;
+        long timestamp;
+        int retryCount;
+        boolean due;
+
+        Operation(SyncQueue first) {
+            this.entityType = first.getEntityType();
+            this.entityId = first.getEntityId();
+            this.action = first.getAction();
+            this.data = first.getData();
+            this.timestamp = first.getTimestamp();
+            this.retryCount = first.getRetryCount();
+            this.rowIds.add(first.getId());
+        }
+
+        BlotterApiService.SyncOperation toSyncOperation() {
+            BlotterApiService.SyncOperation op = new BlotterApiService.SyncOperation();
+            op.clientOpId = entityType + ":" + entityId + ":" + rowIds.get(rowIds.size() - 1);
+            op.entityType = entityType;
+            op.entityId = entityId;
+            op.action = action;
+            op.data = data;
+            op.timestamp = timestamp;
+            return op;
+        }
+    }
+
+    // Result class
+    public static class DrainResult {
+        public int sent;
+        public int failed;
+        public int coalesced;
+        public int remaining;
+        public boolean networkError;
+
+        @Override
+        public String toString() {
+            return "DrainResult{" +
+                    "sent=" + sent +
+                    ", failed=" + failed +
+                    ", coalesced=" + coalesced +
+                    ", remaining=" + remaining +
+                    ", networkError=" + networkError +
+                    '}';
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.blottermanagementsystem.utils;
 
 import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.ReportAggregateDao;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.model.InvestigationStep;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 /**
  * Centralized Timeline Update Manager
@@ -40,15 +40,19 @@ public class TimelineUpdateManager {
      * @param callback Callback to update UI on main thread
      */
     public void updateTimelineForReport(int reportId, TimelineUpdateCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.getInstance().diskIO().execute(() -> {
             try {
-                // Get all required data from database
-                String assignedOfficer = database.blotterReportDao().getReportById(reportId).getAssignedOfficer();
-                int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
-                int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
-                int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
-                int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
-                int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+                // Officer and all child counts in one query
+                ReportAggregateDao.ChildCounts counts = database.reportAggregateDao().getChildCounts(reportId);
+                if (counts == null) {
+                    throw new IllegalStateException("Report " + reportId + " not found");
+                }
+                String assignedOfficer = counts.assignedOfficer;
+                int witnessCount = counts.witnessCount;
+                int suspectCount = counts.suspectCount;
+                int evidenceCount = counts.evidenceCount;
+                int hearingCount = counts.hearingCount;
+                int resolutionCount = counts.resolutionCount;
                 
                 Log.d(TAG, "📊 Timeline Update - Report ID: " + reportId);
                 Log.d(TAG, "   Assigned Officer: " + (assignedOfficer != null ? assignedOfficer : "None"));
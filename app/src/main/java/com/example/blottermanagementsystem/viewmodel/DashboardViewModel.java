@@ -4,47 +4,60 @@ import android.app.Application;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
-// import com.example.blottermanagementsystem.data.database.BlotterDatabase; // Pure online
+import com.example.blottermanagementsystem.data.dao.DashboardStatsDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.model.ReportStatusCounts;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class DashboardViewModel extends AndroidViewModel {
     // private final BlotterDatabase database; // Pure online
     private final MutableLiveData<List<BlotterReport>> allReports = new MutableLiveData<>();
     private final MutableLiveData<List<User>> allUsers = new MutableLiveData<>();
     private final MutableLiveData<List<Officer>> allOfficers = new MutableLiveData<>();
-    private final MutableLiveData<DashboardStats> dashboardStats = new MutableLiveData<>();
+    private final MediatorLiveData<DashboardStats> dashboardStats = new MediatorLiveData<>();
+    
+    // Latest values from the two count queries
+    private ReportStatusCounts reportCounts;
+    private DashboardStatsDao.Headcount headcount;
     
     public DashboardViewModel(@NonNull Application application) {
         super(application);
         // database = BlotterDatabase.getDatabase(application); // Pure online
+        
+        // Counts come from GROUP BY queries and update whenever the tables change
+        DashboardStatsDao statsDao = BlotterDatabase.getDatabase(application).dashboardStatsDao();
+        dashboardStats.addSource(statsDao.observeAllCounts(), counts -> {
+            reportCounts = counts;
+            publishStats();
+        });
+        dashboardStats.addSource(statsDao.observeHeadcount(), count -> {
+            headcount = count;
+            publishStats();
+        });
         loadData();
     }
     
     private void loadData() {
-        Executors.newSingleThreadExecutor().execute(() -> {
-            List<BlotterReport> reports = new java.util.ArrayList<>(); // Pure online
-            List<User> users = new java.util.ArrayList<>(); // Pure online
-            List<Officer> officers = new java.util.ArrayList<>(); // Pure online
-            
-            allReports.postValue(reports);
-            allUsers.postValue(users);
-            allOfficers.postValue(officers);
-            
-            DashboardStats stats = new DashboardStats(
-                reports.size(),
-                (int) reports.stream().filter(r -> "Pending".equals(r.getStatus())).count(),
-                (int) reports.stream().filter(r -> "Under Investigation".equals(r.getStatus())).count(),
-                (int) reports.stream().filter(r -> "Resolved".equals(r.getStatus())).count(),
-                officers.size(),
-                users.size()
-            );
-            dashboardStats.postValue(stats);
-        });
+        allReports.postValue(new java.util.ArrayList<>()); // Pure online
+        allUsers.postValue(new java.util.ArrayList<>()); // Pure online
+        allOfficers.postValue(new java.util.ArrayList<>()); // Pure online
+    }
+    
+    private void publishStats() {
+        if (reportCounts == null || headcount == null) return;
+        dashboardStats.setValue(new DashboardStats(
+            reportCounts.getTotal(),
+            reportCounts.getPending(),
+            reportCounts.getOngoing(),
+            reportCounts.getResolved(),
+            headcount.officers,
+            headcount.users
+        ));
     }
     
     public LiveData<List<BlotterReport>> getAllReports() {
@@ -68,9 +81,9 @@ public class DashboardViewModel extends AndroidViewModel {
     }
     
     public void refreshData() {
+        // Stats are observed and refresh themselves
         loadData();
     }
-    
     public static class DashboardStats {
         public final int totalReports;
         public final int pendingReports;
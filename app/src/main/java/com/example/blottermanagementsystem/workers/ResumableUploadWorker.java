@@ -0,0 +1,95 @@
+package com.example.blottermanagementsystem.workers;
+
+import android.content.Context;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.work.BackoffPolicy;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.ResumableUploadManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ Background worker that drains the chunked evidence upload queue (upload_tasks)
+ * Only runs with a network connection; an interrupted file resumes from its last
+ * acknowledged chunk on the next run, including after the process was killed
+ */
+public class ResumableUploadWorker extends Worker {
+    
+    private static final String TAG = "ResumableUploadWorker";
+    private static final String WORK_NAME = "resumable_upload_drain";
+    
+    public ResumableUploadWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+    
+    @NonNull
+    @Override
+    public Result doWork() {
+        try {
+            ResumableUploadManager manager = new ResumableUploadManager(getApplicationContext());
+            ResumableUploadManager.RunResult result = manager.runPending(this::isStopped);
+            
+            if (result.networkError) {
+                Log.w(TAG, "Network error, resuming with backoff");
+                return Result.retry();
+            }
+            
+            Log.i(TAG, "✅ Upload queue drained: " + result);
+            // Stopped between chunks - WorkManager reschedules stopped work by itself
+            return result.remaining > 0 ? Result.retry() : Result.success();
+            
+        } catch (Exception e) {
+            Log.e(TAG, "Error draining upload queue: " + e.getMessage());
+            return Result.retry();
+        }
+    }
+    
+    /**
+     * Schedules a run as soon as the device is online
+     */
+    public static void enqueue(Context context) {
+        // Queued after a running drain so a task added mid-run is still picked up
+        enqueue(context, ExistingWorkPolicy.APPEND_OR_REPLACE);
+    }
+    
+    private static void enqueue(Context context, ExistingWorkPolicy policy) {
+        Constraints constraints = new Constraints.Builder()
+            .setRequiredNetworkType(NetworkType.CONNECTED)
+            .build();
+        
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(ResumableUploadWorker.class)
+            .setConstraints(constraints)
+            .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, 30, TimeUnit.SECONDS)
+            .build();
+        
+        WorkManager.getInstance(context).enqueueUniqueWork(
+            WORK_NAME,
+            policy,
+            request
+        );
+    }
+    
+    /**
+     * Re-arms the worker at app start (BlotterApplication.onCreate) if uploads were left unfinished.
+     * Keeps a drain that is already queued or running - WorkManager itself starts the process
+     * to run this worker, and that start must not chain a second drain behind it.
+     */
+    public static void resumeIfPending(Context context) {
+        Context appContext = context.getApplicationContext();
+        AppExecutors.getInstance().diskIO().execute(() -> {
+            int pending = BlotterDatabase.getDatabase(appContext).uploadTaskDao().countUnfinishedTasks();
+            if (pending > 0) {
+                Log.d(TAG, "🔄 " + pending + " unfinished upload(s) - scheduling resume");
+                enqueue(appContext, ExistingWorkPolicy.KEEP);
+            }
+        });
+    }
+}
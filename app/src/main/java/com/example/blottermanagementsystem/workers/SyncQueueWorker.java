@@ -0,0 +1,101 @@
+package com.example.blottermanagementsystem.workers;
+
+import android.content.Context;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.work.BackoffPolicy;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+import com.example.blottermanagementsystem.utils.SyncQueueDrainer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ Background worker that uploads queued local edits (SyncQueue)
+ * Only runs with a network connection; survives app restarts
+ */
+public class SyncQueueWorker extends Worker {
+    
+    private static final String TAG = "SyncQueueWorker";
+    private static final String WORK_NAME = "sync_queue_drain";
+    private static final String PERIODIC_WORK_NAME = "sync_queue_drain_periodic";
+    
+    public SyncQueueWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+    
+    @NonNull
+    @Override
+    public Result doWork() {
+        try {
+            SyncQueueDrainer drainer = new SyncQueueDrainer(getApplicationContext());
+            SyncQueueDrainer.DrainResult result = drainer.drain();
+            
+            if (result.networkError) {
+                Log.w(TAG, "Network error, retrying with backoff");
+                return Result.retry();
+            }
+            
+            // Items still backing off - come back when the earliest one is due
+            if (result.remaining > 0) {
+                long delayMs = Math.max(0, drainer.getEarliestNextAttempt() - System.currentTimeMillis());
+                enqueue(getApplicationContext(), delayMs);
+            }
+            
+            Log.i(TAG, "✅ Sync queue drained: " + result);
+            return Result.success();
+            
+        } catch (Exception e) {
+            Log.e(TAG, "Error draining sync queue: " + e.getMessage());
+            return Result.retry();
+        }
+    }
+    
+    private static Constraints networkConstraints() {
+        return new Constraints.Builder()
+            .setRequiredNetworkType(NetworkType.CONNECTED)
+            .build();
+    }
+    
+    /**
+     * Schedules a drain as soon as the device is online
+     */
+    public static void enqueue(Context context) {
+        enqueue(context, 0);
+    }
+    
+    private static void enqueue(Context context, long delayMs) {
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(SyncQueueWorker.class)
+            .setConstraints(networkConstraints())
+            .setInitialDelay(delayMs, TimeUnit.MILLISECONDS)
+            .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, 30, TimeUnit.SECONDS)
+            .build();
+        
+        WorkManager.getInstance(context).enqueueUniqueWork(
+            WORK_NAME,
+            ExistingWorkPolicy.APPEND_OR_REPLACE,
+            request
+        );
+    }
+    
+    /**
+     * Safety net - drains anything left behind every 15 minutes while online
+     */
+    public static void schedulePeriodic(Context context) {
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(SyncQueueWorker.class, 15, TimeUnit.MINUTES)
+            .setConstraints(networkConstraints())
+            .build();
+        
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(
+            PERIODIC_WORK_NAME,
+            ExistingPeriodicWorkPolicy.KEEP,
+            request
+        );
+    }
+}